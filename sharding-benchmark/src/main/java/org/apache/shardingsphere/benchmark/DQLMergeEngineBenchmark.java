@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.benchmark.fixture.SyntheticQueryResult;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for DQL merge engine.
+ * 
+ * <p>Query results of every shard are synthetic sorted rows in memory, so only merging and iterating of merged result are measured.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DQLMergeEngineBenchmark {
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    @Param({"100", "10000"})
+    private int rowCount;
+    
+    @Param({"ORDER_BY", "GROUP_BY", "PAGINATION"})
+    private MergeType mergeType;
+    
+    private final DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    private SQLRouteResult routeResult;
+    
+    private List<List<Object[]>> shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        ParsingSQLRouter router = new ParsingSQLRouter(
+                ShardingRuleFixture.createShardingRule(2, shardCount / 2, "inline"), ShardingRuleFixture.createMetaData(2), new SQLParseEngine(databaseType),
+                new RoutingResultCache(0L), new CartesianRoutingGuard(0, true));
+        routeResult = router.route(mergeType.getSql(), Collections.emptyList(), router.parse(mergeType.getSql(), false));
+        shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            List<Object[]> rows = new ArrayList<>(rowCount);
+            for (int j = 0; j < rowCount; j++) {
+                rows.add(MergeType.GROUP_BY == mergeType ? new Object[] {j, 1L} : new Object[] {j * shardCount + i, j});
+            }
+            shardRows.add(rows);
+        }
+    }
+    
+    /**
+     * Benchmark merge.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<Object[]> each : shardRows) {
+            queryResults.add(new SyntheticQueryResult(mergeType.getColumnLabels(), each));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(databaseType, routeResult, queryResults).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    public enum MergeType {
+        
+        ORDER_BY("SELECT order_id, user_id FROM t_order ORDER BY order_id", Arrays.asList("order_id", "user_id")),
+        
+        GROUP_BY("SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id", Arrays.asList("user_id", "order_count")),
+        
+        PAGINATION("SELECT order_id, user_id FROM t_order ORDER BY order_id LIMIT 100, 10", Arrays.asList("order_id", "user_id"));
+        
+        private final String sql;
+        
+        private final List<String> columnLabels;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.benchmark.fixture.ShardingSQLFixture;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parsing SQL router.
+ * 
+ * <p>SQL is parsed once in set up, so only optimizing and routing are measured.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingSQLRouterBenchmark {
+    
+    @Param({"2", "10"})
+    private int dataSourceCount;
+    
+    @Param({"5", "1000"})
+    private int tableCount;
+    
+    @Param({"inline", "standard"})
+    private String strategyType;
+    
+    @Param({"SELECT_SINGLE_ROUTE", "SELECT_BINDING_TABLES", "SELECT_FULL_ROUTE", "INSERT", "UPDATE"})
+    private ShardingSQLFixture sql;
+    
+    private ParsingSQLRouter router;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        router = new ParsingSQLRouter(ShardingRuleFixture.createShardingRule(dataSourceCount, tableCount, strategyType),
+                ShardingRuleFixture.createMetaData(dataSourceCount), new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")), new RoutingResultCache(0L), new CartesianRoutingGuard(0, true));
+        sqlStatement = router.parse(sql.getSql(), true);
+    }
+    
+    /**
+     * Benchmark route.
+     * 
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult route() {
+        return router.route(sql.getSql(), sql.getParameters(), sqlStatement);
+    }
+}
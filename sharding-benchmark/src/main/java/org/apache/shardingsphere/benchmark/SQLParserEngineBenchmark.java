@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.core.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.core.parser.SQLParserEngine;
+import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for prediction mode of SQL parser engine.
+ * 
+ * <p>
+ * Both LL only and two-stage SLL/LL prediction parse SQL to abstract syntax tree by whole SQL parser engine, without parse result cache.
+ * Input is all placeholder SQL cases of parser test corpus for the database type, each invocation parses next SQL case in turn.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParserEngineBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseType;
+    
+    @Param({"false", "true"})
+    private boolean twoStagePrediction;
+    
+    private ParseRuleRegistry parseRuleRegistry;
+    
+    private DatabaseType trunkDatabaseType;
+    
+    private List<String> sqls;
+    
+    private int index;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        parseRuleRegistry = ParseRuleRegistry.getInstance();
+        trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType);
+        sqls = loadSQLs();
+    }
+    
+    private List<String> loadSQLs() {
+        SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+        List<String> result = new ArrayList<>();
+        for (Object[] each : sqlCasesLoader.getSQLTestParameters()) {
+            if (databaseType.equals(each[1]) && SQLCaseType.Placeholder == each[2]) {
+                result.add(sqlCasesLoader.getSQL((String) each[0], SQLCaseType.Placeholder, null));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark parse.
+     * 
+     * @return abstract syntax tree of SQL
+     */
+    @Benchmark
+    public SQLAST parse() {
+        String sql = sqls.get(index);
+        index = (index + 1) % sqls.size();
+        return new SQLParserEngine(parseRuleRegistry, trunkDatabaseType, sql, twoStagePrediction).parse();
+    }
+}
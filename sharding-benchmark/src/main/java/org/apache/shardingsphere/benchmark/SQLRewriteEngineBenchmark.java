@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import org.apache.shardingsphere.benchmark.fixture.ShardingSQLFixture;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.apache.shardingsphere.core.rule.BindingTableRule;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite engine.
+ * 
+ * <p>SQL is parsed and routed once in set up, so only rewriting of all routing units is measured.</p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteEngineBenchmark {
+    
+    @Param({"2", "10"})
+    private int dataSourceCount;
+    
+    @Param({"5", "1000"})
+    private int tableCount;
+    
+    @Param({"SELECT_SINGLE_ROUTE", "SELECT_BINDING_TABLES", "SELECT_FULL_ROUTE", "INSERT", "UPDATE"})
+    private ShardingSQLFixture sql;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLRouteResult routeResult;
+    
+    private List<RoutingUnit> routingUnits;
+    
+    private List<Map<String, String>> logicAndActualTables;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = ShardingRuleFixture.createShardingRule(dataSourceCount, tableCount, "inline");
+        ParsingSQLRouter router = new ParsingSQLRouter(
+                shardingRule, ShardingRuleFixture.createMetaData(dataSourceCount), new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")),
+                new RoutingResultCache(0L), new CartesianRoutingGuard(0, true));
+        routeResult = router.route(sql.getSql(), sql.getParameters(), router.parse(sql.getSql(), false));
+        routingUnits = new ArrayList<>(routeResult.getRoutingResult().getRoutingUnits());
+        logicAndActualTables = new ArrayList<>(routingUnits.size());
+        for (RoutingUnit each : routingUnits) {
+            logicAndActualTables.add(getLogicAndActualTables(each));
+        }
+    }
+    
+    private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit) {
+        Map<String, String> result = new HashMap<>();
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.put(each.getLogicTableName(), each.getActualTableName());
+            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getLogicTableName());
+            if (!bindingTableRule.isPresent()) {
+                continue;
+            }
+            for (String tableName : routeResult.getShardingStatement().getTables().getTableNames()) {
+                if (!tableName.equals(each.getLogicTableName()) && bindingTableRule.get().hasLogicTable(tableName)) {
+                    result.put(tableName, bindingTableRule.get().getBindingActualTable(routingUnit.getDataSourceName(), tableName, each.getActualTableName()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Benchmark rewrite.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, routeResult, sql.getSql(), sql.getParameters(), routeResult.getRoutingResult().isSingleRouting(), false);
+        for (int i = 0; i < routingUnits.size(); i++) {
+            blackhole.consume(rewriteEngine.generateSQL(routingUnits.get(i), logicAndActualTables.get(i)));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Sharding benchmark launcher.
+ * 
+ * <p>
+ * Arguments are same as JMH command line. Benchmark module is only built with {@code benchmark} profile and is never released,
+ * run it by {@code mvn -Pbenchmark -pl sharding-benchmark exec:exec -Dbenchmark.args="ParsingSQLRouterBenchmark -p tableCount=1000 -rf json"}
+ * after {@code mvn -Pbenchmark -pl sharding-benchmark -am install}.
+ * GC profiler is always enabled, so allocation rate is reported together with throughput.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingBenchmarkLauncher {
+    
+    /**
+     * Main entrance.
+     *
+     * @param args JMH command line arguments
+     * @throws CommandLineOptionException command line option exception
+     * @throws RunnerException runner exception
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build()).run();
+    }
+}
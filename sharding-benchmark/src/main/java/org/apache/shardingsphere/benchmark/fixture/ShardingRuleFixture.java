@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sharding rule fixture for benchmark.
+ *
+ * <p>
+ * {@code t_order} and {@code t_order_item} are binding tables, which are sharded into data sources by {@code user_id} and into tables by {@code order_id}.
+ * Count of data nodes of each table is count of data sources multiply count of tables per data source.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRuleFixture {
+    
+    /**
+     * Create sharding rule.
+     *
+     * @param dataSourceCount count of data sources
+     * @param tableCount count of tables per data source
+     * @param strategyType strategy type, {@code inline} or {@code standard}
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int dataSourceCount, final int tableCount, final String strategyType) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", dataSourceCount, tableCount, strategyType));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", dataSourceCount, tableCount, strategyType));
+        shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames(dataSourceCount));
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final int dataSourceCount, final int tableCount, final String strategyType) {
+        TableRuleConfiguration result = new TableRuleConfiguration(logicTable, String.format("ds_${0..%d}.%s_${0..%d}", dataSourceCount - 1, logicTable, tableCount - 1));
+        result.setDatabaseShardingStrategyConfig(createShardingStrategyConfiguration("user_id", String.format("ds_${user_id %% %d}", dataSourceCount), strategyType));
+        result.setTableShardingStrategyConfig(createShardingStrategyConfiguration("order_id", String.format("%s_${order_id %% %d}", logicTable, tableCount), strategyType));
+        return result;
+    }
+    
+    private static ShardingStrategyConfiguration createShardingStrategyConfiguration(final String shardingColumn, final String algorithmExpression, final String strategyType) {
+        if ("standard".equals(strategyType)) {
+            return new StandardShardingStrategyConfiguration(shardingColumn, new ModuloShardingAlgorithm());
+        }
+        return new InlineShardingStrategyConfiguration(shardingColumn, algorithmExpression);
+    }
+    
+    private static Collection<String> createDataSourceNames(final int dataSourceCount) {
+        Collection<String> result = new ArrayList<>(dataSourceCount);
+        for (int i = 0; i < dataSourceCount; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create meta data.
+     *
+     * @param dataSourceCount count of data sources
+     * @return meta data
+     */
+    public static ShardingSphereMetaData createMetaData(final int dataSourceCount) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(dataSourceCount, 1);
+        for (String each : createDataSourceNames(dataSourceCount)) {
+            dataSourceURLs.put(each, "jdbc:mysql://127.0.0.1:3306/" + each);
+        }
+        return new ShardingSphereMetaData(new DataSourceMetas(dataSourceURLs, DatabaseTypes.getActualDatabaseType("MySQL")), createTableMetas());
+    }
+    
+    private static TableMetas createTableMetas() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false),
+                new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "int", true), new ColumnMetaData("order_id", "int", false),
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new TableMetas(tableMetaDataMap);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Synthetic query result for benchmark, which iterates in memory rows without touching any database.
+ *
+ * @author zhangliang
+ */
+public final class SyntheticQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final List<Object[]> rows;
+    
+    private int cursor = -1;
+    
+    public SyntheticQueryResult(final List<String> columnLabels, final List<Object[]> rows) {
+        this.columnLabels = columnLabels;
+        this.rows = rows;
+    }
+    
+    @Override
+    public boolean next() {
+        return ++cursor < rows.size();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return rows.get(cursor)[columnIndex - 1];
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(columnLabels.indexOf(columnLabel) + 1, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLException("Synthetic query result does not support input stream.");
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLException("Synthetic query result does not support input stream.");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return false;
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) {
+        return false;
+    }
+    
+    @Override
+    public QueryResultMetaData getQueryResultMetaData() {
+        return null;
+    }
+}
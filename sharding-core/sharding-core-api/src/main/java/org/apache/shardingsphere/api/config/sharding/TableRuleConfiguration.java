@@ -23,6 +23,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * Table rule configuration.
  * 
@@ -43,6 +46,10 @@ public final class TableRuleConfiguration {
     
     private KeyGeneratorConfiguration keyGeneratorConfig;
     
+    private TimeIntervalDataNodesConfiguration timeIntervalDataNodesConfig;
+    
+    private final Collection<GlobalIndexConfiguration> globalIndexConfigs = new LinkedList<>();
+    
     public TableRuleConfiguration(final String logicTable) {
         this(logicTable, null);
     }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Time interval data nodes configuration.
+ * 
+ * <p>
+ * Actual tables are named by table prefix and suffix formatted from time, such as {@code t_order_201901}.
+ * Actual tables start from start time, one for each interval, and are expanded automatically until the interval of current time.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+@Setter
+public final class TimeIntervalDataNodesConfiguration {
+    
+    private final String startTime;
+    
+    private final String suffixPattern;
+    
+    private final String intervalUnit;
+    
+    private final int intervalAmount;
+    
+    private String actualDataSources;
+    
+    private String tablePrefix;
+    
+    public TimeIntervalDataNodesConfiguration(final String startTime, final String suffixPattern, final String intervalUnit) {
+        this(startTime, suffixPattern, intervalUnit, 1);
+    }
+    
+    public TimeIntervalDataNodesConfiguration(final String startTime, final String suffixPattern, final String intervalUnit, final int intervalAmount) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(startTime), "Start time is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(suffixPattern), "Suffix pattern is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(intervalUnit), "Interval unit is required.");
+        Preconditions.checkArgument(intervalAmount > 0, "Interval amount must be positive.");
+        this.startTime = startTime;
+        this.suffixPattern = suffixPattern;
+        this.intervalUnit = intervalUnit;
+        this.intervalAmount = intervalAmount;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Interval sharding strategy configuration.
+ * 
+ * <p>
+ * Sharding values are routed to targets by sorted intervals, which can be configured by numeric boundaries or by datetime interval.
+ * For boundaries {@code [1000, 2000]} and target prefix {@code t_order_}, values less than 1000 are routed to {@code t_order_0},
+ * values in {@code [1000, 2000)} are routed to {@code t_order_1} and other values are routed to {@code t_order_2}.
+ * For datetime interval, each interval between datetime lower and datetime upper is routed to target prefix with suffix formatted by suffix pattern.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Getter
+public final class IntervalShardingStrategyConfiguration implements ShardingStrategyConfiguration {
+    
+    private final String shardingColumn;
+    
+    private final String targetPrefix;
+    
+    private final List<Long> boundaries;
+    
+    private final String datetimeLower;
+    
+    private final String datetimeUpper;
+    
+    private final String suffixPattern;
+    
+    private final int intervalAmount;
+    
+    private final String intervalUnit;
+    
+    public IntervalShardingStrategyConfiguration(final String shardingColumn, final String targetPrefix, final List<Long> boundaries) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(null != targetPrefix, "TargetPrefix is required.");
+        Preconditions.checkArgument(null != boundaries && !boundaries.isEmpty(), "Boundaries are required.");
+        this.shardingColumn = shardingColumn;
+        this.targetPrefix = targetPrefix;
+        this.boundaries = boundaries;
+        datetimeLower = null;
+        datetimeUpper = null;
+        suffixPattern = null;
+        intervalAmount = 0;
+        intervalUnit = null;
+    }
+    
+    public IntervalShardingStrategyConfiguration(final String shardingColumn, final String targetPrefix, 
+                                                 final String datetimeLower, final String datetimeUpper, final String suffixPattern, final int intervalAmount, final String intervalUnit) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(null != targetPrefix, "TargetPrefix is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeLower), "DatetimeLower is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeUpper), "DatetimeUpper is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(suffixPattern), "SuffixPattern is required.");
+        Preconditions.checkArgument(intervalAmount > 0, "IntervalAmount must be positive.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(intervalUnit), "IntervalUnit is required.");
+        this.shardingColumn = shardingColumn;
+        this.targetPrefix = targetPrefix;
+        boundaries = null;
+        this.datetimeLower = datetimeLower;
+        this.datetimeUpper = datetimeUpper;
+        this.suffixPattern = suffixPattern;
+        this.intervalAmount = intervalAmount;
+        this.intervalUnit = intervalUnit;
+    }
+}
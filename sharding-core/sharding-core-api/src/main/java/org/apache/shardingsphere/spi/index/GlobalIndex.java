@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.spi.index;
+
+import org.apache.shardingsphere.spi.TypeBasedSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Global index, which maps value of non-sharding column to sharding values.
+ * 
+ * <p>
+ * Entries are read and written with connection of current session to data source named by {@code getDataSourceName()},
+ * so they are put and removed in the same transaction as rows.
+ * Entries are put before SQL which inserts rows or updates index column is executed,
+ * and are removed after SQL which deletes all rows of them is executed.
+ * Stale entries only make more data nodes routed, but missing entries make rows unreachable,
+ * so route is narrowed by index only if index is complete.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public interface GlobalIndex extends TypeBasedSPI {
+    
+    /**
+     * Get name of data source which stores index entries.
+     * 
+     * @return data source name
+     */
+    String getDataSourceName();
+    
+    /**
+     * Judge whether index is complete.
+     * 
+     * <p>
+     * Index is complete only if it holds entries of all rows, for example after existing rows are loaded into it.
+     * Route is never narrowed by incomplete index.
+     * </p>
+     * 
+     * @return index is complete or not
+     */
+    boolean isComplete();
+    
+    /**
+     * Get sharding values.
+     * 
+     * @param connection connection of data source which stores index entries
+     * @param indexValue value of index column
+     * @return sharding values, empty if index value is unknown
+     * @throws SQLException SQL exception
+     */
+    Collection<Comparable<?>> get(Connection connection, Comparable<?> indexValue) throws SQLException;
+    
+    /**
+     * Put index entry.
+     * 
+     * @param connection connection of data source which stores index entries
+     * @param indexValue value of index column
+     * @param shardingValue value of sharding column
+     * @throws SQLException SQL exception
+     */
+    void put(Connection connection, Comparable<?> indexValue, Comparable<?> shardingValue) throws SQLException;
+    
+    /**
+     * Remove index entries.
+     * 
+     * @param connection connection of data source which stores index entries
+     * @param indexValue value of index column, {@code null} means any value
+     * @param shardingValue value of sharding column, {@code null} means any value
+     * @throws SQLException SQL exception
+     */
+    void remove(Connection connection, Comparable<?> indexValue, Comparable<?> shardingValue) throws SQLException;
+}
@@ -53,6 +53,104 @@ public enum ShardingPropertiesConstant {
      */
     SQL_SIMPLE("sql.simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Enable or Disable to lift literals of simple query into parameter markers before parsing.
+     *
+     * <p>
+     * SQL which only differ in literal values will share one cached parse result.
+     * Default: false
+     * </p>
+     */
+    SQL_LITERAL_NORMALIZE_ENABLED("sql.literal.normalize.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Maximum size of SQL parse result cache.
+     *
+     * <p>
+     * Parse result of SQL which is only executed once will not evict other parse results when cache is full.
+     * Default: 65535
+     * </p>
+     */
+    SQL_PARSE_CACHE_SIZE("sql.parse.cache.size", String.valueOf(65535L), long.class),
+    
+    /**
+     * File to record hot SQLs of parse result cache.
+     *
+     * <p>
+     * Hot SQLs are recorded into this file periodically, and are parsed into cache again on startup.
+     * Actual file is named after database type of parse engine, such as {@code sql-warmup-MySQL.txt} for {@code sql-warmup.txt}.
+     * Default: empty, means do not record and warm up hot SQLs
+     * </p>
+     */
+    SQL_WARMUP_FILE("sql.warmup.file", "", String.class),
+    
+    /**
+     * Maximum count of hot SQLs to be recorded for warm up.
+     *
+     * <p>
+     * Default: 1000
+     * </p>
+     */
+    SQL_WARMUP_SIZE("sql.warmup.size", String.valueOf(1000), int.class),
+    
+    /**
+     * Interval seconds to record hot SQLs for warm up.
+     *
+     * <p>
+     * Default: 300
+     * </p>
+     */
+    SQL_WARMUP_RECORD_INTERVAL_SECONDS("sql.warmup.record.interval.seconds", String.valueOf(300L), long.class),
+    
+    /**
+     * Maximum seconds to wait for warm up before Sharding-Proxy starts to accept connections.
+     *
+     * <p>
+     * Warm up continues in background if it is not finished in time.
+     * Default: 30
+     * </p>
+     */
+    SQL_WARMUP_TIMEOUT_SECONDS("sql.warmup.timeout.seconds", String.valueOf(30L), long.class),
+    
+    /**
+     * Maximum size of routing result cache.
+     *
+     * <p>
+     * Routing results of point lookups are cached by SQL and sharding values, cache is dropped when sharding rule is changed.
+     * Default: 0, means do not cache routing results
+     * </p>
+     */
+    ROUTE_RESULT_CACHE_SIZE("route.result.cache.size", String.valueOf(0L), long.class),
+    
+    /**
+     * Maximum count of routing units for cartesian routing.
+     *
+     * <p>
+     * Cartesian routing result which is larger than this value will be rejected or warned before any connection is acquired.
+     * Default: 0, means no limit
+     * </p>
+     */
+    CARTESIAN_ROUTING_UNITS_MAX_SIZE("cartesian.routing.units.max.size", String.valueOf(0), int.class),
+    
+    /**
+     * Reject SQL or only print warning log when routing units of cartesian routing exceed maximum size.
+     *
+     * <p>
+     * Default: true, means reject SQL
+     * </p>
+     */
+    CARTESIAN_ROUTING_UNITS_EXCEEDED_REJECTED("cartesian.routing.units.exceeded.rejected", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Consistency window in milliseconds for master-slave routing.
+     *
+     * <p>
+     * Query is routed to master only if any of its tables is written in current session within this window, other queries are still routed to slaves.
+     * Default: 0, means all queries are routed to master after master is visited in current session
+     * </p>
+     */
+    MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS("master.slave.consistency.window.milliseconds", String.valueOf(0L), long.class),
+    
     /**
      * Worker group or user group thread max size.
      *
@@ -17,13 +17,19 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.core.spi.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmServiceLoader;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLatencyRegistry;
+import org.apache.shardingsphere.core.strategy.masterslave.LatencyAwareMasterSlaveLoadBalanceAlgorithm;
 import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Databases and tables master-slave rule.
@@ -44,6 +50,8 @@ public class MasterSlaveRule implements BaseRule {
     
     private final MasterSlaveRuleConfiguration ruleConfiguration;
     
+    private volatile List<String> availableSlaveDataSourceNames;
+    
     public MasterSlaveRule(final String name, final String masterDataSourceName, final Collection<String> slaveDataSourceNames, final MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm) {
         this.name = name;
         this.masterDataSourceName = masterDataSourceName;
@@ -51,6 +59,7 @@ public class MasterSlaveRule implements BaseRule {
         this.loadBalanceAlgorithm = null == loadBalanceAlgorithm ? new MasterSlaveLoadBalanceAlgorithmServiceLoader().newService() : loadBalanceAlgorithm;
         ruleConfiguration = new MasterSlaveRuleConfiguration(name, masterDataSourceName, slaveDataSourceNames, 
                 new LoadBalanceStrategyConfiguration(this.loadBalanceAlgorithm.getType(), this.loadBalanceAlgorithm.getProperties()));
+        refreshAvailableSlaveDataSourceNames(Collections.<String>emptyList());
     }
     
     public MasterSlaveRule(final MasterSlaveRuleConfiguration config) {
@@ -59,6 +68,7 @@ public class MasterSlaveRule implements BaseRule {
         slaveDataSourceNames = config.getSlaveDataSourceNames();
         loadBalanceAlgorithm = createMasterSlaveLoadBalanceAlgorithm(config.getLoadBalanceStrategyConfiguration());
         ruleConfiguration = config;
+        refreshAvailableSlaveDataSourceNames(Collections.<String>emptyList());
     }
     
     private MasterSlaveLoadBalanceAlgorithm createMasterSlaveLoadBalanceAlgorithm(final LoadBalanceStrategyConfiguration loadBalanceStrategyConfiguration) {
@@ -67,6 +77,19 @@ public class MasterSlaveRule implements BaseRule {
                 ? serviceLoader.newService() : serviceLoader.newService(loadBalanceStrategyConfiguration.getType(), loadBalanceStrategyConfiguration.getProperties());
     }
     
+    /**
+     * Refresh available slave data source names.
+     * 
+     * <p>Available slave data source names are cached for routing, they should be refreshed only when disabled data sources changed.</p>
+     *
+     * @param disabledDataSourceNames disabled data source names
+     */
+    protected final void refreshAvailableSlaveDataSourceNames(final Collection<String> disabledDataSourceNames) {
+        List<String> result = new ArrayList<>(slaveDataSourceNames);
+        result.removeAll(disabledDataSourceNames);
+        availableSlaveDataSourceNames = Collections.unmodifiableList(result);
+    }
+    
     /**
      * Judge whether contain data source name.
      *
@@ -76,4 +99,14 @@ public class MasterSlaveRule implements BaseRule {
     public boolean containDataSourceName(final String dataSourceName) {
         return masterDataSourceName.equals(dataSourceName) || slaveDataSourceNames.contains(dataSourceName);
     }
+    
+    /**
+     * Find latency registry of slave data sources.
+     *
+     * @return latency registry, absent if load-balance algorithm is not latency aware
+     */
+    public Optional<DataSourceLatencyRegistry> findDataSourceLatencyRegistry() {
+        return loadBalanceAlgorithm instanceof LatencyAwareMasterSlaveLoadBalanceAlgorithm
+                ? Optional.of(((LatencyAwareMasterSlaveLoadBalanceAlgorithm) loadBalanceAlgorithm).getLatencyRegistry()) : Optional.<DataSourceLatencyRegistry>absent();
+    }
 }
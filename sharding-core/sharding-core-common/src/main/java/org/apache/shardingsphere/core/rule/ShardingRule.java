@@ -21,6 +21,9 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encrypt.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -34,16 +37,27 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
  * Databases and tables sharding rule.
+ * 
+ * <p>
+ * Table rules, binding table rules and broadcast tables are indexed by lower case logic table name when rule is constructed,
+ * table rules of broadcast tables and tables in default data source are created once and reused,
+ * they are also keyed by lower case logic table name and bounded, least recently used ones are created again when needed.
+ * </p>
  *
  * @author zhangliang
  * @author maxiaoguang
@@ -52,6 +66,8 @@ import java.util.TreeSet;
 @Getter
 public class ShardingRule implements BaseRule {
     
+    private static final long UNCONFIGURED_TABLE_RULES_MAXIMUM_SIZE = 1024L;
+    
     private final ShardingRuleConfiguration ruleConfiguration;
     
     private final ShardingDataSourceNames shardingDataSourceNames;
@@ -72,19 +88,43 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<TableRule> timeIntervalTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> lowerCaseBroadcastTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, TableRule> unconfiguredTableRules = CacheBuilder.newBuilder().maximumSize(UNCONFIGURED_TABLE_RULES_MAXIMUM_SIZE).build();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.ruleConfiguration = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
+        logicTableRules = createLogicTableRules();
+        actualTableRules = createActualTableRules();
+        timeIntervalTableRules = createTimeIntervalTableRules();
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        lowerCaseBroadcastTables = createLowerCaseBroadcastTables();
         bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
         masterSlaveRules = createMasterSlaveRules(shardingRuleConfig.getMasterSlaveRuleConfigs());
         encryptRule = createEncryptRule(shardingRuleConfig.getEncryptRuleConfig());
+        checkGlobalIndexes();
     }
     
     private Collection<TableRule> createTableRules(final ShardingRuleConfiguration shardingRuleConfig) {
@@ -96,6 +136,71 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private void checkGlobalIndexes() {
+        for (TableRule each : tableRules) {
+            Preconditions.checkArgument(each.getGlobalIndexes().isEmpty() || 1 == getShardingColumns(each).size(),
+                    "Global index of table `%s` requires exactly one sharding column.", each.getLogicTable());
+        }
+    }
+    
+    private Map<String, TableRule> createLogicTableRules() {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableRules() {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            if (each.isTimeInterval()) {
+                continue;
+            }
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                if (!result.containsKey(dataNode.getTableName())) {
+                    result.put(dataNode.getTableName(), new LinkedList<TableRule>());
+                }
+                if (!result.get(dataNode.getTableName()).contains(each)) {
+                    result.get(dataNode.getTableName()).add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<TableRule> createTimeIntervalTableRules() {
+        Collection<TableRule> result = new LinkedList<>();
+        for (TableRule each : tableRules) {
+            if (each.isTimeInterval()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> createLowerCaseBroadcastTables() {
+        Collection<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                if (!result.containsKey(logicTable)) {
+                    result.put(logicTable, each);
+                }
+            }
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -149,12 +254,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -164,12 +264,22 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
+        Collection<TableRule> result = getActualTableRules(actualTableName);
+        return result.isEmpty() ? Optional.<TableRule>absent() : Optional.of(result.iterator().next());
+    }
+    
+    private Collection<TableRule> getActualTableRules(final String actualTableName) {
+        Collection<TableRule> result = actualTableRules.get(actualTableName);
+        if (timeIntervalTableRules.isEmpty()) {
+            return null == result ? Collections.<TableRule>emptyList() : result;
+        }
+        result = null == result ? new LinkedList<TableRule>() : new LinkedList<TableRule>(result);
+        for (TableRule each : timeIntervalTableRules) {
             if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
+                result.add(each);
             }
         }
-        return Optional.absent();
+        return result;
     }
     
     /**
@@ -183,6 +293,16 @@ public class ShardingRule implements BaseRule {
         if (tableRule.isPresent()) {
             return tableRule.get();
         }
+        String key = logicTableName.toLowerCase();
+        TableRule result = unconfiguredTableRules.getIfPresent(key);
+        if (null == result) {
+            result = createUnconfiguredTableRule(logicTableName);
+            unconfiguredTableRules.put(key, result);
+        }
+        return result;
+    }
+    
+    private TableRule createUnconfiguredTableRule(final String logicTableName) {
         if (isBroadcastTable(logicTableName)) {
             return new TableRule(shardingDataSourceNames.getDataSourceNames(), logicTableName);
         }
@@ -256,12 +376,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<BindingTableRule>absent() : Optional.fromNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -289,12 +404,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && lowerCaseBroadcastTables.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -320,18 +430,43 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        return tableRule.isPresent() && isShardingColumn(tableRule.get(), columnName);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
         return getDatabaseShardingStrategy(tableRule).getShardingColumns().contains(columnName) || getTableShardingStrategy(tableRule).getShardingColumns().contains(columnName);
     }
     
+    /**
+     * Find global index.
+     *
+     * @param logicTableName logic table name
+     * @param columnName column name
+     * @return global index
+     */
+    public Optional<GlobalIndex> findGlobalIndex(final String logicTableName, final String columnName) {
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? tableRule.get().findGlobalIndex(columnName) : Optional.<GlobalIndex>absent();
+    }
+    
+    /**
+     * Get sharding column which global indexes map to.
+     *
+     * @param tableRule table rule
+     * @return sharding column
+     */
+    public String getGlobalIndexShardingColumn(final TableRule tableRule) {
+        return getShardingColumns(tableRule).iterator().next();
+    }
+    
+    private Collection<String> getShardingColumns(final TableRule tableRule) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(getDatabaseShardingStrategy(tableRule).getShardingColumns());
+        result.addAll(getTableShardingStrategy(tableRule).getShardingColumns());
+        return result;
+    }
+    
     /**
      * Find column name of generated key.
      *
@@ -339,12 +474,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -370,10 +501,8 @@ public class ShardingRule implements BaseRule {
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
         Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                result.add(each.getLogicTable());
-            }
+        for (TableRule each : getActualTableRules(actualTableName)) {
+            result.add(each.getLogicTable());
         }
         return result;
     }
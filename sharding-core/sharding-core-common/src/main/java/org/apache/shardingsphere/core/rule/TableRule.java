@@ -17,19 +17,25 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
+import org.apache.shardingsphere.api.config.sharding.GlobalIndexConfiguration;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.spi.algorithm.index.GlobalIndexServiceLoader;
 import org.apache.shardingsphere.core.spi.algorithm.keygen.ShardingKeyGeneratorServiceLoader;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,7 +53,7 @@ import java.util.Set;
  * @author zhangliang
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDatasourceNames", "datasourceToTablesMap"})
+@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDatasourceNames", "datasourceToTablesMap", "globalIndexes"})
 public final class TableRule {
     
     private final String logicTable;
@@ -55,7 +61,7 @@ public final class TableRule {
     private final List<DataNode> actualDataNodes;
     
     @Getter(AccessLevel.NONE)
-    private final Set<String> actualTables;
+    private final Collection<String> actualTables;
     
     @Getter(AccessLevel.NONE)
     private final Map<DataNode, Integer> dataNodeIndexMap;
@@ -68,6 +74,8 @@ public final class TableRule {
     
     private final ShardingKeyGenerator shardingKeyGenerator;
     
+    private final Map<String, GlobalIndex> globalIndexes;
+    
     private final Collection<String> actualDatasourceNames = new LinkedHashSet<>();
     
     private final Map<String, Collection<String>> datasourceToTablesMap = new HashMap<>();
@@ -82,6 +90,7 @@ public final class TableRule {
         tableShardingStrategy = null;
         generateKeyColumn = null;
         shardingKeyGenerator = null;
+        globalIndexes = Collections.emptyMap();
     }
     
     public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
@@ -93,20 +102,31 @@ public final class TableRule {
         tableShardingStrategy = null;
         generateKeyColumn = null;
         shardingKeyGenerator = null;
+        globalIndexes = Collections.emptyMap();
     }
     
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
-        List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
-        actualDataNodes = isEmptyDataNodes(dataNodes)
-            ? generateDataNodes(tableRuleConfig.getLogicTable(), shardingDataSourceNames.getDataSourceNames()) : generateDataNodes(dataNodes, shardingDataSourceNames.getDataSourceNames());
-        actualTables = getActualTables();
+        TimeIntervalDataNodesConfiguration timeIntervalDataNodesConfig = tableRuleConfig.getTimeIntervalDataNodesConfig();
+        if (null == timeIntervalDataNodesConfig) {
+            List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
+            dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
+            actualDataNodes = isEmptyDataNodes(dataNodes)
+                ? generateDataNodes(tableRuleConfig.getLogicTable(), shardingDataSourceNames.getDataSourceNames()) : generateDataNodes(dataNodes, shardingDataSourceNames.getDataSourceNames());
+            actualTables = getActualTables();
+        } else {
+            dataNodeIndexMap = Collections.emptyMap();
+            TimeIntervalActualTables timeIntervalActualTables = new TimeIntervalActualTables(tableRuleConfig.getLogicTable(), timeIntervalDataNodesConfig);
+            actualDataNodes = new TimeIntervalDataNodes(
+                    getTimeIntervalDataSourceNames(timeIntervalDataNodesConfig.getActualDataSources(), shardingDataSourceNames.getDataSourceNames()), timeIntervalActualTables);
+            actualTables = timeIntervalActualTables;
+        }
         databaseShardingStrategy = null == tableRuleConfig.getDatabaseShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getDatabaseShardingStrategyConfig());
         tableShardingStrategy = null == tableRuleConfig.getTableShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getTableShardingStrategyConfig());
         generateKeyColumn = getGenerateKeyColumn(tableRuleConfig.getKeyGeneratorConfig(), defaultGenerateKeyColumn);
         shardingKeyGenerator = containsKeyGeneratorConfiguration(tableRuleConfig)
                 ? new ShardingKeyGeneratorServiceLoader().newService(tableRuleConfig.getKeyGeneratorConfig().getType(), tableRuleConfig.getKeyGeneratorConfig().getProperties()) : null;
+        globalIndexes = createGlobalIndexes(tableRuleConfig.getGlobalIndexConfigs());
     }
     
     private void cacheActualDatasourcesAndTables() {
@@ -116,6 +136,21 @@ public final class TableRule {
         }
     }
     
+    private List<String> getTimeIntervalDataSourceNames(final String actualDataSources, final Collection<String> dataSourceNames) {
+        if (Strings.isNullOrEmpty(actualDataSources)) {
+            actualDatasourceNames.addAll(dataSourceNames);
+            return new ArrayList<>(dataSourceNames);
+        }
+        List<String> result = new InlineExpressionParser(actualDataSources).splitAndEvaluate();
+        for (String each : result) {
+            if (!dataSourceNames.contains(each)) {
+                throw new ShardingException("Cannot find data source in sharding rule, invalid actual data source is: '%s'", each);
+            }
+            actualDatasourceNames.add(each);
+        }
+        return result;
+    }
+    
     private Set<String> getActualTables() {
         Set<String> result = new HashSet<>(actualDataNodes.size(), 1);
         for (DataNode each : actualDataNodes) {
@@ -133,6 +168,14 @@ public final class TableRule {
         actualTables.add(tableName);
     }
     
+    private Map<String, GlobalIndex> createGlobalIndexes(final Collection<GlobalIndexConfiguration> globalIndexConfigs) {
+        Map<String, GlobalIndex> result = new LinkedHashMap<>(globalIndexConfigs.size(), 1);
+        for (GlobalIndexConfiguration each : globalIndexConfigs) {
+            result.put(each.getColumn().toLowerCase(), new GlobalIndexServiceLoader().newService(each.getType(), each.getProperties()));
+        }
+        return result;
+    }
+    
     private boolean containsKeyGeneratorConfiguration(final TableRuleConfiguration tableRuleConfiguration) {
         return null != tableRuleConfiguration.getKeyGeneratorConfig() && !Strings.isNullOrEmpty(tableRuleConfiguration.getKeyGeneratorConfig().getType());
     }
@@ -212,6 +255,9 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
+        if (isTimeInterval()) {
+            return actualDatasourceNames.contains(targetDataSource) ? actualTables : Collections.<String>emptySet();
+        }
         Collection<String> result = datasourceToTablesMap.get(targetDataSource);
         if (null == result) {
             result = Collections.emptySet();
@@ -219,7 +265,20 @@ public final class TableRule {
         return result;
     }
     
+    /**
+     * Find global index via column name.
+     *
+     * @param columnName column name
+     * @return global index
+     */
+    public Optional<GlobalIndex> findGlobalIndex(final String columnName) {
+        return Optional.fromNullable(globalIndexes.get(columnName.toLowerCase()));
+    }
+    
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
+        if (isTimeInterval()) {
+            return ((TimeIntervalDataNodes) actualDataNodes).indexOf(dataSourceName, actualTableName);
+        }
         DataNode dataNode = new DataNode(dataSourceName, actualTableName);
         return dataNodeIndexMap.containsKey(dataNode) ? dataNodeIndexMap.get(dataNode) : -1;
     }
@@ -227,4 +286,13 @@ public final class TableRule {
     boolean isExisted(final String actualTableName) {
         return actualTables.contains(actualTableName);
     }
+    
+    /**
+     * Judge whether actual data nodes are expanded by time interval.
+     * 
+     * @return actual data nodes are expanded by time interval or not
+     */
+    public boolean isTimeInterval() {
+        return actualDataNodes instanceof TimeIntervalDataNodes;
+    }
 }
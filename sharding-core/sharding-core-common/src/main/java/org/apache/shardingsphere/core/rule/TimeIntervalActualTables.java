@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
+import org.apache.shardingsphere.core.strategy.keygen.TimeService;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Actual tables of time interval.
+ * 
+ * <p>
+ * Actual tables until the interval of current time are formatted once and cached with their indexes,
+ * the cache is extended when current time rolls into next interval, so actual tables are expanded automatically.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class TimeIntervalActualTables extends AbstractCollection<String> {
+    
+    private final String tablePrefix;
+    
+    private final String suffixPattern;
+    
+    private final int intervalField;
+    
+    private final int intervalAmount;
+    
+    private final Calendar startTime;
+    
+    private final TimeService timeService;
+    
+    private volatile Snapshot snapshot = new Snapshot(new String[0], Collections.<String, Integer>emptyMap(), Long.MIN_VALUE);
+    
+    TimeIntervalActualTables(final String logicTable, final TimeIntervalDataNodesConfiguration timeIntervalDataNodesConfig) {
+        this(logicTable, timeIntervalDataNodesConfig, new TimeService());
+    }
+    
+    TimeIntervalActualTables(final String logicTable, final TimeIntervalDataNodesConfiguration timeIntervalDataNodesConfig, final TimeService timeService) {
+        this.timeService = timeService;
+        tablePrefix = null == timeIntervalDataNodesConfig.getTablePrefix() ? logicTable + "_" : timeIntervalDataNodesConfig.getTablePrefix();
+        suffixPattern = timeIntervalDataNodesConfig.getSuffixPattern();
+        intervalField = getIntervalField(timeIntervalDataNodesConfig.getIntervalUnit());
+        intervalAmount = timeIntervalDataNodesConfig.getIntervalAmount();
+        Date startDate = parse(timeIntervalDataNodesConfig.getStartTime());
+        if (null == startDate) {
+            throw new ShardingConfigurationException("Start time `%s` does not match suffix pattern `%s`.", timeIntervalDataNodesConfig.getStartTime(), suffixPattern);
+        }
+        startTime = Calendar.getInstance();
+        startTime.setTime(startDate);
+    }
+    
+    private int getIntervalField(final String intervalUnit) {
+        switch (intervalUnit.toUpperCase()) {
+            case "YEARS":
+                return Calendar.YEAR;
+            case "MONTHS":
+                return Calendar.MONTH;
+            case "DAYS":
+                return Calendar.DAY_OF_MONTH;
+            case "HOURS":
+                return Calendar.HOUR_OF_DAY;
+            default:
+                throw new ShardingConfigurationException("Unsupported interval unit `%s`, it should be one of YEARS, MONTHS, DAYS or HOURS.", intervalUnit);
+        }
+    }
+    
+    private Date parse(final String suffix) {
+        DateFormat dateFormat = new SimpleDateFormat(suffixPattern);
+        dateFormat.setLenient(false);
+        ParsePosition position = new ParsePosition(0);
+        Date result = dateFormat.parse(suffix, position);
+        return position.getIndex() == suffix.length() ? result : null;
+    }
+    
+    /**
+     * Get actual tables until the interval of current time.
+     * 
+     * @return actual tables, which do not change while they are accessed and find index of actual table ignore case
+     */
+    List<String> getCurrentActualTables() {
+        return new SnapshotActualTables(getSnapshot());
+    }
+    
+    /**
+     * Get actual table via index.
+     * 
+     * @param index index of actual table
+     * @return actual table
+     */
+    String get(final int index) {
+        return getSnapshot().actualTables[index];
+    }
+    
+    /**
+     * Find index of actual table.
+     * 
+     * @param actualTable actual table
+     * @return index of actual table, {@code -1} if actual table is not in this collection
+     */
+    int indexOf(final String actualTable) {
+        Integer result = getSnapshot().indexes.get(actualTable.toLowerCase());
+        return null == result ? -1 : result;
+    }
+    
+    private Snapshot getSnapshot() {
+        Snapshot result = snapshot;
+        return timeService.getCurrentMillis() < result.expiryMillis ? result : refreshSnapshot();
+    }
+    
+    private synchronized Snapshot refreshSnapshot() {
+        long now = timeService.getCurrentMillis();
+        if (now < snapshot.expiryMillis) {
+            return snapshot;
+        }
+        int size = getIntervals(new Date(now)) + 1;
+        String[] actualTables = Arrays.copyOf(snapshot.actualTables, Math.max(size, 0));
+        Map<String, Integer> indexes = new HashMap<>(snapshot.indexes);
+        DateFormat dateFormat = new SimpleDateFormat(suffixPattern);
+        for (int i = snapshot.actualTables.length; i < size; i++) {
+            actualTables[i] = tablePrefix + dateFormat.format(getTime(i).getTime());
+            indexes.put(actualTables[i].toLowerCase(), i);
+        }
+        snapshot = new Snapshot(actualTables, indexes, getTime(Math.max(size, 0)).getTimeInMillis());
+        return snapshot;
+    }
+    
+    private Calendar getTime(final int index) {
+        Calendar result = (Calendar) startTime.clone();
+        result.add(intervalField, index * intervalAmount);
+        return result;
+    }
+    
+    private int getIntervals(final Date date) {
+        Calendar time = Calendar.getInstance();
+        time.setTime(date);
+        if (time.before(startTime)) {
+            return -1;
+        }
+        int result = estimateUnits(time) / intervalAmount;
+        while (result > 0 && getTime(result).after(time)) {
+            result--;
+        }
+        while (!getTime(result + 1).after(time)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int estimateUnits(final Calendar time) {
+        int years = time.get(Calendar.YEAR) - startTime.get(Calendar.YEAR);
+        switch (intervalField) {
+            case Calendar.YEAR:
+                return years;
+            case Calendar.MONTH:
+                return years * 12 + time.get(Calendar.MONTH) - startTime.get(Calendar.MONTH);
+            case Calendar.DAY_OF_MONTH:
+                return (int) ((time.getTimeInMillis() - startTime.getTimeInMillis()) / 86400000L);
+            default:
+                return (int) ((time.getTimeInMillis() - startTime.getTimeInMillis()) / 3600000L);
+        }
+    }
+    
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof String && indexOf((String) o) >= 0;
+    }
+    
+    @Override
+    public int size() {
+        return getSnapshot().actualTables.length;
+    }
+    
+    @Override
+    public Iterator<String> iterator() {
+        return getCurrentActualTables().iterator();
+    }
+    
+    private static final class Snapshot {
+        
+        private final String[] actualTables;
+        
+        private final Map<String, Integer> indexes;
+        
+        private final long expiryMillis;
+        
+        private Snapshot(final String[] actualTables, final Map<String, Integer> indexes, final long expiryMillis) {
+            this.actualTables = actualTables;
+            this.indexes = indexes;
+            this.expiryMillis = expiryMillis;
+        }
+    }
+    
+    private static final class SnapshotActualTables extends AbstractList<String> implements RandomAccess {
+        
+        private final Snapshot snapshot;
+        
+        private SnapshotActualTables(final Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+        
+        @Override
+        public String get(final int index) {
+            return snapshot.actualTables[index];
+        }
+        
+        @Override
+        public int size() {
+            return snapshot.actualTables.length;
+        }
+        
+        @Override
+        public int indexOf(final Object o) {
+            Integer result = o instanceof String ? snapshot.indexes.get(((String) o).toLowerCase()) : null;
+            return null == result ? -1 : result;
+        }
+    }
+}
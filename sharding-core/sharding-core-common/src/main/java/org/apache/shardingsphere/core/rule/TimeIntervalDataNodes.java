@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Data nodes of time interval.
+ * 
+ * <p>
+ * Data nodes are ordered by data source first, each data source contains all actual tables of time interval.
+ * Iteration works on actual tables of the interval when it starts, so they are computed once rather than per data node.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class TimeIntervalDataNodes extends AbstractList<DataNode> implements RandomAccess {
+    
+    private final List<String> dataSourceNames;
+    
+    private final TimeIntervalActualTables actualTables;
+    
+    TimeIntervalDataNodes(final List<String> dataSourceNames, final TimeIntervalActualTables actualTables) {
+        this.dataSourceNames = dataSourceNames;
+        this.actualTables = actualTables;
+    }
+    
+    @Override
+    public DataNode get(final int index) {
+        return get(actualTables.getCurrentActualTables(), index);
+    }
+    
+    private DataNode get(final List<String> currentActualTables, final int index) {
+        int actualTableCount = currentActualTables.size();
+        if (index < 0 || index >= dataSourceNames.size() * actualTableCount) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, dataSourceNames.size() * actualTableCount));
+        }
+        return new DataNode(dataSourceNames.get(index / actualTableCount), currentActualTables.get(index % actualTableCount));
+    }
+    
+    @Override
+    public Iterator<DataNode> iterator() {
+        final List<String> currentActualTables = actualTables.getCurrentActualTables();
+        final int size = dataSourceNames.size() * currentActualTables.size();
+        return new Iterator<DataNode>() {
+            
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            
+            @Override
+            public DataNode next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(currentActualTables, index++);
+            }
+            
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+    
+    @Override
+    public int size() {
+        return dataSourceNames.size() * actualTables.size();
+    }
+    
+    /**
+     * Find index of data node.
+     * 
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return index of data node, {@code -1} if data node is not in this list
+     */
+    int indexOf(final String dataSourceName, final String actualTableName) {
+        List<String> currentActualTables = actualTables.getCurrentActualTables();
+        int dataSourceIndex = dataSourceNames.indexOf(dataSourceName);
+        int actualTableIndex = currentActualTables.indexOf(actualTableName);
+        return dataSourceIndex < 0 || actualTableIndex < 0 ? -1 : dataSourceIndex * currentActualTables.size() + actualTableIndex;
+    }
+}
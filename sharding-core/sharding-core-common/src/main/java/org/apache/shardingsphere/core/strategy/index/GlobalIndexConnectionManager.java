@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.index;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Global index connection manager.
+ * 
+ * <p>
+ * Connection provider of session is bound to current thread only while its statement is routed,
+ * global index is not looked up without connection provider, so route is not narrowed by it.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GlobalIndexConnectionManager {
+    
+    private static final ThreadLocal<GlobalIndexConnectionProvider> CONNECTION_PROVIDER = new ThreadLocal<>();
+    
+    /**
+     * Bind connection provider of session to current thread.
+     * 
+     * @param connectionProvider connection provider
+     */
+    public static void bind(final GlobalIndexConnectionProvider connectionProvider) {
+        CONNECTION_PROVIDER.set(connectionProvider);
+    }
+    
+    /**
+     * Unbind connection provider of session from current thread.
+     */
+    public static void unbind() {
+        CONNECTION_PROVIDER.remove();
+    }
+    
+    /**
+     * Find connection provider bound to current thread.
+     * 
+     * @return connection provider
+     */
+    public static Optional<GlobalIndexConnectionProvider> findConnectionProvider() {
+        return Optional.fromNullable(CONNECTION_PROVIDER.get());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.index;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection provider of global index.
+ * 
+ * <p>
+ * Connection should be the one which current session executes SQL with, so index entries are in the same transaction as rows.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public interface GlobalIndexConnectionProvider {
+    
+    /**
+     * Get connection of session.
+     * 
+     * @param dataSourceName data source name
+     * @return connection
+     * @throws SQLException SQL exception
+     */
+    Connection getConnection(String dataSourceName) throws SQLException;
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.index;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Global index stored in mapping table.
+ * 
+ * <p>
+ * Mapping table is in data source configured by property {@code data.source.name} and named by property {@code table.name},
+ * it has column {@code index_value} with the same type as index column and column {@code sharding_value} with the same type as sharding column.
+ * Entries are written by SQL of the same connection as rows, so they are committed or rolled back together in transaction.
+ * Index is complete only if property {@code complete} is {@code true}, which should be set after existing rows are loaded into mapping table.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class MappingTableGlobalIndex implements GlobalIndex {
+    
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[\\w.]+");
+    
+    private Properties properties = new Properties();
+    
+    private String dataSourceName;
+    
+    private String tableName;
+    
+    private boolean complete;
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        dataSourceName = properties.getProperty("data.source.name");
+        tableName = properties.getProperty("table.name");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(dataSourceName), "Property `data.source.name` of mapping table global index is required.");
+        Preconditions.checkArgument(null != tableName && TABLE_NAME_PATTERN.matcher(tableName).matches(), "Property `table.name` of mapping table global index is invalid: `%s`.", tableName);
+        complete = Boolean.parseBoolean(properties.getProperty("complete"));
+        this.properties = properties;
+    }
+    
+    @Override
+    public String getType() {
+        return "MAPPING_TABLE";
+    }
+    
+    @Override
+    public Collection<Comparable<?>> get(final Connection connection, final Comparable<?> indexValue) throws SQLException {
+        Collection<Comparable<?>> result = new LinkedHashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT sharding_value FROM %s WHERE index_value = ?", tableName))) {
+            preparedStatement.setObject(1, indexValue);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add((Comparable<?>) resultSet.getObject(1));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void put(final Connection connection, final Comparable<?> indexValue, final Comparable<?> shardingValue) throws SQLException {
+        if (isExisted(connection, indexValue, shardingValue)) {
+            return;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (index_value, sharding_value) VALUES (?, ?)", tableName))) {
+            preparedStatement.setObject(1, indexValue);
+            preparedStatement.setObject(2, shardingValue);
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private boolean isExisted(final Connection connection, final Comparable<?> indexValue, final Comparable<?> shardingValue) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT 1 FROM %s WHERE index_value = ? AND sharding_value = ?", tableName))) {
+            preparedStatement.setObject(1, indexValue);
+            preparedStatement.setObject(2, shardingValue);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
+    @Override
+    public void remove(final Connection connection, final Comparable<?> indexValue, final Comparable<?> shardingValue) throws SQLException {
+        List<String> conditions = new LinkedList<>();
+        List<Object> parameters = new LinkedList<>();
+        if (null != indexValue) {
+            conditions.add("index_value = ?");
+            parameters.add(indexValue);
+        }
+        if (null != shardingValue) {
+            conditions.add("sharding_value = ?");
+            parameters.add(shardingValue);
+        }
+        Preconditions.checkArgument(!conditions.isEmpty(), "Can not remove all entries of mapping table global index.");
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DELETE FROM %s WHERE %s", tableName, Joiner.on(" AND ").join(conditions)))) {
+            int parameterIndex = 1;
+            for (Object each : parameters) {
+                preparedStatement.setObject(parameterIndex++, each);
+            }
+            preparedStatement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data source latency registry.
+ * 
+ * <p>
+ * Latency of each data source is recorded as exponentially weighted moving average, recent executions weigh more than older ones.
+ * Each latency aware load-balance algorithm owns its registry, so only slave data sources of its master-slave rule are recorded.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class DataSourceLatencyRegistry {
+    
+    private static final double DECAY_FACTOR = 0.2;
+    
+    private final ConcurrentMap<String, AtomicLong> latencies = new ConcurrentHashMap<>();
+    
+    /**
+     * Record latency of data source.
+     * 
+     * @param dataSourceName data source name
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(final String dataSourceName, final long latencyNanos) {
+        AtomicLong latency = latencies.get(dataSourceName);
+        if (null == latency) {
+            latencies.putIfAbsent(dataSourceName, new AtomicLong(Double.doubleToLongBits(latencyNanos)));
+            return;
+        }
+        long previous;
+        long current;
+        do {
+            previous = latency.get();
+            double average = Double.longBitsToDouble(previous);
+            current = Double.doubleToLongBits(average + DECAY_FACTOR * (latencyNanos - average));
+        } while (!latency.compareAndSet(previous, current));
+    }
+    
+    /**
+     * Get latency of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return average latency in nanoseconds, 0 if never recorded
+     */
+    public double getLatency(final String dataSourceName) {
+        AtomicLong result = latencies.get(dataSourceName);
+        return null == result ? 0 : Double.longBitsToDouble(result.get());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware slave database load-balance algorithm.
+ * 
+ * <p>
+ * Two slave data sources are picked randomly and the one with lower average latency in its own {@code DataSourceLatencyRegistry} is selected,
+ * so that slow slave data source receives less requests.
+ * A fraction of requests configured by {@code probe.ratio} (default 0.05) go to a random slave data source instead,
+ * so that slow slave data source is still visited to refresh its latency and gets traffic again after it recovers.
+ * Latency is recorded by SQL execute engine, so the algorithm works with sharding data source and sharding-proxy,
+ * master-slave data source of JDBC rejects it.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    public static final String PROBE_RATIO = "probe.ratio";
+    
+    private static final double DEFAULT_PROBE_RATIO = 0.05;
+    
+    private final DataSourceLatencyRegistry latencyRegistry = new DataSourceLatencyRegistry();
+    
+    private Properties properties = new Properties();
+    
+    private double probeRatio = DEFAULT_PROBE_RATIO;
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        String value = properties.getProperty(PROBE_RATIO);
+        probeRatio = null == value ? DEFAULT_PROBE_RATIO : parseProbeRatio(value.trim());
+        this.properties = properties;
+    }
+    
+    private double parseProbeRatio(final String value) {
+        double result;
+        try {
+            result = Double.parseDouble(value);
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException(String.format("Property `%s` should be a number, but is `%s`.", PROBE_RATIO, value), ex);
+        }
+        Preconditions.checkArgument(result >= 0 && result <= 1, "Property `%s` should be between 0 and 1, but is `%s`.", PROBE_RATIO, value);
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        if (1 == slaveDataSourceNames.size()) {
+            return slaveDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(slaveDataSourceNames.size());
+        if (probeRatio > 0 && random.nextDouble() < probeRatio) {
+            return slaveDataSourceNames.get(firstIndex);
+        }
+        int secondIndex = (firstIndex + 1 + random.nextInt(slaveDataSourceNames.size() - 1)) % slaveDataSourceNames.size();
+        String first = slaveDataSourceNames.get(firstIndex);
+        String second = slaveDataSourceNames.get(secondIndex);
+        return latencyRegistry.getLatency(first) <= latencyRegistry.getLatency(second) ? first : second;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+import lombok.Getter;
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weight slave database load-balance algorithm.
+ * 
+ * <p>
+ * Weight of slave data source is configured by property which key is slave data source name, default weight is 1.
+ * Slave data source with weight 0 is never selected unless all slave data sources are with weight 0.
+ * Weights are parsed and validated when properties are set.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class WeightMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private static final int DEFAULT_WEIGHT = 1;
+    
+    private Properties properties = new Properties();
+    
+    private Map<String, Integer> weights = Collections.emptyMap();
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        weights = parseWeights(properties);
+        this.properties = properties;
+    }
+    
+    private Map<String, Integer> parseWeights(final Properties properties) {
+        Map<String, Integer> result = new HashMap<>(properties.size(), 1);
+        for (String each : properties.stringPropertyNames()) {
+            String value = properties.getProperty(each).trim();
+            Integer weight = Ints.tryParse(value);
+            Preconditions.checkArgument(null != weight && weight >= 0, "Weight of slave data source `%s` should be a non-negative integer, but is `%s`.", each, value);
+            result.put(each, weight);
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "WEIGHT";
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        int[] slaveWeights = new int[slaveDataSourceNames.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < slaveWeights.length; i++) {
+            slaveWeights[i] = getWeight(slaveDataSourceNames.get(i));
+            totalWeight += slaveWeights[i];
+        }
+        if (0 == totalWeight) {
+            return slaveDataSourceNames.get(ThreadLocalRandom.current().nextInt(slaveDataSourceNames.size()));
+        }
+        int offset = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < slaveWeights.length; i++) {
+            offset -= slaveWeights[i];
+            if (offset < 0) {
+                return slaveDataSourceNames.get(i);
+            }
+        }
+        return slaveDataSourceNames.get(slaveWeights.length - 1);
+    }
+    
+    private int getWeight(final String slaveDataSourceName) {
+        Integer result = weights.get(slaveDataSourceName);
+        return null == result ? DEFAULT_WEIGHT : result;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Algorithm expressions which only contain literals and placeholders like {@code ${column}}, {@code ${column % N}} or {@code ${column.hashCode() % N}}
+ * are evaluated in plain Java. Values which can not be evaluated same as Groovy are left to Groovy closure.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\s*([A-Za-z_][A-Za-z0-9_]*)(\\.hashCode\\(\\))?\\s*(%\\s*([1-9]\\d{0,17}))?\\s*");
+    
+    private final String shardingColumn;
+    
+    private final List<String> literals;
+    
+    private final List<Placeholder> placeholders;
+    
+    /**
+     * Compile algorithm expression.
+     *
+     * @param algorithmExpression algorithm expression with {@code $}
+     * @param shardingColumn sharding column
+     * @return compiled inline expression, absent if algorithm expression is not in common shapes
+     */
+    public static Optional<CompiledInlineExpression> compile(final String algorithmExpression, final String shardingColumn) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int index = 0;
+        int startIndex = algorithmExpression.indexOf("${");
+        while (startIndex >= 0) {
+            int stopIndex = algorithmExpression.indexOf('}', startIndex);
+            if (stopIndex < 0 || !isPlainLiteral(algorithmExpression.substring(index, startIndex))) {
+                return Optional.absent();
+            }
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(algorithmExpression.substring(startIndex + 2, stopIndex));
+            if (!matcher.matches() || !shardingColumn.equals(matcher.group(1))) {
+                return Optional.absent();
+            }
+            literals.add(algorithmExpression.substring(index, startIndex));
+            placeholders.add(new Placeholder(null != matcher.group(2), null == matcher.group(4) ? 0L : Long.parseLong(matcher.group(4))));
+            index = stopIndex + 1;
+            startIndex = algorithmExpression.indexOf("${", index);
+        }
+        if (!isPlainLiteral(algorithmExpression.substring(index))) {
+            return Optional.absent();
+        }
+        literals.add(algorithmExpression.substring(index));
+        return Optional.of(new CompiledInlineExpression(shardingColumn, literals, placeholders));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("\"") && !literal.contains("\\");
+    }
+    
+    /**
+     * Evaluate with sharding value.
+     *
+     * @param shardingValue sharding value
+     * @return evaluated result, absent if sharding value should be evaluated by Groovy
+     */
+    public Optional<String> evaluate(final PreciseShardingValue<?> shardingValue) {
+        if (!shardingColumn.equals(shardingValue.getColumnName())) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < placeholders.size(); i++) {
+            Optional<String> value = placeholders.get(i).evaluate(shardingValue.getValue());
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            result.append(value.get()).append(literals.get(i + 1));
+        }
+        return Optional.of(result.toString());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Placeholder {
+        
+        private final boolean hashCode;
+        
+        private final long modulus;
+        
+        private Optional<String> evaluate(final Comparable<?> value) {
+            if (null == value) {
+                return Optional.absent();
+            }
+            if (hashCode) {
+                return Optional.of(calculate(value.hashCode()));
+            }
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                return Optional.of(calculate(((Number) value).longValue()));
+            }
+            return 0L == modulus && value instanceof String ? Optional.of((String) value) : Optional.<String>absent();
+        }
+        
+        private String calculate(final long value) {
+            return String.valueOf(0L == modulus ? value : value % modulus);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Interval sharding strategy.
+ * 
+ * <p>
+ * Lower bounds of intervals are kept in sorted array, so target of sharding value is found by binary search,
+ * and targets of range are found by two binary searches and a continuous slice of target names, which is O(log n + k).
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class IntervalShardingStrategy implements ShardingStrategy {
+    
+    private static final String DATETIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+    
+    private static final Map<String, Integer> INTERVAL_UNITS = new HashMap<>(8, 1);
+    
+    static {
+        INTERVAL_UNITS.put("YEARS", Calendar.YEAR);
+        INTERVAL_UNITS.put("MONTHS", Calendar.MONTH);
+        INTERVAL_UNITS.put("DAYS", Calendar.DAY_OF_MONTH);
+        INTERVAL_UNITS.put("HOURS", Calendar.HOUR_OF_DAY);
+        INTERVAL_UNITS.put("MINUTES", Calendar.MINUTE);
+    }
+    
+    private final String shardingColumn;
+    
+    private final boolean datetime;
+    
+    private final long[] lowerBounds;
+    
+    private final long maxValue;
+    
+    private final List<String> targetNames;
+    
+    private final Map<String, Integer> targetIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    public IntervalShardingStrategy(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig) {
+        Preconditions.checkNotNull(intervalShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
+        shardingColumn = intervalShardingStrategyConfig.getShardingColumn();
+        datetime = null == intervalShardingStrategyConfig.getBoundaries();
+        List<Long> bounds = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        if (datetime) {
+            maxValue = initDatetimeIntervals(intervalShardingStrategyConfig, bounds, names);
+        } else {
+            maxValue = initBoundaryIntervals(intervalShardingStrategyConfig, bounds, names);
+        }
+        Preconditions.checkArgument(!bounds.isEmpty(), "Intervals of sharding column `%s` cannot be empty.", shardingColumn);
+        lowerBounds = new long[bounds.size()];
+        for (int i = 0; i < lowerBounds.length; i++) {
+            lowerBounds[i] = bounds.get(i);
+            Preconditions.checkArgument(0 == i || lowerBounds[i - 1] < lowerBounds[i], "Boundaries of sharding column `%s` must be strictly increasing.", shardingColumn);
+        }
+        targetNames = Collections.unmodifiableList(names);
+        for (int i = 0; i < names.size(); i++) {
+            targetIndexes.put(names.get(i), i);
+        }
+    }
+    
+    private long initBoundaryIntervals(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig, final List<Long> bounds, final List<String> names) {
+        bounds.add(Long.MIN_VALUE);
+        bounds.addAll(intervalShardingStrategyConfig.getBoundaries());
+        for (int i = 0; i < bounds.size(); i++) {
+            names.add(intervalShardingStrategyConfig.getTargetPrefix() + i);
+        }
+        return Long.MAX_VALUE;
+    }
+    
+    private long initDatetimeIntervals(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig, final List<Long> bounds, final List<String> names) {
+        Integer intervalUnit = INTERVAL_UNITS.get(intervalShardingStrategyConfig.getIntervalUnit().toUpperCase());
+        Preconditions.checkArgument(null != intervalUnit, "Unsupported interval unit `%s`, should be one of %s.", intervalShardingStrategyConfig.getIntervalUnit(), INTERVAL_UNITS.keySet());
+        SimpleDateFormat suffixFormat = new SimpleDateFormat(intervalShardingStrategyConfig.getSuffixPattern());
+        long datetimeUpper = parseDatetime(intervalShardingStrategyConfig.getDatetimeUpper());
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(parseDatetime(intervalShardingStrategyConfig.getDatetimeLower()));
+        while (calendar.getTimeInMillis() <= datetimeUpper) {
+            bounds.add(calendar.getTimeInMillis());
+            names.add(intervalShardingStrategyConfig.getTargetPrefix() + suffixFormat.format(calendar.getTime()));
+            calendar.add(intervalUnit, intervalShardingStrategyConfig.getIntervalAmount());
+        }
+        return calendar.getTimeInMillis() - 1;
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
+        RouteValue shardingValue = shardingValues.iterator().next();
+        Collection<String> shardingResult = shardingValue instanceof ListRouteValue
+                ? doSharding((ListRouteValue) shardingValue) : doSharding((RangeRouteValue) shardingValue);
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : shardingResult) {
+            if (availableTargetNames.contains(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> doSharding(final ListRouteValue<?> shardingValue) {
+        Collection<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Comparable<?> each : shardingValue.getValues()) {
+            long value = toLong(each);
+            if (value >= lowerBounds[0] && value <= maxValue) {
+                result.add(targetNames.get(findIndex(value)));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> doSharding(final RangeRouteValue<?> shardingValue) {
+        Range<?> range = shardingValue.getValueRange();
+        long lower = range.hasLowerBound() ? getEndpoint(range.lowerEndpoint(), range.lowerBoundType(), 1) : lowerBounds[0];
+        long upper = range.hasUpperBound() ? getEndpoint(range.upperEndpoint(), range.upperBoundType(), -1) : maxValue;
+        if (lower > upper || lower > maxValue || upper < lowerBounds[0]) {
+            return Collections.emptyList();
+        }
+        int startIndex = lower < lowerBounds[0] ? 0 : findIndex(lower);
+        int stopIndex = upper > maxValue ? targetNames.size() - 1 : findIndex(upper);
+        return targetNames.subList(startIndex, stopIndex + 1);
+    }
+    
+    private long getEndpoint(final Comparable<?> endpoint, final BoundType boundType, final int openOffset) {
+        long result = toLong(endpoint);
+        boolean integral = !(endpoint instanceof Double || endpoint instanceof Float || endpoint instanceof BigDecimal);
+        if (BoundType.CLOSED == boundType || !integral || (openOffset > 0 ? Long.MAX_VALUE : Long.MIN_VALUE) == result) {
+            return result;
+        }
+        return result + openOffset;
+    }
+    
+    private int findIndex(final long value) {
+        int result = Arrays.binarySearch(lowerBounds, value);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private long toLong(final Comparable<?> value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            return new BigDecimal(value.toString()).setScale(0, BigDecimal.ROUND_FLOOR).longValue();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (datetime) {
+            return parseDatetime(value.toString());
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (final NumberFormatException ex) {
+            throw new ShardingException("Sharding value `%s` of column `%s` is not a number.", value, shardingColumn);
+        }
+    }
+    
+    private long parseDatetime(final String value) {
+        try {
+            return new SimpleDateFormat(DATE_PATTERN.length() == value.length() ? DATE_PATTERN : DATETIME_PATTERN).parse(value).getTime();
+        } catch (final ParseException ex) {
+            throw new ShardingException(String.format("Datetime `%s` of column `%s` should be formatted as `%s`.", value, shardingColumn, DATETIME_PATTERN), ex);
+        }
+    }
+    
+    /**
+     * Get index of target in ascending order of intervals.
+     * 
+     * @param targetName target name
+     * @return index of target, or -1 if target is not an interval of this strategy
+     */
+    public int getTargetIndex(final String targetName) {
+        Integer result = targetIndexes.get(targetName);
+        return null == result ? -1 : result;
+    }
+    
+    @Override
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(shardingColumn);
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.strategy.route.standard;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
@@ -41,6 +42,7 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     private final String shardingColumn;
     
+    @Getter
     private final PreciseShardingAlgorithm preciseShardingAlgorithm;
     
     private final RangeShardingAlgorithm rangeShardingAlgorithm;
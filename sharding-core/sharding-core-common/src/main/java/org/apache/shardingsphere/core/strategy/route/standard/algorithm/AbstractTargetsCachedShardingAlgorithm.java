@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
+import org.apache.shardingsphere.core.exception.ShardingException;
+
+import java.util.Collection;
+
+/**
+ * Sharding algorithm which precomputes targets for available target names.
+ * 
+ * <p>
+ * Available target names of same table rule and data source are same instance for every routing, 
+ * so precomputed targets are cached by identity of available target names.
+ * Each table rule and data source keeps its own entry, so algorithm shared by default strategy or table strategy does not rebuild targets,
+ * and targets are rebuilt only when size of available target names changed, for example when time interval tables are expanded.
+ * </p>
+ * 
+ * @author zhangliang
+ * 
+ * @param <T> type of precomputed targets
+ */
+public abstract class AbstractTargetsCachedShardingAlgorithm<T> implements PreciseShardingAlgorithm<Comparable<?>>, RangeShardingAlgorithm<Comparable<?>> {
+    
+    private static final int MAX_CACHED_TARGETS_SIZE = 1024;
+    
+    private final Cache<Collection<String>, CachedTargets<T>> cachedTargets = CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_TARGETS_SIZE).build();
+    
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        return null == shardingValue.getValue() || availableTargetNames.isEmpty() ? null : findTarget(getTargets(availableTargetNames), shardingValue.getValue());
+    }
+    
+    /**
+     * Get precomputed targets.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @return precomputed targets
+     */
+    protected final T getTargets(final Collection<String> availableTargetNames) {
+        CachedTargets<T> result = cachedTargets.getIfPresent(availableTargetNames);
+        if (null == result || result.size != availableTargetNames.size()) {
+            result = new CachedTargets<>(availableTargetNames.size(), createTargets(availableTargetNames));
+            cachedTargets.put(availableTargetNames, result);
+        }
+        return result.targets;
+    }
+    
+    /**
+     * Create targets for available target names.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @return precomputed targets
+     */
+    protected abstract T createTargets(Collection<String> availableTargetNames);
+    
+    /**
+     * Find target for sharding value.
+     * 
+     * @param targets precomputed targets
+     * @param value sharding value
+     * @return sharding result for data source or table's name
+     */
+    protected abstract String findTarget(T targets, Comparable<?> value);
+    
+    /**
+     * Create target names indexed by numeric suffix.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @return target names
+     * @throws ShardingConfigurationException if suffixes of target names are not exactly {@code 0} to {@code n - 1}
+     */
+    protected static String[] createIndexedTargetNames(final Collection<String> availableTargetNames) {
+        String[] result = new String[availableTargetNames.size()];
+        for (String each : availableTargetNames) {
+            int suffix = getNumericSuffix(each);
+            if (suffix < 0 || suffix >= result.length || null != result[suffix]) {
+                throw new ShardingConfigurationException("Suffixes of target names %s should be exactly 0 to %d.", availableTargetNames, result.length - 1);
+            }
+            result[suffix] = each;
+        }
+        return result;
+    }
+    
+    private static int getNumericSuffix(final String targetName) {
+        int startIndex = targetName.length();
+        while (startIndex > 0 && Character.isDigit(targetName.charAt(startIndex - 1))) {
+            startIndex--;
+        }
+        if (startIndex == targetName.length() || targetName.length() - startIndex > 9) {
+            return -1;
+        }
+        return Integer.parseInt(targetName.substring(startIndex));
+    }
+    
+    /**
+     * Convert sharding value to long.
+     * 
+     * @param value sharding value
+     * @return long value
+     */
+    protected static long toLong(final Comparable<?> value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (final NumberFormatException ex) {
+            throw new ShardingException("Sharding value `%s` is not an integer.", value);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedTargets<T> {
+        
+        private final int size;
+        
+        private final T targets;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash sharding algorithm.
+ * 
+ * <p>
+ * Every target is placed on hash ring by virtual nodes, and sharding value is routed to first virtual node clockwise from its hash.
+ * When targets are added or removed, only values on ring segments of changed targets are moved, which is about {@code 1 / n} of data.
+ * Positions of virtual nodes are kept in sorted array and found by binary search. Range is routed to all targets.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public class ConsistentHashShardingAlgorithm extends AbstractTargetsCachedShardingAlgorithm<ConsistentHashShardingAlgorithm.HashRing> {
+    
+    public static final int DEFAULT_VIRTUAL_NODE_COUNT = 160;
+    
+    private final int virtualNodeCount;
+    
+    public ConsistentHashShardingAlgorithm() {
+        this(DEFAULT_VIRTUAL_NODE_COUNT);
+    }
+    
+    protected ConsistentHashShardingAlgorithm(final int virtualNodeCount) {
+        Preconditions.checkArgument(virtualNodeCount > 0, "Virtual node count must be positive.");
+        this.virtualNodeCount = virtualNodeCount;
+    }
+    
+    @Override
+    protected final HashRing createTargets(final Collection<String> availableTargetNames) {
+        Map<Long, String> virtualNodes = new TreeMap<>();
+        for (String each : availableTargetNames) {
+            for (int i = 0; i < virtualNodeCount; i++) {
+                Long position = mix((each + "#" + i).hashCode());
+                if (!virtualNodes.containsKey(position) || each.compareTo(virtualNodes.get(position)) < 0) {
+                    virtualNodes.put(position, each);
+                }
+            }
+        }
+        long[] positions = new long[virtualNodes.size()];
+        String[] targetNames = new String[virtualNodes.size()];
+        int index = 0;
+        for (Map.Entry<Long, String> entry : virtualNodes.entrySet()) {
+            positions[index] = entry.getKey();
+            targetNames[index] = entry.getValue();
+            index++;
+        }
+        return new HashRing(positions, targetNames);
+    }
+    
+    @Override
+    protected final String findTarget(final HashRing targets, final Comparable<?> value) {
+        long hash = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ? mix(((Number) value).longValue()) : mix(value.hashCode());
+        int index = Arrays.binarySearch(targets.positions, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return targets.targetNames[index == targets.positions.length ? 0 : index];
+    }
+    
+    private static long mix(final long value) {
+        long result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return availableTargetNames;
+    }
+    
+    @RequiredArgsConstructor
+    static final class HashRing {
+        
+        private final long[] positions;
+        
+        private final String[] targetNames;
+    }
+}
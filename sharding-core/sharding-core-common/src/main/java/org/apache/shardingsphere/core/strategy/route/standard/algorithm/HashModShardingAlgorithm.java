@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Collection;
+
+/**
+ * Hash modulo sharding algorithm.
+ * 
+ * <p>
+ * Sharding value is routed to target with suffix of absolute hash code modulo count of available targets, 
+ * which is same as inline expression {@code t_order_${Math.abs(order_no.hashCode() % n)}}. Range is routed to all targets.
+ * Integral numbers are hashed as {@code Long}, so one value is routed to same target whichever integral type it is bound as.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class HashModShardingAlgorithm extends AbstractTargetsCachedShardingAlgorithm<String[]> {
+    
+    @Override
+    protected String[] createTargets(final Collection<String> availableTargetNames) {
+        return createIndexedTargetNames(availableTargetNames);
+    }
+    
+    @Override
+    protected String findTarget(final String[] targets, final Comparable<?> value) {
+        int hashCode = value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ? Long.valueOf(((Number) value).longValue()).hashCode() : value.hashCode();
+        return targets[Math.abs(hashCode % targets.length)];
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return availableTargetNames;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+/**
+ * Modulo sharding algorithm.
+ * 
+ * <p>
+ * Integer sharding value is routed to target with suffix of value modulo count of available targets, 
+ * which is same as inline expression {@code t_order_${order_id % n}}.
+ * Range which is shorter than count of available targets is routed to targets of its values, other ranges are routed to all targets.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ModShardingAlgorithm extends AbstractTargetsCachedShardingAlgorithm<String[]> {
+    
+    @Override
+    protected String[] createTargets(final Collection<String> availableTargetNames) {
+        return createIndexedTargetNames(availableTargetNames);
+    }
+    
+    @Override
+    protected String findTarget(final String[] targets, final Comparable<?> value) {
+        return targets[mod(toLong(value), targets.length)];
+    }
+    
+    private int mod(final long value, final int count) {
+        int result = (int) (value % count);
+        return result < 0 ? result + count : result;
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> range = shardingValue.getValueRange();
+        if (!range.hasLowerBound() || !range.hasUpperBound()) {
+            return availableTargetNames;
+        }
+        long lower = toLong(range.lowerEndpoint());
+        long upper = toLong(range.upperEndpoint());
+        if (BoundType.OPEN == range.lowerBoundType() && Long.MAX_VALUE != lower) {
+            lower++;
+        }
+        if (BoundType.OPEN == range.upperBoundType() && Long.MIN_VALUE != upper) {
+            upper--;
+        }
+        if (lower > upper) {
+            return Collections.emptyList();
+        }
+        if (upper - lower < 0 || upper - lower >= availableTargetNames.size()) {
+            return availableTargetNames;
+        }
+        String[] targets = getTargets(availableTargetNames);
+        Collection<String> result = new LinkedHashSet<>();
+        for (long each = lower; each <= upper; each++) {
+            result.add(targets[mod(each, targets.length)]);
+        }
+        return result;
+    }
+}
@@ -19,8 +19,14 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import groovy.lang.Closure;
 import groovy.lang.GString;
 import groovy.lang.GroovyShell;
@@ -30,14 +36,20 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Inline expression parser.
  * 
+ * <p>
+ * Segments which only contain literals and integer ranges such as {@code ds_${0..9}.t_order_${0..<16}} are expanded directly,
+ * other segments are evaluated by Groovy.
+ * </p>
+ * 
  * @author gaohongtao
  * @author zhangliang
  */
@@ -46,10 +58,20 @@ public final class InlineExpressionParser {
     
     private static final char SPLITTER = ',';
     
-    private static final Map<String, Script> SCRIPTS = new HashMap<>();
+    private static final int SCRIPT_CACHE_SIZE = 1024;
     
     private static final GroovyShell SHELL = new GroovyShell();
     
+    private static final LoadingCache<String, Script> SCRIPTS = CacheBuilder.newBuilder().maximumSize(SCRIPT_CACHE_SIZE).build(new CacheLoader<String, Script>() {
+        
+        @Override
+        public Script load(final String expression) {
+            return SHELL.parse(expression);
+        }
+    });
+    
+    private static final Pattern RANGE_PATTERN = Pattern.compile("\\s*(0|[1-9]\\d{0,8})\\s*\\.\\.(<)?\\s*(0|[1-9]\\d{0,8})\\s*");
+    
     private final String inlineExpression;
     
     /**
@@ -71,7 +93,56 @@ public final class InlineExpressionParser {
         if (null == inlineExpression) {
             return Collections.emptyList();
         }
-        return flatten(evaluate(split()));
+        List<String> result = new ArrayList<>();
+        for (String each : split()) {
+            Optional<List<String>> expandedSegments = expand(handlePlaceHolder(each));
+            result.addAll(expandedSegments.isPresent() ? expandedSegments.get() : flatten(evaluate(Collections.singletonList(each))));
+        }
+        return result;
+    }
+    
+    private Optional<List<String>> expand(final String segment) {
+        List<String> literals = new ArrayList<>();
+        List<Set<String>> ranges = new ArrayList<>();
+        int index = 0;
+        int startIndex = segment.indexOf("${");
+        while (startIndex >= 0) {
+            int stopIndex = segment.indexOf('}', startIndex);
+            if (stopIndex < 0 || !isPlainLiteral(segment.substring(index, startIndex))) {
+                return Optional.absent();
+            }
+            Matcher matcher = RANGE_PATTERN.matcher(segment.substring(startIndex + 2, stopIndex));
+            if (!matcher.matches()) {
+                return Optional.absent();
+            }
+            literals.add(segment.substring(index, startIndex));
+            ranges.add(getRangeValues(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(3)), null != matcher.group(2)));
+            index = stopIndex + 1;
+            startIndex = segment.indexOf("${", index);
+        }
+        if (!isPlainLiteral(segment.substring(index))) {
+            return Optional.absent();
+        }
+        literals.add(segment.substring(index));
+        List<String> result = new ArrayList<>();
+        for (List<String> each : Sets.cartesianProduct(ranges)) {
+            result.add(assemblySegment(each, literals.toArray(new String[literals.size()])));
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("\"") && !literal.contains("\\");
+    }
+    
+    private Set<String> getRangeValues(final int from, final int to, final boolean exclusive) {
+        Set<String> result = new LinkedHashSet<>();
+        int step = from <= to ? 1 : -1;
+        int stop = exclusive ? to : to + step;
+        for (int i = from; i != stop; i += step) {
+            result.add(String.valueOf(i));
+        }
+        return result;
     }
     
     /**
@@ -100,11 +171,10 @@ public final class InlineExpressionParser {
     
     private Object evaluate(final String expression) {
         Script script;
-        if (SCRIPTS.containsKey(expression)) {
-            script = SCRIPTS.get(expression);
-        } else {
-            script = SHELL.parse(expression);
-            SCRIPTS.put(expression, script);
+        try {
+            script = SCRIPTS.getUnchecked(expression);
+        } catch (final UncheckedExecutionException ex) {
+            throw Throwables.propagate(ex.getCause());
         }
         return script.run();
     }
@@ -166,7 +236,7 @@ public final class InlineExpressionParser {
         Set<List<String>> cartesianValues = getCartesianValues(segment);
         List<String> result = new ArrayList<>(cartesianValues.size());
         for (List<String> each : cartesianValues) {
-            result.add(assemblySegment(each, segment));
+            result.add(assemblySegment(each, segment.getStrings()));
         }
         return result;
     }
@@ -193,10 +263,10 @@ public final class InlineExpressionParser {
         return Sets.cartesianProduct(result);
     }
     
-    private String assemblySegment(final List<String> cartesianValue, final GString segment) {
+    private String assemblySegment(final List<String> cartesianValue, final String[] strings) {
         StringBuilder result = new StringBuilder();
-        for (int i = 0; i < segment.getStrings().length; i++) {
-            result.append(segment.getStrings()[i]);
+        for (int i = 0; i < strings.length; i++) {
+            result.append(strings[i]);
             if (i < cartesianValue.size()) {
                 result.append(cartesianValue.get(i));
             }
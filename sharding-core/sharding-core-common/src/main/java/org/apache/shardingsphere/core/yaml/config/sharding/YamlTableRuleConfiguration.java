@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.core.yaml.config.YamlConfiguration;
 
+import java.util.Collection;
+
 /**
  * Table rule configuration for YAML.
  *
@@ -35,9 +37,13 @@ public class YamlTableRuleConfiguration implements YamlConfiguration {
     
     private String actualDataNodes;
     
+    private YamlTimeIntervalDataNodesConfiguration timeIntervalDataNodes;
+    
     private YamlShardingStrategyConfiguration databaseStrategy;
     
     private YamlShardingStrategyConfiguration tableStrategy;
     
     private YamlKeyGeneratorConfiguration keyGenerator;
+    
+    private Collection<YamlGlobalIndexConfiguration> globalIndexes;
 }
@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.core.yaml.swapper.impl;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.api.config.sharding.GlobalIndexConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlGlobalIndexConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlTableRuleConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
 
+import java.util.LinkedList;
+
 /**
  * Table rule configuration YAML swapper.
  *
@@ -34,11 +38,18 @@ public final class TableRuleConfigurationYamlSwapper implements YamlSwapper<Yaml
     
     private final KeyGeneratorConfigurationYamlSwapper keyGeneratorConfigurationYamlSwapper = new KeyGeneratorConfigurationYamlSwapper();
     
+    private final GlobalIndexConfigurationYamlSwapper globalIndexConfigurationYamlSwapper = new GlobalIndexConfigurationYamlSwapper();
+    
+    private final TimeIntervalDataNodesConfigurationYamlSwapper timeIntervalDataNodesConfigurationYamlSwapper = new TimeIntervalDataNodesConfigurationYamlSwapper();
+    
     @Override
     public YamlTableRuleConfiguration swap(final TableRuleConfiguration data) {
         YamlTableRuleConfiguration result = new YamlTableRuleConfiguration();
         result.setLogicTable(data.getLogicTable());
         result.setActualDataNodes(data.getActualDataNodes());
+        if (null != data.getTimeIntervalDataNodesConfig()) {
+            result.setTimeIntervalDataNodes(timeIntervalDataNodesConfigurationYamlSwapper.swap(data.getTimeIntervalDataNodesConfig()));
+        }
         if (null != data.getDatabaseShardingStrategyConfig()) {
             result.setDatabaseStrategy(shardingStrategyConfigurationYamlSwapper.swap(data.getDatabaseShardingStrategyConfig()));
         }
@@ -48,6 +59,12 @@ public final class TableRuleConfigurationYamlSwapper implements YamlSwapper<Yaml
         if (null != data.getKeyGeneratorConfig()) {
             result.setKeyGenerator(keyGeneratorConfigurationYamlSwapper.swap(data.getKeyGeneratorConfig()));
         }
+        if (!data.getGlobalIndexConfigs().isEmpty()) {
+            result.setGlobalIndexes(new LinkedList<YamlGlobalIndexConfiguration>());
+            for (GlobalIndexConfiguration each : data.getGlobalIndexConfigs()) {
+                result.getGlobalIndexes().add(globalIndexConfigurationYamlSwapper.swap(each));
+            }
+        }
         return result;
     }
     
@@ -55,6 +72,9 @@ public final class TableRuleConfigurationYamlSwapper implements YamlSwapper<Yaml
     public TableRuleConfiguration swap(final YamlTableRuleConfiguration yamlConfiguration) {
         Preconditions.checkNotNull(yamlConfiguration.getLogicTable(), "Logic table cannot be null.");
         TableRuleConfiguration result = new TableRuleConfiguration(yamlConfiguration.getLogicTable(), yamlConfiguration.getActualDataNodes());
+        if (null != yamlConfiguration.getTimeIntervalDataNodes()) {
+            result.setTimeIntervalDataNodesConfig(timeIntervalDataNodesConfigurationYamlSwapper.swap(yamlConfiguration.getTimeIntervalDataNodes()));
+        }
         if (null != yamlConfiguration.getDatabaseStrategy()) {
             result.setDatabaseShardingStrategyConfig(shardingStrategyConfigurationYamlSwapper.swap(yamlConfiguration.getDatabaseStrategy()));
         }
@@ -64,6 +84,11 @@ public final class TableRuleConfigurationYamlSwapper implements YamlSwapper<Yaml
         if (null != yamlConfiguration.getKeyGenerator()) {
             result.setKeyGeneratorConfig(keyGeneratorConfigurationYamlSwapper.swap(yamlConfiguration.getKeyGenerator()));
         }
+        if (null != yamlConfiguration.getGlobalIndexes()) {
+            for (YamlGlobalIndexConfiguration each : yamlConfiguration.getGlobalIndexes()) {
+                result.getGlobalIndexConfigs().add(globalIndexConfigurationYamlSwapper.swap(each));
+            }
+        }
         return result;
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlTimeIntervalDataNodesConfiguration;
+import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
+
+/**
+ * Time interval data nodes configuration YAML swapper.
+ *
+ * @author zhangliang
+ */
+public final class TimeIntervalDataNodesConfigurationYamlSwapper implements YamlSwapper<YamlTimeIntervalDataNodesConfiguration, TimeIntervalDataNodesConfiguration> {
+    
+    @Override
+    public YamlTimeIntervalDataNodesConfiguration swap(final TimeIntervalDataNodesConfiguration data) {
+        YamlTimeIntervalDataNodesConfiguration result = new YamlTimeIntervalDataNodesConfiguration();
+        result.setActualDataSources(data.getActualDataSources());
+        result.setTablePrefix(data.getTablePrefix());
+        result.setStartTime(data.getStartTime());
+        result.setSuffixPattern(data.getSuffixPattern());
+        result.setIntervalUnit(data.getIntervalUnit());
+        result.setIntervalAmount(data.getIntervalAmount());
+        return result;
+    }
+    
+    @Override
+    public TimeIntervalDataNodesConfiguration swap(final YamlTimeIntervalDataNodesConfiguration yamlConfiguration) {
+        TimeIntervalDataNodesConfiguration result = new TimeIntervalDataNodesConfiguration(
+                yamlConfiguration.getStartTime(), yamlConfiguration.getSuffixPattern(), yamlConfiguration.getIntervalUnit(), yamlConfiguration.getIntervalAmount());
+        result.setActualDataSources(yamlConfiguration.getActualDataSources());
+        result.setTablePrefix(yamlConfiguration.getTablePrefix());
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.fixture;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+@Getter
+@Setter
+public final class TestGlobalIndex implements GlobalIndex {
+    
+    private final Multimap<Comparable<?>, Comparable<?>> entries = LinkedHashMultimap.create();
+    
+    private Properties properties = new Properties();
+    
+    private String dataSourceName = "ds_0";
+    
+    private boolean complete = true;
+    
+    @Override
+    public String getType() {
+        return "TEST";
+    }
+    
+    @Override
+    public Collection<Comparable<?>> get(final Connection connection, final Comparable<?> indexValue) {
+        return entries.get(indexValue);
+    }
+    
+    @Override
+    public void put(final Connection connection, final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        entries.put(indexValue, shardingValue);
+    }
+    
+    @Override
+    public void remove(final Connection connection, final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        for (Entry<Comparable<?>, Comparable<?>> each : new LinkedList<>(entries.entries())) {
+            if ((null == indexValue || indexValue.equals(each.getKey())) && (null == shardingValue || shardingValue.equals(each.getValue()))) {
+                entries.remove(each.getKey(), each.getValue());
+            }
+        }
+    }
+}
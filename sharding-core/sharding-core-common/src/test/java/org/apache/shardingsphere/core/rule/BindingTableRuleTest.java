@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.rule;
 
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
 import org.apache.shardingsphere.core.config.ShardingConfigurationException;
 import org.junit.Test;
 
@@ -47,6 +48,23 @@ public final class BindingTableRuleTest {
         assertThat(createBindingTableRule().getBindingActualTable("ds1", "Sub_Logic_Table", "table_1"), is("sub_table_1"));
     }
     
+    @Test
+    public void assertGetBindingActualTablesIgnoreCase() {
+        assertThat(createBindingTableRule().getBindingActualTable("DS1", "Sub_Logic_Table", "TABLE_0"), is("sub_table_0"));
+    }
+    
+    @Test
+    public void assertGetBindingActualTablesWithTimeInterval() {
+        BindingTableRule bindingTableRule = new BindingTableRule(Arrays.asList(createTimeIntervalTableRule("T_ORDER"), createTimeIntervalTableRule("T_ORDER_ITEM")));
+        assertTrue(bindingTableRule.hasLogicTable("t_order_item"));
+        assertThat(bindingTableRule.getBindingActualTable("ds1", "T_ORDER_ITEM", "t_order_201902"), is("t_order_item_201902"));
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertGetBindingActualTablesWithTimeIntervalFailureWhenNotFound() {
+        new BindingTableRule(Arrays.asList(createTimeIntervalTableRule("T_ORDER"), createTimeIntervalTableRule("T_ORDER_ITEM"))).getBindingActualTable("ds1", "T_ORDER_ITEM", "t_order_201812");
+    }
+    
     @Test(expected = ShardingConfigurationException.class)
     public void assertGetBindingActualTablesFailureWhenNotFound() {
         createBindingTableRule().getBindingActualTable("no_ds", "Sub_Logic_Table", "table_1");
@@ -83,6 +101,12 @@ public final class BindingTableRuleTest {
         return new TableRule(new TableRuleConfiguration("SUB_LOGIC_TABLE", "ds${0..1}.sub_table_${0..1}"), createShardingDataSourceNames(), null);
     }
     
+    private TableRule createTimeIntervalTableRule(final String logicTable) {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration(logicTable);
+        tableRuleConfig.setTimeIntervalDataNodesConfig(new TimeIntervalDataNodesConfiguration("201901", "yyyyMM", "MONTHS"));
+        return new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+    }
+    
     private ShardingDataSourceNames createShardingDataSourceNames() {
         return new ShardingDataSourceNames(new ShardingRuleConfiguration(), Arrays.asList("ds0", "ds1"));
     }
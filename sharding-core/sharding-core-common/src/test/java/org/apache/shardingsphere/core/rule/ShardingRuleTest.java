@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.rule;
 
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.GlobalIndexConfiguration;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
@@ -40,6 +41,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -121,6 +123,18 @@ public final class ShardingRuleTest {
         assertThat(shardingRule.getTableRule("Default_Table").getLogicTable(), is("default_table"));
     }
     
+    @Test
+    public void assertGetTableRuleWithBroadcastTableReused() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Broadcast_Table"), sameInstance(shardingRule.getTableRule("Broadcast_Table")));
+    }
+    
+    @Test
+    public void assertGetTableRuleWithBroadcastTableReusedIgnoreCase() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("BROADCAST_TABLE"), sameInstance(shardingRule.getTableRule("broadcast_table")));
+    }
+    
     @Test(expected = ShardingConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
@@ -184,6 +198,11 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findBindingTableRule("new_Table").isPresent());
     }
     
+    @Test
+    public void assertGetBindingTableRuleForNullLogicTableName() {
+        assertFalse(createMaximumShardingRule().findBindingTableRule((String) null).isPresent());
+    }
+    
     @Test
     public void assertGetBindingTableRuleForFound() {
         ShardingRule actual = createMaximumShardingRule();
@@ -268,6 +287,27 @@ public final class ShardingRuleTest {
         assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isShardingColumn("column", "other_Table"));
     }
     
+    @Test
+    public void assertFindGlobalIndex() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfigWithAllStrategies();
+        tableRuleConfig.getGlobalIndexConfigs().add(new GlobalIndexConfiguration("TEST", "email"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertTrue(actual.findGlobalIndex("logic_Table", "email").isPresent());
+        assertFalse(actual.findGlobalIndex("other_Table", "email").isPresent());
+        assertThat(actual.getGlobalIndexShardingColumn(actual.getTableRule("logic_table")), is("column"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGlobalIndexWithoutShardingColumn() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        tableRuleConfig.getGlobalIndexConfigs().add(new GlobalIndexConfiguration("TEST", "email"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        new ShardingRule(shardingRuleConfig, createDataSourceNames());
+    }
+    
     @Test
     public void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
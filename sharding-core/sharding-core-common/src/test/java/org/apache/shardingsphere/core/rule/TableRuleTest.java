@@ -18,14 +18,19 @@
 package org.apache.shardingsphere.core.rule;
 
 import com.google.common.collect.Sets;
+import org.apache.shardingsphere.api.config.sharding.GlobalIndexConfiguration;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.fixture.TestGlobalIndex;
 import org.apache.shardingsphere.core.strategy.keygen.fixture.IncrementShardingKeyGenerator;
 import org.junit.Test;
 
+import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Properties;
@@ -111,6 +116,49 @@ public final class TableRuleTest {
         assertFalse(actual.isExisted("table_3"));
     }
     
+    @Test
+    public void assertFindGlobalIndex() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}");
+        tableRuleConfig.getGlobalIndexConfigs().add(new GlobalIndexConfiguration("TEST", "email"));
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames(), null);
+        assertTrue(actual.findGlobalIndex("EMAIL").isPresent());
+        assertThat(actual.findGlobalIndex("email").get(), instanceOf(TestGlobalIndex.class));
+        assertFalse(actual.findGlobalIndex("phone").isPresent());
+    }
+    
+    @Test
+    public void assertCreateTimeIntervalTableRule() {
+        TableRule actual = new TableRule(createTimeIntervalTableRuleConfiguration(), createShardingDataSourceNames(), null);
+        int actualTableCount = getMonthsFrom2019() + 1;
+        assertThat(actual.getActualDatasourceNames(), is((Collection<String>) Sets.newLinkedHashSet(Collections.singletonList("ds1"))));
+        assertThat(actual.getActualDataNodes().size(), is(actualTableCount));
+        assertThat(actual.getActualDataNodes().get(0), is(new DataNode("ds1", "t_order_201901")));
+        assertThat(actual.getActualDataNodes().get(actualTableCount - 1), is(new DataNode("ds1", "t_order_" + new SimpleDateFormat("yyyyMM").format(Calendar.getInstance().getTime()))));
+        assertThat(actual.getActualTableNames("ds1").size(), is(actualTableCount));
+        assertTrue(actual.getActualTableNames("ds0").isEmpty());
+    }
+    
+    @Test
+    public void assertFindTimeIntervalActualTableIndex() {
+        TableRule actual = new TableRule(createTimeIntervalTableRuleConfiguration(), createShardingDataSourceNames(), null);
+        assertThat(actual.findActualTableIndex("ds1", "t_order_201901"), is(0));
+        assertThat(actual.findActualTableIndex("ds1", "T_ORDER_202002"), is(13));
+        assertThat(actual.findActualTableIndex("ds0", "t_order_202002"), is(-1));
+    }
+    
+    @Test
+    public void assertTimeIntervalActualTableNameExisted() {
+        TableRule actual = new TableRule(createTimeIntervalTableRuleConfiguration(), createShardingDataSourceNames(), null);
+        Calendar nextMonth = Calendar.getInstance();
+        nextMonth.add(Calendar.MONTH, 1);
+        assertTrue(actual.isExisted("t_order_201912"));
+        assertFalse(actual.isExisted("t_order_201812"));
+        assertFalse(actual.isExisted("t_order_201913"));
+        assertFalse(actual.isExisted("t_order_2019012"));
+        assertFalse(actual.isExisted("t_item_201901"));
+        assertFalse(actual.isExisted("t_order_" + new SimpleDateFormat("yyyyMM").format(nextMonth.getTime())));
+    }
+    
     @Test
     public void assertToString() {
         TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
@@ -120,6 +168,19 @@ public final class TableRuleTest {
         assertThat(actual.toString(), is(actualString));
     }
     
+    private TableRuleConfiguration createTimeIntervalTableRuleConfiguration() {
+        TableRuleConfiguration result = new TableRuleConfiguration("t_order");
+        TimeIntervalDataNodesConfiguration timeIntervalDataNodesConfig = new TimeIntervalDataNodesConfiguration("201901", "yyyyMM", "MONTHS");
+        timeIntervalDataNodesConfig.setActualDataSources("ds1");
+        result.setTimeIntervalDataNodesConfig(timeIntervalDataNodesConfig);
+        return result;
+    }
+    
+    private int getMonthsFrom2019() {
+        Calendar now = Calendar.getInstance();
+        return (now.get(Calendar.YEAR) - 2019) * 12 + now.get(Calendar.MONTH);
+    }
+    
     private ShardingDataSourceNames createShardingDataSourceNames() {
         return new ShardingDataSourceNames(new ShardingRuleConfiguration(), Arrays.asList("ds0", "ds1"));
     }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
+import org.apache.shardingsphere.core.strategy.keygen.TimeService;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TimeIntervalActualTablesTest {
+    
+    private final MutableTimeService timeService = new MutableTimeService();
+    
+    private final TimeIntervalActualTables actualTables = new TimeIntervalActualTables(
+            "t_order", new TimeIntervalDataNodesConfiguration("2019010100", "yyyyMMddHH", "HOURS"), timeService);
+    
+    @Test
+    public void assertExpandAfterRollover() {
+        timeService.setTime(2019, Calendar.JANUARY, 1, 2, 30);
+        assertThat(actualTables.size(), is(3));
+        assertFalse(actualTables.contains("t_order_2019010103"));
+        timeService.setTime(2019, Calendar.JANUARY, 1, 3, 0);
+        assertThat(actualTables.size(), is(4));
+        assertThat(actualTables.get(3), is("t_order_2019010103"));
+        assertTrue(actualTables.contains("T_ORDER_2019010103"));
+        assertThat(actualTables.indexOf("t_order_2019010103"), is(3));
+    }
+    
+    @Test
+    public void assertIterateWhileRollover() {
+        timeService.setTime(2019, Calendar.JANUARY, 1, 1, 59);
+        Iterator<String> iterator = actualTables.iterator();
+        timeService.setTime(2019, Calendar.JANUARY, 1, 2, 0);
+        assertThat(iterator.next(), is("t_order_2019010100"));
+        assertThat(iterator.next(), is("t_order_2019010101"));
+        assertFalse(iterator.hasNext());
+    }
+    
+    @Test
+    public void assertCurrentActualTablesWhileRollover() {
+        timeService.setTime(2019, Calendar.JANUARY, 1, 1, 59);
+        List<String> currentActualTables = actualTables.getCurrentActualTables();
+        timeService.setTime(2019, Calendar.JANUARY, 1, 2, 0);
+        assertThat(currentActualTables.size(), is(2));
+        assertThat(currentActualTables.indexOf("T_ORDER_2019010101"), is(1));
+        assertThat(currentActualTables.indexOf("t_order_2019010102"), is(-1));
+    }
+    
+    @Test
+    public void assertDataNodesAfterRollover() {
+        TimeIntervalDataNodes dataNodes = new TimeIntervalDataNodes(Arrays.asList("ds_0", "ds_1"), actualTables);
+        timeService.setTime(2019, Calendar.JANUARY, 1, 0, 0);
+        assertThat(dataNodes.size(), is(2));
+        assertThat(dataNodes.get(1), is(new DataNode("ds_1", "t_order_2019010100")));
+        timeService.setTime(2019, Calendar.JANUARY, 1, 1, 0);
+        assertThat(dataNodes.size(), is(4));
+        assertThat(dataNodes.get(3), is(new DataNode("ds_1", "t_order_2019010101")));
+        assertThat(dataNodes.indexOf("ds_1", "t_order_2019010101"), is(3));
+    }
+    
+    @Test
+    public void assertSizeBeforeStartTime() {
+        timeService.setTime(2018, Calendar.DECEMBER, 31, 23, 0);
+        assertThat(actualTables.size(), is(0));
+        assertFalse(actualTables.contains("t_order_2019010100"));
+    }
+    
+    private static final class MutableTimeService extends TimeService {
+        
+        private long currentMillis;
+        
+        void setTime(final int year, final int month, final int day, final int hour, final int minute) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.clear();
+            calendar.set(year, month, day, hour, minute);
+            currentMillis = calendar.getTimeInMillis();
+        }
+        
+        @Override
+        public long getCurrentMillis() {
+            return currentMillis;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MappingTableGlobalIndexTest {
+    
+    private final MappingTableGlobalIndex globalIndex = new MappingTableGlobalIndex();
+    
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("data.source.name", "ds_0");
+        properties.setProperty("table.name", "t_user_email_index");
+        globalIndex.setProperties(properties);
+        connection = DriverManager.getConnection("jdbc:h2:mem:global_index;DB_CLOSE_DELAY=-1;MODE=MYSQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_user_email_index (index_value VARCHAR(100), sharding_value INT)");
+            statement.execute("DELETE FROM t_user_email_index");
+        }
+    }
+    
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+    
+    @Test
+    public void assertSetProperties() {
+        assertThat(globalIndex.getType(), is("MAPPING_TABLE"));
+        assertThat(globalIndex.getDataSourceName(), is("ds_0"));
+        assertThat(globalIndex.getTableName(), is("t_user_email_index"));
+        assertFalse(globalIndex.isComplete());
+    }
+    
+    @Test
+    public void assertSetPropertiesWithComplete() {
+        Properties properties = new Properties();
+        properties.setProperty("data.source.name", "ds_0");
+        properties.setProperty("table.name", "t_user_email_index");
+        properties.setProperty("complete", "true");
+        globalIndex.setProperties(properties);
+        assertTrue(globalIndex.isComplete());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithoutDataSourceName() {
+        Properties properties = new Properties();
+        properties.setProperty("table.name", "t_user_email_index");
+        globalIndex.setProperties(properties);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithInvalidTableName() {
+        Properties properties = new Properties();
+        properties.setProperty("data.source.name", "ds_0");
+        properties.setProperty("table.name", "t_user_email_index; DROP TABLE t_user");
+        globalIndex.setProperties(properties);
+    }
+    
+    @Test
+    public void assertPutAndGet() throws SQLException {
+        globalIndex.put(connection, "foo@test.com", 1);
+        globalIndex.put(connection, "foo@test.com", 1);
+        globalIndex.put(connection, "foo@test.com", 2);
+        globalIndex.put(connection, "bar@test.com", 3);
+        assertThat(globalIndex.get(connection, "foo@test.com").size(), is(2));
+        assertTrue(globalIndex.get(connection, "foo@test.com").containsAll(Arrays.<Comparable<?>>asList(1, 2)));
+        assertThat(globalIndex.get(connection, "bar@test.com").iterator().next(), is((Comparable) 3));
+        assertTrue(globalIndex.get(connection, "none@test.com").isEmpty());
+    }
+    
+    @Test
+    public void assertPutWithRollback() throws SQLException {
+        connection.setAutoCommit(false);
+        globalIndex.put(connection, "foo@test.com", 1);
+        connection.rollback();
+        connection.setAutoCommit(true);
+        assertTrue(globalIndex.get(connection, "foo@test.com").isEmpty());
+    }
+    
+    @Test
+    public void assertRemove() throws SQLException {
+        globalIndex.put(connection, "foo@test.com", 1);
+        globalIndex.put(connection, "foo@test.com", 2);
+        globalIndex.put(connection, "bar@test.com", 2);
+        globalIndex.put(connection, "baz@test.com", 3);
+        globalIndex.remove(connection, "foo@test.com", 1);
+        assertThat(globalIndex.get(connection, "foo@test.com").size(), is(1));
+        assertThat(globalIndex.get(connection, "foo@test.com").iterator().next(), is((Comparable) 2));
+        globalIndex.remove(connection, null, 2);
+        assertTrue(globalIndex.get(connection, "foo@test.com").isEmpty());
+        assertTrue(globalIndex.get(connection, "bar@test.com").isEmpty());
+        globalIndex.remove(connection, "baz@test.com", null);
+        assertTrue(globalIndex.get(connection, "baz@test.com").isEmpty());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertRemoveAll() throws SQLException {
+        globalIndex.remove(connection, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareMasterSlaveLoadBalanceAlgorithm latencyAwareMasterSlaveLoadBalanceAlgorithm = new LatencyAwareMasterSlaveLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetDataSource() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.setProperties(createProperties("0"));
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_1", 1000000L);
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_2", 1000L);
+        List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_1", "test_ds_slave_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_2"));
+        }
+    }
+    
+    @Test
+    public void assertRecordLatencyWithDecay() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_1", 1000L);
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_1", 2000L);
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().getLatency("test_ds_slave_1"), is(1200D));
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().getLatency("test_ds_slave_2"), is(0D));
+    }
+    
+    @Test
+    public void assertLatencyRegistryIsScopedToAlgorithm() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_1", 1000L);
+        assertThat(new LatencyAwareMasterSlaveLoadBalanceAlgorithm().getLatencyRegistry().getLatency("test_ds_slave_1"), is(0D));
+    }
+    
+    @Test
+    public void assertGetDataSourceAfterSlowSlaveRecovered() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.setProperties(createProperties("0.1"));
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_1", 1000000L);
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record("test_ds_slave_2", 1000L);
+        List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_1", "test_ds_slave_2");
+        for (int i = 0; i < 10000; i++) {
+            String dataSourceName = latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames);
+            latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().record(dataSourceName, "test_ds_slave_1".equals(dataSourceName) ? 100L : 1000L);
+        }
+        assertTrue(latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().getLatency("test_ds_slave_1") < latencyAwareMasterSlaveLoadBalanceAlgorithm.getLatencyRegistry().getLatency("test_ds_slave_2"));
+        int slowSlaveCount = 0;
+        for (int i = 0; i < 100; i++) {
+            if ("test_ds_slave_1".equals(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames))) {
+                slowSlaveCount++;
+            }
+        }
+        assertTrue(slowSlaveCount > 50);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithInvalidProbeRatio() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.setProperties(createProperties("1.5"));
+    }
+    
+    private Properties createProperties(final String probeRatio) {
+        Properties result = new Properties();
+        result.setProperty(LatencyAwareMasterSlaveLoadBalanceAlgorithm.PROBE_RATIO, probeRatio);
+        return result;
+    }
+}
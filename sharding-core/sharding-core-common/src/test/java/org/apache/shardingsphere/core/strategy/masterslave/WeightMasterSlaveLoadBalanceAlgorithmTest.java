@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class WeightMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final WeightMasterSlaveLoadBalanceAlgorithm weightMasterSlaveLoadBalanceAlgorithm = new WeightMasterSlaveLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetDataSource() {
+        Properties properties = new Properties();
+        properties.setProperty("test_ds_slave_1", "0");
+        properties.setProperty("test_ds_slave_2", "3");
+        weightMasterSlaveLoadBalanceAlgorithm.setProperties(properties);
+        List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_1", "test_ds_slave_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(weightMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is("test_ds_slave_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithAllZeroWeights() {
+        Properties properties = new Properties();
+        properties.setProperty("test_ds_slave_1", "0");
+        properties.setProperty("test_ds_slave_2", "0");
+        weightMasterSlaveLoadBalanceAlgorithm.setProperties(properties);
+        List<String> slaveDataSourceNames = Arrays.asList("test_ds_slave_1", "test_ds_slave_2");
+        assertTrue(slaveDataSourceNames.contains(weightMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithInvalidWeight() {
+        Properties properties = new Properties();
+        properties.setProperty("test_ds_slave_1", "abc");
+        weightMasterSlaveLoadBalanceAlgorithm.setProperties(properties);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithNegativeWeight() {
+        Properties properties = new Properties();
+        properties.setProperty("test_ds_slave_1", "-1");
+        weightMasterSlaveLoadBalanceAlgorithm.setProperties(properties);
+    }
+}
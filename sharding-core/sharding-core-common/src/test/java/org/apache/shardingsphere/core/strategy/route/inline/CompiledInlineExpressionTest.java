@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileWithCommonShapes() {
+        assertTrue(CompiledInlineExpression.compile("t_order_${order_id}", "order_id").isPresent());
+        assertTrue(CompiledInlineExpression.compile("t_order_${order_id % 4}", "order_id").isPresent());
+        assertTrue(CompiledInlineExpression.compile("t_order_${ order_id.hashCode() % 4 }_suffix", "order_id").isPresent());
+    }
+    
+    @Test
+    public void assertCompileWithArbitraryScript() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 4 + 1}", "order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${Math.abs(order_id.hashCode()) % 4}", "order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${user_id % 4}", "order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 0}", "order_id").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_\"order\"_${order_id % 4}", "order_id").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithModulo() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${order_id % 4}", "order_id").get();
+        assertThat(actual.evaluate(new PreciseShardingValue<>("t_order", "order_id", 10)), is(Optional.of("t_order_2")));
+        assertThat(actual.evaluate(new PreciseShardingValue<>("t_order", "order_id", 11L)), is(Optional.of("t_order_3")));
+        assertThat(actual.evaluate(new PreciseShardingValue<>("t_order", "order_id", -5)), is(Optional.of("t_order_-1")));
+    }
+    
+    @Test
+    public void assertEvaluateWithHashCode() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${order_id.hashCode() % 4}", "order_id").get();
+        assertThat(actual.evaluate(new PreciseShardingValue<>("t_order", "order_id", "abc")), is(Optional.of("t_order_" + "abc".hashCode() % 4)));
+    }
+    
+    @Test
+    public void assertEvaluateWithIdentity() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${order_id}", "order_id").get();
+        assertThat(actual.evaluate(new PreciseShardingValue<>("t_order", "order_id", "2019")), is(Optional.of("t_order_2019")));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${order_id % 4}", "order_id").get();
+        assertFalse(actual.evaluate(new PreciseShardingValue<>("t_order", "order_id", "10")).isPresent());
+        assertFalse(actual.evaluate(new PreciseShardingValue<>("t_order", "ORDER_ID", 10)).isPresent());
+    }
+}
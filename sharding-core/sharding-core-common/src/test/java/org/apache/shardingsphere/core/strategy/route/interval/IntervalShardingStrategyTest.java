@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class IntervalShardingStrategyTest {
+    
+    private final IntervalShardingStrategy boundaryStrategy = new IntervalShardingStrategy(new IntervalShardingStrategyConfiguration("order_id", "t_order_", Arrays.asList(1000L, 2000L)));
+    
+    private final IntervalShardingStrategy datetimeStrategy = new IntervalShardingStrategy(
+            new IntervalShardingStrategyConfiguration("create_time", "t_order_", "2018-01-01 00:00:00", "2018-12-31 23:59:59", "yyyyMM", 1, "MONTHS"));
+    
+    private final Collection<String> boundaryTargets = Sets.newLinkedHashSet(Arrays.asList("t_order_0", "t_order_1", "t_order_2"));
+    
+    @Test
+    public void assertDoShardingWithBoundariesForList() {
+        assertThat(boundaryStrategy.doSharding(boundaryTargets, Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Arrays.asList(-1L, 999L, 1000L, 5000L)))),
+                is((Collection<String>) Sets.newHashSet("t_order_0", "t_order_1", "t_order_2")));
+        assertThat(boundaryStrategy.doSharding(boundaryTargets, Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Collections.singletonList("1999")))),
+                is((Collection<String>) Sets.newHashSet("t_order_1")));
+    }
+    
+    @Test
+    public void assertDoShardingWithBoundariesForRange() {
+        assertThat(boundaryStrategy.doSharding(boundaryTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("order_id", "t_order", Range.closed(500, 1500)))),
+                is((Collection<String>) Sets.newHashSet("t_order_0", "t_order_1")));
+        assertThat(boundaryStrategy.doSharding(boundaryTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("order_id", "t_order", Range.closedOpen(1000, 2000)))),
+                is((Collection<String>) Sets.newHashSet("t_order_1")));
+        assertThat(boundaryStrategy.doSharding(boundaryTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("order_id", "t_order", Range.greaterThan(1999)))),
+                is((Collection<String>) Sets.newHashSet("t_order_2")));
+        assertTrue(boundaryStrategy.doSharding(boundaryTargets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("order_id", "t_order", Range.open(5, 6)))).isEmpty());
+    }
+    
+    @Test
+    public void assertDoShardingWithDatetimeForList() {
+        assertThat(datetimeStrategy.doSharding(createDatetimeTargets(), Collections.<RouteValue>singletonList(
+                new ListRouteValue<>("create_time", "t_order", Arrays.asList("2018-03-15 12:00:00", "2018-12-01", "2019-01-01 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_201803", "t_order_201812")));
+    }
+    
+    @Test
+    public void assertDoShardingWithDatetimeForRange() {
+        assertThat(datetimeStrategy.doSharding(createDatetimeTargets(), Collections.<RouteValue>singletonList(
+                new RangeRouteValue<>("create_time", "t_order", Range.closedOpen("2018-02-15 00:00:00", "2018-05-01 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_201802", "t_order_201803", "t_order_201804")));
+        assertThat(datetimeStrategy.doSharding(createDatetimeTargets(), Collections.<RouteValue>singletonList(
+                new RangeRouteValue<>("create_time", "t_order", Range.atLeast("2018-11-30 00:00:00")))),
+                is((Collection<String>) Sets.newHashSet("t_order_201811", "t_order_201812")));
+    }
+    
+    @Test
+    public void assertGetTargetIndex() {
+        assertThat(boundaryStrategy.getTargetIndex("t_order_2"), is(2));
+        assertThat(datetimeStrategy.getTargetIndex("T_ORDER_201803"), is(2));
+        assertThat(datetimeStrategy.getTargetIndex("t_order_201901"), is(-1));
+    }
+    
+    private Collection<String> createDatetimeTargets() {
+        Collection<String> result = new LinkedHashSet<>();
+        for (int i = 1; i <= 12; i++) {
+            result.add(String.format("t_order_2018%02d", i));
+        }
+        return result;
+    }
+}
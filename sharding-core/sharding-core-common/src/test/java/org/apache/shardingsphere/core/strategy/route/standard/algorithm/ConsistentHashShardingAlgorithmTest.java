@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConsistentHashShardingAlgorithmTest {
+    
+    private final ConsistentHashShardingAlgorithm shardingAlgorithm = new ConsistentHashShardingAlgorithm();
+    
+    @Test
+    public void assertDoShardingWithSameValue() {
+        Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "ds_2"));
+        String expected = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", 10L));
+        assertThat(shardingAlgorithm.doSharding(new LinkedHashSet<>(Arrays.asList("ds_2", "ds_1", "ds_0")), new PreciseShardingValue<Comparable<?>>("t_order", "user_id", 10L)), is(expected));
+    }
+    
+    @Test
+    public void assertDoShardingWithAllTargetsUsed() {
+        Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "ds_2"));
+        Collection<String> actual = new HashSet<>();
+        for (long i = 0; i < 1000; i++) {
+            actual.add(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", i)));
+        }
+        assertThat(actual, is(availableTargetNames));
+    }
+    
+    @Test
+    public void assertDoShardingWithAddedTarget() {
+        Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3"));
+        Collection<String> expandedTargetNames = new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3", "ds_4"));
+        int movedCount = 0;
+        for (long i = 0; i < 10000; i++) {
+            String before = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", i));
+            String after = shardingAlgorithm.doSharding(expandedTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", i));
+            if (!before.equals(after)) {
+                assertThat(after, is("ds_4"));
+                movedCount++;
+            }
+        }
+        assertTrue(movedCount < 4000);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HashModShardingAlgorithmTest {
+    
+    private final HashModShardingAlgorithm shardingAlgorithm = new HashModShardingAlgorithm();
+    
+    private final Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1", "t_order_2"));
+    
+    @Test
+    public void assertDoSharding() {
+        String value = "order_no";
+        String expected = "t_order_" + Math.abs(value.hashCode() % 3);
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_no", value)), is(expected));
+    }
+    
+    @Test
+    public void assertDoShardingWithSameValueOfDifferentIntegralTypes() {
+        String expected = "t_order_" + Math.abs(Long.valueOf(-5L).hashCode() % 3);
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", -5L)), is(expected));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", -5)), is(expected));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", (short) -5)), is(expected));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ModShardingAlgorithmTest {
+    
+    private final ModShardingAlgorithm shardingAlgorithm = new ModShardingAlgorithm();
+    
+    private final Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_0", "t_order_3", "t_order_2"));
+    
+    @Test
+    public void assertDoShardingWithPreciseValue() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 6L)), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", -1)), is("t_order_3"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", "9")), is("t_order_1"));
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertDoShardingWithPreciseValueAndNotNumericSuffix() {
+        shardingAlgorithm.doSharding(new LinkedHashSet<>(Arrays.asList("ds_a", "ds_b")), new PreciseShardingValue<Comparable<?>>("t_order", "user_id", 3));
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertDoShardingWithPreciseValueAndMissingSuffix() {
+        shardingAlgorithm.doSharding(new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_2")), new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 3));
+    }
+    
+    @Test
+    public void assertDoShardingWithAvailableTargetNamesOfDifferentDataSources() {
+        Collection<String> otherTargetNames = new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1"));
+        for (int i = 0; i < 2; i++) {
+            assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 6L)), is("t_order_2"));
+            assertThat(shardingAlgorithm.doSharding(otherTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 6L)), is("t_order_0"));
+        }
+    }
+    
+    @Test
+    public void assertDoShardingWithShortRange() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>openClosed(4, 6))),
+                is((Collection<String>) Sets.newLinkedHashSet(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    public void assertDoShardingWithLongRange() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(4, 100))),
+                is(availableTargetNames));
+    }
+}
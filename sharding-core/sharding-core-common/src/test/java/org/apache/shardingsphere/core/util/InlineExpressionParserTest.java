@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,6 +70,12 @@ public final class InlineExpressionParserTest {
         assertThat(expected, hasItems("t_order_0", "t_order_1", "t_order_2", "t_order_item_0", "t_order_item_1"));
     }
     
+    @Test
+    public void assertEvaluateForExclusiveRange() {
+        List<String> expected = new InlineExpressionParser("ds_${0..<2}.t_order_$->{3..1}").splitAndEvaluate();
+        assertThat(expected, is(Arrays.asList("ds_0.t_order_3", "ds_0.t_order_2", "ds_0.t_order_1", "ds_1.t_order_3", "ds_1.t_order_2", "ds_1.t_order_1")));
+    }
+    
     @Test
     public void assertEvaluateForComplex() {
         List<String> expected = new InlineExpressionParser("t_${['new','old']}_order_${1..2}, t_config").splitAndEvaluate();
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.yaml.swapper.impl;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyC
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
@@ -150,6 +152,26 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithInterval() {
+        YamlIntervalShardingStrategyConfiguration yamlIntervalShardingStrategyConfiguration = new YamlIntervalShardingStrategyConfiguration();
+        yamlIntervalShardingStrategyConfiguration.setShardingColumn("create_time");
+        yamlIntervalShardingStrategyConfiguration.setTargetPrefix("t_order_");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeLower("2018-01-01 00:00:00");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeUpper("2018-12-31 23:59:59");
+        yamlIntervalShardingStrategyConfiguration.setSuffixPattern("yyyyMM");
+        yamlIntervalShardingStrategyConfiguration.setIntervalUnit("MONTHS");
+        YamlShardingStrategyConfiguration yamlConfiguration = new YamlShardingStrategyConfiguration();
+        yamlConfiguration.setInterval(yamlIntervalShardingStrategyConfiguration);
+        IntervalShardingStrategyConfiguration actual = (IntervalShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(yamlConfiguration);
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getTargetPrefix(), is("t_order_"));
+        assertNull(actual.getBoundaries());
+        assertThat(actual.getSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getIntervalAmount(), is(1));
+        assertThat(actual.getIntervalUnit(), is("MONTHS"));
+    }
+    
     @Test
     public void assertSwapToObjectWithComplex() {
         ComplexShardingStrategyConfiguration actual = (ComplexShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createComplexShardingStrategyConfiguration());
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlTimeIntervalDataNodesConfiguration;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class TimeIntervalDataNodesConfigurationYamlSwapperTest {
+    
+    @Test
+    public void assertSwapToYaml() {
+        TimeIntervalDataNodesConfiguration timeIntervalDataNodesConfig = new TimeIntervalDataNodesConfiguration("201901", "yyyyMM", "MONTHS", 3);
+        timeIntervalDataNodesConfig.setActualDataSources("ds_${0..1}");
+        YamlTimeIntervalDataNodesConfiguration actual = new TimeIntervalDataNodesConfigurationYamlSwapper().swap(timeIntervalDataNodesConfig);
+        assertThat(actual.getStartTime(), is("201901"));
+        assertThat(actual.getSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getIntervalUnit(), is("MONTHS"));
+        assertThat(actual.getIntervalAmount(), is(3));
+        assertThat(actual.getActualDataSources(), is("ds_${0..1}"));
+        assertNull(actual.getTablePrefix());
+    }
+    
+    @Test
+    public void assertSwapToObject() {
+        YamlTimeIntervalDataNodesConfiguration yamlConfiguration = new YamlTimeIntervalDataNodesConfiguration();
+        yamlConfiguration.setStartTime("20190101");
+        yamlConfiguration.setSuffixPattern("yyyyMMdd");
+        yamlConfiguration.setIntervalUnit("DAYS");
+        yamlConfiguration.setTablePrefix("t_log_");
+        TimeIntervalDataNodesConfiguration actual = new TimeIntervalDataNodesConfigurationYamlSwapper().swap(yamlConfiguration);
+        assertThat(actual.getStartTime(), is("20190101"));
+        assertThat(actual.getSuffixPattern(), is("yyyyMMdd"));
+        assertThat(actual.getIntervalUnit(), is("DAYS"));
+        assertThat(actual.getIntervalAmount(), is(1));
+        assertThat(actual.getTablePrefix(), is("t_log_"));
+        assertNull(actual.getActualDataSources());
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.parse.normalize.NormalizedSQL;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLLogger;
@@ -34,7 +36,9 @@ import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -66,9 +70,24 @@ public abstract class BaseShardingEngine {
      * @return SQL route result
      */
     public SQLRouteResult shard(final String sql, final List<Object> parameters) {
-        List<Object> clonedParameters = cloneParameters(parameters);
-        SQLRouteResult result = executeRoute(sql, clonedParameters);
-        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+        return shard(sql, parameters, null);
+    }
+    
+    /**
+     * Shard with SQL statement which is parsed already.
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @param sqlStatement SQL statement parsed from SQL, or from normalized SQL if literals of SQL are normalized, null if SQL is not parsed yet
+     * @return SQL route result
+     */
+    public SQLRouteResult shard(final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
+        Optional<NormalizedSQL> normalizedSQL = normalize(sql);
+        String logicSQL = normalizedSQL.isPresent() ? normalizedSQL.get().getSql() : sql;
+        List<Object> clonedParameters = normalizedSQL.isPresent() ? new ArrayList<>(normalizedSQL.get().getParameters()) : cloneParameters(parameters);
+        SQLRouteResult result = executeRoute(logicSQL, clonedParameters, sqlStatement);
+        Collection<RouteUnit> routeUnits = HintManager.isDatabaseShardingOnly() ? convert(logicSQL, clonedParameters, result) : rewriteAndConvert(logicSQL, clonedParameters, result);
+        result.getRouteUnits().addAll(normalizedSQL.isPresent() ? restore(normalizedSQL.get(), routeUnits) : routeUnits);
         if (shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW)) {
             boolean showSimple = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SIMPLE);
             SQLLogger.logSQL(sql, showSimple, result.getShardingStatement(), result.getRouteUnits());
@@ -76,14 +95,16 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    protected abstract Optional<NormalizedSQL> normalize(String sql);
+    
     protected abstract List<Object> cloneParameters(List<Object> parameters);
     
-    protected abstract SQLRouteResult route(String sql, List<Object> parameters);
+    protected abstract SQLRouteResult route(String sql, List<Object> parameters, SQLStatement sqlStatement);
     
-    private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
+    private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters, final SQLStatement sqlStatement) {
         routingHook.start(sql);
         try {
-            SQLRouteResult result = route(sql, clonedParameters);
+            SQLRouteResult result = route(sql, clonedParameters, sqlStatement);
             routingHook.finishSuccess(result, metaData.getTables());
             return result;
             // CHECKSTYLE:OFF
@@ -94,6 +115,14 @@ public abstract class BaseShardingEngine {
         }
     }
     
+    private Collection<RouteUnit> restore(final NormalizedSQL normalizedSQL, final Collection<RouteUnit> routeUnits) {
+        Collection<RouteUnit> result = new LinkedHashSet<>();
+        for (RouteUnit each : routeUnits) {
+            result.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(normalizedSQL.restore(each.getSqlUnit().getSql(), each.getSqlUnit().getParameters()), Collections.emptyList())));
+        }
+        return result;
+    }
+    
     private Collection<RouteUnit> convert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
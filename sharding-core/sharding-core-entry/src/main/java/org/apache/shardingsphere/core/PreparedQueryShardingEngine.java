@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.normalize.NormalizedSQL;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
@@ -45,9 +49,14 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     private final PreparedStatementRoutingEngine routingEngine;
     
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
-                                       final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine) {
+                                       final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache) {
         super(shardingRule, shardingProperties, metaData);
-        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, sqlParseEngine);
+        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, shardingProperties, metaData, databaseType, sqlParseEngine, routingResultCache);
+    }
+    
+    @Override
+    protected Optional<NormalizedSQL> normalize(final String sql) {
+        return Optional.absent();
     }
     
     @Override
@@ -56,7 +65,7 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     }
     
     @Override
-    protected SQLRouteResult route(final String sql, final List<Object> parameters) {
+    protected SQLRouteResult route(final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
         return routingEngine.route(parameters);
     }
 }
@@ -17,11 +17,17 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.normalize.NormalizedSQL;
+import org.apache.shardingsphere.core.parse.normalize.SQLNormalizer;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
@@ -44,10 +50,18 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     private final StatementRoutingEngine routingEngine;
     
+    private final boolean literalNormalizeEnabled;
+    
     public SimpleQueryShardingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties,
-                                     final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine) {
+                                     final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache) {
         super(shardingRule, shardingProperties, metaData);
-        routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, sqlParseEngine);
+        routingEngine = new StatementRoutingEngine(shardingRule, shardingProperties, metaData, databaseType, sqlParseEngine, routingResultCache);
+        literalNormalizeEnabled = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_LITERAL_NORMALIZE_ENABLED);
+    }
+    
+    @Override
+    protected Optional<NormalizedSQL> normalize(final String sql) {
+        return literalNormalizeEnabled ? SQLNormalizer.normalize(sql) : Optional.<NormalizedSQL>absent();
     }
     
     @Override
@@ -56,7 +70,10 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     }
     
     @Override
-    protected SQLRouteResult route(final String sql, final List<Object> parameters) {
-        return routingEngine.route(sql);
+    protected SQLRouteResult route(final String sql, final List<Object> parameters, final SQLStatement sqlStatement) {
+        if (null != sqlStatement) {
+            return routingEngine.route(sql, parameters, sqlStatement);
+        }
+        return parameters.isEmpty() ? routingEngine.route(sql) : routingEngine.route(sql, parameters);
     }
 }
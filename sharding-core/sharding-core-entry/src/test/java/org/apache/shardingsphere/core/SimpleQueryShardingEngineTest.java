@@ -18,20 +18,31 @@
 package org.apache.shardingsphere.core;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -53,12 +64,16 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
         EncryptRule encryptRule = mock(EncryptRule.class);
         when(shardingRule.getEncryptRule()).thenReturn(encryptRule);
         shardingEngine = new SimpleQueryShardingEngine(
-                shardingRule, getShardingProperties(), mock(ShardingSphereMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), mock(SQLParseEngine.class));
+                shardingRule, getShardingProperties(), mock(ShardingSphereMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), mock(SQLParseEngine.class), new RoutingResultCache(0L));
         setRoutingEngine();
     }
     
-    @SneakyThrows
     private void setRoutingEngine() {
+        setRoutingEngine(shardingEngine);
+    }
+    
+    @SneakyThrows
+    private void setRoutingEngine(final SimpleQueryShardingEngine shardingEngine) {
         Field field = SimpleQueryShardingEngine.class.getDeclaredField("routingEngine");
         field.setAccessible(true);
         field.set(shardingEngine, routingEngine);
@@ -68,4 +83,27 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
         when(routingEngine.route(getSql())).thenReturn(createSQLRouteResult());
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
+    
+    @Test
+    public void assertShardWithSQLStatement() {
+        SQLStatement sqlStatement = new SelectStatement();
+        when(routingEngine.route(getSql(), getParameters(), sqlStatement)).thenReturn(createSQLRouteResult());
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters(), sqlStatement));
+    }
+    
+    @Test
+    public void assertShardWithNormalizedSQLStatement() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.SQL_LITERAL_NORMALIZE_ENABLED.getKey(), Boolean.TRUE.toString());
+        SimpleQueryShardingEngine normalizedShardingEngine = new SimpleQueryShardingEngine(
+                mock(ShardingRule.class), new ShardingProperties(props), mock(ShardingSphereMetaData.class), DatabaseTypes.getActualDatabaseType("MySQL"), mock(SQLParseEngine.class), new RoutingResultCache(0L));
+        setRoutingEngine(normalizedShardingEngine);
+        SQLStatement sqlStatement = new SelectStatement();
+        when(routingEngine.route("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1), sqlStatement)).thenReturn(createSQLRouteResult());
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setDatabaseShardingValue("1");
+            SQLRouteResult actual = normalizedShardingEngine.shard("SELECT * FROM t_order WHERE order_id = 1", Collections.emptyList(), sqlStatement);
+            assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order WHERE order_id = 1"));
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.hook;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLatencyRegistry;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL execution hook for recording latency of slave data source.
+ * 
+ * <p>
+ * The hook is not registered by SPI, it only decorates executions whose sharding execute data map carries
+ * {@code DATA_SOURCE_LATENCY_REGISTRIES}, which is put only for rules using latency aware load-balance algorithm.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DataSourceLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    public static final String DATA_SOURCE_LATENCY_REGISTRIES = "DATA_SOURCE_LATENCY_REGISTRIES";
+    
+    private final SQLExecutionHook sqlExecutionHook;
+    
+    private DataSourceLatencyRegistry latencyRegistry;
+    
+    private String dataSourceName;
+    
+    private long startNanoTime;
+    
+    /**
+     * Create latency registries of slave data sources.
+     * 
+     * @param masterSlaveRules master-slave rules
+     * @return latency registries keyed by slave data source name, empty if no master-slave rule uses latency aware load-balance algorithm
+     */
+    public static Map<String, DataSourceLatencyRegistry> createDataSourceLatencyRegistries(final Collection<MasterSlaveRule> masterSlaveRules) {
+        Map<String, DataSourceLatencyRegistry> result = Collections.emptyMap();
+        for (MasterSlaveRule each : masterSlaveRules) {
+            Optional<DataSourceLatencyRegistry> latencyRegistry = each.findDataSourceLatencyRegistry();
+            if (!latencyRegistry.isPresent()) {
+                continue;
+            }
+            if (result.isEmpty()) {
+                result = new HashMap<>();
+            }
+            for (String slaveDataSourceName : each.getSlaveDataSourceNames()) {
+                result.put(slaveDataSourceName, latencyRegistry.get());
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        sqlExecutionHook.start(routeUnit, dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+        Map<String, DataSourceLatencyRegistry> latencyRegistries = (Map<String, DataSourceLatencyRegistry>) shardingExecuteDataMap.get(DATA_SOURCE_LATENCY_REGISTRIES);
+        if (null != routeUnit && null != latencyRegistries) {
+            latencyRegistry = latencyRegistries.get(routeUnit.getDataSourceName());
+            dataSourceName = routeUnit.getDataSourceName();
+            startNanoTime = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        record();
+        sqlExecutionHook.finishSuccess();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        record();
+        sqlExecutionHook.finishFailure(cause);
+    }
+    
+    private void record() {
+        if (null != latencyRegistry) {
+            latencyRegistry.record(dataSourceName, System.nanoTime() - startNanoTime);
+            latencyRegistry = null;
+        }
+    }
+}
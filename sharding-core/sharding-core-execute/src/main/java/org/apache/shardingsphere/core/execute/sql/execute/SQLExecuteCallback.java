@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.hook.DataSourceLatencySQLExecutionHook;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.core.execute.hook.SQLExecutionHook;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
@@ -62,7 +63,7 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        SQLExecutionHook sqlExecutionHook = createSQLExecutionHook(shardingExecuteDataMap);
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
             T result = executeSQL(statementExecuteUnit.getRouteUnit(), statementExecuteUnit.getStatement(), statementExecuteUnit.getConnectionMode());
@@ -75,5 +76,10 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         }
     }
     
+    private SQLExecutionHook createSQLExecutionHook(final Map<String, Object> shardingExecuteDataMap) {
+        return null != shardingExecuteDataMap && shardingExecuteDataMap.containsKey(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES)
+                ? new DataSourceLatencySQLExecutionHook(new SPISQLExecutionHook()) : new SPISQLExecutionHook();
+    }
+    
     protected abstract T executeSQL(RouteUnit routeUnit, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.apache.shardingsphere.core.exception.ShardingException;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Query result which executes SQL when it is read at first time.
+ * 
+ * <p>
+ * Query results which are read one after another, such as query results of range ordered routing, are executed only if rows before them are not enough,
+ * so that a query with limit does not execute SQL of data nodes after the limit is reached.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public abstract class LazyQueryResult implements QueryResult {
+    
+    private QueryResult queryResult;
+    
+    @Override
+    public final boolean next() throws SQLException {
+        return getQueryResult().next();
+    }
+    
+    @Override
+    public final int getColumnCount() throws SQLException {
+        return getQueryResult().getColumnCount();
+    }
+    
+    @Override
+    public final String getColumnLabel(final int columnIndex) throws SQLException {
+        return getQueryResult().getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getQueryResult().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public final Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getQueryResult().getValue(columnLabel, type);
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getQueryResult().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public final Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getQueryResult().getCalendarValue(columnLabel, type, calendar);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getQueryResult().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return getQueryResult().getInputStream(columnLabel, type);
+    }
+    
+    @Override
+    public final boolean wasNull() throws SQLException {
+        return getQueryResult().wasNull();
+    }
+    
+    @Override
+    public final boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return getQueryResult().isCaseSensitive(columnIndex);
+    }
+    
+    @Override
+    public final QueryResultMetaData getQueryResultMetaData() {
+        try {
+            return getQueryResult().getQueryResultMetaData();
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    private QueryResult getQueryResult() throws SQLException {
+        if (null == queryResult) {
+            queryResult = execute();
+        }
+        return queryResult;
+    }
+    
+    protected abstract QueryResult execute() throws SQLException;
+}
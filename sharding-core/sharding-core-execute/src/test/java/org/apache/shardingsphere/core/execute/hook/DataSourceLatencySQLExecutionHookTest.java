@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.hook;
+
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLatencyRegistry;
+import org.apache.shardingsphere.core.strategy.masterslave.LatencyAwareMasterSlaveLoadBalanceAlgorithm;
+import org.apache.shardingsphere.core.strategy.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithm;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class DataSourceLatencySQLExecutionHookTest {
+    
+    @Mock
+    private SQLExecutionHook sqlExecutionHook;
+    
+    private LatencyAwareMasterSlaveLoadBalanceAlgorithm latencyAwareAlgorithm;
+    
+    private Map<String, Object> shardingExecuteDataMap;
+    
+    @Before
+    public void setUp() {
+        latencyAwareAlgorithm = new LatencyAwareMasterSlaveLoadBalanceAlgorithm();
+        MasterSlaveRule latencyAwareRule = new MasterSlaveRule("ms_0", "master_0", Arrays.asList("slave_0", "slave_1"), latencyAwareAlgorithm);
+        MasterSlaveRule roundRobinRule = new MasterSlaveRule("ms_1", "master_1", Collections.singletonList("slave_2"), new RoundRobinMasterSlaveLoadBalanceAlgorithm());
+        shardingExecuteDataMap = new HashMap<>();
+        shardingExecuteDataMap.put(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES, 
+                DataSourceLatencySQLExecutionHook.createDataSourceLatencyRegistries(Arrays.asList(latencyAwareRule, roundRobinRule)));
+    }
+    
+    @Test
+    public void assertCreateDataSourceLatencyRegistries() {
+        Map<String, DataSourceLatencyRegistry> actual = DataSourceLatencySQLExecutionHook.createDataSourceLatencyRegistries(Arrays.asList(
+                new MasterSlaveRule("ms_0", "master_0", Arrays.asList("slave_0", "slave_1"), latencyAwareAlgorithm),
+                new MasterSlaveRule("ms_1", "master_1", Collections.singletonList("slave_2"), new RoundRobinMasterSlaveLoadBalanceAlgorithm())));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("slave_0"), sameInstance(latencyAwareAlgorithm.getLatencyRegistry()));
+        assertThat(actual.get("slave_1"), sameInstance(latencyAwareAlgorithm.getLatencyRegistry()));
+        assertFalse(actual.containsKey("slave_2"));
+    }
+    
+    @Test
+    public void assertCreateDataSourceLatencyRegistriesWithoutLatencyAwareRule() {
+        assertTrue(DataSourceLatencySQLExecutionHook.createDataSourceLatencyRegistries(
+                Collections.singletonList(new MasterSlaveRule("ms_1", "master_1", Collections.singletonList("slave_2"), new RoundRobinMasterSlaveLoadBalanceAlgorithm()))).isEmpty());
+    }
+    
+    @Test
+    public void assertFinishSuccess() {
+        DataSourceLatencySQLExecutionHook actual = new DataSourceLatencySQLExecutionHook(sqlExecutionHook);
+        RouteUnit routeUnit = createRouteUnit("slave_0");
+        actual.start(routeUnit, null, true, shardingExecuteDataMap);
+        actual.finishSuccess();
+        verify(sqlExecutionHook).start(routeUnit, null, true, shardingExecuteDataMap);
+        verify(sqlExecutionHook).finishSuccess();
+        assertTrue(latencyAwareAlgorithm.getLatencyRegistry().getLatency("slave_0") > 0);
+        assertThat(latencyAwareAlgorithm.getLatencyRegistry().getLatency("slave_1"), is(0D));
+    }
+    
+    @Test
+    public void assertFinishFailure() {
+        DataSourceLatencySQLExecutionHook actual = new DataSourceLatencySQLExecutionHook(sqlExecutionHook);
+        SQLException cause = new SQLException("test");
+        actual.start(createRouteUnit("slave_1"), null, true, shardingExecuteDataMap);
+        actual.finishFailure(cause);
+        verify(sqlExecutionHook).finishFailure(cause);
+        assertTrue(latencyAwareAlgorithm.getLatencyRegistry().getLatency("slave_1") > 0);
+    }
+    
+    @Test
+    public void assertFinishSuccessWithDataSourceNotLatencyAware() {
+        DataSourceLatencySQLExecutionHook actual = new DataSourceLatencySQLExecutionHook(sqlExecutionHook);
+        actual.start(createRouteUnit("slave_2"), null, true, shardingExecuteDataMap);
+        actual.finishSuccess();
+        assertThat(latencyAwareAlgorithm.getLatencyRegistry().getLatency("slave_2"), is(0D));
+    }
+    
+    @Test
+    public void assertFinishSuccessWithoutLatencyRegistries() {
+        DataSourceLatencySQLExecutionHook actual = new DataSourceLatencySQLExecutionHook(sqlExecutionHook);
+        actual.start(createRouteUnit("slave_0"), null, true, Collections.<String, Object>emptyMap());
+        actual.finishSuccess();
+        assertThat(latencyAwareAlgorithm.getLatencyRegistry().getLatency("slave_0"), is(0D));
+    }
+    
+    private RouteUnit createRouteUnit(final String dataSourceName) {
+        return new RouteUnit(dataSourceName, new SQLUnit("SELECT 1", Collections.emptyList()));
+    }
+}
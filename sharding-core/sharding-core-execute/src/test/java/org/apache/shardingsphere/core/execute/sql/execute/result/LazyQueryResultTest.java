@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class LazyQueryResultTest {
+    
+    private final QueryResult queryResult = mock(QueryResult.class);
+    
+    private int executedCount;
+    
+    private final LazyQueryResult lazyQueryResult = new LazyQueryResult() {
+        
+        @Override
+        protected QueryResult execute() {
+            executedCount++;
+            return queryResult;
+        }
+    };
+    
+    @Test
+    public void assertExecuteOnceWhenReadAtFirstTime() throws SQLException {
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn("value");
+        assertThat(executedCount, is(0));
+        assertTrue(lazyQueryResult.next());
+        assertThat(lazyQueryResult.getValue(1, Object.class), is((Object) "value"));
+        assertFalse(lazyQueryResult.next());
+        assertThat(executedCount, is(1));
+    }
+}
@@ -122,7 +122,7 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!shardingStatement.getGroupBy().getItems().isEmpty() || !shardingStatement.getSelectItems().getAggregationSelectItems().isEmpty()) {
             return getGroupByMergedResult();
         }
-        if (!shardingStatement.getOrderBy().getItems().isEmpty()) {
+        if (!shardingStatement.getOrderBy().getItems().isEmpty() && !routeResult.isRangeOrdered()) {
             return new OrderByStreamMergedResult(queryResults, shardingStatement.getOrderBy().getItems());
         }
         return new IteratorStreamMergedResult(queryResults);
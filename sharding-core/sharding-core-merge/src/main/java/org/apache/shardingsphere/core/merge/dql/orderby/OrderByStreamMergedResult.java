@@ -31,6 +31,12 @@ import java.util.Queue;
 
 /**
  * Stream merged result for order by.
+ * 
+ * <p>
+ * Query result which provides current row is kept out of priority queue, and is read continuously while its order by values are not greater than head of queue.
+ * Query results whose order by values do not overlap are merged with only one comparison for each row, and are re-ordered only when switching query result.
+ * Query results of range ordered routing are not merged by this, but read one after another by iterator stream merged result.
+ * </p>
  *
  * @author zhangliang
  */
@@ -38,9 +44,10 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     
     private final Collection<OrderByItem> orderByItems;
     
-    @Getter(AccessLevel.PROTECTED)
     private final Queue<OrderByValue> orderByValuesQueue;
     
+    private OrderByValue currentOrderByValue;
+    
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
@@ -58,26 +65,39 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
                 orderByValuesQueue.offer(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        currentOrderByValue = orderByValuesQueue.poll();
+        setCurrentQueryResult(null == currentOrderByValue ? queryResults.get(0) : currentOrderByValue.getQueryResult());
+    }
+    
+    /**
+     * Judge whether all query results are exhausted.
+     * 
+     * @return all query results are exhausted or not
+     */
+    protected final boolean isExhausted() {
+        return null == currentOrderByValue;
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (null == currentOrderByValue) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
+        if (currentOrderByValue.next()) {
+            if (orderByValuesQueue.isEmpty() || currentOrderByValue.compareTo(orderByValuesQueue.peek()) <= 0) {
+                return true;
+            }
+            orderByValuesQueue.offer(currentOrderByValue);
         }
-        if (orderByValuesQueue.isEmpty()) {
+        currentOrderByValue = orderByValuesQueue.poll();
+        if (null == currentOrderByValue) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(currentOrderByValue.getQueryResult());
         return true;
     }
 }
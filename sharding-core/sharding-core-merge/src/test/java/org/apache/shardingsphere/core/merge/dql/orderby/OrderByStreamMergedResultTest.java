@@ -53,6 +53,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class OrderByStreamMergedResultTest {
@@ -177,4 +179,29 @@ public final class OrderByStreamMergedResultTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("b"));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextForNonOverlappedQueryResults() throws SQLException {
+        ResultSet firstResultSet = mockResultSet();
+        ResultSet secondResultSet = mockResultSet();
+        queryResults = Lists.<QueryResult>newArrayList(new TestQueryResult(secondResultSet), new TestQueryResult(firstResultSet));
+        when(firstResultSet.next()).thenReturn(true, true, true, false);
+        when(firstResultSet.getObject(1)).thenReturn("1", "1", "2", "2", "3", "3");
+        when(secondResultSet.next()).thenReturn(true, true, false);
+        when(secondResultSet.getObject(1)).thenReturn("4", "4", "5", "5");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("2"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("3"));
+        verify(secondResultSet, times(1)).next();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("4"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("5"));
+        assertFalse(actual.next());
+    }
 }
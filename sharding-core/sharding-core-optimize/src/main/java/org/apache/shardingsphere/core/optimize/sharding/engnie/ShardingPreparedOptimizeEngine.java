@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.optimize.sharding.engnie;
+
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.optimize.sharding.statement.ShardingOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.List;
+
+/**
+ * Optimize engine for sharding which can reuse optimized statement of prepared SQL.
+ *
+ * @author zhangliang
+ * 
+ * @param <T> type of SQL statement
+ * @param <O> type of optimized statement
+ */
+public interface ShardingPreparedOptimizeEngine<T extends SQLStatement, O extends ShardingOptimizedStatement> extends ShardingOptimizeEngine<T> {
+    
+    /**
+     * Optimize with parameters of another execution.
+     * 
+     * <p>Parameter independent parts of prepared optimized statement are reused, only parameter dependent parts are created again.</p>
+     *
+     * @param shardingRule sharding rule
+     * @param tableMetas table metas
+     * @param parameters SQL parameters
+     * @param preparedStatement optimized statement created by previous optimizing for same SQL and SQL statement
+     * @return optimized statement
+     */
+    O optimize(ShardingRule shardingRule, TableMetas tableMetas, List<Object> parameters, O preparedStatement);
+}
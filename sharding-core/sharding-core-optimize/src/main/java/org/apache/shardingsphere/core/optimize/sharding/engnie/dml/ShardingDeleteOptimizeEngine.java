@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.optimize.sharding.engnie.dml;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptConditions;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.engine.WhereClauseEncryptConditionEngine;
-import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingOptimizeEngine;
+import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingPreparedOptimizeEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.engine.WhereClauseShardingConditionEngine;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
@@ -34,7 +34,7 @@ import java.util.List;
  *
  * @author zhangliang
  */
-public final class ShardingDeleteOptimizeEngine implements ShardingOptimizeEngine<DeleteStatement> {
+public final class ShardingDeleteOptimizeEngine implements ShardingPreparedOptimizeEngine<DeleteStatement, ShardingConditionOptimizedStatement> {
     
     @Override
     public ShardingConditionOptimizedStatement optimize(final ShardingRule shardingRule,
@@ -45,4 +45,12 @@ public final class ShardingDeleteOptimizeEngine implements ShardingOptimizeEngin
                 new ShardingConditions(shardingConditionEngine.createShardingConditions(sqlStatement, parameters)),
                 new EncryptConditions(encryptConditionEngine.createEncryptConditions(sqlStatement)));
     }
+    
+    @Override
+    public ShardingConditionOptimizedStatement optimize(final ShardingRule shardingRule,
+                                                        final TableMetas tableMetas, final List<Object> parameters, final ShardingConditionOptimizedStatement preparedStatement) {
+        WhereClauseShardingConditionEngine shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, tableMetas);
+        return new ShardingConditionOptimizedStatement(preparedStatement.getSQLStatement(),
+                new ShardingConditions(shardingConditionEngine.createShardingConditions(preparedStatement.getSQLStatement(), parameters)), preparedStatement.getEncryptConditions());
+    }
 }
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.optimize.sharding.engnie.dml;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptCondition;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.engine.WhereClauseEncryptConditionEngine;
-import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingOptimizeEngine;
+import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingPreparedOptimizeEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.engine.WhereClauseShardingConditionEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
@@ -44,7 +44,7 @@ import java.util.List;
  *
  * @author zhangliang
  */
-public final class ShardingSelectOptimizeEngine implements ShardingOptimizeEngine<SelectStatement> {
+public final class ShardingSelectOptimizeEngine implements ShardingPreparedOptimizeEngine<SelectStatement, ShardingSelectOptimizedStatement> {
     
     @Override
     public ShardingSelectOptimizedStatement optimize(final ShardingRule shardingRule,
@@ -66,6 +66,18 @@ public final class ShardingSelectOptimizeEngine implements ShardingOptimizeEngin
         return result;
     }
     
+    @Override
+    public ShardingSelectOptimizedStatement optimize(final ShardingRule shardingRule,
+                                                     final TableMetas tableMetas, final List<Object> parameters, final ShardingSelectOptimizedStatement preparedStatement) {
+        SelectStatement sqlStatement = (SelectStatement) preparedStatement.getSQLStatement();
+        List<ShardingCondition> shardingConditions = new WhereClauseShardingConditionEngine(shardingRule, tableMetas).createShardingConditions(sqlStatement, parameters);
+        Pagination pagination = new PaginationEngine().createPagination(sqlStatement, preparedStatement.getSelectItems(), parameters);
+        ShardingSelectOptimizedStatement result = new ShardingSelectOptimizedStatement(sqlStatement, shardingConditions, preparedStatement.getEncryptConditions().getConditions(),
+                preparedStatement.getGroupBy(), preparedStatement.getOrderBy(), preparedStatement.getSelectItems(), pagination);
+        result.setContainsSubquery(preparedStatement.isContainsSubquery());
+        return result;
+    }
+    
     private void setContainsSubquery(final SelectStatement sqlStatement, final ShardingSelectOptimizedStatement optimizedStatement) {
         Collection<SubqueryPredicateSegment> subqueryPredicateSegments = sqlStatement.findSQLSegments(SubqueryPredicateSegment.class);
         for (SubqueryPredicateSegment each : subqueryPredicateSegments) {
@@ -21,7 +21,7 @@ import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.optimize.api.segment.Tables;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptConditions;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.engine.WhereClauseEncryptConditionEngine;
-import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingOptimizeEngine;
+import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingPreparedOptimizeEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.engine.WhereClauseShardingConditionEngine;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
@@ -37,7 +37,7 @@ import java.util.List;
  * @author zhangliang
  * @author liya
  */
-public final class ShardingUpdateOptimizeEngine implements ShardingOptimizeEngine<UpdateStatement> {
+public final class ShardingUpdateOptimizeEngine implements ShardingPreparedOptimizeEngine<UpdateStatement, ShardingConditionOptimizedStatement> {
     
     @Override
     public ShardingConditionOptimizedStatement optimize(final ShardingRule shardingRule,
@@ -50,6 +50,14 @@ public final class ShardingUpdateOptimizeEngine implements ShardingOptimizeEngin
                 new EncryptConditions(encryptConditionEngine.createEncryptConditions(sqlStatement)));
     }
     
+    @Override
+    public ShardingConditionOptimizedStatement optimize(final ShardingRule shardingRule,
+                                                        final TableMetas tableMetas, final List<Object> parameters, final ShardingConditionOptimizedStatement preparedStatement) {
+        WhereClauseShardingConditionEngine shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, tableMetas);
+        return new ShardingConditionOptimizedStatement(preparedStatement.getSQLStatement(),
+                new ShardingConditions(shardingConditionEngine.createShardingConditions(preparedStatement.getSQLStatement(), parameters)), preparedStatement.getEncryptConditions());
+    }
+    
     private void checkUpdateShardingKey(final ShardingRule shardingRule, final UpdateStatement updateStatement) {
         String tableName = new Tables(updateStatement).getSingleTableName();
         for (AssignmentSegment each : updateStatement.getSetAssignment().getAssignments()) {
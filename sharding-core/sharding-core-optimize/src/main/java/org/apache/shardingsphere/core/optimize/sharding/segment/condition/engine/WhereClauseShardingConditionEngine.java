@@ -35,14 +35,19 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegme
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.generic.WhereSegmentAvailable;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionManager;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionProvider;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -101,9 +106,14 @@ public final class WhereClauseShardingConditionEngine {
     
     private Map<Column, Collection<RouteValue>> createRouteValueMap(final Tables tables, final AndPredicate andPredicate, final List<Object> parameters) {
         Map<Column, Collection<RouteValue>> result = new HashMap<>();
+        Map<Column, Collection<RouteValue>> globalIndexRouteValueMap = new HashMap<>();
         for (PredicateSegment each : andPredicate.getPredicates()) {
             Optional<String> tableName = tables.findTableName(each.getColumn(), tableMetas);
-            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
+            if (!tableName.isPresent()) {
+                continue;
+            }
+            if (!shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
+                putGlobalIndexRouteValue(tableName.get(), each, parameters, globalIndexRouteValueMap);
                 continue;
             }
             Column column = new Column(each.getColumn().getName(), tableName.get());
@@ -116,9 +126,48 @@ public final class WhereClauseShardingConditionEngine {
             }
             result.get(column).add(routeValue.get());
         }
+        for (Entry<Column, Collection<RouteValue>> entry : globalIndexRouteValueMap.entrySet()) {
+            if (!result.containsKey(entry.getKey())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    private void putGlobalIndexRouteValue(final String tableName, final PredicateSegment predicateSegment, final List<Object> parameters, final Map<Column, Collection<RouteValue>> routeValueMap) {
+        Optional<GlobalIndex> globalIndex = shardingRule.findGlobalIndex(tableName, predicateSegment.getColumn().getName());
+        Optional<GlobalIndexConnectionProvider> connectionProvider = GlobalIndexConnectionManager.findConnectionProvider();
+        if (!globalIndex.isPresent() || !globalIndex.get().isComplete() || !connectionProvider.isPresent()) {
+            return;
+        }
+        Optional<RouteValue> indexRouteValue = ConditionValueGeneratorFactory.generate(predicateSegment.getRightValue(), new Column(predicateSegment.getColumn().getName(), tableName), parameters);
+        if (!indexRouteValue.isPresent() || !(indexRouteValue.get() instanceof ListRouteValue)) {
+            return;
+        }
+        Collection<Comparable<?>> shardingValues = new LinkedHashSet<>();
+        for (Comparable<?> each : ((ListRouteValue<Comparable<?>>) indexRouteValue.get()).getValues()) {
+            Collection<Comparable<?>> indexedShardingValues = getIndexedShardingValues(globalIndex.get(), connectionProvider.get(), each);
+            if (indexedShardingValues.isEmpty()) {
+                return;
+            }
+            shardingValues.addAll(indexedShardingValues);
+        }
+        Column column = new Column(shardingRule.getGlobalIndexShardingColumn(shardingRule.getTableRule(tableName)), tableName);
+        if (!routeValueMap.containsKey(column)) {
+            routeValueMap.put(column, new LinkedList<RouteValue>());
+        }
+        routeValueMap.get(column).add(new ListRouteValue<>(column.getName(), tableName, shardingValues));
+    }
+    
+    private Collection<Comparable<?>> getIndexedShardingValues(final GlobalIndex globalIndex, final GlobalIndexConnectionProvider connectionProvider, final Comparable<?> indexValue) {
+        try {
+            return globalIndex.get(connectionProvider.getConnection(globalIndex.getDataSourceName()), indexValue);
+        } catch (final SQLException ex) {
+            throw new ShardingException("Can not get sharding values from global index.", ex);
+        }
+    }
+    
     private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
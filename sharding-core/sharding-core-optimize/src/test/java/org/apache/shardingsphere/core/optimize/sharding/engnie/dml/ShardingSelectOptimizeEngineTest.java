@@ -25,9 +25,11 @@ import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItems;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ShorthandSelectItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
@@ -58,6 +60,7 @@ import java.util.LinkedList;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -202,6 +205,30 @@ public final class ShardingSelectOptimizeEngineTest {
         assertTrue(values.containsAll(Arrays.asList(1, 2)));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeWithPreparedStatement() {
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("=", new ParameterMarkerExpressionSegment(0, 0, 0))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 1);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingSelectOptimizeEngine optimizeEngine = new ShardingSelectOptimizeEngine();
+        ShardingSelectOptimizedStatement preparedStatement = optimizeEngine.optimize(shardingRule, tableMetas, "", Collections.<Object>singletonList(1), selectStatement);
+        ShardingSelectOptimizedStatement actual = optimizeEngine.optimize(shardingRule, tableMetas, Collections.<Object>singletonList(2), preparedStatement);
+        assertSame(actual.getSQLStatement(), selectStatement);
+        assertSame(actual.getSelectItems(), preparedStatement.getSelectItems());
+        assertSame(actual.getGroupBy(), preparedStatement.getGroupBy());
+        assertSame(actual.getOrderBy(), preparedStatement.getOrderBy());
+        Collection<Comparable<?>> preparedValues = ((ListRouteValue<Comparable<?>>) preparedStatement.getShardingConditions().getConditions().get(0).getRouteValues().get(0)).getValues();
+        assertThat(preparedValues.size(), is(1));
+        assertTrue(preparedValues.contains(1));
+        Collection<Comparable<?>> actualValues = ((ListRouteValue<Comparable<?>>) actual.getShardingConditions().getConditions().get(0).getRouteValues().get(0)).getValues();
+        assertThat(actualValues.size(), is(1));
+        assertTrue(actualValues.contains(2));
+    }
+    
     private ColumnSegment createColumnSegment() {
         ColumnSegment result = new ColumnSegment(0, 0, "column");
         result.setOwner(new TableSegment(0, 0, "tbl"));
@@ -18,7 +18,7 @@
 package org.apache.shardingsphere.core.parse;
 
 import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.apache.shardingsphere.core.parse.cache.SQLParseResultCache;
 import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
@@ -32,12 +32,21 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SQLParseEngine {
     
     private final DatabaseType databaseType;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    @Getter
+    private final SQLParseResultCache cache;
+    
+    public SQLParseEngine(final DatabaseType databaseType) {
+        this(databaseType, SQLParseResultCache.DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseEngine(final DatabaseType databaseType, final long cacheSize) {
+        this.databaseType = databaseType;
+        cache = new SQLParseResultCache(cacheSize);
+    }
     
     /**
      * Parse SQL.
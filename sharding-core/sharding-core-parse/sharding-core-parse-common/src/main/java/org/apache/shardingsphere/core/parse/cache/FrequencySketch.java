@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+/**
+ * Frequency sketch.
+ * 
+ * <p>
+ * Count-min sketch with 4-bit counters to estimate access frequency of SQL.
+ * Counters are halved after enough additions, so frequency of history SQL will decay.
+ * Updates are not synchronized, lost increments under contention are acceptable for estimation.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class FrequencySketch {
+    
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    
+    private static final int MAX_FREQUENCY = 15;
+    
+    private final byte[][] table;
+    
+    private final int mask;
+    
+    private final int sampleSize;
+    
+    private volatile int additions;
+    
+    FrequencySketch(final long maximumSize) {
+        int width = Integer.highestOneBit((int) Math.max(16L, Math.min(maximumSize, 1L << 24)) - 1) << 1;
+        table = new byte[SEEDS.length][width];
+        mask = width - 1;
+        sampleSize = 10 * width;
+    }
+    
+    /**
+     * Increment frequency of key.
+     * 
+     * @param key key
+     */
+    void increment(final Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            if (table[i][index] < MAX_FREQUENCY) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+    
+    /**
+     * Get estimated frequency of key.
+     * 
+     * @param key key
+     * @return estimated frequency
+     */
+    int frequency(final Object key) {
+        int hash = spread(key.hashCode());
+        int result = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            result = Math.min(result, table[i][indexOf(hash, i)]);
+        }
+        return result;
+    }
+    
+    private synchronized void reset() {
+        if (additions < sampleSize) {
+            return;
+        }
+        for (byte[] each : table) {
+            for (int i = 0; i < each.length; i++) {
+                each[i] = (byte) (each[i] >>> 1);
+            }
+        }
+        additions = additions >>> 1;
+    }
+    
+    private int indexOf(final int hash, final int depth) {
+        long result = (hash + SEEDS[depth]) * SEEDS[depth];
+        result += result >>> 32;
+        return (int) result & mask;
+    }
+    
+    private int spread(final int hash) {
+        int result = hash ^ hash >>> 17;
+        result *= 0xed5ad4bb;
+        result ^= result >>> 11;
+        result *= 0xac4c1b51;
+        return result ^ result >>> 15;
+    }
+}
@@ -18,21 +18,68 @@
 package org.apache.shardingsphere.core.parse.cache;
 
 import com.google.common.base.Optional;
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SQL parse result cache.
+ * 
+ * <p>
+ * Cache is thread safe and bounded by maximum size, parse results are held by strong reference and will not be cleared by GC.
+ * Eviction follows W-TinyLFU: new SQL enters a small LRU admission window, SQL evicted from window is admitted into main LRU space
+ * only if its access frequency is greater than the frequency of the least recently used SQL of main space, which is evicted then.
+ * So that SQL only executed once will not evict frequently used parse results, while recent SQL still has a chance to be cached.
+ * Large cache is split into segments locked separately, each segment is one W-TinyLFU cache with its share of maximum size.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
  */
 public final class SQLParseResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final long DEFAULT_MAXIMUM_SIZE = 65535L;
+    
+    private static final int MAXIMUM_SEGMENT_COUNT = 16;
+    
+    private static final int MINIMUM_SEGMENT_CAPACITY = 1024;
+    
+    private static final int WINDOW_PERCENTAGE = 1;
+    
+    private final Segment[] segments;
+    
+    private final FrequencySketch frequencySketch;
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong evictionCount = new AtomicLong();
+    
+    private final AtomicLong rejectionCount = new AtomicLong();
+    
+    public SQLParseResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseResultCache(final long maximumSize) {
+        long actualMaximumSize = Math.max(maximumSize, 0L);
+        int segmentCount = (int) Math.max(1L, Long.highestOneBit(Math.min(actualMaximumSize / MINIMUM_SEGMENT_CAPACITY, MAXIMUM_SEGMENT_COUNT)));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(actualMaximumSize / segmentCount + (i < actualMaximumSize % segmentCount ? 1 : 0));
+        }
+        frequencySketch = new FrequencySketch(actualMaximumSize);
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -41,7 +88,7 @@ public final class SQLParseResultCache {
      * @param sqlStatement SQL statement
      */
     public void put(final String sql, final SQLStatement sqlStatement) {
-        cache.put(sql, sqlStatement);
+        getSegment(sql).put(sql, sqlStatement);
     }
     
     /**
@@ -51,13 +98,153 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.get(sql));
+        frequencySketch.increment(sql);
+        SQLStatement result = getSegment(sql).get(sql);
+        if (null == result) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return Optional.fromNullable(result);
+    }
+    
+    private Segment getSegment(final String sql) {
+        int hash = sql.hashCode();
+        return segments[(hash ^ hash >>> 16) & segments.length - 1];
+    }
+    
+    /**
+     * Get hot SQLs.
+     *
+     * @param size maximum size of hot SQLs
+     * @return hot SQLs in cache, sorted by access frequency in descending order
+     */
+    public List<String> getHotSQLs(final int size) {
+        final Map<String, Integer> frequencies = new HashMap<>();
+        for (Segment each : segments) {
+            for (String sql : each.getSQLs()) {
+                frequencies.put(sql, frequencySketch.frequency(sql));
+            }
+        }
+        List<String> result = new ArrayList<>(frequencies.keySet());
+        Collections.sort(result, new Comparator<String>() {
+            
+            @Override
+            public int compare(final String o1, final String o2) {
+                return frequencies.get(o2).compareTo(frequencies.get(o1));
+            }
+        });
+        return result.size() > size ? new ArrayList<>(result.subList(0, size)) : result;
+    }
+    
+    /**
+     * Get count of cache hits.
+     * 
+     * @return count of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get count of cache misses.
+     * 
+     * @return count of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get count of parse results evicted from main space of cache by more frequently used ones.
+     * 
+     * @return count of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+    
+    /**
+     * Get count of parse results rejected to be admitted into main space of cache, because they are not more frequently used than the victim.
+     * 
+     * @return count of rejections
+     */
+    public long getRejectionCount() {
+        return rejectionCount.get();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        for (Segment each : segments) {
+            each.clear();
+        }
+    }
+    
+    private final class Segment {
+        
+        private final long windowCapacity;
+        
+        private final long mainCapacity;
+        
+        private final LinkedHashMap<String, SQLStatement> window = new LinkedHashMap<>(16, 0.75f, true);
+        
+        private final LinkedHashMap<String, SQLStatement> main = new LinkedHashMap<>(16, 0.75f, true);
+        
+        Segment(final long capacity) {
+            windowCapacity = capacity * WINDOW_PERCENTAGE / 100;
+            mainCapacity = capacity - windowCapacity;
+        }
+        
+        synchronized SQLStatement get(final String sql) {
+            SQLStatement result = window.get(sql);
+            return null == result ? main.get(sql) : result;
+        }
+        
+        synchronized void put(final String sql, final SQLStatement sqlStatement) {
+            if (main.containsKey(sql)) {
+                main.put(sql, sqlStatement);
+                return;
+            }
+            window.put(sql, sqlStatement);
+            if (window.size() > windowCapacity) {
+                Iterator<Entry<String, SQLStatement>> iterator = window.entrySet().iterator();
+                Entry<String, SQLStatement> candidate = iterator.next();
+                iterator.remove();
+                admit(candidate.getKey(), candidate.getValue());
+            }
+        }
+        
+        private void admit(final String sql, final SQLStatement sqlStatement) {
+            if (main.size() < mainCapacity) {
+                main.put(sql, sqlStatement);
+                return;
+            }
+            if (0 == mainCapacity) {
+                return;
+            }
+            Iterator<String> iterator = main.keySet().iterator();
+            String victim = iterator.next();
+            if (frequencySketch.frequency(sql) <= frequencySketch.frequency(victim)) {
+                rejectionCount.incrementAndGet();
+                return;
+            }
+            iterator.remove();
+            evictionCount.incrementAndGet();
+            main.put(sql, sqlStatement);
+        }
+        
+        synchronized List<String> getSQLs() {
+            List<String> result = new ArrayList<>(window.size() + main.size());
+            result.addAll(window.keySet());
+            result.addAll(main.keySet());
+            return result;
+        }
+        
+        synchronized void clear() {
+            window.clear();
+            main.clear();
+        }
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SQL parse result cache warmer.
+ * 
+ * <p>
+ * Hot SQLs of parse result cache are recorded into local file periodically, one escaped SQL per line.
+ * After restart, recorded SQLs are parsed into cache again in background thread, so that first requests will not run with cold cache.
+ * File is named after parse engine, such as {@code sql-warmup-MySQL.txt} for {@code sql-warmup.txt}, because hot SQLs of different parse engines are different.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class SQLParseResultCacheWarmer implements AutoCloseable {
+    
+    private final SQLParseEngine parseEngine;
+    
+    private final File file;
+    
+    private final int size;
+    
+    private final ScheduledExecutorService executorService;
+    
+    public SQLParseResultCacheWarmer(final SQLParseEngine parseEngine, final String fileName, final String parseEngineName, final int size) {
+        this.parseEngine = parseEngine;
+        file = getFile(fileName, parseEngineName);
+        this.size = size;
+        executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SQLParseResultCacheWarmer-%d").build());
+    }
+    
+    private File getFile(final String fileName, final String parseEngineName) {
+        File result = new File(fileName);
+        String name = result.getName();
+        int extensionIndex = name.lastIndexOf('.');
+        String actualName = extensionIndex > 0 ? name.substring(0, extensionIndex) + "-" + parseEngineName + name.substring(extensionIndex) : name + "-" + parseEngineName;
+        return new File(result.getParentFile(), actualName);
+    }
+    
+    /**
+     * Warm up parse result cache with recorded hot SQLs in background thread.
+     * 
+     * <p>
+     * Caller does not need to wait for the future, count of parsed SQLs or failure is logged after warm up.
+     * </p>
+     *
+     * @return future of count of parsed SQLs
+     */
+    public Future<Integer> warmUp() {
+        return executorService.submit(new Callable<Integer>() {
+            
+            @Override
+            public Integer call() throws IOException {
+                try {
+                    int result = parseRecordedSQLs();
+                    log.info("Warmed up SQL parse result cache with {} recorded SQLs from file `{}`.", result, file.getPath());
+                    return result;
+                } catch (final IOException ex) {
+                    log.warn("Can not warm up SQL parse result cache with file `{}`: {}", file.getPath(), ex.getMessage());
+                    throw ex;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Warm up parse result cache with recorded hot SQLs and wait until warm up is finished.
+     * 
+     * <p>
+     * Warm up continues in background if it is not finished in time.
+     * </p>
+     *
+     * @param timeoutSeconds maximum seconds to wait for warm up
+     * @return count of parsed SQLs, {@code 0} if warm up fails or is not finished in time
+     */
+    public int warmUp(final long timeoutSeconds) {
+        try {
+            return warmUp().get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (final ExecutionException ex) {
+            return 0;
+        } catch (final TimeoutException ex) {
+            log.warn("Warm up of SQL parse result cache with file `{}` is not finished in {} seconds, continue in background.", file.getPath(), timeoutSeconds);
+            return 0;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+    
+    private int parseRecordedSQLs() throws IOException {
+        if (!file.isFile()) {
+            return 0;
+        }
+        int result = 0;
+        for (String each : Files.readLines(file, Charsets.UTF_8)) {
+            if (each.isEmpty()) {
+                continue;
+            }
+            String sql = unescape(each);
+            try {
+                parseEngine.parse(sql, true);
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.warn("Can not parse recorded SQL `{}` for warm up: {}", sql, ex.getMessage());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Start to record hot SQLs periodically.
+     *
+     * @param intervalSeconds interval seconds to record hot SQLs
+     */
+    public void startRecord(final long intervalSeconds) {
+        executorService.scheduleWithFixedDelay(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    record();
+                } catch (final IOException ex) {
+                    log.warn("Can not record hot SQLs into file `{}`: {}", file.getPath(), ex.getMessage());
+                }
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Record hot SQLs into file.
+     *
+     * @throws IOException IO exception
+     */
+    public void record() throws IOException {
+        List<String> hotSQLs = parseEngine.getCache().getHotSQLs(size);
+        if (hotSQLs.isEmpty()) {
+            return;
+        }
+        StringBuilder content = new StringBuilder();
+        for (String each : hotSQLs) {
+            content.append(escape(each)).append('\n');
+        }
+        Files.createParentDirs(file);
+        File tempFile = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+        Files.write(content, tempFile, Charsets.UTF_8);
+        Files.move(tempFile, file);
+    }
+    
+    private String escape(final String sql) {
+        return sql.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+    
+    private String unescape(final String line) {
+        StringBuilder result = new StringBuilder(line.length());
+        int index = 0;
+        while (index < line.length()) {
+            char each = line.charAt(index);
+            if ('\\' == each && index + 1 < line.length()) {
+                char next = line.charAt(index + 1);
+                result.append('n' == next ? '\n' : 'r' == next ? '\r' : next);
+                index += 2;
+                continue;
+            }
+            result.append(each);
+            index++;
+        }
+        return result.toString();
+    }
+    
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.core.parse.core;
 
+import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.core.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.core.parse.core.fastpath.FastPathSQLParser;
 import org.apache.shardingsphere.core.parse.core.filler.SQLStatementFillerEngine;
 import org.apache.shardingsphere.core.parse.core.parser.SQLAST;
 import org.apache.shardingsphere.core.parse.core.parser.SQLParserEngine;
@@ -39,6 +41,8 @@ import java.util.Map;
  */
 public final class SQLParseKernel {
     
+    private final FastPathSQLParser fastPathParser;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLSegmentsExtractorEngine extractorEngine;
@@ -47,6 +51,7 @@ public final class SQLParseKernel {
     
     public SQLParseKernel(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql) {
         DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType.getName());
+        fastPathParser = new FastPathSQLParser(parseRuleRegistry, trunkDatabaseType, sql);
         parserEngine = new SQLParserEngine(parseRuleRegistry, trunkDatabaseType, sql);
         extractorEngine = new SQLSegmentsExtractorEngine();
         fillerEngine = new SQLStatementFillerEngine(parseRuleRegistry, trunkDatabaseType);
@@ -58,6 +63,10 @@ public final class SQLParseKernel {
      * @return SQL statement
      */
     public SQLStatement parse() {
+        Optional<SQLStatement> fastPathResult = fastPathParser.parse();
+        if (fastPathResult.isPresent()) {
+            return fastPathResult.get();
+        }
         SQLAST ast = parserEngine.parse();
         Collection<SQLSegment> sqlSegments = extractorEngine.extract(ast);
         Map<ParserRuleContext, Integer> parameterMarkerIndexes = ast.getParameterMarkerIndexes();
@@ -44,12 +44,12 @@ public final class SQLSegmentsExtractorEngine {
         Collection<SQLSegment> result = new LinkedList<>();
         for (SQLSegmentExtractor each : ast.getSqlStatementRule().getExtractors()) {
             if (each instanceof OptionalSQLSegmentExtractor) {
-                Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes());
+                Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParseTreeIndex());
                 if (sqlSegment.isPresent()) {
                     result.add(sqlSegment.get());
                 }
             } else if (each instanceof CollectionSQLSegmentExtractor) {
-                result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes()));
+                result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParseTreeIndex()));
             }
         }
         return result;
@@ -18,10 +18,10 @@
 package org.apache.shardingsphere.core.parse.core.extractor.api;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
 
 import java.util.Collection;
-import java.util.Map;
 
 /**
  * Collection SQL segment extractor.
@@ -34,8 +34,8 @@ public interface CollectionSQLSegmentExtractor extends SQLSegmentExtractor {
      * Extract SQL segments from SQL AST.
      *  
      * @param ancestorNode ancestor node of AST
-     * @param parameterMarkerIndexes parameter marker indexes
+     * @param parseTreeIndex parse tree index
      * @return SQL segments
      */
-    Collection<? extends SQLSegment> extract(ParserRuleContext ancestorNode, Map<ParserRuleContext, Integer> parameterMarkerIndexes);
+    Collection<? extends SQLSegment> extract(ParserRuleContext ancestorNode, ParseTreeIndex parseTreeIndex);
 }
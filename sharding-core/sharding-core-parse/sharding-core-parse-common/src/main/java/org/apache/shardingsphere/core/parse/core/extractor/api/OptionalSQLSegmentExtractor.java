@@ -19,10 +19,9 @@ package org.apache.shardingsphere.core.parse.core.extractor.api;
 
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
 
-import java.util.Map;
-
 /**
  * Optional SQL segment extractor.
  * 
@@ -34,8 +33,8 @@ public interface OptionalSQLSegmentExtractor extends SQLSegmentExtractor {
      * Extract SQL segment from SQL AST.
      *  
      * @param ancestorNode ancestor node of AST
-     * @param parameterMarkerIndexes parameter marker indexes
+     * @param parseTreeIndex parse tree index
      * @return SQL segment
      */
-    Optional<? extends SQLSegment> extract(ParserRuleContext ancestorNode, Map<ParserRuleContext, Integer> parameterMarkerIndexes);
+    Optional<? extends SQLSegment> extract(ParserRuleContext ancestorNode, ParseTreeIndex parseTreeIndex);
 }
@@ -21,12 +21,11 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 
-import java.util.Map;
-
 /**
  * Column extractor.
  *
@@ -36,13 +35,13 @@ import java.util.Map;
 public final class ColumnExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> columnNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.COLUMN_NAME);
-        return columnNode.isPresent() ? Optional.of(getColumnSegment(columnNode.get())) : Optional.<ColumnSegment>absent();
+    public Optional<ColumnSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> columnNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.COLUMN_NAME);
+        return columnNode.isPresent() ? Optional.of(getColumnSegment(columnNode.get(), parseTreeIndex)) : Optional.<ColumnSegment>absent();
     }
     
-    private ColumnSegment getColumnSegment(final ParserRuleContext columnNode) {
-        ParserRuleContext nameNode = ExtractorUtils.getFirstChildNode(columnNode, RuleName.NAME);
+    private ColumnSegment getColumnSegment(final ParserRuleContext columnNode, final ParseTreeIndex parseTreeIndex) {
+        ParserRuleContext nameNode = parseTreeIndex.getFirstChildNode(columnNode, RuleName.NAME);
         ColumnSegment result = new ColumnSegment(columnNode.getStart().getStartIndex(), columnNode.getStop().getStopIndex(), nameNode.getText());
         Optional<ParserRuleContext> ownerNode = ExtractorUtils.findFirstChildNodeNoneRecursive(columnNode, RuleName.OWNER);
         if (ownerNode.isPresent()) {
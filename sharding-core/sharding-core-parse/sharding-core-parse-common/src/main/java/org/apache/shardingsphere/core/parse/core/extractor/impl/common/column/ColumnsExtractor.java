@@ -20,13 +20,12 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.common.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Columns extractor.
@@ -38,10 +37,10 @@ public final class ColumnsExtractor implements CollectionSQLSegmentExtractor {
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Collection<ColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<ColumnSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
         Collection<ColumnSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.COLUMN_NAME)) {
-            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.COLUMN_NAME)) {
+            Optional<ColumnSegment> columnSegment = columnExtractor.extract(each, parseTreeIndex);
             if (columnSegment.isPresent()) {
                 result.add(columnSegment.get());
             }
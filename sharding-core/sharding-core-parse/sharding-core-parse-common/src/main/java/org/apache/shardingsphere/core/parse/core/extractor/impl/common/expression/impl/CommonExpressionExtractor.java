@@ -20,10 +20,9 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.common.expressi
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.complex.CommonExpressionSegment;
 
-import java.util.Map;
-
 /**
  * Common expression extractor.
  *
@@ -33,7 +32,7 @@ public final class CommonExpressionExtractor implements OptionalSQLSegmentExtrac
     
     // TODO extract column name and value from expression
     @Override
-    public Optional<CommonExpressionSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<CommonExpressionSegment> extract(final ParserRuleContext expressionNode, final ParseTreeIndex parseTreeIndex) {
         return Optional.of(new CommonExpressionSegment(expressionNode.getStart().getStartIndex(), expressionNode.getStop().getStopIndex(), expressionNode.getText()));
     }
 }
@@ -21,11 +21,10 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 
-import java.util.Map;
-
 /**
  * Parameter marker expression extractor.
  *
@@ -34,10 +33,12 @@ import java.util.Map;
 public final class ParameterMarkerExpressionExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ParameterMarkerExpressionSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<ParameterMarkerExpressionSegment> extract(final ParserRuleContext expressionNode, final ParseTreeIndex parseTreeIndex) {
         Optional<ParserRuleContext> parameterMarkerNode = ExtractorUtils.findSingleNodeFromFirstDescendant(expressionNode, RuleName.PARAMETER_MARKER);
-        return parameterMarkerNode.isPresent() ? Optional.of(
-                new ParameterMarkerExpressionSegment(expressionNode.getStart().getStartIndex(), expressionNode.getStop().getStopIndex(), parameterMarkerIndexes.get(parameterMarkerNode.get())))
-                : Optional.<ParameterMarkerExpressionSegment>absent();
+        if (!parameterMarkerNode.isPresent()) {
+            return Optional.absent();
+        }
+        int parameterMarkerIndex = parseTreeIndex.getParameterMarkerIndexes().get(parameterMarkerNode.get());
+        return Optional.of(new ParameterMarkerExpressionSegment(expressionNode.getStart().getStartIndex(), expressionNode.getStop().getStopIndex(), parameterMarkerIndex));
     }
 }
@@ -20,13 +20,12 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.common.index;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.index.IndexSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Indexes extractor.
@@ -38,10 +37,10 @@ public final class IndexesExtractor implements CollectionSQLSegmentExtractor {
     private final IndexExtractor indexExtractor = new IndexExtractor();
     
     @Override
-    public Collection<IndexSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<IndexSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
         Collection<IndexSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.INDEX_NAME)) {
-            Optional<IndexSegment> indexSegment = indexExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.INDEX_NAME)) {
+            Optional<IndexSegment> indexSegment = indexExtractor.extract(each, parseTreeIndex);
             if (indexSegment.isPresent()) {
                 result.add(indexSegment.get());
             }
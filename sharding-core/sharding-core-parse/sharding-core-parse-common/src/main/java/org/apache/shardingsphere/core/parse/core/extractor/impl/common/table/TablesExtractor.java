@@ -20,13 +20,12 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.common.table;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Tables extractor.
@@ -38,10 +37,10 @@ public final class TablesExtractor implements CollectionSQLSegmentExtractor {
     private final TableExtractor tableExtractor = new TableExtractor();
     
     @Override
-    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<TableSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
         Collection<TableSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.TABLE_NAME)) {
-            Optional<TableSegment> tableSegment = tableExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.TABLE_NAME)) {
+            Optional<TableSegment> tableSegment = tableExtractor.extract(each, parseTreeIndex);
             if (tableSegment.isPresent()) {
                 result.add(tableSegment.get());
             }
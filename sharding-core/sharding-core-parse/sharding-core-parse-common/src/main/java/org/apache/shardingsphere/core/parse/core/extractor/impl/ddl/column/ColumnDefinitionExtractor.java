@@ -20,12 +20,10 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.ddl.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
 
-import java.util.Map;
-
 /**
  * Column definition extractor.
  * 
@@ -35,14 +33,14 @@ import java.util.Map;
 public final class ColumnDefinitionExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> columnNameNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.COLUMN_NAME);
+    public Optional<ColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> columnNameNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.COLUMN_NAME);
         if (!columnNameNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> dataTypeNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.DATA_TYPE);
+        Optional<ParserRuleContext> dataTypeNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.DATA_TYPE);
         Optional<String> dataTypeText = dataTypeNode.isPresent() ? Optional.of(dataTypeNode.get().getChild(0).getChild(0).getText()) : Optional.<String>absent();
-        boolean isPrimaryKey = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.PRIMARY_KEY).isPresent();
+        boolean isPrimaryKey = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.PRIMARY_KEY).isPresent();
         return Optional.of(new ColumnDefinitionSegment(
                 columnNameNode.get().getStart().getStartIndex(), columnNameNode.get().getStop().getStopIndex(), columnNameNode.get().getText(), dataTypeText.orNull(), isPrimaryKey));
     }
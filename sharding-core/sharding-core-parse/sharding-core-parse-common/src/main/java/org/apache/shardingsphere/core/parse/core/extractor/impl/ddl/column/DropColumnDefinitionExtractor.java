@@ -20,14 +20,13 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.ddl.column;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.DropColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Drop column definition extractor.
@@ -37,17 +36,17 @@ import java.util.Map;
 public final class DropColumnDefinitionExtractor implements CollectionSQLSegmentExtractor {
     
     @Override
-    public Collection<DropColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Collection<DropColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
         Collection<DropColumnDefinitionSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.DROP_COLUMN_SPECIFICATION)) {
-            result.addAll(extractDropColumnSegments(each));
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.DROP_COLUMN_SPECIFICATION)) {
+            result.addAll(extractDropColumnSegments(each, parseTreeIndex));
         }
         return result;
     }
     
-    private Collection<DropColumnDefinitionSegment> extractDropColumnSegments(final ParserRuleContext dropColumnNode) {
+    private Collection<DropColumnDefinitionSegment> extractDropColumnSegments(final ParserRuleContext dropColumnNode, final ParseTreeIndex parseTreeIndex) {
         Collection<DropColumnDefinitionSegment> result = new LinkedList<>();
-        for (ParseTree each : ExtractorUtils.getAllDescendantNodes(dropColumnNode, RuleName.COLUMN_NAME)) {
+        for (ParseTree each : parseTreeIndex.getAllDescendantNodes(dropColumnNode, RuleName.COLUMN_NAME)) {
             result.add(new DropColumnDefinitionSegment(dropColumnNode.getStart().getStartIndex(), dropColumnNode.getStop().getStartIndex(), SQLUtil.getExactlyValue(each.getText())));
         }
         return result;
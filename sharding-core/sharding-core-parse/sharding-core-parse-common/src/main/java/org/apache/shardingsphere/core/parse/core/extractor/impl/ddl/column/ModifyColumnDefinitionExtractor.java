@@ -20,14 +20,13 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.ddl.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.ModifyColumnDefinitionSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Modify column definition extractor.
@@ -39,14 +38,14 @@ public class ModifyColumnDefinitionExtractor implements CollectionSQLSegmentExtr
     private final ColumnDefinitionExtractor columnDefinitionExtractor = new ColumnDefinitionExtractor();
     
     @Override
-    public final Collection<ModifyColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public final Collection<ModifyColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
         Collection<ModifyColumnDefinitionSegment> result = new LinkedList<>();
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.MODIFY_COLUMN_SPECIFICATION)) {
-            Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(each, parameterMarkerIndexes);
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.MODIFY_COLUMN_SPECIFICATION)) {
+            Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(each, parseTreeIndex);
             if (columnDefinitionSegment.isPresent()) {
                 ModifyColumnDefinitionSegment modifyColumnDefinitionSegment = new ModifyColumnDefinitionSegment(
                         each.getStart().getStartIndex(), each.getStop().getStopIndex(), columnDefinitionSegment.get());
-                postExtractColumnDefinition(each, modifyColumnDefinitionSegment, parameterMarkerIndexes);
+                postExtractColumnDefinition(each, modifyColumnDefinitionSegment, parseTreeIndex);
                 result.add(modifyColumnDefinitionSegment);
             }
         }
@@ -54,6 +53,6 @@ public class ModifyColumnDefinitionExtractor implements CollectionSQLSegmentExtr
     }
     
     protected void postExtractColumnDefinition(final ParserRuleContext modifyColumnNode, 
-                                               final ModifyColumnDefinitionSegment modifyColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+                                               final ModifyColumnDefinitionSegment modifyColumnDefinitionSegment, final ParseTreeIndex parseTreeIndex) {
     }
 }
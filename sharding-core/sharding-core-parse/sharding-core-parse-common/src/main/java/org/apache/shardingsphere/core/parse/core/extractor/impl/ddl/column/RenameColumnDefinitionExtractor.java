@@ -20,13 +20,12 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.ddl.column;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.RenameColumnSegment;
 
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.Map;
 
 /**
  * Rename column definition extractor.
@@ -36,12 +35,12 @@ import java.util.Map;
 public final class RenameColumnDefinitionExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<RenameColumnSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> modifyColumnNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.RENAME_COLUMN_SPECIFICATION);
+    public Optional<RenameColumnSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> modifyColumnNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.RENAME_COLUMN_SPECIFICATION);
         if (!modifyColumnNode.isPresent()) {
             return Optional.absent();
         }
-        Collection<ParserRuleContext> columnNodes = ExtractorUtils.getAllDescendantNodes(modifyColumnNode.get(), RuleName.COLUMN_NAME);
+        Collection<ParserRuleContext> columnNodes = parseTreeIndex.getAllDescendantNodes(modifyColumnNode.get(), RuleName.COLUMN_NAME);
         if (2 != columnNodes.size()) {
             return Optional.absent();
         }
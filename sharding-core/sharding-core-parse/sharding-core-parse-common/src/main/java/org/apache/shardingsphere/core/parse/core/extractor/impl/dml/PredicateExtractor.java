@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmen
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.column.ColumnExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.expression.ExpressionExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredica
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateBetweenRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateColumnCompareRightValue;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
 
@@ -40,7 +42,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Predicate extractor.
@@ -55,61 +56,61 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Optional<OrPredicateSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> whereNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
+    public Optional<OrPredicateSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> whereNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
         if (!whereNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> exprNode = ExtractorUtils.findFirstChildNode((ParserRuleContext) whereNode.get().getChild(1), RuleName.EXPR);
+        Optional<ParserRuleContext> exprNode = parseTreeIndex.findFirstChildNode((ParserRuleContext) whereNode.get().getChild(1), RuleName.EXPR);
         Preconditions.checkState(exprNode.isPresent());
-        return extractRecursiveWithLogicalOperation(exprNode.get(), parameterMarkerIndexes);
+        return extractRecursiveWithLogicalOperation(exprNode.get(), parseTreeIndex);
     }
     
-    private Optional<OrPredicateSegment> extractRecursiveWithLogicalOperation(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Optional<OrPredicateSegment> extractRecursiveWithLogicalOperation(final ParserRuleContext exprNode, final ParseTreeIndex parseTreeIndex) {
         Optional<ParserRuleContext> logicalOperatorNode = ExtractorUtils.findFirstChildNodeNoneRecursive(exprNode, RuleName.LOGICAL_OPERATOR);
         if (!logicalOperatorNode.isPresent()) {
-            return extractRecursiveWithParen(exprNode, parameterMarkerIndexes);
+            return extractRecursiveWithParen(exprNode, parseTreeIndex);
         }
-        Optional<OrPredicateSegment> leftPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(0), parameterMarkerIndexes);
-        Optional<OrPredicateSegment> rightPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(2), parameterMarkerIndexes);
+        Optional<OrPredicateSegment> leftPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(0), parseTreeIndex);
+        Optional<OrPredicateSegment> rightPredicate = extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(2), parseTreeIndex);
         if (leftPredicate.isPresent() && rightPredicate.isPresent()) {
             return Optional.of(mergePredicate(leftPredicate.get(), rightPredicate.get(), logicalOperatorNode.get().getText()));
         }
         return leftPredicate.isPresent() ? leftPredicate : rightPredicate;
     }
     
-    private Optional<OrPredicateSegment> extractRecursiveWithParen(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Optional<OrPredicateSegment> extractRecursiveWithParen(final ParserRuleContext exprNode, final ParseTreeIndex parseTreeIndex) {
         if (1 == exprNode.getChild(0).getText().length() && Paren.isLeftParen(exprNode.getChild(0).getText().charAt(0))) {
-            return extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(1), parameterMarkerIndexes);
+            return extractRecursiveWithLogicalOperation((ParserRuleContext) exprNode.getChild(1), parseTreeIndex);
         }
-        Optional<PredicateSegment> predicate = extractPredicate(exprNode, parameterMarkerIndexes);
+        Optional<PredicateSegment> predicate = extractPredicate(exprNode, parseTreeIndex);
         return predicate.isPresent() ? Optional.of(getOrPredicateSegment(predicate.get())) : Optional.<OrPredicateSegment>absent();
     }
     
-    private Optional<PredicateSegment> extractPredicate(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        if (ExtractorUtils.findFirstChildNode(exprNode, RuleName.SUBQUERY).isPresent()) {
+    private Optional<PredicateSegment> extractPredicate(final ParserRuleContext exprNode, final ParseTreeIndex parseTreeIndex) {
+        if (parseTreeIndex.findFirstChildNode(exprNode, RuleName.SUBQUERY).isPresent()) {
             return Optional.absent();
         }
-        Optional<PredicateSegment> result = extractComparisonPredicate(exprNode, parameterMarkerIndexes);
+        Optional<PredicateSegment> result = extractComparisonPredicate(exprNode, parseTreeIndex);
         if (result.isPresent()) {
             return result;
         }
-        Optional<ParserRuleContext> predicateNode = ExtractorUtils.findFirstChildNode(exprNode, RuleName.PREDICATE);
+        Optional<ParserRuleContext> predicateNode = parseTreeIndex.findFirstChildNode(exprNode, RuleName.PREDICATE);
         if (!predicateNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ColumnSegment> column = columnExtractor.extract((ParserRuleContext) predicateNode.get().getChild(0), parameterMarkerIndexes);
+        Optional<ColumnSegment> column = columnExtractor.extract((ParserRuleContext) predicateNode.get().getChild(0), parseTreeIndex);
         if (!column.isPresent()) {
             return Optional.absent();
         }
         if (5 == predicateNode.get().getChildCount() && "BETWEEN".equalsIgnoreCase(predicateNode.get().getChild(1).getText())) {
-            result = extractBetweenPredicate(predicateNode.get(), parameterMarkerIndexes, column.get());
+            result = extractBetweenPredicate(predicateNode.get(), parseTreeIndex, column.get());
             if (result.isPresent()) {
                 return result;
             }
         }
         if (predicateNode.get().getChildCount() >= 5 && "IN".equalsIgnoreCase(predicateNode.get().getChild(1).getText())) {
-            result = extractInPredicate(predicateNode.get(), parameterMarkerIndexes, column.get());
+            result = extractInPredicate(predicateNode.get(), parseTreeIndex, column.get());
             if (result.isPresent()) {
                 return result;
             }
@@ -117,8 +118,8 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
         return Optional.absent();
     }
     
-    private Optional<PredicateSegment> extractComparisonPredicate(final ParserRuleContext exprNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> comparisonOperatorNode = ExtractorUtils.findFirstChildNode(exprNode, RuleName.COMPARISON_OPERATOR);
+    private Optional<PredicateSegment> extractComparisonPredicate(final ParserRuleContext exprNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> comparisonOperatorNode = parseTreeIndex.findFirstChildNode(exprNode, RuleName.COMPARISON_OPERATOR);
         if (!comparisonOperatorNode.isPresent()) {
             return Optional.absent();
         }
@@ -129,40 +130,41 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
             return Optional.absent();
         }
         if (leftColumnNode.isPresent() && rightColumnNode.isPresent()) {
-            Optional<ColumnSegment> leftColumn = columnExtractor.extract(leftColumnNode.get(), parameterMarkerIndexes);
-            Optional<ColumnSegment> rightColumn = columnExtractor.extract(rightColumnNode.get(), parameterMarkerIndexes);
+            Optional<ColumnSegment> leftColumn = columnExtractor.extract(leftColumnNode.get(), parseTreeIndex);
+            Optional<ColumnSegment> rightColumn = columnExtractor.extract(rightColumnNode.get(), parseTreeIndex);
             Preconditions.checkState(leftColumn.isPresent() && rightColumn.isPresent());
-            return Optional.of(new PredicateSegment(booleanPrimaryNode.getStart().getStartIndex(), booleanPrimaryNode.getStop().getStopIndex(), leftColumn.get(), rightColumn.get()));
+            return Optional.of(new PredicateSegment(booleanPrimaryNode.getStart().getStartIndex(), booleanPrimaryNode.getStop().getStopIndex(), leftColumn.get(), 
+                    new PredicateColumnCompareRightValue(comparisonOperatorNode.get().getText(), rightColumn.get())));
         }
-        Optional<ColumnSegment> column = columnExtractor.extract(exprNode, parameterMarkerIndexes);
+        Optional<ColumnSegment> column = columnExtractor.extract(exprNode, parseTreeIndex);
         Preconditions.checkState(column.isPresent());
         ParserRuleContext valueNode = leftColumnNode.isPresent()
                 ? (ParserRuleContext) comparisonOperatorNode.get().getParent().getChild(2) : (ParserRuleContext) comparisonOperatorNode.get().getParent().getChild(0);
-        Optional<? extends ExpressionSegment> sqlExpression = expressionExtractor.extract(valueNode, parameterMarkerIndexes);
+        Optional<? extends ExpressionSegment> sqlExpression = expressionExtractor.extract(valueNode, parseTreeIndex);
         return sqlExpression.isPresent() ? Optional.of(new PredicateSegment(booleanPrimaryNode.getStart().getStartIndex(), booleanPrimaryNode.getStop().getStopIndex(), column.get(), 
                 new PredicateCompareRightValue(comparisonOperatorNode.get().getText(), sqlExpression.get()))) : Optional.<PredicateSegment>absent();
     }
     
-    private Optional<PredicateSegment> extractBetweenPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ColumnSegment column) {
-        Optional<? extends ExpressionSegment> betweenSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(2), parameterMarkerIndexes);
-        Optional<? extends ExpressionSegment> andSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(4), parameterMarkerIndexes);
+    private Optional<PredicateSegment> extractBetweenPredicate(final ParserRuleContext predicateNode, final ParseTreeIndex parseTreeIndex, final ColumnSegment column) {
+        Optional<? extends ExpressionSegment> betweenSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(2), parseTreeIndex);
+        Optional<? extends ExpressionSegment> andSQLExpression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(4), parseTreeIndex);
         return betweenSQLExpression.isPresent() && andSQLExpression.isPresent()
                 ? Optional.of(new PredicateSegment(
                         predicateNode.getStart().getStartIndex(), predicateNode.getStop().getStopIndex(), column, new PredicateBetweenRightValue(betweenSQLExpression.get(), andSQLExpression.get())))
                 : Optional.<PredicateSegment>absent();
     }
     
-    private Optional<PredicateSegment> extractInPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ColumnSegment column) {
-        Collection<ExpressionSegment> sqlExpressions = extractInExpressionSegments(predicateNode, parameterMarkerIndexes);
+    private Optional<PredicateSegment> extractInPredicate(final ParserRuleContext predicateNode, final ParseTreeIndex parseTreeIndex, final ColumnSegment column) {
+        Collection<ExpressionSegment> sqlExpressions = extractInExpressionSegments(predicateNode, parseTreeIndex);
         return sqlExpressions.isEmpty() ? Optional.<PredicateSegment>absent()
                 : Optional.of(new PredicateSegment(predicateNode.getStart().getStartIndex(), predicateNode.getStop().getStopIndex(), column, new PredicateInRightValue(sqlExpressions)));
     }
     
-    private Collection<ExpressionSegment> extractInExpressionSegments(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    private Collection<ExpressionSegment> extractInExpressionSegments(final ParserRuleContext predicateNode, final ParseTreeIndex parseTreeIndex) {
         List<ExpressionSegment> result = new LinkedList<>();
         for (int i = 3; i < predicateNode.getChildCount(); i++) {
             if (RuleName.EXPR.getName().equals(predicateNode.getChild(i).getClass().getSimpleName())) {
-                Optional<? extends ExpressionSegment> expression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(i), parameterMarkerIndexes);
+                Optional<? extends ExpressionSegment> expression = expressionExtractor.extract((ParserRuleContext) predicateNode.getChild(i), parseTreeIndex);
                 // FIXME if some part of expr is not supported, clear all expr for IN clause
                 if (!expression.isPresent()) {
                     return Collections.emptyList();
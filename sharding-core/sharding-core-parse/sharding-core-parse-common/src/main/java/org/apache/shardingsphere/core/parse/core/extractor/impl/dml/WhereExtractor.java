@@ -20,13 +20,12 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.dml;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
 
 import java.util.Collection;
-import java.util.Map;
 
 /**
  * Where extractor.
@@ -39,19 +38,19 @@ public final class WhereExtractor implements OptionalSQLSegmentExtractor {
     private final PredicateExtractor predicateExtractor = new PredicateExtractor();
     
     @Override
-    public Optional<WhereSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> whereNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
+    public Optional<WhereSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> whereNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.WHERE_CLAUSE);
         if (!whereNode.isPresent()) {
             return Optional.absent();
         }
-        WhereSegment result = new WhereSegment(whereNode.get().getStart().getStartIndex(), whereNode.get().getStop().getStopIndex(), parameterMarkerIndexes.size());
-        Optional<OrPredicateSegment> orPredicateSegment = predicateExtractor.extract(whereNode.get(), parameterMarkerIndexes);
+        WhereSegment result = new WhereSegment(whereNode.get().getStart().getStartIndex(), whereNode.get().getStop().getStopIndex(), parseTreeIndex.getParameterMarkerIndexes().size());
+        Optional<OrPredicateSegment> orPredicateSegment = predicateExtractor.extract(whereNode.get(), parseTreeIndex);
         if (orPredicateSegment.isPresent()) {
             result.getAndPredicates().addAll(orPredicateSegment.get().getAndPredicates());
         }
-        Collection<ParserRuleContext> parameterMarkerNodes = ExtractorUtils.getAllDescendantNodes(whereNode.get(), RuleName.PARAMETER_MARKER);
+        Collection<ParserRuleContext> parameterMarkerNodes = parseTreeIndex.getAllDescendantNodes(whereNode.get(), RuleName.PARAMETER_MARKER);
         if (!parameterMarkerNodes.isEmpty()) {
-            result.setParameterStartIndex(parameterMarkerIndexes.get(parameterMarkerNodes.iterator().next()));
+            result.setParameterStartIndex(parseTreeIndex.getParameterMarkerIndexes().get(parameterMarkerNodes.iterator().next()));
         }
         return Optional.of(result);
     }
@@ -22,7 +22,7 @@ import com.google.common.base.Preconditions;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.expression.impl.ParameterMarkerExpressionExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.LimitSegment;
@@ -31,8 +31,6 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.Num
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 
-import java.util.Map;
-
 /**
  * Limit extractor.
  *
@@ -45,30 +43,30 @@ public final class LimitExtractor implements OptionalSQLSegmentExtractor {
     private final ParameterMarkerExpressionExtractor parameterMarkerExpressionExtractor = new ParameterMarkerExpressionExtractor();
     
     @Override
-    public Optional<LimitSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> limitNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.LIMIT_CLAUSE);
+    public Optional<LimitSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> limitNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.LIMIT_CLAUSE);
         return limitNode.isPresent()
                 ? Optional.of(new LimitSegment(limitNode.get().getStart().getStartIndex(), limitNode.get().getStop().getStopIndex(),
-                extractOffset(limitNode.get(), parameterMarkerIndexes).orNull(), extractRowCount(limitNode.get(), parameterMarkerIndexes).orNull())) : Optional.<LimitSegment>absent();
+                extractOffset(limitNode.get(), parseTreeIndex).orNull(), extractRowCount(limitNode.get(), parseTreeIndex).orNull())) : Optional.<LimitSegment>absent();
     }
     
-    private Optional<LimitValueSegment> extractOffset(final ParserRuleContext limitNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> offsetNode = ExtractorUtils.findFirstChildNode(limitNode, RuleName.LIMIT_OFFSET);
-        return offsetNode.isPresent() ? Optional.of(extractLimitValue(offsetNode.get(), parameterMarkerIndexes)) : Optional.<LimitValueSegment>absent();
+    private Optional<LimitValueSegment> extractOffset(final ParserRuleContext limitNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> offsetNode = parseTreeIndex.findFirstChildNode(limitNode, RuleName.LIMIT_OFFSET);
+        return offsetNode.isPresent() ? Optional.of(extractLimitValue(offsetNode.get(), parseTreeIndex)) : Optional.<LimitValueSegment>absent();
     }
     
-    private Optional<LimitValueSegment> extractRowCount(final ParserRuleContext limitNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> rowCountNode = ExtractorUtils.findFirstChildNode(limitNode, RuleName.LIMIT_ROW_COUNT);
-        return rowCountNode.isPresent() ? Optional.of(extractLimitValue(rowCountNode.get(), parameterMarkerIndexes)) : Optional.<LimitValueSegment>absent();
+    private Optional<LimitValueSegment> extractRowCount(final ParserRuleContext limitNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> rowCountNode = parseTreeIndex.findFirstChildNode(limitNode, RuleName.LIMIT_ROW_COUNT);
+        return rowCountNode.isPresent() ? Optional.of(extractLimitValue(rowCountNode.get(), parseTreeIndex)) : Optional.<LimitValueSegment>absent();
     }
     
-    private LimitValueSegment extractLimitValue(final ParserRuleContext limitValueNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParameterMarkerExpressionSegment> parameterMarkerExpression = parameterMarkerExpressionExtractor.extract(limitValueNode, parameterMarkerIndexes);
+    private LimitValueSegment extractLimitValue(final ParserRuleContext limitValueNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParameterMarkerExpressionSegment> parameterMarkerExpression = parameterMarkerExpressionExtractor.extract(limitValueNode, parseTreeIndex);
         if (parameterMarkerExpression.isPresent()) {
             return new ParameterMarkerLimitValueSegment(
                     limitValueNode.getStart().getStartIndex(), limitValueNode.getStop().getStopIndex(), parameterMarkerExpression.get().getParameterMarkerIndex());
         }
-        Optional<ParserRuleContext> numberLiteralsNode = ExtractorUtils.findFirstChildNode(limitValueNode, RuleName.NUMBER_LITERALS);
+        Optional<ParserRuleContext> numberLiteralsNode = parseTreeIndex.findFirstChildNode(limitValueNode, RuleName.NUMBER_LITERALS);
         Preconditions.checkState(numberLiteralsNode.isPresent());
         return new NumberLiteralLimitValueSegment(
                 limitValueNode.getStart().getStartIndex(), limitValueNode.getStop().getStopIndex(), SQLUtil.getExactlyNumber(numberLiteralsNode.get().getText(), 10).longValue());
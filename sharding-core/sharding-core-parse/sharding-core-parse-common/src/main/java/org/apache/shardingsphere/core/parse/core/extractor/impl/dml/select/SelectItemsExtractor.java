@@ -22,12 +22,12 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.item.SelectItemExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegment;
 
 import java.util.Collection;
-import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -50,36 +50,36 @@ public final class SelectItemsExtractor implements OptionalSQLSegmentExtractor {
     }
     
     @Override
-    public Optional<SelectItemsSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        ParserRuleContext selectItemsNode = ExtractorUtils.getFirstChildNode(findMainQueryNode(ancestorNode), RuleName.SELECT_ITEMS);
-        SelectItemsSegment result = new SelectItemsSegment(selectItemsNode.getStart().getStartIndex(), selectItemsNode.getStop().getStopIndex(), extractDistinct(ancestorNode));
-        Optional<ParserRuleContext> unqualifiedShorthandNode = ExtractorUtils.findFirstChildNode(selectItemsNode, RuleName.UNQUALIFIED_SHORTHAND);
+    public Optional<SelectItemsSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        ParserRuleContext selectItemsNode = parseTreeIndex.getFirstChildNode(findMainQueryNode(ancestorNode, parseTreeIndex), RuleName.SELECT_ITEMS);
+        SelectItemsSegment result = new SelectItemsSegment(selectItemsNode.getStart().getStartIndex(), selectItemsNode.getStop().getStopIndex(), extractDistinct(ancestorNode, parseTreeIndex));
+        Optional<ParserRuleContext> unqualifiedShorthandNode = parseTreeIndex.findFirstChildNode(selectItemsNode, RuleName.UNQUALIFIED_SHORTHAND);
         if (unqualifiedShorthandNode.isPresent()) {
-            setUnqualifiedShorthandSelectItemSegment(unqualifiedShorthandNode.get(), result, parameterMarkerIndexes);
+            setUnqualifiedShorthandSelectItemSegment(unqualifiedShorthandNode.get(), result, parseTreeIndex);
         }
-        setSelectItemSegment(selectItemsNode, result, parameterMarkerIndexes);
+        setSelectItemSegment(selectItemsNode, result, parseTreeIndex);
         return Optional.of(result);
     }
     
     private void setUnqualifiedShorthandSelectItemSegment(final ParserRuleContext unqualifiedShorthandNode,
-                                                          final SelectItemsSegment selectItemsSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<? extends SelectItemSegment> unqualifiedShorthandSelectItemSegment = selectItemExtractor.extract(unqualifiedShorthandNode, parameterMarkerIndexes);
+                                                          final SelectItemsSegment selectItemsSegment, final ParseTreeIndex parseTreeIndex) {
+        Optional<? extends SelectItemSegment> unqualifiedShorthandSelectItemSegment = selectItemExtractor.extract(unqualifiedShorthandNode, parseTreeIndex);
         if (unqualifiedShorthandSelectItemSegment.isPresent()) {
             selectItemsSegment.getSelectItems().add(unqualifiedShorthandSelectItemSegment.get());
         }
     }
     
-    private void setSelectItemSegment(final ParserRuleContext selectItemsNode, final SelectItemsSegment selectItemsSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        for (ParserRuleContext each : ExtractorUtils.getAllDescendantNodes(selectItemsNode, RuleName.SELECT_ITEM)) {
-            Optional<? extends SelectItemSegment> selectItemSegment = selectItemExtractor.extract(each, parameterMarkerIndexes);
+    private void setSelectItemSegment(final ParserRuleContext selectItemsNode, final SelectItemsSegment selectItemsSegment, final ParseTreeIndex parseTreeIndex) {
+        for (ParserRuleContext each : parseTreeIndex.getAllDescendantNodes(selectItemsNode, RuleName.SELECT_ITEM)) {
+            Optional<? extends SelectItemSegment> selectItemSegment = selectItemExtractor.extract(each, parseTreeIndex);
             if (selectItemSegment.isPresent()) {
                 selectItemsSegment.getSelectItems().add(selectItemSegment.get());
             }
         }
     }
     
-    private boolean extractDistinct(final ParserRuleContext selectItemsNode) {
-        Optional<ParserRuleContext> duplicateSpecificationNode = ExtractorUtils.findFirstChildNode(selectItemsNode, RuleName.DUPLICATE_SPECIFICATION);
+    private boolean extractDistinct(final ParserRuleContext selectItemsNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> duplicateSpecificationNode = parseTreeIndex.findFirstChildNode(selectItemsNode, RuleName.DUPLICATE_SPECIFICATION);
         if (duplicateSpecificationNode.isPresent()) {
             String text = duplicateSpecificationNode.get().getText();
             return "DISTINCT".equalsIgnoreCase(text) || "DISTINCTROW".equalsIgnoreCase(text);
@@ -87,14 +87,14 @@ public final class SelectItemsExtractor implements OptionalSQLSegmentExtractor {
         return false;
     }
     
-    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode) {
-        Optional<ParserRuleContext> tableReferencesNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
+    private ParserRuleContext findMainQueryNode(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> tableReferencesNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.TABLE_REFERENCES);
         if (!tableReferencesNode.isPresent()) {
             return ancestorNode;
         }
         Optional<ParserRuleContext> subqueryNode = ExtractorUtils.findSingleNodeFromFirstDescendant(tableReferencesNode.get(), RuleName.SUBQUERY);
         if (subqueryNode.isPresent()) {
-            return findMainQueryNode(subqueryNode.get());
+            return findMainQueryNode(subqueryNode.get(), parseTreeIndex);
         }
         return ancestorNode;
     }
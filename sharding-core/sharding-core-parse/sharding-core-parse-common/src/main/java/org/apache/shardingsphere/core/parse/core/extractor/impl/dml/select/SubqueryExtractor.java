@@ -20,11 +20,10 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.complex.SubquerySegment;
 
-import java.util.Map;
-
 /**
  * Subquery extractor.
  *
@@ -33,7 +32,7 @@ import java.util.Map;
 public final class SubqueryExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<SubquerySegment> extract(final ParserRuleContext subqueryNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<SubquerySegment> extract(final ParserRuleContext subqueryNode, final ParseTreeIndex parseTreeIndex) {
         return RuleName.SUBQUERY.getName().equals(subqueryNode.getClass().getSimpleName())
                 ? Optional.of(new SubquerySegment(subqueryNode.getStart().getStartIndex(), subqueryNode.getStop().getStopIndex(), subqueryNode.getText())) : Optional.<SubquerySegment>absent();
     }
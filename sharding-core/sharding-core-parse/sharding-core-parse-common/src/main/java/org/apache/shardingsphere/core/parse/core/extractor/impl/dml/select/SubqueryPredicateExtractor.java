@@ -21,14 +21,13 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.dml.PredicateExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.OrPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Subquery predicate extractor.
@@ -40,11 +39,11 @@ public final class SubqueryPredicateExtractor implements CollectionSQLSegmentExt
     private final PredicateExtractor predicateExtractor = new PredicateExtractor();
     
     @Override
-    public Collection<SubqueryPredicateSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Collection<ParserRuleContext> subqueryNodes = ExtractorUtils.getAllDescendantNodes(ancestorNode, RuleName.SUBQUERY);
+    public Collection<SubqueryPredicateSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Collection<ParserRuleContext> subqueryNodes = parseTreeIndex.getAllDescendantNodes(ancestorNode, RuleName.SUBQUERY);
         Collection<SubqueryPredicateSegment> result = new LinkedList<>();
         for (ParserRuleContext each : subqueryNodes) {
-            Optional<OrPredicateSegment> orPredicateSegment = predicateExtractor.extract(each, parameterMarkerIndexes);
+            Optional<OrPredicateSegment> orPredicateSegment = predicateExtractor.extract(each, parseTreeIndex);
             if (orPredicateSegment.isPresent()) {
                 result.add(new SubqueryPredicateSegment(orPredicateSegment.get().getAndPredicates()));
             }
@@ -23,12 +23,11 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.column.ColumnExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ColumnSelectItemSegment;
 
-import java.util.Map;
-
 /**
  * Column select item extractor.
  *
@@ -39,12 +38,12 @@ public final class ColumnSelectItemExtractor implements OptionalSQLSegmentExtrac
     private final ColumnExtractor columnExtractor = new ColumnExtractor();
     
     @Override
-    public Optional<ColumnSelectItemSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+    public Optional<ColumnSelectItemSegment> extract(final ParserRuleContext expressionNode, final ParseTreeIndex parseTreeIndex) {
         Optional<ParserRuleContext> columnNode = ExtractorUtils.findFirstChildNodeNoneRecursive(expressionNode, RuleName.COLUMN_NAME);
         if (!columnNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ColumnSegment> columnSegment = columnExtractor.extract(columnNode.get(), parameterMarkerIndexes);
+        Optional<ColumnSegment> columnSegment = columnExtractor.extract(columnNode.get(), parseTreeIndex);
         Preconditions.checkState(columnSegment.isPresent());
         ColumnSelectItemSegment result = new ColumnSelectItemSegment(columnNode.get().getText(), columnSegment.get());
         Optional<ParserRuleContext> aliasNode = ExtractorUtils.findFirstChildNodeNoneRecursive(expressionNode, RuleName.ALIAS);
@@ -20,13 +20,11 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.dml.select.item
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ShorthandSelectItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 
-import java.util.Map;
-
 /**
  * Shorthand select item extractor.
  *
@@ -35,13 +33,13 @@ import java.util.Map;
 public final class ShorthandSelectItemExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<ShorthandSelectItemSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> unqualifiedShorthandNode = ExtractorUtils.findFirstChildNode(expressionNode, RuleName.UNQUALIFIED_SHORTHAND);
+    public Optional<ShorthandSelectItemSegment> extract(final ParserRuleContext expressionNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> unqualifiedShorthandNode = parseTreeIndex.findFirstChildNode(expressionNode, RuleName.UNQUALIFIED_SHORTHAND);
         if (unqualifiedShorthandNode.isPresent()) {
             return Optional.of(new ShorthandSelectItemSegment(
                     unqualifiedShorthandNode.get().getStart().getStartIndex(), unqualifiedShorthandNode.get().getStop().getStopIndex(), unqualifiedShorthandNode.get().getText()));
         }
-        Optional<ParserRuleContext> qualifiedShorthandNode = ExtractorUtils.findFirstChildNode(expressionNode, RuleName.QUALIFIED_SHORTHAND);
+        Optional<ParserRuleContext> qualifiedShorthandNode = parseTreeIndex.findFirstChildNode(expressionNode, RuleName.QUALIFIED_SHORTHAND);
         if (qualifiedShorthandNode.isPresent()) {
             ShorthandSelectItemSegment result = new ShorthandSelectItemSegment(
                     qualifiedShorthandNode.get().getStart().getStartIndex(), qualifiedShorthandNode.get().getStop().getStopIndex(), qualifiedShorthandNode.get().getText());
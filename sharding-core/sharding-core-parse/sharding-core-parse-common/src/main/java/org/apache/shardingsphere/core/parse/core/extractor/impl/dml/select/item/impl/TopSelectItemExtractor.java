@@ -22,7 +22,7 @@ import com.google.common.base.Preconditions;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.common.expression.ExpressionExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
@@ -32,8 +32,6 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.Pa
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.RowNumberValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.top.TopSegment;
 
-import java.util.Map;
-
 /**
  * Top select item extractor.
  *
@@ -44,17 +42,17 @@ public final class TopSelectItemExtractor implements OptionalSQLSegmentExtractor
     private final ExpressionExtractor expressionExtractor = new ExpressionExtractor();
     
     @Override
-    public Optional<TopSegment> extract(final ParserRuleContext expressionNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> topNode = ExtractorUtils.findFirstChildNode(expressionNode, RuleName.TOP);
+    public Optional<TopSegment> extract(final ParserRuleContext expressionNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> topNode = parseTreeIndex.findFirstChildNode(expressionNode, RuleName.TOP);
         if (!topNode.isPresent()) {
             return Optional.absent();
         }
-        ParserRuleContext topExprNode = ExtractorUtils.getFirstChildNode(topNode.get(), RuleName.EXPR);
-        Optional<? extends ExpressionSegment> topExpr = expressionExtractor.extract(topExprNode, parameterMarkerIndexes);
+        ParserRuleContext topExprNode = parseTreeIndex.getFirstChildNode(topNode.get(), RuleName.EXPR);
+        Optional<? extends ExpressionSegment> topExpr = expressionExtractor.extract(topExprNode, parseTreeIndex);
         Preconditions.checkState(topExpr.isPresent());
         Optional<RowNumberValueSegment> rowNumberValueSegment = createRowNumberValueSegment(topExpr.get());
         Preconditions.checkState(rowNumberValueSegment.isPresent());
-        ParserRuleContext rowNumberAliasNode = ExtractorUtils.getFirstChildNode(topNode.get().getParent(), RuleName.ALIAS);
+        ParserRuleContext rowNumberAliasNode = parseTreeIndex.getFirstChildNode(topNode.get().getParent(), RuleName.ALIAS);
         return Optional.of(
                 new TopSegment(topNode.get().getStart().getStartIndex(), topNode.get().getStop().getStopIndex(), topNode.get().getText(), rowNumberValueSegment.get(), rowNumberAliasNode.getText()));
     }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.antlr.v4.runtime.ParserRuleContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parse tree index.
+ * 
+ * <p>
+ * Nodes of parse tree are indexed by rule name with one traversal, nodes of same rule name are kept in pre-order which is same as order of SQL text.
+ * Descendants of any node are continuous in pre-order, so they can be found by binary search instead of walking the sub tree again.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ParseTreeIndex {
+    
+    private final Map<String, List<ParserRuleContext>> ruleNodes = new HashMap<>();
+    
+    private final Map<ParserRuleContext, Integer> preOrders = new IdentityHashMap<>();
+    
+    private final List<Integer> lastDescendantPreOrders = new ArrayList<>();
+    
+    private final List<Integer> depths = new ArrayList<>();
+    
+    @Getter
+    private final Map<ParserRuleContext, Integer> parameterMarkerIndexes;
+    
+    public ParseTreeIndex(final ParserRuleContext rootNode) {
+        index(rootNode, 0);
+        Collection<ParserRuleContext> parameterMarkerNodes = getRuleNodes(RuleName.PARAMETER_MARKER);
+        parameterMarkerIndexes = new HashMap<>(parameterMarkerNodes.size(), 1);
+        for (ParserRuleContext each : parameterMarkerNodes) {
+            parameterMarkerIndexes.put(each, parameterMarkerIndexes.size());
+        }
+    }
+    
+    private int index(final ParserRuleContext node, final int depth) {
+        int preOrder = depths.size();
+        preOrders.put(node, preOrder);
+        depths.add(depth);
+        lastDescendantPreOrders.add(preOrder);
+        String ruleName = node.getClass().getSimpleName();
+        if (!ruleNodes.containsKey(ruleName)) {
+            ruleNodes.put(ruleName, new ArrayList<ParserRuleContext>());
+        }
+        ruleNodes.get(ruleName).add(node);
+        int result = preOrder;
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (node.getChild(i) instanceof ParserRuleContext) {
+                result = index((ParserRuleContext) node.getChild(i), depth + 1);
+            }
+        }
+        lastDescendantPreOrders.set(preOrder, result);
+        return result;
+    }
+    
+    /**
+     * Get first child node.
+     *
+     * @param node start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public ParserRuleContext getFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        Optional<ParserRuleContext> result = findFirstChildNode(node, ruleName);
+        Preconditions.checkState(result.isPresent());
+        return result.get();
+    }
+    
+    /**
+     * Find first child node.
+     * 
+     * <p>Matched node with minimum depth is returned, and the leftmost one if there are more than one in same depth, which is same as breadth first search.</p>
+     *
+     * @param node start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public Optional<ParserRuleContext> findFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        ParserRuleContext result = null;
+        int minDepth = Integer.MAX_VALUE;
+        for (ParserRuleContext each : getAllDescendantNodes(node, ruleName)) {
+            int depth = depths.get(getPreOrder(each));
+            if (depth < minDepth) {
+                result = each;
+                minDepth = depth;
+            }
+        }
+        return Optional.fromNullable(result);
+    }
+    
+    /**
+     * Get all descendant nodes, include start node itself.
+     *
+     * @param node start node
+     * @param ruleName rule name
+     * @return all descendant nodes in order of SQL text
+     */
+    public Collection<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
+        List<ParserRuleContext> nodes = getRuleNodes(ruleName);
+        if (nodes.isEmpty()) {
+            return nodes;
+        }
+        int preOrder = getPreOrder(node);
+        return Collections.unmodifiableList(nodes.subList(findFirstNotBefore(nodes, preOrder), findFirstNotBefore(nodes, lastDescendantPreOrders.get(preOrder) + 1)));
+    }
+    
+    private List<ParserRuleContext> getRuleNodes(final RuleName ruleName) {
+        List<ParserRuleContext> result = ruleNodes.get(ruleName.getName());
+        return null == result ? Collections.<ParserRuleContext>emptyList() : result;
+    }
+    
+    private int getPreOrder(final ParserRuleContext node) {
+        Integer result = preOrders.get(node);
+        Preconditions.checkArgument(null != result, "Node `%s` is not in indexed parse tree.", node.getText());
+        return result;
+    }
+    
+    private int findFirstNotBefore(final List<ParserRuleContext> nodes, final int preOrder) {
+        int low = 0;
+        int high = nodes.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (preOrders.get(nodes.get(middle)) < preOrder) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
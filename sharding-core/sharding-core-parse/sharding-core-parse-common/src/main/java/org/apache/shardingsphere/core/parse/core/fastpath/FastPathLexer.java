@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.fastpath;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexer of fast path SQL parser.
+ *
+ * <p>
+ * Only plain words, unsigned decimal numbers, single quoted strings, parameter markers and few symbols are recognized.
+ * Quoted identifiers, comments, escapes and other operators are not supported, full parser should be used for them.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FastPathLexer {
+    
+    private static final String SYMBOLS = "(),=*";
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL
+     * @return tokens, absent if SQL contains unsupported character
+     */
+    static Optional<List<FastPathToken>> tokenize(final String sql) {
+        List<FastPathToken> result = new ArrayList<>();
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+                continue;
+            }
+            int stopIndex;
+            FastPathTokenType type;
+            if (isLetter(each)) {
+                stopIndex = findWordStop(sql, index);
+                type = FastPathTokenType.WORD;
+            } else if (isDigit(each)) {
+                stopIndex = findNumberStop(sql, index);
+                type = FastPathTokenType.NUMBER;
+            } else if ('\'' == each) {
+                stopIndex = findStringStop(sql, index);
+                type = FastPathTokenType.STRING;
+            } else if ('?' == each) {
+                stopIndex = index;
+                type = FastPathTokenType.PARAMETER_MARKER;
+            } else if (SYMBOLS.indexOf(each) >= 0) {
+                stopIndex = index;
+                type = FastPathTokenType.SYMBOL;
+            } else {
+                return Optional.absent();
+            }
+            if (stopIndex < 0) {
+                return Optional.absent();
+            }
+            result.add(new FastPathToken(type, sql.substring(index, stopIndex + 1), index, stopIndex));
+            index = stopIndex + 1;
+        }
+        return Optional.of(result);
+    }
+    
+    private static int findWordStop(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isIdentifierPart(sql.charAt(result + 1))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int findNumberStop(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isDigit(sql.charAt(result + 1))) {
+            result++;
+        }
+        if (result + 2 < sql.length() && '.' == sql.charAt(result + 1) && isDigit(sql.charAt(result + 2))) {
+            result++;
+            while (result + 1 < sql.length() && isDigit(sql.charAt(result + 1))) {
+                result++;
+            }
+        }
+        return result + 1 < sql.length() && (isIdentifierPart(sql.charAt(result + 1)) || '.' == sql.charAt(result + 1)) ? -1 : result;
+    }
+    
+    private static int findStringStop(final String sql, final int startIndex) {
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                return -1;
+            }
+            if ('\'' == each) {
+                if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private static boolean isLetter(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return isLetter(ch) || isDigit(ch) || '_' == ch;
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.fastpath;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.parse.core.filler.SQLStatementFillerEngine;
+import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.core.rule.registry.statement.SQLStatementRule;
+import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.SetAssignmentsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ColumnSelectItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ShorthandSelectItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fast path SQL parser.
+ *
+ * <p>
+ * Recognize simple single table DML without ANTLR, which are point select, insert with column names, update and delete with equal predicates only.
+ * SQL segments are built as same as extractors do, then filled by SQL statement rule of database type.
+ * SQL which does not match will be absent, full parser should be used for it.
+ * Words which are keywords, pseudo columns or niladic functions in any supported dialect are never taken as identifiers, SQL with them is left to full parser too.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class FastPathSQLParser {
+    
+    private static final Set<String> RESERVED_WORDS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
+    static {
+        RESERVED_WORDS.addAll(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE", "FROM", "WHERE", "AND", "OR", "XOR", "NOT", "IN", "IS", "NULL", "LIKE", "BETWEEN", "EXISTS",
+                "AS", "INTO", "VALUES", "VALUE", "SET", "ORDER", "GROUP", "BY", "HAVING", "LIMIT", "OFFSET", "UNION", "JOIN", "ON", "USING", "FOR", "LOCK", "DISTINCT", "DISTINCTROW",
+                "ALL", "TRUE", "FALSE", "DEFAULT", "CASE", "WHEN", "THEN", "ELSE", "END", "INTERVAL", "BINARY", "DIV", "MOD", "REGEXP", "RLIKE", "ESCAPE", "WITH", "IGNORE",
+                "LOW_PRIORITY", "HIGH_PRIORITY", "DELAYED", "QUICK", "PARTITION", "ROWNUM", "ROWID", "TOP", "DUAL", "PRIOR", "CONNECT", "START", "LEVEL",
+                "TABLE", "INDEX", "KEY", "LEFT", "RIGHT", "INNER", "OUTER", "CROSS", "NATURAL", "STRAIGHT_JOIN", "FORCE", "USE", "FETCH", "RETURNING", "OUTPUT", "OVER",
+                "INTERSECT", "EXCEPT", "MINUS", "ANY", "SOME", "COLLATE", "ONLY", "NOWAIT", "USER", "CURRENT_USER", "SESSION_USER", "SYSTEM_USER", "CURRENT_DATE", "CURRENT_TIME",
+                "CURRENT_TIMESTAMP", "LOCALTIME", "LOCALTIMESTAMP", "SYSDATE", "SYSTIMESTAMP", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP"));
+    }
+    
+    private final ParseRuleRegistry parseRuleRegistry;
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private List<FastPathToken> tokens = Collections.emptyList();
+    
+    private int position;
+    
+    private int parametersCount;
+    
+    /**
+     * Parse SQL.
+     *
+     * @return SQL statement, absent if SQL is not simple single table DML
+     */
+    public Optional<SQLStatement> parse() {
+        Optional<List<FastPathToken>> tokenized = FastPathLexer.tokenize(sql);
+        if (!tokenized.isPresent() || tokenized.get().isEmpty()) {
+            return Optional.absent();
+        }
+        tokens = tokenized.get();
+        position = 0;
+        parametersCount = 0;
+        Collection<SQLSegment> sqlSegments = new LinkedList<>();
+        String contextClassName;
+        boolean matched;
+        if (acceptKeyword("SELECT")) {
+            contextClassName = "SelectContext";
+            matched = parseSelect(sqlSegments);
+        } else if (acceptKeyword("INSERT")) {
+            contextClassName = "InsertContext";
+            matched = parseInsert(sqlSegments);
+        } else if (acceptKeyword("UPDATE")) {
+            contextClassName = "UpdateContext";
+            matched = parseUpdate(sqlSegments);
+        } else if (acceptKeyword("DELETE")) {
+            contextClassName = "DeleteContext";
+            matched = parseDelete(sqlSegments);
+        } else {
+            return Optional.absent();
+        }
+        if (!matched || position != tokens.size()) {
+            return Optional.absent();
+        }
+        SQLStatementRule rule = parseRuleRegistry.getSQLStatementRule(databaseType, contextClassName);
+        return null == rule ? Optional.<SQLStatement>absent() : Optional.of(new SQLStatementFillerEngine(parseRuleRegistry, databaseType).fill(sqlSegments, parametersCount, rule));
+    }
+    
+    private boolean parseSelect(final Collection<SQLSegment> sqlSegments) {
+        if (!hasMoreTokens()) {
+            return false;
+        }
+        FastPathToken firstSelectItem = tokens.get(position);
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        Collection<SelectItemSegment> selectItems = new LinkedList<>();
+        if (acceptSymbol('*')) {
+            selectItems.add(new ShorthandSelectItemSegment(firstSelectItem.getStartIndex(), firstSelectItem.getStopIndex(), firstSelectItem.getText()));
+        } else {
+            do {
+                Optional<FastPathToken> column = nextIdentifier();
+                if (!column.isPresent()) {
+                    return false;
+                }
+                columns.add(createColumnSegment(column.get()));
+                selectItems.add(new ColumnSelectItemSegment(column.get().getText(), createColumnSegment(column.get())));
+            } while (acceptSymbol(','));
+        }
+        SelectItemsSegment selectItemsSegment = new SelectItemsSegment(firstSelectItem.getStartIndex(), getLastStopIndex(), false);
+        selectItemsSegment.getSelectItems().addAll(selectItems);
+        if (!acceptKeyword("FROM")) {
+            return false;
+        }
+        Optional<FastPathToken> table = nextIdentifier();
+        if (!table.isPresent()) {
+            return false;
+        }
+        Optional<WhereSegment> where = Optional.absent();
+        if (hasMoreTokens()) {
+            where = parseWhere(columns);
+            if (!where.isPresent()) {
+                return false;
+            }
+        }
+        sqlSegments.add(createTableSegment(table.get()));
+        sqlSegments.addAll(columns);
+        sqlSegments.add(selectItemsSegment);
+        sqlSegments.addAll(where.asSet());
+        return true;
+    }
+    
+    private boolean parseInsert(final Collection<SQLSegment> sqlSegments) {
+        if (!acceptKeyword("INTO")) {
+            return false;
+        }
+        Optional<FastPathToken> table = nextIdentifier();
+        if (!table.isPresent() || !hasMoreTokens()) {
+            return false;
+        }
+        int insertColumnsStartIndex = tokens.get(position).getStartIndex();
+        if (!acceptSymbol('(')) {
+            return false;
+        }
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        Collection<ColumnSegment> insertColumns = new LinkedList<>();
+        do {
+            Optional<FastPathToken> column = nextIdentifier();
+            if (!column.isPresent()) {
+                return false;
+            }
+            columns.add(createColumnSegment(column.get()));
+            insertColumns.add(createColumnSegment(column.get()));
+        } while (acceptSymbol(','));
+        if (!acceptSymbol(')') || !acceptKeyword("VALUES")) {
+            return false;
+        }
+        InsertColumnsSegment insertColumnsSegment = new InsertColumnsSegment(insertColumnsStartIndex, tokens.get(position - 2).getStopIndex(), insertColumns);
+        Collection<InsertValuesSegment> insertValuesSegments = new LinkedList<>();
+        do {
+            Optional<InsertValuesSegment> insertValuesSegment = parseInsertValues();
+            if (!insertValuesSegment.isPresent()) {
+                return false;
+            }
+            insertValuesSegments.add(insertValuesSegment.get());
+        } while (acceptSymbol(','));
+        sqlSegments.add(createTableSegment(table.get()));
+        sqlSegments.addAll(columns);
+        sqlSegments.add(insertColumnsSegment);
+        sqlSegments.addAll(insertValuesSegments);
+        return true;
+    }
+    
+    private Optional<InsertValuesSegment> parseInsertValues() {
+        if (!hasMoreTokens()) {
+            return Optional.absent();
+        }
+        int startIndex = tokens.get(position).getStartIndex();
+        if (!acceptSymbol('(')) {
+            return Optional.absent();
+        }
+        Collection<ExpressionSegment> values = new LinkedList<>();
+        do {
+            Optional<ExpressionSegment> value = nextValue();
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            values.add(value.get());
+        } while (acceptSymbol(','));
+        return acceptSymbol(')') ? Optional.of(new InsertValuesSegment(startIndex, getLastStopIndex(), values)) : Optional.<InsertValuesSegment>absent();
+    }
+    
+    private boolean parseUpdate(final Collection<SQLSegment> sqlSegments) {
+        Optional<FastPathToken> table = nextIdentifier();
+        if (!table.isPresent() || !hasMoreTokens()) {
+            return false;
+        }
+        int setAssignmentsStartIndex = tokens.get(position).getStartIndex();
+        if (!acceptKeyword("SET")) {
+            return false;
+        }
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            Optional<FastPathToken> column = nextIdentifier();
+            if (!column.isPresent() || !acceptSymbol('=')) {
+                return false;
+            }
+            Optional<ExpressionSegment> value = nextValue();
+            if (!value.isPresent()) {
+                return false;
+            }
+            columns.add(createColumnSegment(column.get()));
+            assignments.add(new AssignmentSegment(column.get().getStartIndex(), getLastStopIndex(), createColumnSegment(column.get()), value.get()));
+        } while (acceptSymbol(','));
+        SetAssignmentsSegment setAssignmentsSegment = new SetAssignmentsSegment(setAssignmentsStartIndex, getLastStopIndex(), assignments);
+        Optional<WhereSegment> where = Optional.absent();
+        if (hasMoreTokens()) {
+            where = parseWhere(columns);
+            if (!where.isPresent()) {
+                return false;
+            }
+        }
+        sqlSegments.add(createTableSegment(table.get()));
+        sqlSegments.addAll(columns);
+        sqlSegments.add(setAssignmentsSegment);
+        sqlSegments.addAll(where.asSet());
+        return true;
+    }
+    
+    private boolean parseDelete(final Collection<SQLSegment> sqlSegments) {
+        if (!acceptKeyword("FROM")) {
+            return false;
+        }
+        Optional<FastPathToken> table = nextIdentifier();
+        if (!table.isPresent()) {
+            return false;
+        }
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        Optional<WhereSegment> where = Optional.absent();
+        if (hasMoreTokens()) {
+            where = parseWhere(columns);
+            if (!where.isPresent()) {
+                return false;
+            }
+        }
+        sqlSegments.add(createTableSegment(table.get()));
+        sqlSegments.addAll(columns);
+        sqlSegments.addAll(where.asSet());
+        return true;
+    }
+    
+    private Optional<WhereSegment> parseWhere(final Collection<ColumnSegment> columns) {
+        int startIndex = tokens.get(position).getStartIndex();
+        if (!acceptKeyword("WHERE")) {
+            return Optional.absent();
+        }
+        int parameterStartIndex = parametersCount;
+        AndPredicate andPredicate = new AndPredicate();
+        do {
+            Optional<FastPathToken> column = nextIdentifier();
+            if (!column.isPresent() || !acceptSymbol('=')) {
+                return Optional.absent();
+            }
+            Optional<ExpressionSegment> value = nextValue();
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            columns.add(createColumnSegment(column.get()));
+            andPredicate.getPredicates().add(
+                    new PredicateSegment(column.get().getStartIndex(), getLastStopIndex(), createColumnSegment(column.get()), new PredicateCompareRightValue("=", value.get())));
+        } while (acceptKeyword("AND"));
+        // where clause is always the last clause of simple DML, so all parameter markers have been counted here
+        WhereSegment result = new WhereSegment(startIndex, getLastStopIndex(), parametersCount);
+        result.getAndPredicates().add(andPredicate);
+        if (parametersCount > parameterStartIndex) {
+            result.setParameterStartIndex(parameterStartIndex);
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<FastPathToken> nextIdentifier() {
+        if (!hasMoreTokens()) {
+            return Optional.absent();
+        }
+        FastPathToken result = tokens.get(position);
+        if (FastPathTokenType.WORD != result.getType() || RESERVED_WORDS.contains(result.getText())) {
+            return Optional.absent();
+        }
+        position++;
+        return Optional.of(result);
+    }
+    
+    private Optional<ExpressionSegment> nextValue() {
+        if (!hasMoreTokens()) {
+            return Optional.absent();
+        }
+        FastPathToken token = tokens.get(position);
+        ExpressionSegment result;
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parametersCount++);
+                break;
+            case NUMBER:
+                result = new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), SQLUtil.getExactlyNumber(token.getText(), 10));
+                break;
+            case STRING:
+                result = new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), token.getText().substring(1, token.getText().length() - 1));
+                break;
+            default:
+                return Optional.absent();
+        }
+        position++;
+        return Optional.of(result);
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (hasMoreTokens() && FastPathTokenType.WORD == tokens.get(position).getType() && keyword.equalsIgnoreCase(tokens.get(position).getText())) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean acceptSymbol(final char symbol) {
+        if (hasMoreTokens() && FastPathTokenType.SYMBOL == tokens.get(position).getType() && symbol == tokens.get(position).getText().charAt(0)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean hasMoreTokens() {
+        return position < tokens.size();
+    }
+    
+    private int getLastStopIndex() {
+        return tokens.get(position - 1).getStopIndex();
+    }
+    
+    private TableSegment createTableSegment(final FastPathToken token) {
+        return new TableSegment(token.getStartIndex(), token.getStopIndex(), token.getText());
+    }
+    
+    private ColumnSegment createColumnSegment(final FastPathToken token) {
+        return new ColumnSegment(token.getStartIndex(), token.getStopIndex(), token.getText());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.parse.core.parser;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.rule.registry.statement.SQLStatementRule;
 
 import java.util.Map;
@@ -35,7 +36,16 @@ public final class SQLAST {
     
     private final ParserRuleContext parserRuleContext;
     
-    private final Map<ParserRuleContext, Integer> parameterMarkerIndexes;
+    private final ParseTreeIndex parseTreeIndex;
     
     private final SQLStatementRule sqlStatementRule;
+    
+    /**
+     * Get parameter marker indexes.
+     *
+     * @return parameter marker indexes
+     */
+    public Map<ParserRuleContext, Integer> getParameterMarkerIndexes() {
+        return parseTreeIndex.getParameterMarkerIndexes();
+    }
 }
@@ -17,27 +17,34 @@
 
 package org.apache.shardingsphere.core.parse.core.parser;
 
-import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
-import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.core.rule.registry.statement.SQLStatementRule;
 import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SQL parser engine.
+ * 
+ * <p>
+ * Parse with SLL prediction mode and bail out error strategy first, which is faster and enough for most SQL.
+ * Re-parse with full LL prediction mode if SLL failed or did not consume whole SQL, SQL with syntax errors will also be reported by second stage.
+ * Grammar rules should be unambiguous, otherwise SLL may choose different alternative with LL.
+ * </p>
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SQLParserEngine {
     
     private final ParseRuleRegistry parseRuleRegistry;
@@ -46,13 +53,32 @@ public final class SQLParserEngine {
     
     private final String sql;
     
+    private final boolean twoStagePrediction;
+    
+    public SQLParserEngine(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql) {
+        this(parseRuleRegistry, databaseType, sql, true);
+    }
+    
+    public SQLParserEngine(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql, final boolean twoStagePrediction) {
+        this.parseRuleRegistry = parseRuleRegistry;
+        this.databaseType = databaseType;
+        this.sql = sql;
+        this.twoStagePrediction = twoStagePrediction;
+    }
+    
     /**
      * Parse SQL to abstract syntax tree.
      *
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+        ParseTree parseTree;
+        try {
+            parseTree = execute(sqlParser).getChild(0);
+        } finally {
+            SQLParserFactory.release(sqlParser);
+        }
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -60,16 +86,27 @@ public final class SQLParserEngine {
         if (null == rule) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
-        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), rule);
+        return new SQLAST((ParserRuleContext) parseTree, new ParseTreeIndex((ParserRuleContext) parseTree), rule);
     }
     
-    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
-        Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
-        Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
-        int index = 0;
-        for (ParserRuleContext each : placeholderNodes) {
-            result.put(each, index++);
+    private ParserRuleContext execute(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        parser.removeErrorListeners();
+        if (twoStagePrediction) {
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            try {
+                ParserRuleContext result = sqlParser.execute();
+                if (Token.EOF == parser.getCurrentToken().getType()) {
+                    return result;
+                }
+            } catch (final ParseCancellationException ignored) {
+            }
+            parser.reset();
         }
-        return result;
+        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return sqlParser.execute();
     }
 }
@@ -24,6 +24,7 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
@@ -33,11 +34,18 @@ import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * SQL parser factory.
  * 
+ * <p>
+ * SQL parser entries are resolved once, lexer, parser and token stream are reused by same thread for each database type.
+ * Reused parser should be released after parsing, so that pooled threads only retain empty lexer, parser and token stream, but not tokens of last SQL.
+ * </p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
@@ -46,11 +54,25 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final ThreadLocal<Map<DatabaseType, SQLParser>> PARSERS = new ThreadLocal<Map<DatabaseType, SQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, SQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
+            if (!PARSER_ENTRIES.containsKey(databaseType)) {
+                PARSER_ENTRIES.put(databaseType, each);
+            }
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
             }
         }
     }
@@ -67,17 +89,37 @@ public final class SQLParserFactory {
     /** 
      * New instance of SQL parser.
      * 
+     * <p>SQL parser is reused by current thread, parse tree of previous SQL is still available, but the parser must not be shared to other threads.</p>
+     * 
      * @param databaseType database type
      * @param sql SQL
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        SQLParserEntry parserEntry = PARSER_ENTRIES.get(databaseType);
+        if (null == parserEntry) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        Map<DatabaseType, SQLParser> parsers = PARSERS.get();
+        SQLParser result = parsers.get(databaseType);
+        if (null == result) {
+            result = createSQLParser(sql, parserEntry);
+            parsers.put(databaseType, result);
+            return result;
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        resetSQLParser(sql, (Parser) result);
+        return result;
+    }
+    
+    /**
+     * Release SQL parser reused by current thread.
+     * 
+     * <p>Input and tokens of parsed SQL are dropped from parser, parse tree of parsed SQL is still available.</p>
+     * 
+     * @param sqlParser SQL parser
+     */
+    public static void release(final SQLParser sqlParser) {
+        resetSQLParser("", (Parser) sqlParser);
     }
     
     @SneakyThrows
@@ -85,4 +127,12 @@ public final class SQLParserFactory {
         Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
         return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
     }
+    
+    private static void resetSQLParser(final String sql, final Parser parser) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getInputStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setInputStream(tokenStream);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Normalized SQL.
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class NormalizedSQL {
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    private final List<String> literals;
+    
+    public NormalizedSQL(final String sql, final List<Object> parameters, final List<String> literals) {
+        Preconditions.checkArgument(parameters.size() == literals.size(), "Parameters and literals of normalized SQL `%s` are not matched.", sql);
+        this.sql = sql;
+        this.parameters = parameters;
+        this.literals = literals;
+    }
+    
+    /**
+     * Restore literals into SQL which contains parameter markers.
+     *
+     * <p>
+     * Lifted parameters are restored with original literals, parameters created after normalization are rendered as new literals.
+     * Parameters of SQL keep the order of lifted parameters, so each parameter is matched to its lifted index by searching after the previous matched index.
+     * </p>
+     *
+     * @param sql SQL which contains parameter markers
+     * @param parameters parameters of SQL
+     * @return SQL with literals
+     */
+    public String restore(final String sql, final List<Object> parameters) {
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 8);
+        Iterator<Object> parameterIterator = parameters.iterator();
+        int parameterIndex = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\'' == each || '"' == each || '`' == each) {
+                int stopIndex = '\'' == each ? SQLNormalizer.findStringLiteralStop(sql, index) : sql.indexOf(each, index + 1);
+                Preconditions.checkState(stopIndex > 0, "Can not restore literals for SQL `%s`.", sql);
+                result.append(sql, index, stopIndex + 1);
+                index = stopIndex + 1;
+                continue;
+            }
+            if ('?' == each) {
+                Preconditions.checkState(parameterIterator.hasNext(), "Parameters are not enough to restore literals for SQL `%s`.", sql);
+                Object parameter = parameterIterator.next();
+                int liftedIndex = findLiftedIndex(parameter, parameterIndex);
+                if (liftedIndex < 0) {
+                    result.append(toLiteral(parameter));
+                } else {
+                    result.append(literals.get(liftedIndex));
+                    parameterIndex = liftedIndex + 1;
+                }
+            } else {
+                result.append(each);
+            }
+            index++;
+        }
+        return result.toString();
+    }
+    
+    private int findLiftedIndex(final Object parameter, final int startIndex) {
+        if (null == parameter) {
+            return -1;
+        }
+        for (int i = startIndex; i < parameters.size(); i++) {
+            if (parameter == parameters.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private String toLiteral(final Object parameter) {
+        if (null == parameter) {
+            return "NULL";
+        }
+        if (parameter instanceof Number || parameter instanceof Boolean) {
+            return parameter.toString();
+        }
+        return "'" + parameter.toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL normalizer.
+ *
+ * <p>
+ * Lift literals of DML statement into parameter markers, then statements which only differ in literal values can share one parse result.
+ * Only literals in value positions are lifted: compare predicates, IN lists, BETWEEN ranges, INSERT values and pagination.
+ * Lifted string literals are unescaped into parameters.
+ * SQL which contains comments, parameter markers or backslash escapes in lifted string literals will not be normalized.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> VALUE_PREFIXES = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "LIKE", "BETWEEN", "LIMIT", "OFFSET"));
+    
+    /**
+     * Normalize SQL.
+     *
+     * @param sql SQL
+     * @return normalized SQL, absent if SQL is not DML statement or there is no literal can be lifted
+     */
+    public static Optional<NormalizedSQL> normalize(final String sql) {
+        if (!DML_KEYWORDS.contains(getFirstWord(sql))) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        LinkedList<Boolean> valueListParens = new LinkedList<>();
+        String previousToken = "";
+        boolean valuesClause = false;
+        boolean betweenClause = false;
+        boolean limitClause = false;
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                result.append(each);
+                index++;
+                continue;
+            }
+            if ('?' == each || isCommentStart(sql, index)) {
+                return Optional.absent();
+            }
+            boolean valuePosition = VALUE_PREFIXES.contains(previousToken) || limitClause && ",".equals(previousToken)
+                    || ("(".equals(previousToken) || ",".equals(previousToken)) && !valueListParens.isEmpty() && valueListParens.peek();
+            int stopIndex;
+            if ('\'' == each) {
+                stopIndex = findStringLiteralStop(sql, index);
+                if (stopIndex < 0 || isFollowedByStringLiteral(sql, stopIndex)) {
+                    return Optional.absent();
+                }
+                String literal = sql.substring(index, stopIndex + 1);
+                if (valuePosition && (0 == index || !isIdentifierPart(sql.charAt(index - 1)))) {
+                    if (literal.indexOf('\\') >= 0) {
+                        return Optional.absent();
+                    }
+                    liftLiteral(result, parameters, literals, literal.substring(1, literal.length() - 1).replace("''", "'"), literal);
+                } else {
+                    result.append(literal);
+                }
+            } else if ('"' == each || '`' == each || '[' == each) {
+                stopIndex = sql.indexOf('[' == each ? ']' : each, index + 1);
+                if (stopIndex < 0) {
+                    return Optional.absent();
+                }
+                result.append(sql, index, stopIndex + 1);
+            } else if (Character.isDigit(each) && (0 == index || !isIdentifierPart(sql.charAt(index - 1)))) {
+                stopIndex = findNumberLiteralStop(sql, index);
+                String literal = sql.substring(index, stopIndex + 1);
+                if (valuePosition && (stopIndex + 1 == sql.length() || !isIdentifierPart(sql.charAt(stopIndex + 1)))) {
+                    liftLiteral(result, parameters, literals, SQLUtil.getExactlyNumber(literal, 10), literal);
+                } else {
+                    result.append(literal);
+                }
+            } else if (isIdentifierPart(each)) {
+                stopIndex = findWordStop(sql, index);
+                String word = sql.substring(index, stopIndex + 1).toUpperCase();
+                result.append(sql, index, stopIndex + 1);
+                limitClause = "LIMIT".equals(word);
+                if ("VALUES".equals(word) || "VALUE".equals(word)) {
+                    valuesClause = true;
+                } else if (valueListParens.isEmpty()) {
+                    valuesClause = false;
+                } else if ("SELECT".equals(word)) {
+                    valueListParens.pop();
+                    valueListParens.push(false);
+                }
+                if ("BETWEEN".equals(word)) {
+                    betweenClause = true;
+                } else if ("AND".equals(word) && betweenClause) {
+                    betweenClause = false;
+                    word = "BETWEEN";
+                }
+                previousToken = word;
+                index = stopIndex + 1;
+                continue;
+            } else {
+                stopIndex = index;
+                while (isOperator(each) && stopIndex + 1 < sql.length() && isOperator(sql.charAt(stopIndex + 1))) {
+                    stopIndex++;
+                }
+                if ('(' == each) {
+                    valueListParens.push("IN".equals(previousToken) || valuesClause && valueListParens.isEmpty());
+                } else if (')' == each) {
+                    if (valueListParens.isEmpty()) {
+                        return Optional.absent();
+                    }
+                    valueListParens.pop();
+                }
+                result.append(sql, index, stopIndex + 1);
+            }
+            previousToken = sql.substring(index, stopIndex + 1);
+            index = stopIndex + 1;
+        }
+        return parameters.isEmpty() ? Optional.<NormalizedSQL>absent() : Optional.of(new NormalizedSQL(result.toString(), parameters, literals));
+    }
+    
+    private static void liftLiteral(final StringBuilder sql, final List<Object> parameters, final List<String> literals, final Object parameter, final String literal) {
+        sql.append('?');
+        parameters.add(parameter);
+        literals.add(literal);
+    }
+    
+    private static String getFirstWord(final String sql) {
+        int startIndex = 0;
+        while (startIndex < sql.length() && Character.isWhitespace(sql.charAt(startIndex))) {
+            startIndex++;
+        }
+        return startIndex < sql.length() && isIdentifierPart(sql.charAt(startIndex)) ? sql.substring(startIndex, findWordStop(sql, startIndex) + 1).toUpperCase() : "";
+    }
+    
+    private static boolean isCommentStart(final String sql, final int index) {
+        char current = sql.charAt(index);
+        if ('#' == current) {
+            return true;
+        }
+        if (index + 1 == sql.length()) {
+            return false;
+        }
+        char next = sql.charAt(index + 1);
+        return '-' == current && '-' == next || '/' == current && '*' == next;
+    }
+    
+    private static boolean isFollowedByStringLiteral(final String sql, final int stopIndex) {
+        int index = stopIndex + 1;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return index < sql.length() && '\'' == sql.charAt(index);
+    }
+    
+    static int findStringLiteralStop(final String sql, final int startIndex) {
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                result += 2;
+                continue;
+            }
+            if ('\'' == each) {
+                if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private static int findNumberLiteralStop(final String sql, final int startIndex) {
+        int result = startIndex;
+        boolean containsDot = false;
+        while (result + 1 < sql.length()) {
+            char next = sql.charAt(result + 1);
+            if (Character.isDigit(next)) {
+                result++;
+            } else if ('.' == next && !containsDot && result + 2 < sql.length() && Character.isDigit(sql.charAt(result + 2))) {
+                containsDot = true;
+                result++;
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private static int findWordStop(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isIdentifierPart(sql.charAt(result + 1))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static boolean isOperator(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+}
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -53,4 +55,64 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertPutWhenCacheIsFull() {
+        SQLParseResultCache actual = new SQLParseResultCache(1);
+        actual.getSQLStatement("SELECT 1");
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 2");
+        actual.put("SELECT 2", new SelectStatement());
+        assertTrue(actual.getSQLStatement("SELECT 1").isPresent());
+        assertFalse(actual.getSQLStatement("SELECT 2").isPresent());
+        assertThat(actual.getRejectionCount(), is(1L));
+        actual.put("SELECT 2", new SelectStatement());
+        assertThat(actual.getRejectionCount(), is(2L));
+        actual.getSQLStatement("SELECT 2");
+        actual.put("SELECT 2", new SelectStatement());
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertThat(actual.getEvictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertPutWithAdmissionWindow() {
+        SQLParseResultCache actual = new SQLParseResultCache(100);
+        for (int i = 0; i < 15; i++) {
+            actual.getSQLStatement("SELECT 0");
+        }
+        for (int i = 0; i < 100; i++) {
+            actual.put("SELECT " + i, new SelectStatement());
+        }
+        assertTrue(actual.getSQLStatement("SELECT 99").isPresent());
+        actual.put("SELECT 100", new SelectStatement());
+        assertTrue(actual.getSQLStatement("SELECT 100").isPresent());
+        assertFalse(actual.getSQLStatement("SELECT 99").isPresent());
+        assertThat(actual.getRejectionCount(), is(1L));
+        assertThat(actual.getEvictionCount(), is(0L));
+    }
+    
+    @Test
+    public void assertStatistics() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.getSQLStatement("SELECT 1");
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 1");
+        actual.getSQLStatement("SELECT 1");
+        assertThat(actual.getHitCount(), is(2L));
+        assertThat(actual.getMissCount(), is(1L));
+        assertThat(actual.getEvictionCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetHotSQLs() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        actual.put("SELECT 3", new SelectStatement());
+        actual.getSQLStatement("SELECT 2");
+        actual.getSQLStatement("SELECT 2");
+        actual.getSQLStatement("SELECT 3");
+        assertThat(actual.getHotSQLs(2), is(Arrays.asList("SELECT 2", "SELECT 3")));
+    }
 }
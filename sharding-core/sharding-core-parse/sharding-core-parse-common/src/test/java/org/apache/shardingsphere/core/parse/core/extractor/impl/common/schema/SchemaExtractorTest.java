@@ -19,11 +19,9 @@ package org.apache.shardingsphere.core.parse.core.extractor.impl.common.schema;
 
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.junit.Test;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -36,9 +34,9 @@ public class SchemaExtractorTest {
     @Test
     public void testCreatesSchemaExtractorAndCallsExtract() {
         ParserRuleContext parserRuleContext = new ParserRuleContext();
-        Map<ParserRuleContext, Integer> hashMap = new HashMap<>();
+        ParseTreeIndex parseTreeIndex = new ParseTreeIndex(parserRuleContext);
 
-        assertEquals(Optional.absent(), new SchemaExtractor().extract(parserRuleContext, hashMap));
+        assertEquals(Optional.absent(), new SchemaExtractor().extract(parserRuleContext, parseTreeIndex));
     }
 
 }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ParseTreeIndexTest {
+    
+    private final ExprContext rootNode = new ExprContext();
+    
+    private final ExprContext leftExprNode = new ExprContext();
+    
+    private final ExprContext rightExprNode = new ExprContext();
+    
+    private final ColumnNameContext leftColumnNode = new ColumnNameContext();
+    
+    private final ColumnNameContext rootColumnNode = new ColumnNameContext();
+    
+    private final ParameterMarkerContext leftParameterMarkerNode = new ParameterMarkerContext();
+    
+    private final ParameterMarkerContext rightParameterMarkerNode = new ParameterMarkerContext();
+    
+    private ParseTreeIndex parseTreeIndex;
+    
+    @Before
+    public void setUp() {
+        leftExprNode.addAnyChild(leftColumnNode);
+        leftExprNode.addAnyChild(leftParameterMarkerNode);
+        rightExprNode.addAnyChild(rightParameterMarkerNode);
+        rootNode.addAnyChild(leftExprNode);
+        rootNode.addAnyChild(rootColumnNode);
+        rootNode.addAnyChild(rightExprNode);
+        parseTreeIndex = new ParseTreeIndex(rootNode);
+    }
+    
+    @Test
+    public void assertFindFirstChildNodeWithMinimumDepth() {
+        assertThat(parseTreeIndex.findFirstChildNode(rootNode, RuleName.COLUMN_NAME).get(), is((ParserRuleContext) rootColumnNode));
+        assertThat(parseTreeIndex.findFirstChildNode(leftExprNode, RuleName.COLUMN_NAME).get(), is((ParserRuleContext) leftColumnNode));
+        assertThat(parseTreeIndex.findFirstChildNode(rootNode, RuleName.EXPR).get(), is((ParserRuleContext) rootNode));
+    }
+    
+    @Test
+    public void assertFindFirstChildNodeWithoutMatchedNode() {
+        assertFalse(parseTreeIndex.findFirstChildNode(rightExprNode, RuleName.COLUMN_NAME).isPresent());
+        assertFalse(parseTreeIndex.findFirstChildNode(rootNode, RuleName.WHERE_CLAUSE).isPresent());
+    }
+    
+    @Test
+    public void assertGetAllDescendantNodes() {
+        assertThat(new LinkedList<>(parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.COLUMN_NAME)), is(Arrays.<ParserRuleContext>asList(leftColumnNode, rootColumnNode)));
+        assertThat(new LinkedList<>(parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.EXPR)), is(Arrays.<ParserRuleContext>asList(rootNode, leftExprNode, rightExprNode)));
+        assertThat(new LinkedList<>(parseTreeIndex.getAllDescendantNodes(rightExprNode, RuleName.PARAMETER_MARKER)), is(Collections.<ParserRuleContext>singletonList(rightParameterMarkerNode)));
+        assertThat(parseTreeIndex.getAllDescendantNodes(rightExprNode, RuleName.COLUMN_NAME).size(), is(0));
+    }
+    
+    @Test
+    public void assertGetParameterMarkerIndexes() {
+        assertThat(parseTreeIndex.getParameterMarkerIndexes().size(), is(2));
+        assertThat(parseTreeIndex.getParameterMarkerIndexes().get(leftParameterMarkerNode), is(0));
+        assertThat(parseTreeIndex.getParameterMarkerIndexes().get(rightParameterMarkerNode), is(1));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetAllDescendantNodesWithNodeNotInTree() {
+        parseTreeIndex.getAllDescendantNodes(new ExprContext(), RuleName.COLUMN_NAME);
+    }
+    
+    private static final class ExprContext extends ParserRuleContext {
+    }
+    
+    private static final class ColumnNameContext extends ParserRuleContext {
+    }
+    
+    private static final class ParameterMarkerContext extends ParserRuleContext {
+    }
+}
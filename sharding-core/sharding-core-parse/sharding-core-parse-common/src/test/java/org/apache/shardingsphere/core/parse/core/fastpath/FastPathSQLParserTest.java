@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.fastpath;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class FastPathSQLParserTest {
+    
+    @Test
+    public void assertParseSelectWithParameterMarker() {
+        SQLStatement actual = parse("SELECT user_id, status FROM t_order WHERE order_id = ?");
+        assertThat(actual, instanceOf(SelectStatement.class));
+        assertThat(actual.getParametersCount(), is(1));
+        SelectStatement selectStatement = (SelectStatement) actual;
+        assertThat(selectStatement.getTables().size(), is(1));
+        TableSegment table = selectStatement.getTables().iterator().next();
+        assertThat(table.getTableName(), is("t_order"));
+        assertThat(table.getStartIndex(), is(28));
+        assertThat(table.getStopIndex(), is(34));
+        assertThat(selectStatement.getSelectItems().getStartIndex(), is(7));
+        assertThat(selectStatement.getSelectItems().getStopIndex(), is(21));
+        assertThat(selectStatement.getSelectItems().getSelectItems().size(), is(2));
+        WhereSegment where = selectStatement.getWhere().get();
+        assertThat(where.getStartIndex(), is(36));
+        assertThat(where.getStopIndex(), is(53));
+        assertThat(where.getParametersCount(), is(1));
+        assertThat(where.getAndPredicates().size(), is(1));
+        PredicateSegment predicate = where.getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(predicate.getColumn().getName(), is("order_id"));
+        assertThat(predicate.getStartIndex(), is(42));
+        assertThat(predicate.getStopIndex(), is(53));
+        PredicateCompareRightValue rightValue = (PredicateCompareRightValue) predicate.getRightValue();
+        assertThat(rightValue.getOperator(), is("="));
+        assertThat(((ParameterMarkerExpressionSegment) rightValue.getExpression()).getParameterMarkerIndex(), is(0));
+    }
+    
+    @Test
+    public void assertParseDeleteWithLiterals() {
+        SQLStatement actual = parse("DELETE FROM t_order WHERE order_id = 1 AND status = 'it''s'");
+        assertThat(actual, instanceOf(DeleteStatement.class));
+        assertThat(actual.getParametersCount(), is(0));
+        DeleteStatement deleteStatement = (DeleteStatement) actual;
+        assertThat(deleteStatement.getTables().iterator().next().getTableName(), is("t_order"));
+        Iterator<PredicateSegment> predicates = deleteStatement.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator();
+        PredicateSegment orderIdPredicate = predicates.next();
+        assertThat(orderIdPredicate.getColumn().getName(), is("order_id"));
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) orderIdPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) 1));
+        PredicateSegment statusPredicate = predicates.next();
+        assertThat(statusPredicate.getColumn().getName(), is("status"));
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) statusPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) "it''s"));
+        assertFalse(predicates.hasNext());
+    }
+    
+    @Test
+    public void assertParseWithoutSQLStatementRule() {
+        assertFalse(newParser("INSERT INTO t_order (order_id, status) VALUES (?, ?)").parse().isPresent());
+    }
+    
+    @Test
+    public void assertParseUnsupportedSQL() {
+        assertFalse(newParser("SELECT * FROM t_order WHERE order_id > ?").parse().isPresent());
+        assertFalse(newParser("SELECT * FROM t_order o WHERE o.order_id = ?").parse().isPresent());
+        assertFalse(newParser("SELECT * FROM t_order WHERE order_id = ? OR user_id = ?").parse().isPresent());
+        assertFalse(newParser("SELECT * FROM t_order WHERE order_id = ? FOR UPDATE").parse().isPresent());
+        assertFalse(newParser("SELECT * FROM t_order WHERE status = 'a\\'b'").parse().isPresent());
+        assertFalse(newParser("SELECT * FROM `t_order` WHERE order_id = 1").parse().isPresent());
+        assertFalse(newParser("DELETE FROM t_order WHERE order_id = ? -- comment").parse().isPresent());
+        assertFalse(newParser("SELECT 1").parse().isPresent());
+        assertFalse(newParser("SELECT CURRENT_TIMESTAMP FROM t_order").parse().isPresent());
+        assertFalse(newParser("SELECT * FROM t_order WHERE order_id = ? RETURNING order_id").parse().isPresent());
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return newParser(sql).parse().get();
+    }
+    
+    private FastPathSQLParser newParser(final String sql) {
+        return new FastPathSQLParser(ParseRuleRegistry.getInstance(), DatabaseTypes.getTrunkDatabaseType("MySQL"), sql);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLNormalizerTest {
+    
+    @Test
+    public void assertNormalizeSelectWithComparePredicate() {
+        Optional<NormalizedSQL> actual = SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 10 AND status <> 'init'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status <> ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init")));
+    }
+    
+    @Test
+    public void assertNormalizeSelectWithInAndBetween() {
+        Optional<NormalizedSQL> actual = SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id IN (1, 2, 3) AND user_id BETWEEN 10 AND 20");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?, ?) AND user_id BETWEEN ? AND ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 10, 20)));
+    }
+    
+    @Test
+    public void assertNormalizeSelectWithOrderByIndexAndLimit() {
+        Optional<NormalizedSQL> actual = SQLNormalizer.normalize("SELECT order_id, 1 FROM t_order WHERE user_id = 1 ORDER BY 1 LIMIT 10, 20");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT order_id, 1 FROM t_order WHERE user_id = ? ORDER BY 1 LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 10, 20)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertWithMultipleValues() {
+        Optional<NormalizedSQL> actual = SQLNormalizer.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'it''s'), (2, now())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "it's", 2)));
+    }
+    
+    @Test
+    public void assertNormalizeWithQuotedIdentifierAndPrefixedLiteral() {
+        Optional<NormalizedSQL> actual = SQLNormalizer.normalize("UPDATE `t_order_1` SET status = N'done' WHERE `order_id` = 1.5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE `t_order_1` SET status = N'done' WHERE `order_id` = ?"));
+        assertThat(actual.get().getParameters().size(), is(1));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutLiteral() {
+        assertFalse(SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = user_id").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithParameterMarker() {
+        assertFalse(SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithComment() {
+        assertFalse(SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1 /* comment */").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithBackslashEscapedStringLiteral() {
+        assertFalse(SQLNormalizer.normalize("SELECT * FROM t_order WHERE status = 'it\\'s'").isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeNotDMLStatement() {
+        assertFalse(SQLNormalizer.normalize("SET autocommit = 1").isPresent());
+    }
+    
+    @Test
+    public void assertRestore() {
+        NormalizedSQL normalizedSQL = SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 01 AND status = 'a?b'").get();
+        assertThat(normalizedSQL.restore("SELECT * FROM t_order_0 WHERE order_id = ? AND status = ? AND flag = '?'", normalizedSQL.getParameters()),
+                is("SELECT * FROM t_order_0 WHERE order_id = 01 AND status = 'a?b' AND flag = '?'"));
+    }
+    
+    @Test
+    public void assertRestoreWithSameBoxedParameters() {
+        NormalizedSQL normalizedSQL = SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 01 AND user_id = 1 AND status = 'it''s'").get();
+        assertThat(normalizedSQL.restore("SELECT * FROM t_order_0 WHERE order_id = ? AND user_id = ? AND status = ?", normalizedSQL.getParameters()),
+                is("SELECT * FROM t_order_0 WHERE order_id = 01 AND user_id = 1 AND status = 'it''s'"));
+    }
+    
+    @Test
+    public void assertRestoreWithNewParameters() {
+        NormalizedSQL normalizedSQL = SQLNormalizer.normalize("INSERT INTO t_order (status) VALUES ('init')").get();
+        assertThat(normalizedSQL.restore("INSERT INTO t_order_0 (status, order_id, cipher) VALUES (?, ?, ?)", Arrays.<Object>asList(normalizedSQL.getParameters().get(0), 100L, "o'k")),
+                is("INSERT INTO t_order_0 (status, order_id, cipher) VALUES ('init', 100, 'o''k')"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRestoreWithoutEnoughParameters() {
+        NormalizedSQL normalizedSQL = SQLNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1").get();
+        normalizedSQL.restore("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.emptyList());
+    }
+}
@@ -20,11 +20,10 @@ package org.apache.shardingsphere.core.parse.core.extractor.ddl;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.ddl.column.AddColumnDefinitionExtractor;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.AddColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnPositionSegment;
 
-import java.util.Map;
-
 /**
  * Add column definition extractor for MySQL.
  * 
@@ -34,9 +33,9 @@ public final class MySQLAddColumnDefinitionExtractor extends AddColumnDefinition
     
     @Override
     protected void postExtractColumnDefinition(final ParserRuleContext addColumnNode, 
-                                               final AddColumnDefinitionSegment addColumnDefinitionSegment, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
+                                               final AddColumnDefinitionSegment addColumnDefinitionSegment, final ParseTreeIndex parseTreeIndex) {
         Optional<ColumnPositionSegment> columnPositionSegment = new MySQLColumnPositionExtractor(
-                addColumnDefinitionSegment.getColumnDefinition().getColumnName()).extract(addColumnNode, parameterMarkerIndexes);
+                addColumnDefinitionSegment.getColumnDefinition().getColumnName()).extract(addColumnNode, parseTreeIndex);
         if (columnPositionSegment.isPresent()) {
             addColumnDefinitionSegment.setColumnPosition(columnPositionSegment.get());
         }
@@ -21,14 +21,12 @@ import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.impl.ddl.column.ColumnDefinitionExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.ColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.alter.ModifyColumnDefinitionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.ddl.column.position.ColumnPositionSegment;
 
-import java.util.Map;
-
 /**
  * Change column definition extractor for MySQL.
  * 
@@ -39,25 +37,25 @@ public final class MySQLChangeColumnDefinitionExtractor implements OptionalSQLSe
     private final ColumnDefinitionExtractor columnDefinitionExtractor = new ColumnDefinitionExtractor();
     
     @Override
-    public Optional<ModifyColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> changeColumnNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.CHANGE_COLUMN_SPECIFICATION);
+    public Optional<ModifyColumnDefinitionSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> changeColumnNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.CHANGE_COLUMN_SPECIFICATION);
         if (!changeColumnNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> oldColumnNameNode = ExtractorUtils.findFirstChildNode(changeColumnNode.get(), RuleName.COLUMN_NAME);
+        Optional<ParserRuleContext> oldColumnNameNode = parseTreeIndex.findFirstChildNode(changeColumnNode.get(), RuleName.COLUMN_NAME);
         if (!oldColumnNameNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ParserRuleContext> columnDefinitionNode = ExtractorUtils.findFirstChildNode(changeColumnNode.get(), RuleName.COLUMN_DEFINITION);
+        Optional<ParserRuleContext> columnDefinitionNode = parseTreeIndex.findFirstChildNode(changeColumnNode.get(), RuleName.COLUMN_DEFINITION);
         if (!columnDefinitionNode.isPresent()) {
             return Optional.absent();
         }
-        Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(columnDefinitionNode.get(), parameterMarkerIndexes);
+        Optional<ColumnDefinitionSegment> columnDefinitionSegment = columnDefinitionExtractor.extract(columnDefinitionNode.get(), parseTreeIndex);
         if (columnDefinitionSegment.isPresent()) {
             ModifyColumnDefinitionSegment result = new ModifyColumnDefinitionSegment(
                     columnDefinitionNode.get().getStart().getStartIndex(), columnDefinitionNode.get().getStop().getStopIndex(), columnDefinitionSegment.get());
             Optional<ColumnPositionSegment> columnPositionSegment = new MySQLColumnPositionExtractor(
-                    columnDefinitionSegment.get().getColumnName()).extract(changeColumnNode.get(), parameterMarkerIndexes);
+                    columnDefinitionSegment.get().getColumnName()).extract(changeColumnNode.get(), parseTreeIndex);
             if (columnPositionSegment.isPresent()) {
                 result.setColumnPosition(columnPositionSegment.get());
             }
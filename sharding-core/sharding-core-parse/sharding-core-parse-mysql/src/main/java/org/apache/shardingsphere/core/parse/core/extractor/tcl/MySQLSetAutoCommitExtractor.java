@@ -20,13 +20,11 @@ package org.apache.shardingsphere.core.parse.core.extractor.tcl;
 import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.sql.segment.tcl.AutoCommitSegment;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 
-import java.util.Map;
-
 /**
  * Set auto commit extractor for MySQL.
  *
@@ -36,8 +34,8 @@ import java.util.Map;
 public final class MySQLSetAutoCommitExtractor implements OptionalSQLSegmentExtractor {
     
     @Override
-    public Optional<AutoCommitSegment> extract(final ParserRuleContext ancestorNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes) {
-        Optional<ParserRuleContext> autoCommitValueNode = ExtractorUtils.findFirstChildNode(ancestorNode, RuleName.AUTO_COMMIT_VALUE);
+    public Optional<AutoCommitSegment> extract(final ParserRuleContext ancestorNode, final ParseTreeIndex parseTreeIndex) {
+        Optional<ParserRuleContext> autoCommitValueNode = parseTreeIndex.findFirstChildNode(ancestorNode, RuleName.AUTO_COMMIT_VALUE);
         return autoCommitValueNode.isPresent()
                 ? Optional.of(new AutoCommitSegment(autoCommitValueNode.get().getStart().getStartIndex(), autoCommitValueNode.get().getStop().getStopIndex(), isAutoCommit(autoCommitValueNode.get())))
                 : Optional.<AutoCommitSegment>absent();
@@ -121,7 +121,7 @@ tableReferences
     ;
 
 tableReference
-    : (tableFactor joinedTable)+ | tableFactor joinedTable*
+    : tableFactor joinedTable*
     ;
 
 tableFactor
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.integrate.engine.sharding;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.core.extractor.SQLSegmentsExtractorEngine;
+import org.apache.shardingsphere.core.parse.core.fastpath.FastPathSQLParser;
+import org.apache.shardingsphere.core.parse.core.filler.SQLStatementFillerEngine;
+import org.apache.shardingsphere.core.parse.core.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.core.parser.SQLParserEngine;
+import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.SetAssignmentsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+@RequiredArgsConstructor
+public final class FastPathParsingEquivalenceTest {
+    
+    private static SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static ParserResultSetRegistry parserResultSetRegistry = ShardingParserResultSetRegistry.getInstance().getRegistry();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    @Parameters(name = "{0} ({2}) -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        return sqlCasesLoader.getSQLTestParameters();
+    }
+    
+    @Test
+    public void assertSameAsFullParser() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType);
+        Optional<SQLStatement> fastPathResult = new FastPathSQLParser(ParseRuleRegistry.getInstance(), trunkDatabaseType, sql).parse();
+        if (!fastPathResult.isPresent()) {
+            return;
+        }
+        SQLStatement expected = parseWithFullParser(trunkDatabaseType, sql);
+        assertThat(sql, describe(fastPathResult.get()), is(describe(expected)));
+    }
+    
+    private SQLStatement parseWithFullParser(final DatabaseType trunkDatabaseType, final String sql) {
+        SQLAST ast = new SQLParserEngine(ParseRuleRegistry.getInstance(), trunkDatabaseType, sql).parse();
+        return new SQLStatementFillerEngine(ParseRuleRegistry.getInstance(), trunkDatabaseType).fill(
+                new SQLSegmentsExtractorEngine().extract(ast), ast.getParameterMarkerIndexes().size(), ast.getSqlStatementRule());
+    }
+    
+    private List<String> describe(final SQLStatement sqlStatement) {
+        List<String> result = new LinkedList<>();
+        result.add(sqlStatement.getClass().getSimpleName() + " parameters: " + sqlStatement.getParametersCount());
+        for (TableSegment each : sqlStatement.findSQLSegments(TableSegment.class)) {
+            result.add(String.format("table %s [%d, %d]", each.getTableName(), each.getStartIndex(), each.getStopIndex()));
+        }
+        for (ColumnSegment each : sqlStatement.findSQLSegments(ColumnSegment.class)) {
+            result.add(describe(each));
+        }
+        for (InsertValuesSegment each : sqlStatement.findSQLSegments(InsertValuesSegment.class)) {
+            result.add(String.format("values [%d, %d]", each.getStartIndex(), each.getStopIndex()));
+            for (ExpressionSegment value : each.getValues()) {
+                result.add(describe(value));
+            }
+        }
+        for (SetAssignmentsSegment each : sqlStatement.findSQLSegments(SetAssignmentsSegment.class)) {
+            result.add(String.format("set assignments [%d, %d]", each.getStartIndex(), each.getStopIndex()));
+            for (AssignmentSegment assignment : each.getAssignments()) {
+                result.add(String.format("assignment [%d, %d] %s = %s", assignment.getStartIndex(), assignment.getStopIndex(), describe(assignment.getColumn()), describe(assignment.getValue())));
+            }
+        }
+        for (WhereSegment each : sqlStatement.findSQLSegments(WhereSegment.class)) {
+            result.add(String.format("where [%d, %d] parameters: %d, parameter start index: %d", each.getStartIndex(), each.getStopIndex(), each.getParametersCount(), each.getParameterStartIndex()));
+            for (AndPredicate andPredicate : each.getAndPredicates()) {
+                result.add("and");
+                for (PredicateSegment predicate : andPredicate.getPredicates()) {
+                    result.add(describe(predicate));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String describe(final PredicateSegment predicate) {
+        if (!(predicate.getRightValue() instanceof PredicateCompareRightValue)) {
+            return String.format("predicate [%d, %d] %s %s",
+                    predicate.getStartIndex(), predicate.getStopIndex(), describe(predicate.getColumn()), predicate.getRightValue().getClass().getSimpleName());
+        }
+        PredicateCompareRightValue rightValue = (PredicateCompareRightValue) predicate.getRightValue();
+        return String.format("predicate [%d, %d] %s %s %s",
+                predicate.getStartIndex(), predicate.getStopIndex(), describe(predicate.getColumn()), rightValue.getOperator(), describe(rightValue.getExpression()));
+    }
+    
+    private String describe(final ColumnSegment column) {
+        return String.format("column %s [%d, %d]", column.getQualifiedName(), column.getStartIndex(), column.getStopIndex());
+    }
+    
+    private String describe(final ExpressionSegment expression) {
+        if (expression instanceof ParameterMarkerExpressionSegment) {
+            return String.format("parameter %d [%d, %d]", ((ParameterMarkerExpressionSegment) expression).getParameterMarkerIndex(), expression.getStartIndex(), expression.getStopIndex());
+        }
+        if (expression instanceof LiteralExpressionSegment) {
+            Object literals = ((LiteralExpressionSegment) expression).getLiterals();
+            return String.format("literal %s(%s) [%d, %d]", literals.getClass().getSimpleName(), literals, expression.getStartIndex(), expression.getStopIndex());
+        }
+        return String.format("%s [%d, %d]", expression.getClass().getSimpleName(), expression.getStartIndex(), expression.getStopIndex());
+    }
+}
@@ -21,10 +21,13 @@ import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValuesToken;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +48,8 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new HashMap<>();
     
+    private final Collection<InValuesToken> inValuesTokens = new LinkedList<>();
+    
     public BaseParameterBuilder(final List<Object> parameters) {
         originalParameters.addAll(parameters);
     }
@@ -95,6 +100,30 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters(final RoutingUnit routingUnit) {
-        return getParameters();
+        Collection<Integer> prunedIndexes = getPrunedIndexes(routingUnit);
+        if (prunedIndexes.isEmpty()) {
+            return getParameters();
+        }
+        List<Object> result = new LinkedList<>();
+        for (int i = 0; i <= originalParameters.size(); i++) {
+            if (addedIndexAndParameters.containsKey(i)) {
+                result.add(addedIndexAndParameters.get(i));
+            }
+            if (i < originalParameters.size() && !prunedIndexes.contains(i)) {
+                result.add(replacedIndexAndParameters.containsKey(i) ? replacedIndexAndParameters.get(i) : originalParameters.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<Integer> getPrunedIndexes(final RoutingUnit routingUnit) {
+        Collection<Integer> result = new HashSet<>();
+        if (null == routingUnit) {
+            return result;
+        }
+        for (InValuesToken each : inValuesTokens) {
+            result.addAll(each.getPrunedParameterIndexes(routingUnit));
+        }
+        return result;
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.builder;
+
+import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Indexes of insert rows grouped by data node.
+ * 
+ * <p>
+ * Rows are grouped once, so rows of each routing unit are found by its table units instead of scanning all rows for every routing unit.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class DataNodeInsertRows {
+    
+    private final int rowCount;
+    
+    private final Map<DataNode, List<Integer>> rowIndexes = new HashMap<>();
+    
+    private final Collection<Integer> unroutedRowIndexes = new LinkedList<>();
+    
+    public DataNodeInsertRows(final List<InsertValue> insertValues) {
+        rowCount = insertValues.size();
+        int rowIndex = 0;
+        for (InsertValue each : insertValues) {
+            if (each.getDataNodes().isEmpty()) {
+                unroutedRowIndexes.add(rowIndex);
+            }
+            for (DataNode dataNode : each.getDataNodes()) {
+                if (!rowIndexes.containsKey(dataNode)) {
+                    rowIndexes.put(dataNode, new LinkedList<Integer>());
+                }
+                rowIndexes.get(dataNode).add(rowIndex);
+            }
+            rowIndex++;
+        }
+    }
+    
+    /**
+     * Get indexes of rows to insert into routing unit.
+     * 
+     * @param routingUnit routing unit, all rows are inserted if it is null
+     * @return indexes of rows in original order
+     */
+    public Collection<Integer> getRowIndexes(final RoutingUnit routingUnit) {
+        if (null == routingUnit) {
+            List<Integer> result = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                result.add(i);
+            }
+            return result;
+        }
+        Set<Integer> result = new TreeSet<>(unroutedRowIndexes);
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            List<Integer> indexes = rowIndexes.get(new DataNode(routingUnit.getMasterSlaveLogicDataSourceName(), each.getActualTableName()));
+            if (null != indexes) {
+                result.addAll(indexes);
+            }
+        }
+        return result;
+    }
+}
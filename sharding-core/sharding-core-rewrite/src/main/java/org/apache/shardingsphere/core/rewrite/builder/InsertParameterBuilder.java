@@ -21,8 +21,8 @@ import lombok.Getter;
 import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
 import org.apache.shardingsphere.core.optimize.api.statement.InsertOptimizedStatement;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
-import org.apache.shardingsphere.core.rule.DataNode;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -38,13 +38,16 @@ public final class InsertParameterBuilder implements ParameterBuilder {
     
     private final List<InsertParameterUnit> insertParameterUnits;
     
+    private final DataNodeInsertRows dataNodeInsertRows;
+    
     public InsertParameterBuilder(final List<Object> parameters, final InsertOptimizedStatement optimizedStatement) {
         originalParameters = new LinkedList<>(parameters);
         insertParameterUnits = createInsertParameterUnits(optimizedStatement);
+        dataNodeInsertRows = new DataNodeInsertRows(optimizedStatement.getInsertValues());
     }
     
     private List<InsertParameterUnit> createInsertParameterUnits(final InsertOptimizedStatement optimizedStatement) {
-        List<InsertParameterUnit> result = new LinkedList<>();
+        List<InsertParameterUnit> result = new ArrayList<>(optimizedStatement.getInsertValues().size());
         for (InsertValue each : optimizedStatement.getInsertValues()) {
             result.add(new InsertParameterUnit(each.getParameters(), each.getDataNodes()));
         }
@@ -63,24 +66,9 @@ public final class InsertParameterBuilder implements ParameterBuilder {
     @Override
     public List<Object> getParameters(final RoutingUnit routingUnit) {
         List<Object> result = new LinkedList<>();
-        for (InsertParameterUnit each : insertParameterUnits) {
-            if (isAppendInsertParameter(each, routingUnit)) {
-                result.addAll(each.getParameters());
-            }
+        for (int each : dataNodeInsertRows.getRowIndexes(routingUnit)) {
+            result.addAll(insertParameterUnits.get(each).getParameters());
         }
         return result;
     }
-    
-    private boolean isAppendInsertParameter(final InsertParameterUnit unit, final RoutingUnit routingUnit) {
-        return unit.getDataNodes().isEmpty() || isInSameDataNode(unit, routingUnit);
-    }
-    
-    private boolean isInSameDataNode(final InsertParameterUnit unit, final RoutingUnit routingUnit) {
-        for (DataNode each : unit.getDataNodes()) {
-            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.rewrite.token;
 
 import org.apache.shardingsphere.core.rewrite.token.generator.AggregationDistinctTokenGenerator;
+import org.apache.shardingsphere.core.rewrite.token.generator.InValuesTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.IndexTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.InsertGeneratedKeyNameTokenGenerator;
 import org.apache.shardingsphere.core.rewrite.token.generator.InsertSetGeneratedKeyColumnTokenGenerator;
@@ -49,6 +50,7 @@ public final class ShardingTokenGenerateEngine extends SQLTokenGenerateEngine<Sh
         SQL_TOKEN_GENERATORS.add(new IndexTokenGenerator());
         SQL_TOKEN_GENERATORS.add(new OffsetTokenGenerator());
         SQL_TOKEN_GENERATORS.add(new RowCountTokenGenerator());
+        SQL_TOKEN_GENERATORS.add(new InValuesTokenGenerator());
         SQL_TOKEN_GENERATORS.add(new InsertGeneratedKeyNameTokenGenerator());
         SQL_TOKEN_GENERATORS.add(new InsertSetGeneratedKeyColumnTokenGenerator());
     }
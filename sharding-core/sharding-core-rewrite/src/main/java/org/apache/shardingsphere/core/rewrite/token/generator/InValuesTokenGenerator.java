@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.generator;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.generator.ConditionValue;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.core.parse.sql.statement.generic.WhereSegmentAvailable;
+import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValuesToken;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * In values token generator.
+ * 
+ * <p>
+ * Only IN predicates of single table statement without OR are pruned, and the sharding strategy which shards by the column of IN predicate must only have this sharding column.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class InValuesTokenGenerator implements CollectionSQLTokenGenerator<ShardingRule>, IgnoreForSingleRoute {
+    
+    @Override
+    public Collection<InValuesToken> generateSQLTokens(
+            final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule, final boolean isQueryWithCipherColumn) {
+        Optional<AndPredicate> andPredicate = findSingleAndPredicate(optimizedStatement);
+        if (!andPredicate.isPresent() || !optimizedStatement.getTables().isSingleTable() || !(parameterBuilder instanceof BaseParameterBuilder)) {
+            return Collections.emptyList();
+        }
+        String tableName = optimizedStatement.getTables().getSingleTableName();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName);
+        if (!tableRule.isPresent() || shardingRule.isRoutingByHint(tableRule.get())) {
+            return Collections.emptyList();
+        }
+        Collection<InValuesToken> result = new LinkedList<>();
+        for (PredicateSegment each : andPredicate.get().getPredicates()) {
+            if (each.getRightValue() instanceof PredicateInRightValue && isPrunable(shardingRule, tableRule.get(), each.getColumn().getName())) {
+                Optional<InValuesToken> inValuesToken = createInValuesToken(
+                        shardingRule, tableRule.get(), each.getColumn().getName(), ((PredicateInRightValue) each.getRightValue()).getSqlExpressions(), parameterBuilder.getOriginalParameters());
+                if (inValuesToken.isPresent()) {
+                    result.add(inValuesToken.get());
+                    ((BaseParameterBuilder) parameterBuilder).getInValuesTokens().add(inValuesToken.get());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Optional<AndPredicate> findSingleAndPredicate(final OptimizedStatement optimizedStatement) {
+        if (!(optimizedStatement.getSQLStatement() instanceof WhereSegmentAvailable)) {
+            return Optional.absent();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereSegmentAvailable) optimizedStatement.getSQLStatement()).getWhere();
+        return whereSegment.isPresent() && 1 == whereSegment.get().getAndPredicates().size()
+                ? Optional.of(whereSegment.get().getAndPredicates().iterator().next()) : Optional.<AndPredicate>absent();
+    }
+    
+    private boolean isPrunable(final ShardingRule shardingRule, final TableRule tableRule, final String columnName) {
+        if (shardingRule.getEncryptRule().findShardingEncryptor(tableRule.getLogicTable(), columnName).isPresent()) {
+            return false;
+        }
+        return isShardingBy(shardingRule.getDatabaseShardingStrategy(tableRule), columnName) || isShardingBy(shardingRule.getTableShardingStrategy(tableRule), columnName);
+    }
+    
+    private boolean isShardingBy(final ShardingStrategy shardingStrategy, final String columnName) {
+        return 1 == shardingStrategy.getShardingColumns().size() && shardingStrategy.getShardingColumns().iterator().next().equalsIgnoreCase(columnName);
+    }
+    
+    private Optional<InValuesToken> createInValuesToken(final ShardingRule shardingRule, 
+                                                        final TableRule tableRule, final String columnName, final Collection<ExpressionSegment> values, final List<Object> parameters) {
+        InValuesToken result = new InValuesToken(getStartIndex(values), getStopIndex(values));
+        for (ExpressionSegment each : values) {
+            Optional<Comparable> value = new ConditionValue(each, parameters).getValue();
+            if (!value.isPresent()) {
+                return Optional.absent();
+            }
+            result.addInValueToken(each, getDataNodes(shardingRule, tableRule, columnName, value.get()));
+        }
+        return Optional.of(result);
+    }
+    
+    private int getStartIndex(final Collection<ExpressionSegment> values) {
+        int result = values.iterator().next().getStartIndex();
+        for (ExpressionSegment each : values) {
+            result = result > each.getStartIndex() ? each.getStartIndex() : result;
+        }
+        return result;
+    }
+    
+    private int getStopIndex(final Collection<ExpressionSegment> values) {
+        int result = values.iterator().next().getStopIndex();
+        for (ExpressionSegment each : values) {
+            result = result < each.getStopIndex() ? each.getStopIndex() : result;
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final TableRule tableRule, final String columnName, final Comparable value) {
+        List<RouteValue> routeValues = Collections.<RouteValue>singletonList(
+                new ListRouteValue<>(columnName, tableRule.getLogicTable(), Collections.<Comparable<?>>singletonList(value)));
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+        Collection<String> dataSourceNames = isShardingBy(databaseShardingStrategy, columnName)
+                ? databaseShardingStrategy.doSharding(tableRule.getActualDatasourceNames(), routeValues) : tableRule.getActualDatasourceNames();
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            Collection<String> tableNames = isShardingBy(tableShardingStrategy, columnName)
+                    ? tableShardingStrategy.doSharding(tableRule.getActualTableNames(each), routeValues) : tableRule.getActualTableNames(each);
+            for (String tableName : tableNames) {
+                result.add(new DataNode(each, tableName));
+            }
+        }
+        return result;
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.core.optimize.api.statement.InsertOptimizedStat
 import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.InsertValuesSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.rewrite.builder.DataNodeInsertRows;
+import org.apache.shardingsphere.core.rewrite.builder.InsertParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.token.pojo.InsertValuesToken;
 import org.apache.shardingsphere.core.rule.EncryptRule;
@@ -41,21 +43,27 @@ public final class InsertValuesTokenGenerator implements OptionalSQLTokenGenerat
                                                         final ParameterBuilder parameterBuilder, final EncryptRule encryptRule, final boolean isQueryWithCipherColumn) {
         Collection<InsertValuesSegment> insertValuesSegments = optimizedStatement.getSQLStatement().findSQLSegments(InsertValuesSegment.class);
         return isNeedToGenerateSQLToken(optimizedStatement, insertValuesSegments)
-                ? Optional.of(createInsertValuesToken((InsertOptimizedStatement) optimizedStatement, insertValuesSegments)) : Optional.<InsertValuesToken>absent();
+                ? Optional.of(createInsertValuesToken((InsertOptimizedStatement) optimizedStatement, parameterBuilder, insertValuesSegments)) : Optional.<InsertValuesToken>absent();
     }
     
     private boolean isNeedToGenerateSQLToken(final OptimizedStatement optimizedStatement, final Collection<InsertValuesSegment> insertValuesSegments) {
         return optimizedStatement.getSQLStatement() instanceof InsertStatement && !insertValuesSegments.isEmpty();
     }
     
-    private InsertValuesToken createInsertValuesToken(final InsertOptimizedStatement optimizedStatement, final Collection<InsertValuesSegment> insertValuesSegments) {
-        InsertValuesToken result = new InsertValuesToken(getStartIndex(insertValuesSegments), getStopIndex(insertValuesSegments));
+    private InsertValuesToken createInsertValuesToken(
+            final InsertOptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final Collection<InsertValuesSegment> insertValuesSegments) {
+        InsertValuesToken result = new InsertValuesToken(getStartIndex(insertValuesSegments), getStopIndex(insertValuesSegments), getDataNodeInsertRows(optimizedStatement, parameterBuilder));
         for (InsertValue each : optimizedStatement.getInsertValues()) {
-            result.addInsertValueToken(each.getValueExpressions(), each.getDataNodes());
+            result.addInsertValueToken(each.getValueExpressions());
         }
         return result;
     }
     
+    private DataNodeInsertRows getDataNodeInsertRows(final InsertOptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder) {
+        return parameterBuilder instanceof InsertParameterBuilder
+                ? ((InsertParameterBuilder) parameterBuilder).getDataNodeInsertRows() : new DataNodeInsertRows(optimizedStatement.getInsertValues());
+    }
+    
     private int getStartIndex(final Collection<InsertValuesSegment> insertValuesSegments) {
         int result = insertValuesSegments.iterator().next().getStartIndex();
         for (InsertValuesSegment each : insertValuesSegments) {
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * In values token.
+ * 
+ * <p>
+ * Values of IN predicate on sharding column are pruned for each routing unit, only values which may be routed to the routing unit are kept.
+ * All values are kept if none of them matches the routing unit.
+ * Each kept value is copied from the logic SQL as written, so literals keep their original quoting and escaping.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class InValuesToken extends SQLToken implements Substitutable {
+    
+    private final int stopIndex;
+    
+    private final List<InValueToken> inValueTokens;
+    
+    public InValuesToken(final int startIndex, final int stopIndex) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        inValueTokens = new LinkedList<>();
+    }
+    
+    /**
+     * Add in value token.
+     * 
+     * @param value value
+     * @param dataNodes data nodes which value may be routed to
+     */
+    public void addInValueToken(final ExpressionSegment value, final Collection<DataNode> dataNodes) {
+        inValueTokens.add(new InValueToken(value, dataNodes));
+    }
+    
+    /**
+     * Get indexes of parameters which are pruned for routing unit.
+     * 
+     * @param routingUnit routing unit
+     * @return indexes of pruned parameters
+     */
+    public Collection<Integer> getPrunedParameterIndexes(final RoutingUnit routingUnit) {
+        Collection<Integer> result = new LinkedList<>();
+        Collection<InValueToken> routedInValueTokens = getRoutedInValueTokens(routingUnit);
+        for (InValueToken each : inValueTokens) {
+            if (!routedInValueTokens.contains(each) && each.getValue() instanceof ParameterMarkerExpressionSegment) {
+                result.add(((ParameterMarkerExpressionSegment) each.getValue()).getParameterMarkerIndex());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * To string.
+     * 
+     * @param routingUnit routing unit
+     * @param logicSQL logic SQL which values are copied from
+     * @return literal
+     */
+    public String toString(final RoutingUnit routingUnit, final String logicSQL) {
+        StringBuilder result = new StringBuilder();
+        for (InValueToken each : getRoutedInValueTokens(routingUnit)) {
+            result.append(logicSQL, each.getValue().getStartIndex(), each.getValue().getStopIndex() + 1).append(", ");
+        }
+        result.delete(result.length() - 2, result.length());
+        return result.toString();
+    }
+    
+    private Collection<InValueToken> getRoutedInValueTokens(final RoutingUnit routingUnit) {
+        if (null == routingUnit) {
+            return inValueTokens;
+        }
+        Collection<InValueToken> result = new LinkedList<>();
+        for (InValueToken each : inValueTokens) {
+            if (isRouted(routingUnit, each)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? inValueTokens : result;
+    }
+    
+    private boolean isRouted(final RoutingUnit routingUnit, final InValueToken inValueToken) {
+        if (inValueToken.getDataNodes().isEmpty()) {
+            return true;
+        }
+        for (DataNode each : inValueToken.getDataNodes()) {
+            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private final class InValueToken {
+        
+        private final ExpressionSegment value;
+        
+        private final Collection<DataNode> dataNodes;
+    }
+}
@@ -23,10 +23,10 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegme
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.complex.ComplexExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.rewrite.builder.DataNodeInsertRows;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
-import org.apache.shardingsphere.core.rule.DataNode;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -43,20 +43,22 @@ public final class InsertValuesToken extends SQLToken implements Substitutable,
     
     private final List<InsertValueToken> insertValueTokens;
     
-    public InsertValuesToken(final int startIndex, final int stopIndex) {
+    private final DataNodeInsertRows dataNodeInsertRows;
+    
+    public InsertValuesToken(final int startIndex, final int stopIndex, final DataNodeInsertRows dataNodeInsertRows) {
         super(startIndex);
         this.stopIndex = stopIndex;
-        insertValueTokens = new LinkedList<>();
+        insertValueTokens = new ArrayList<>();
+        this.dataNodeInsertRows = dataNodeInsertRows;
     }
     
     /**
      * Add insert value token.
      * 
      * @param values values
-     * @param dataNodes data nodes
      */
-    public void addInsertValueToken(final List<ExpressionSegment> values, final List<DataNode> dataNodes) {
-        insertValueTokens.add(new InsertValueToken(values, dataNodes));
+    public void addInsertValueToken(final List<ExpressionSegment> values) {
+        insertValueTokens.add(new InsertValueToken(values));
     }
     
     @Override
@@ -68,23 +70,9 @@ public final class InsertValuesToken extends SQLToken implements Substitutable,
     }
     
     private void appendUnits(final RoutingUnit routingUnit, final StringBuilder result) {
-        for (InsertValueToken each : insertValueTokens) {
-            if (isToAppendInsertOptimizeResult(routingUnit, each)) {
-                result.append(each).append(", ");
-            }
-        }
-    }
-    
-    private boolean isToAppendInsertOptimizeResult(final RoutingUnit routingUnit, final InsertValueToken unit) {
-        if (unit.getDataNodes().isEmpty() || null == routingUnit) {
-            return true;
-        }
-        for (DataNode each : unit.getDataNodes()) {
-            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
+        for (int each : dataNodeInsertRows.getRowIndexes(routingUnit)) {
+            result.append(insertValueTokens.get(each)).append(", ");
         }
-        return false;
     }
     
     @RequiredArgsConstructor
@@ -92,9 +80,6 @@ public final class InsertValuesToken extends SQLToken implements Substitutable,
     
         private final List<ExpressionSegment> values;
     
-        @Getter
-        private final List<DataNode> dataNodes;
-    
         @Override
         public String toString() {
             StringBuilder result = new StringBuilder();
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.builder;
+
+import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DataNodeInsertRowsTest {
+    
+    private DataNodeInsertRows dataNodeInsertRows;
+    
+    @Before
+    public void setUp() {
+        dataNodeInsertRows = new DataNodeInsertRows(Arrays.asList(
+                createInsertValue(new DataNode("db0.tb0")), createInsertValue(new DataNode("db1.tb1")), createInsertValue(), createInsertValue(new DataNode("db0.tb1"))));
+    }
+    
+    private InsertValue createInsertValue(final DataNode... dataNodes) {
+        InsertValue result = mock(InsertValue.class);
+        when(result.getDataNodes()).thenReturn(Arrays.asList(dataNodes));
+        return result;
+    }
+    
+    @Test
+    public void assertGetRowIndexesWithoutRoutingUnit() {
+        assertThat(new ArrayList<>(dataNodeInsertRows.getRowIndexes(null)), is(Arrays.asList(0, 1, 2, 3)));
+    }
+    
+    @Test
+    public void assertGetRowIndexesWithRoutingUnit() {
+        RoutingUnit routingUnit = new RoutingUnit("db0");
+        routingUnit.getTableUnits().add(new TableUnit("tb", "TB1"));
+        routingUnit.getTableUnits().add(new TableUnit("tb", "tb0"));
+        assertThat(new ArrayList<>(dataNodeInsertRows.getRowIndexes(routingUnit)), is(Arrays.asList(0, 2, 3)));
+    }
+    
+    @Test
+    public void assertGetRowIndexesWithUnmatchedRoutingUnit() {
+        RoutingUnit routingUnit = new RoutingUnit("db2");
+        routingUnit.getTableUnits().add(new TableUnit("tb", "tb0"));
+        assertThat(new ArrayList<>(dataNodeInsertRows.getRowIndexes(routingUnit)), is(Collections.singletonList(2)));
+    }
+}
@@ -57,6 +57,10 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegm
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.SchemaSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
@@ -67,6 +71,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.route.type.TableUnit;
@@ -1082,6 +1087,70 @@ public final class ShardingSQLRewriteEngineTest {
         return result;
     }
     
+    @Test
+    public void assertRewriteInValuesForRoutingUnit() {
+        SQLRouteResult routeResult = createRouteResultForInValues("table_v", new PredicateSegment(29, 46, new ColumnSegment(29, 30, "id"), new PredicateInRightValue(Arrays.<ExpressionSegment>asList(
+                new ParameterMarkerExpressionSegment(36, 36, 0), new ParameterMarkerExpressionSegment(39, 39, 1), 
+                new ParameterMarkerExpressionSegment(42, 42, 2), new ParameterMarkerExpressionSegment(45, 45, 3)))), 4, new RoutingUnit("db0"), new RoutingUnit("db1"));
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(routeResult, "SELECT id FROM table_v WHERE id IN (?, ?, ?, ?)", Arrays.<Object>asList(1, 2, 3, 4));
+        RoutingUnit routingUnit = new RoutingUnit("db1");
+        routingUnit.getTableUnits().add(new TableUnit("table_v", "table_v_1"));
+        SQLUnit actual = rewriteEngine.generateSQL(routingUnit, Collections.singletonMap("table_v", "table_v_1"));
+        assertThat(actual.getSql(), is("SELECT id FROM table_v_1 WHERE id IN (?, ?)"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 3)));
+        assertThat(rewriteEngine.generateSQL().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4)));
+    }
+    
+    @Test
+    public void assertRewriteInValuesWithLiteralsForRoutingUnit() {
+        SQLRouteResult routeResult = createRouteResultForInValues("table_v", new PredicateSegment(29, 43, new ColumnSegment(29, 30, "id"), new PredicateInRightValue(Arrays.<ExpressionSegment>asList(
+                new LiteralExpressionSegment(36, 36, 1), new LiteralExpressionSegment(39, 39, 2), new LiteralExpressionSegment(42, 42, 3)))), 0, new RoutingUnit("db0"), new RoutingUnit("db1"));
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(routeResult, "SELECT id FROM table_v WHERE id IN (1, 2, 3)", Collections.emptyList());
+        RoutingUnit routingUnit = new RoutingUnit("db1");
+        routingUnit.getTableUnits().add(new TableUnit("table_v", "table_v_1"));
+        assertThat(rewriteEngine.generateSQL(routingUnit, Collections.singletonMap("table_v", "table_v_1")).getSql(), is("SELECT id FROM table_v_1 WHERE id IN (1, 3)"));
+    }
+    
+    @Test
+    public void assertRewriteInValuesWithQuotedStringLiteralsForRoutingUnit() {
+        SQLRouteResult routeResult = createRouteResultForInValues("table_u", new PredicateSegment(29, 58, new ColumnSegment(29, 32, "name"), new PredicateInRightValue(Arrays.<ExpressionSegment>asList(
+                new LiteralExpressionSegment(38, 44, "it's"), new LiteralExpressionSegment(47, 51, "abc"), new LiteralExpressionSegment(54, 57, "ab")))), 0, new RoutingUnit("db0"), new RoutingUnit("db1"));
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(routeResult, "SELECT id FROM table_u WHERE name IN ('it''s', 'abc', 'ab')", Collections.emptyList());
+        RoutingUnit routingUnit = new RoutingUnit("db0");
+        routingUnit.getTableUnits().add(new TableUnit("table_u", "table_u_0"));
+        assertThat(rewriteEngine.generateSQL(routingUnit, Collections.singletonMap("table_u", "table_u_0")).getSql(), is("SELECT id FROM table_u_0 WHERE name IN ('it''s', 'ab')"));
+    }
+    
+    @Test
+    public void assertRewriteInValuesWhenAllValuesRouteToOneRoutingUnit() {
+        RoutingUnit routingUnit = new RoutingUnit("db1");
+        routingUnit.getTableUnits().add(new TableUnit("table_v", "table_v_1"));
+        SQLRouteResult routeResult = createRouteResultForInValues("table_v", new PredicateSegment(29, 40, new ColumnSegment(29, 30, "id"), new PredicateInRightValue(Arrays.<ExpressionSegment>asList(
+                new ParameterMarkerExpressionSegment(36, 36, 0), new ParameterMarkerExpressionSegment(39, 39, 1)))), 2, routingUnit);
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(routeResult, "SELECT id FROM table_v WHERE id IN (?, ?)", Arrays.<Object>asList(1, 3));
+        SQLUnit actual = rewriteEngine.generateSQL(routingUnit, Collections.singletonMap("table_v", "table_v_1"));
+        assertThat(actual.getSql(), is("SELECT id FROM table_v_1 WHERE id IN (?, ?)"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 3)));
+    }
+    
+    private SQLRouteResult createRouteResultForInValues(final String tableName, final PredicateSegment predicateSegment, final int parametersCount, final RoutingUnit... routingUnits) {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getAllSQLSegments().add(new TableSegment(15, 21, tableName));
+        WhereSegment whereSegment = new WhereSegment(23, predicateSegment.getStopIndex(), parametersCount);
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(predicateSegment);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        SQLRouteResult result = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null), new Pagination(null, null, Collections.emptyList())),
+                new EncryptTransparentOptimizedStatement(selectStatement));
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().addAll(Arrays.asList(routingUnits));
+        result.setRoutingResult(routingResult);
+        return result;
+    }
+    
     private SQLRewriteEngine createSQLRewriteEngine(final SQLRouteResult routeResult, final String sql, final List<Object> parameters) {
         return createSQLRewriteEngine(routeResult, sql, parameters, true);
     }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionProvider;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Global index entries to put before SQL is executed and to remove after SQL is executed successfully.
+ *
+ * @author zhangliang
+ */
+public final class GlobalIndexEntries {
+    
+    private final Collection<GlobalIndexEntry> putEntries = new LinkedList<>();
+    
+    private final Collection<GlobalIndexEntry> removeEntries = new LinkedList<>();
+    
+    /**
+     * Add index entry to put.
+     *
+     * @param globalIndex global index
+     * @param indexValue value of index column
+     * @param shardingValue value of sharding column
+     */
+    public void addPutEntry(final GlobalIndex globalIndex, final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        putEntries.add(new GlobalIndexEntry(globalIndex, indexValue, shardingValue));
+    }
+    
+    /**
+     * Add index entry to remove.
+     *
+     * @param globalIndex global index
+     * @param indexValue value of index column, {@code null} means any value
+     * @param shardingValue value of sharding column, {@code null} means any value
+     */
+    public void addRemoveEntry(final GlobalIndex globalIndex, final Comparable<?> indexValue, final Comparable<?> shardingValue) {
+        removeEntries.add(new GlobalIndexEntry(globalIndex, indexValue, shardingValue));
+    }
+    
+    /**
+     * Add all index entries.
+     *
+     * @param globalIndexEntries global index entries
+     */
+    public void addAll(final GlobalIndexEntries globalIndexEntries) {
+        putEntries.addAll(globalIndexEntries.putEntries);
+        removeEntries.addAll(globalIndexEntries.removeEntries);
+    }
+    
+    /**
+     * Judge whether there is no index entry.
+     *
+     * @return there is no index entry or not
+     */
+    public boolean isEmpty() {
+        return putEntries.isEmpty() && removeEntries.isEmpty();
+    }
+    
+    /**
+     * Put index entries into global indexes and clear them.
+     * 
+     * @param connectionProvider connection provider of session which executes SQL
+     * @throws SQLException SQL exception
+     */
+    public void put(final GlobalIndexConnectionProvider connectionProvider) throws SQLException {
+        for (GlobalIndexEntry each : putEntries) {
+            each.getGlobalIndex().put(connectionProvider.getConnection(each.getGlobalIndex().getDataSourceName()), each.getIndexValue(), each.getShardingValue());
+        }
+        putEntries.clear();
+    }
+    
+    /**
+     * Remove index entries from global indexes and clear them.
+     *
+     * @param connectionProvider connection provider of session which executes SQL
+     * @throws SQLException SQL exception
+     */
+    public void remove(final GlobalIndexConnectionProvider connectionProvider) throws SQLException {
+        for (GlobalIndexEntry each : removeEntries) {
+            each.getGlobalIndex().remove(connectionProvider.getConnection(each.getGlobalIndex().getDataSourceName()), each.getIndexValue(), each.getShardingValue());
+        }
+        removeEntries.clear();
+    }
+    
+    /**
+     * Clear index entries.
+     */
+    public void clear() {
+        putEntries.clear();
+        removeEntries.clear();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GlobalIndexEntry {
+        
+        private final GlobalIndex globalIndex;
+        
+        private final Comparable<?> indexValue;
+        
+        private final Comparable<?> shardingValue;
+    }
+}
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.core.route;
 
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactory;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
@@ -44,11 +48,14 @@ public final class PreparedStatementRoutingEngine {
     
     private SQLStatement sqlStatement;
     
-    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule,
-                                          final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine) {
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
+                                          final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, metaData, databaseType, sqlParseEngine);
-        masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        CartesianRoutingGuard cartesianRoutingGuard = new CartesianRoutingGuard(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.CARTESIAN_ROUTING_UNITS_MAX_SIZE),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CARTESIAN_ROUTING_UNITS_EXCEEDED_REJECTED));
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, metaData, databaseType, sqlParseEngine, routingResultCache, cartesianRoutingGuard);
+        masterSlaveRouter = new ShardingMasterSlaveRouter(
+                shardingRule.getMasterSlaveRules(), shardingProperties.<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
     }
     
     /**
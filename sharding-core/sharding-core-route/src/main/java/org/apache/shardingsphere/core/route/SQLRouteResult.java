@@ -45,5 +45,9 @@ public final class SQLRouteResult {
     
     private final Collection<RouteUnit> routeUnits = new LinkedHashSet<>();
     
+    private final GlobalIndexEntries globalIndexEntries = new GlobalIndexEntries();
+    
     private RoutingResult routingResult;
+    
+    private boolean rangeOrdered;
 }
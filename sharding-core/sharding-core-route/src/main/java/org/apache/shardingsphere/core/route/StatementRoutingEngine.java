@@ -17,16 +17,21 @@
 
 package org.apache.shardingsphere.core.route;
 
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactory;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -40,9 +45,13 @@ public final class StatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
-    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine) {
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, metaData, databaseType, sqlParseEngine);
-        masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingProperties shardingProperties,
+                                  final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache) {
+        CartesianRoutingGuard cartesianRoutingGuard = new CartesianRoutingGuard(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.CARTESIAN_ROUTING_UNITS_MAX_SIZE),
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CARTESIAN_ROUTING_UNITS_EXCEEDED_REJECTED));
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, metaData, databaseType, sqlParseEngine, routingResultCache, cartesianRoutingGuard);
+        masterSlaveRouter = new ShardingMasterSlaveRouter(
+                shardingRule.getMasterSlaveRules(), shardingProperties.<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
     }
     
     /**
@@ -55,4 +64,30 @@ public final class StatementRoutingEngine {
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    /**
+     * SQL route with SQL statement which is parsed already.
+     *
+     * @param logicSQL logic SQL
+     * @param parameters parameters lifted from literals, empty if logic SQL is not normalized
+     * @param sqlStatement SQL statement parsed from logic SQL
+     * @return route result
+     */
+    public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+    }
+    
+    /**
+     * SQL route for normalized SQL.
+     * 
+     * <p>Literals of normalized SQL are lifted into parameter markers, so parse result can be cached by normalized SQL.</p>
+     *
+     * @param normalizedSQL normalized SQL
+     * @param parameters parameters lifted from literals
+     * @return route result
+     */
+    public SQLRouteResult route(final String normalizedSQL, final List<Object> parameters) {
+        SQLStatement sqlStatement = shardingRouter.parse(normalizedSQL, true);
+        return masterSlaveRouter.route(shardingRouter.route(normalizedSQL, parameters, sqlStatement));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+
+/**
+ * Routing result cache.
+ * 
+ * <p>
+ * Routing units are shared by cached routing result and returned routing results, because routing units will not be changed after routing.
+ * Collection of routing units is copied when put and get, because it can be changed by master-slave routing.
+ * </p>
+ * 
+ * <p>
+ * Routing result cache is held by runtime context together with sharding rule,
+ * so cached routing results are dropped with sharding rule when it is replaced, for example renewed by orchestration.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class RoutingResultCache {
+    
+    private final Cache<RoutingResultCacheKey, RoutingResult> cache;
+    
+    private final boolean enabled;
+    
+    public RoutingResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(Math.max(maximumSize, 0L)).recordStats().build();
+        enabled = maximumSize > 0;
+    }
+    
+    /**
+     * Judge whether routing results are cached.
+     * 
+     * @return routing results are cached or not, false if maximum size is not greater than 0
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Put routing result into cache.
+     * 
+     * @param key routing result cache key
+     * @param routingResult routing result
+     */
+    public void put(final RoutingResultCacheKey key, final RoutingResult routingResult) {
+        cache.put(key, copy(routingResult));
+    }
+    
+    /**
+     * Get routing result.
+     *
+     * @param key routing result cache key
+     * @return routing result
+     */
+    public Optional<RoutingResult> getRoutingResult(final RoutingResultCacheKey key) {
+        RoutingResult result = cache.getIfPresent(key);
+        return null == result ? Optional.<RoutingResult>absent() : Optional.of(copy(result));
+    }
+    
+    private RoutingResult copy(final RoutingResult routingResult) {
+        RoutingResult result = new RoutingResult();
+        result.getRoutingUnits().addAll(routingResult.getRoutingUnits());
+        return result;
+    }
+    
+    /**
+     * Get count of cache hits.
+     * 
+     * @return count of cache hits
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get count of cache misses.
+     * 
+     * @return count of cache misses
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.AlwaysFalseShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routing result cache key.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class RoutingResultCacheKey {
+    
+    private final String sql;
+    
+    private final List<List<Object>> shardingValues;
+    
+    /**
+     * Create routing result cache key.
+     * 
+     * <p>Only sharding conditions with list route values can be cached, which are point lookups.</p>
+     *
+     * @param sql SQL
+     * @param shardingConditions sharding conditions
+     * @return routing result cache key, absent if sharding conditions can not be cached
+     */
+    public static Optional<RoutingResultCacheKey> newInstance(final String sql, final ShardingConditions shardingConditions) {
+        if (shardingConditions.getConditions().isEmpty()) {
+            return Optional.absent();
+        }
+        List<List<Object>> shardingValues = new ArrayList<>(shardingConditions.getConditions().size());
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            if (each instanceof AlwaysFalseShardingCondition) {
+                return Optional.absent();
+            }
+            List<Object> conditionValues = new ArrayList<>(each.getRouteValues().size() * 3);
+            for (RouteValue routeValue : each.getRouteValues()) {
+                if (!(routeValue instanceof ListRouteValue)) {
+                    return Optional.absent();
+                }
+                conditionValues.add(((ListRouteValue<?>) routeValue).getTableName());
+                conditionValues.add(((ListRouteValue<?>) routeValue).getColumnName());
+                conditionValues.add(new ArrayList<Object>(((ListRouteValue<?>) routeValue).getValues()));
+            }
+            shardingValues.add(conditionValues);
+        }
+        return Optional.of(new RoutingResultCacheKey(sql, shardingValues));
+    }
+}
@@ -19,13 +19,13 @@ package org.apache.shardingsphere.core.route.router.masterslave;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.optimize.api.segment.Tables;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLLogger;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -44,6 +44,8 @@ public final class MasterSlaveRouter {
     
     private final boolean showSQL;
     
+    private final long consistencyWindowMilliseconds;
+    
     /**
      * Route Master slave.
      *
@@ -62,14 +64,20 @@ public final class MasterSlaveRouter {
     
     private Collection<String> route(final SQLStatement sqlStatement) {
         if (isMasterRoute(sqlStatement)) {
-            MasterVisitedManager.setMasterVisited();
             return Collections.singletonList(masterSlaveRule.getMasterDataSourceName());
         }
         return Collections.singletonList(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())));
+                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), masterSlaveRule.getAvailableSlaveDataSourceNames()));
     }
     
     private boolean isMasterRoute(final SQLStatement sqlStatement) {
-        return !(sqlStatement instanceof SelectStatement) || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly();
+        if (consistencyWindowMilliseconds > 0) {
+            return WrittenTablesManager.isMasterRoute(masterSlaveRule, sqlStatement, new Tables(sqlStatement).getTableNames(), consistencyWindowMilliseconds);
+        }
+        if (!(sqlStatement instanceof SelectStatement) || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly()) {
+            MasterVisitedManager.setMasterVisited();
+            return true;
+        }
+        return false;
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.masterslave;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tables written in session.
+ * 
+ * <p>
+ * Each written table is held with deadline of consistency window, expired tables are purged when they are checked.
+ * Tables written in transaction are held without deadline until transaction is committed, 
+ * so consistency window starts when written data is visible to slaves, and they are discarded if transaction is rolled back.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class SessionWrittenTables {
+    
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+    
+    private final Map<String, Long> uncommittedWindows = new ConcurrentHashMap<>();
+    
+    private volatile boolean inTransaction;
+    
+    /**
+     * Record tables written.
+     * 
+     * @param dataSourceName data source name
+     * @param tableNames table names
+     * @param windowMilliseconds consistency window in milliseconds
+     */
+    public void record(final String dataSourceName, final Collection<String> tableNames, final long windowMilliseconds) {
+        if (inTransaction) {
+            for (String each : tableNames) {
+                uncommittedWindows.put(getKey(dataSourceName, each), windowMilliseconds);
+            }
+            return;
+        }
+        long deadline = System.currentTimeMillis() + windowMilliseconds;
+        for (String each : tableNames) {
+            deadlines.put(getKey(dataSourceName, each), deadline);
+        }
+    }
+    
+    /**
+     * Judge whether any of tables is written in consistency window.
+     * 
+     * @param dataSourceName data source name
+     * @param tableNames table names
+     * @return any of tables is written in consistency window or not
+     */
+    public boolean isWritten(final String dataSourceName, final Collection<String> tableNames) {
+        purgeExpired();
+        for (String each : tableNames) {
+            if (deadlines.containsKey(getKey(dataSourceName, each))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether session is in transaction.
+     * 
+     * @return session is in transaction or not
+     */
+    public boolean isInTransaction() {
+        return inTransaction;
+    }
+    
+    /**
+     * Begin transaction.
+     */
+    public void begin() {
+        inTransaction = true;
+    }
+    
+    /**
+     * Commit transaction, consistency windows of tables written in transaction start from now.
+     */
+    public void commit() {
+        long now = System.currentTimeMillis();
+        for (Entry<String, Long> entry : uncommittedWindows.entrySet()) {
+            deadlines.put(entry.getKey(), now + entry.getValue());
+        }
+        uncommittedWindows.clear();
+        inTransaction = false;
+    }
+    
+    /**
+     * Rollback transaction, tables written in transaction are discarded.
+     */
+    public void rollback() {
+        uncommittedWindows.clear();
+        inTransaction = false;
+    }
+    
+    /**
+     * Clear tables written.
+     */
+    public void clear() {
+        deadlines.clear();
+        uncommittedWindows.clear();
+        inTransaction = false;
+    }
+    
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry<String, Long>> iterator = deadlines.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    private String getKey(final String dataSourceName, final String tableName) {
+        return dataSourceName.toLowerCase() + "." + tableName.toLowerCase();
+    }
+}
@@ -23,9 +23,9 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 
@@ -39,6 +39,8 @@ public final class ShardingMasterSlaveRouter {
     
     private final Collection<MasterSlaveRule> masterSlaveRules;
     
+    private final long consistencyWindowMilliseconds;
+    
     /**
      * Route Master slave after sharding.
      * 
@@ -53,29 +55,42 @@ public final class ShardingMasterSlaveRouter {
     }
     
     private void route(final MasterSlaveRule masterSlaveRule, final SQLRouteResult sqlRouteResult) {
-        Collection<RoutingUnit> toBeRemoved = new LinkedList<>();
-        Collection<RoutingUnit> toBeAdded = new LinkedList<>();
+        Collection<RoutingUnit> routingUnits = new LinkedList<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
             if (!masterSlaveRule.getName().equalsIgnoreCase(each.getDataSourceName())) {
+                routingUnits.add(each);
                 continue;
             }
-            toBeRemoved.add(each);
             String actualDataSourceName;
-            if (isMasterRoute(sqlRouteResult.getShardingStatement().getSQLStatement())) {
-                MasterVisitedManager.setMasterVisited();
+            if (isMasterRoute(masterSlaveRule, sqlRouteResult.getShardingStatement().getSQLStatement(), each)) {
                 actualDataSourceName = masterSlaveRule.getMasterDataSourceName();
             } else {
                 actualDataSourceName = masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames()));
+                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), masterSlaveRule.getAvailableSlaveDataSourceNames());
             }
-            toBeAdded.add(createNewRoutingUnit(actualDataSourceName, each));
+            routingUnits.add(createNewRoutingUnit(actualDataSourceName, each));
         }
-        sqlRouteResult.getRoutingResult().getRoutingUnits().removeAll(toBeRemoved);
-        sqlRouteResult.getRoutingResult().getRoutingUnits().addAll(toBeAdded);
+        sqlRouteResult.getRoutingResult().getRoutingUnits().clear();
+        sqlRouteResult.getRoutingResult().getRoutingUnits().addAll(routingUnits);
     }
     
-    private boolean isMasterRoute(final SQLStatement sqlStatement) {
-        return !(sqlStatement instanceof SelectStatement) || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly();
+    private boolean isMasterRoute(final MasterSlaveRule masterSlaveRule, final SQLStatement sqlStatement, final RoutingUnit routingUnit) {
+        if (consistencyWindowMilliseconds > 0) {
+            return WrittenTablesManager.isMasterRoute(masterSlaveRule, sqlStatement, getActualTableNames(routingUnit), consistencyWindowMilliseconds);
+        }
+        if (!(sqlStatement instanceof SelectStatement) || MasterVisitedManager.isMasterVisited() || HintManager.isMasterRouteOnly()) {
+            MasterVisitedManager.setMasterVisited();
+            return true;
+        }
+        return false;
+    }
+    
+    private Collection<String> getActualTableNames(final RoutingUnit routingUnit) {
+        Collection<String> result = new LinkedList<>();
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.add(each.getActualTableName());
+        }
+        return result;
     }
     
     private RoutingUnit createNewRoutingUnit(final String actualDataSourceName, final RoutingUnit originalTableUnit) {
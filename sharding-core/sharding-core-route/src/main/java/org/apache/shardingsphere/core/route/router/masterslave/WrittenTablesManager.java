@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.masterslave;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+
+import java.util.Collection;
+
+/**
+ * Written tables manager.
+ * 
+ * <p>
+ * Read-your-writes consistency for master-slave routing, which is alternative of {@code MasterVisitedManager}.
+ * Query is routed to master only if any of its tables is written in current session within consistency window,
+ * or session is in transaction, other queries still use slaves even after master is visited.
+ * Each session owns its {@code SessionWrittenTables}, which is bound to current thread only while its statement is routed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WrittenTablesManager {
+    
+    private static final ThreadLocal<SessionWrittenTables> WRITTEN_TABLES = new ThreadLocal<>();
+    
+    /**
+     * Bind tables written in session to current thread.
+     * 
+     * @param sessionWrittenTables tables written in session
+     */
+    public static void bind(final SessionWrittenTables sessionWrittenTables) {
+        WRITTEN_TABLES.set(sessionWrittenTables);
+    }
+    
+    /**
+     * Unbind tables written in session from current thread.
+     */
+    public static void unbind() {
+        WRITTEN_TABLES.remove();
+    }
+    
+    static boolean isMasterRoute(final MasterSlaveRule masterSlaveRule, final SQLStatement sqlStatement, final Collection<String> tableNames, final long windowMilliseconds) {
+        SessionWrittenTables sessionWrittenTables = WRITTEN_TABLES.get();
+        if (null == sessionWrittenTables) {
+            return !(sqlStatement instanceof SelectStatement) || HintManager.isMasterRouteOnly();
+        }
+        if (!(sqlStatement instanceof SelectStatement)) {
+            sessionWrittenTables.record(masterSlaveRule.getName(), tableNames, windowMilliseconds);
+            return true;
+        }
+        return HintManager.isMasterRouteOnly() || sessionWrittenTables.isInTransaction() || sessionWrittenTables.isWritten(masterSlaveRule.getName(), tableNames);
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Sets;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.optimize.api.segment.Column;
+import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.generator.ConditionValueGeneratorFactory;
+import org.apache.shardingsphere.core.optimize.sharding.segment.insert.GeneratedKey;
+import org.apache.shardingsphere.core.optimize.sharding.statement.ShardingOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingInsertOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.OnDuplicateKeyColumnsSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.core.route.GlobalIndexEntries;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.spi.index.GlobalIndex;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Global index maintainer.
+ * 
+ * <p>
+ * Index entries are collected while routing, put by executor before SQL is executed and removed after SQL is executed successfully,
+ * so there is never a row without its entries.
+ * Entries are removed only by delete statement whose where clause consists of equal conditions of index column and sharding column,
+ * because it deletes all rows of those entries, other delete statements leave stale entries, which only make more data nodes routed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class GlobalIndexMaintainer {
+    
+    private final ShardingRule shardingRule;
+    
+    /**
+     * Maintain global indexes for insert, update or delete statement.
+     * 
+     * @param logicSQL logic SQL
+     * @param shardingStatement sharding optimized statement
+     * @param parameters SQL parameters
+     * @param globalIndexEntries global index entries to collect
+     */
+    void maintain(final String logicSQL, final ShardingOptimizedStatement shardingStatement, final List<Object> parameters, final GlobalIndexEntries globalIndexEntries) {
+        if (shardingStatement.getSQLStatement() instanceof InsertStatement && shardingStatement instanceof ShardingInsertOptimizedStatement) {
+            maintainForInsert((ShardingInsertOptimizedStatement) shardingStatement, globalIndexEntries);
+        } else if (shardingStatement.getSQLStatement() instanceof UpdateStatement && shardingStatement instanceof ShardingConditionOptimizedStatement) {
+            maintainForUpdate((ShardingConditionOptimizedStatement) shardingStatement, parameters, globalIndexEntries);
+        } else if (shardingStatement.getSQLStatement() instanceof DeleteStatement) {
+            maintainForDelete(logicSQL, shardingStatement, parameters, globalIndexEntries);
+        }
+    }
+    
+    private void maintainForInsert(final ShardingInsertOptimizedStatement shardingStatement, final GlobalIndexEntries globalIndexEntries) {
+        String tableName = shardingStatement.getTables().getSingleTableName();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName);
+        if (!tableRule.isPresent() || tableRule.get().getGlobalIndexes().isEmpty()) {
+            return;
+        }
+        checkOnDuplicateKeyColumns((InsertStatement) shardingStatement.getSQLStatement(), tableRule.get());
+        String shardingColumn = shardingRule.getGlobalIndexShardingColumn(tableRule.get());
+        int shardingColumnIndex = getColumnIndex(shardingStatement, shardingColumn);
+        for (Entry<String, GlobalIndex> entry : tableRule.get().getGlobalIndexes().entrySet()) {
+            int indexColumnIndex = getColumnIndex(shardingStatement, entry.getKey());
+            if (indexColumnIndex < 0) {
+                continue;
+            }
+            if (shardingColumnIndex < 0) {
+                throw new ShardingException("Can not maintain global index `%s` without value of sharding column `%s`.", entry.getKey(), shardingColumn);
+            }
+            for (InsertValue each : shardingStatement.getInsertValues()) {
+                Comparable<?> indexValue = getInsertValue(each, indexColumnIndex, entry.getKey());
+                Comparable<?> shardingValue = getInsertValue(each, shardingColumnIndex, shardingColumn);
+                if (null != indexValue && null != shardingValue) {
+                    globalIndexEntries.addPutEntry(entry.getValue(), indexValue, shardingValue);
+                }
+            }
+        }
+    }
+    
+    private void checkOnDuplicateKeyColumns(final InsertStatement insertStatement, final TableRule tableRule) {
+        Optional<OnDuplicateKeyColumnsSegment> onDuplicateKeyColumnsSegment = insertStatement.findSQLSegment(OnDuplicateKeyColumnsSegment.class);
+        if (!onDuplicateKeyColumnsSegment.isPresent()) {
+            return;
+        }
+        for (ColumnSegment each : onDuplicateKeyColumnsSegment.get().getColumns()) {
+            if (tableRule.findGlobalIndex(each.getName()).isPresent()) {
+                throw new ShardingException("INSERT INTO .... ON DUPLICATE KEY UPDATE can not support update for global index column.");
+            }
+        }
+    }
+    
+    private int getColumnIndex(final ShardingInsertOptimizedStatement shardingStatement, final String columnName) {
+        List<String> columnNames = shardingStatement.getColumnNames();
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        Optional<GeneratedKey> generatedKey = shardingStatement.getGeneratedKey();
+        return generatedKey.isPresent() && generatedKey.get().isGenerated() && generatedKey.get().getColumnName().equalsIgnoreCase(columnName) ? columnNames.size() : -1;
+    }
+    
+    private Comparable<?> getInsertValue(final InsertValue insertValue, final int columnIndex, final String columnName) {
+        ExpressionSegment valueExpression = insertValue.getValueExpressions().get(columnIndex);
+        if (!(valueExpression instanceof ParameterMarkerExpressionSegment) && !(valueExpression instanceof LiteralExpressionSegment)) {
+            throw new ShardingException("Can not maintain global index with expression value of column `%s`.", columnName);
+        }
+        return toComparable(insertValue.getValue(columnIndex), columnName);
+    }
+    
+    private void maintainForUpdate(final ShardingConditionOptimizedStatement shardingStatement, final List<Object> parameters, final GlobalIndexEntries globalIndexEntries) {
+        String tableName = shardingStatement.getTables().getSingleTableName();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName);
+        if (!tableRule.isPresent() || tableRule.get().getGlobalIndexes().isEmpty() || shardingStatement.getShardingConditions().isAlwaysFalse()) {
+            return;
+        }
+        Collection<Comparable<?>> shardingValues = null;
+        for (AssignmentSegment each : ((UpdateStatement) shardingStatement.getSQLStatement()).getSetAssignment().getAssignments()) {
+            Optional<GlobalIndex> globalIndex = tableRule.get().findGlobalIndex(each.getColumn().getName());
+            if (!globalIndex.isPresent()) {
+                continue;
+            }
+            if (null == shardingValues) {
+                shardingValues = getShardingValues(shardingStatement.getShardingConditions(), tableRule.get(), each.getColumn().getName());
+            }
+            Comparable<?> indexValue = getAssignmentValue(each, parameters);
+            if (null == indexValue) {
+                continue;
+            }
+            for (Comparable<?> shardingValue : shardingValues) {
+                globalIndexEntries.addPutEntry(globalIndex.get(), indexValue, shardingValue);
+            }
+        }
+    }
+    
+    private Collection<Comparable<?>> getShardingValues(final ShardingConditions shardingConditions, final TableRule tableRule, final String indexColumn) {
+        String shardingColumn = shardingRule.getGlobalIndexShardingColumn(tableRule);
+        Collection<Comparable<?>> result = new LinkedHashSet<>();
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            Optional<ListRouteValue> routeValue = findShardingRouteValue(each, tableRule.getLogicTable(), shardingColumn);
+            if (!routeValue.isPresent()) {
+                throw new ShardingException("Can not update global index column `%s` without equal condition of sharding column `%s`.", indexColumn, shardingColumn);
+            }
+            for (Object value : routeValue.get().getValues()) {
+                result.add((Comparable<?>) value);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new ShardingException("Can not update global index column `%s` without equal condition of sharding column `%s`.", indexColumn, shardingColumn);
+        }
+        return result;
+    }
+    
+    private Optional<ListRouteValue> findShardingRouteValue(final ShardingCondition shardingCondition, final String logicTableName, final String shardingColumn) {
+        for (RouteValue each : shardingCondition.getRouteValues()) {
+            if (each instanceof ListRouteValue && logicTableName.equalsIgnoreCase(each.getTableName()) && shardingColumn.equalsIgnoreCase(each.getColumnName())) {
+                return Optional.of((ListRouteValue) each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private void maintainForDelete(final String logicSQL, final ShardingOptimizedStatement shardingStatement, final List<Object> parameters, final GlobalIndexEntries globalIndexEntries) {
+        if (!shardingStatement.getTables().isSingleTable()) {
+            return;
+        }
+        String tableName = shardingStatement.getTables().getSingleTableName();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName);
+        Optional<WhereSegment> whereSegment = ((DeleteStatement) shardingStatement.getSQLStatement()).getWhere();
+        if (!tableRule.isPresent() || tableRule.get().getGlobalIndexes().isEmpty() || !whereSegment.isPresent() || 1 != whereSegment.get().getAndPredicates().size()) {
+            return;
+        }
+        AndPredicate andPredicate = whereSegment.get().getAndPredicates().iterator().next();
+        if (!isOnlyAndPredicate(logicSQL, whereSegment.get(), andPredicate)) {
+            return;
+        }
+        Optional<Map<String, Collection<Comparable<?>>>> equalValues = findEqualValues(tableName, andPredicate, parameters);
+        if (!equalValues.isPresent() || equalValues.get().isEmpty()) {
+            return;
+        }
+        String shardingColumn = shardingRule.getGlobalIndexShardingColumn(tableRule.get()).toLowerCase();
+        for (Entry<String, GlobalIndex> entry : tableRule.get().getGlobalIndexes().entrySet()) {
+            String indexColumn = entry.getKey().toLowerCase();
+            if (!Sets.newHashSet(indexColumn, shardingColumn).containsAll(equalValues.get().keySet())) {
+                continue;
+            }
+            for (Comparable<?> indexValue : getValuesOrAny(equalValues.get(), indexColumn)) {
+                for (Comparable<?> shardingValue : getValuesOrAny(equalValues.get(), shardingColumn)) {
+                    globalIndexEntries.addRemoveEntry(entry.getValue(), indexValue, shardingValue);
+                }
+            }
+        }
+    }
+    
+    private boolean isOnlyAndPredicate(final String logicSQL, final WhereSegment whereSegment, final AndPredicate andPredicate) {
+        if (!logicSQL.substring(whereSegment.getStopIndex() + 1).replace(";", "").trim().isEmpty()) {
+            return false;
+        }
+        StringBuilder remainingWhereClause = new StringBuilder(logicSQL.substring(whereSegment.getStartIndex(), whereSegment.getStopIndex() + 1));
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            for (int i = each.getStartIndex(); i <= each.getStopIndex(); i++) {
+                remainingWhereClause.setCharAt(i - whereSegment.getStartIndex(), ' ');
+            }
+        }
+        return remainingWhereClause.toString().replaceAll("(?i)\\b(WHERE|AND)\\b|[\\s()]", "").isEmpty();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<Map<String, Collection<Comparable<?>>>> findEqualValues(final String tableName, final AndPredicate andPredicate, final List<Object> parameters) {
+        Map<String, Collection<Comparable<?>>> result = new HashMap<>();
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            String columnName = each.getColumn().getName().toLowerCase();
+            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), new Column(columnName, tableName), parameters);
+            if (!routeValue.isPresent() || !(routeValue.get() instanceof ListRouteValue) || result.containsKey(columnName)) {
+                return Optional.absent();
+            }
+            result.put(columnName, ((ListRouteValue<Comparable<?>>) routeValue.get()).getValues());
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<Comparable<?>> getValuesOrAny(final Map<String, Collection<Comparable<?>>> equalValues, final String columnName) {
+        return equalValues.containsKey(columnName) ? equalValues.get(columnName) : Collections.<Comparable<?>>singletonList(null);
+    }
+    
+    private Comparable<?> getAssignmentValue(final AssignmentSegment assignmentSegment, final List<Object> parameters) {
+        ExpressionSegment value = assignmentSegment.getValue();
+        if (value instanceof ParameterMarkerExpressionSegment) {
+            return toComparable(parameters.get(((ParameterMarkerExpressionSegment) value).getParameterMarkerIndex()), assignmentSegment.getColumn().getName());
+        }
+        if (value instanceof LiteralExpressionSegment) {
+            return toComparable(((LiteralExpressionSegment) value).getLiterals(), assignmentSegment.getColumn().getName());
+        }
+        throw new ShardingException("Can not maintain global index with expression value of column `%s`.", assignmentSegment.getColumn().getName());
+    }
+    
+    private Comparable<?> toComparable(final Object value, final String columnName) {
+        if (null == value) {
+            return null;
+        }
+        if (!(value instanceof Comparable)) {
+            throw new ShardingException("Value of global index column `%s` must implements Comparable.", columnName);
+        }
+        return (Comparable<?>) value;
+    }
+}
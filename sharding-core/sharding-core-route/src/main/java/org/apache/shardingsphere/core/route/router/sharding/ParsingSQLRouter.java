@@ -24,8 +24,11 @@ import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.optimize.encrypt.EncryptOptimizeEngineFactory;
+import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptInsertOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.sharding.ShardingOptimizeEngineFactory;
+import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingOptimizeEngine;
+import org.apache.shardingsphere.core.optimize.sharding.engnie.ShardingPreparedOptimizeEngine;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.sharding.statement.ShardingOptimizedStatement;
@@ -35,10 +38,17 @@ import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSe
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCacheKey;
+import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.apache.shardingsphere.core.route.type.complex.ComplexRoutingEngine;
+import org.apache.shardingsphere.core.route.type.standard.StandardRoutingEngine;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
@@ -62,36 +72,108 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final SQLParseEngine parseEngine;
     
+    private final RoutingResultCache routingResultCache;
+    
+    private final CartesianRoutingGuard cartesianRoutingGuard;
+    
     private final List<Comparable<?>> generatedValues = new LinkedList<>();
     
+    private String preparedSQL;
+    
+    private SQLStatement preparedSQLStatement;
+    
+    private ShardingOptimizedStatement preparedShardingStatement;
+    
+    private EncryptOptimizedStatement preparedEncryptStatement;
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         return parseEngine.parse(logicSQL, useCache);
     }
     
-    @SuppressWarnings("unchecked")
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
-        ShardingOptimizedStatement shardingStatement = ShardingOptimizeEngineFactory.newInstance(sqlStatement).optimize(shardingRule, metaData.getTables(), logicSQL, parameters, sqlStatement);
+        boolean prepared = isPrepared(logicSQL, sqlStatement);
+        ShardingOptimizedStatement shardingStatement = optimizeSharding(logicSQL, parameters, sqlStatement, prepared);
         boolean needMergeShardingValues = isNeedMergeShardingValues(shardingStatement);
         if (shardingStatement instanceof ShardingConditionOptimizedStatement && needMergeShardingValues) {
             checkSubqueryShardingValues(shardingStatement, ((ShardingConditionOptimizedStatement) shardingStatement).getShardingConditions());
             mergeShardingConditions(((ShardingConditionOptimizedStatement) shardingStatement).getShardingConditions());
         }
-        RoutingResult routingResult = RoutingEngineFactory.newInstance(shardingRule, metaData.getDataSources(), shardingStatement).route();
+        RoutingResult routingResult = route(logicSQL, shardingStatement);
         if (needMergeShardingValues) {
             Preconditions.checkState(1 == routingResult.getRoutingUnits().size(), "Must have one sharding with subquery.");
         }
         if (shardingStatement instanceof ShardingInsertOptimizedStatement) {
             setGeneratedValues((ShardingInsertOptimizedStatement) shardingStatement);
         }
-        EncryptOptimizedStatement encryptStatement = EncryptOptimizeEngineFactory.newInstance(sqlStatement)
-                .optimize(shardingRule.getEncryptRule(), metaData.getTables(), logicSQL, parameters, sqlStatement);
+        EncryptOptimizedStatement encryptStatement = optimizeEncrypt(logicSQL, parameters, sqlStatement, prepared);
         SQLRouteResult result = new SQLRouteResult(shardingStatement, encryptStatement);
-        result.setRoutingResult(routingResult);
+        Optional<RoutingResult> rangeOrderedRoutingResult = new RangeOrderedRoutingSorter(shardingRule).sort(shardingStatement, routingResult);
+        result.setRoutingResult(rangeOrderedRoutingResult.isPresent() ? rangeOrderedRoutingResult.get() : routingResult);
+        result.setRangeOrdered(rangeOrderedRoutingResult.isPresent());
+        new GlobalIndexMaintainer(shardingRule).maintain(logicSQL, shardingStatement, parameters, result.getGlobalIndexEntries());
+        if (!prepared) {
+            preparedSQL = logicSQL;
+            preparedSQLStatement = sqlStatement;
+            preparedShardingStatement = shardingStatement;
+            preparedEncryptStatement = encryptStatement;
+        }
         return result;
     }
     
+    private RoutingResult route(final String logicSQL, final ShardingOptimizedStatement shardingStatement) {
+        Optional<RoutingResultCacheKey> cacheKey = routingResultCache.isEnabled() && isRoutingResultCacheable(shardingStatement)
+                ? RoutingResultCacheKey.newInstance(logicSQL, ((ShardingConditionOptimizedStatement) shardingStatement).getShardingConditions()) : Optional.<RoutingResultCacheKey>absent();
+        if (cacheKey.isPresent()) {
+            Optional<RoutingResult> cachedRoutingResult = routingResultCache.getRoutingResult(cacheKey.get());
+            if (cachedRoutingResult.isPresent()) {
+                return cachedRoutingResult.get();
+            }
+        }
+        RoutingEngine routingEngine = RoutingEngineFactory.newInstance(shardingRule, metaData.getDataSources(), shardingStatement, cartesianRoutingGuard);
+        RoutingResult result = routingEngine.route();
+        if (cacheKey.isPresent() && (routingEngine instanceof StandardRoutingEngine || routingEngine instanceof ComplexRoutingEngine)) {
+            routingResultCache.put(cacheKey.get(), result);
+        }
+        return result;
+    }
+    
+    private boolean isRoutingResultCacheable(final ShardingOptimizedStatement shardingStatement) {
+        if (!(shardingStatement instanceof ShardingConditionOptimizedStatement) || shardingStatement instanceof ShardingInsertOptimizedStatement) {
+            return false;
+        }
+        for (String each : shardingStatement.getTables().getTableNames()) {
+            Optional<TableRule> tableRule = shardingRule.findTableRule(each);
+            if (tableRule.isPresent() && (tableRule.get().isTimeInterval() || shardingRule.getDatabaseShardingStrategy(tableRule.get()) instanceof HintShardingStrategy
+                    || shardingRule.getTableShardingStrategy(tableRule.get()) instanceof HintShardingStrategy)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isPrepared(final String logicSQL, final SQLStatement sqlStatement) {
+        return sqlStatement == preparedSQLStatement && logicSQL.equals(preparedSQL);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingOptimizedStatement optimizeSharding(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement, final boolean prepared) {
+        ShardingOptimizeEngine optimizeEngine = ShardingOptimizeEngineFactory.newInstance(sqlStatement);
+        if (prepared && optimizeEngine instanceof ShardingPreparedOptimizeEngine) {
+            return ((ShardingPreparedOptimizeEngine) optimizeEngine).optimize(shardingRule, metaData.getTables(), parameters, preparedShardingStatement);
+        }
+        return optimizeEngine.optimize(shardingRule, metaData.getTables(), logicSQL, parameters, sqlStatement);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private EncryptOptimizedStatement optimizeEncrypt(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement, final boolean prepared) {
+        if (prepared && !(preparedEncryptStatement instanceof EncryptInsertOptimizedStatement)) {
+            return preparedEncryptStatement;
+        }
+        return EncryptOptimizeEngineFactory.newInstance(sqlStatement).optimize(shardingRule.getEncryptRule(), metaData.getTables(), logicSQL, parameters, sqlStatement);
+    }
+    
     private void setGeneratedValues(final ShardingInsertOptimizedStatement optimizedStatement) {
         if (optimizedStatement.getGeneratedKey().isPresent()) {
             generatedValues.addAll(optimizedStatement.getGeneratedKey().get().getGeneratedValues());
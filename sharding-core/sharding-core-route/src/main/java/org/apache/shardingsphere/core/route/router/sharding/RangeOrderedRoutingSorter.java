@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.optimize.sharding.statement.ShardingOptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.interval.IntervalShardingStrategy;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Range ordered routing sorter.
+ * 
+ * <p>
+ * If the only table of select statement is sharded by interval sharding strategy, and its first order by item is the sharding column,
+ * each routing unit holds one interval and rows of later intervals are always ordered after rows of earlier intervals.
+ * So routing units are sorted in order of intervals, and their query results can be executed and read one after another instead of being merged.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class RangeOrderedRoutingSorter {
+    
+    private final ShardingRule shardingRule;
+    
+    /**
+     * Sort routing units in order of intervals.
+     * 
+     * @param shardingStatement sharding optimized statement
+     * @param routingResult routing result
+     * @return routing result whose routing units are sorted in order of intervals, absent if query results of routing units can not be read in order
+     */
+    Optional<RoutingResult> sort(final ShardingOptimizedStatement shardingStatement, final RoutingResult routingResult) {
+        if (routingResult.isSingleRouting()
+                || !(shardingStatement instanceof ShardingSelectOptimizedStatement) || !isOrderedConcatenationSupported((ShardingSelectOptimizedStatement) shardingStatement)) {
+            return Optional.absent();
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRule(shardingStatement.getTables().getSingleTableName());
+        if (!tableRule.isPresent()) {
+            return Optional.absent();
+        }
+        OrderByItem orderByItem = ((ShardingSelectOptimizedStatement) shardingStatement).getOrderBy().getItems().iterator().next();
+        String orderByColumnName = ((ColumnOrderByItemSegment) orderByItem.getSegment()).getColumn().getName();
+        Optional<NavigableMap<Integer, RoutingUnit>> routingUnits = getRoutingUnitsInOrder(shardingRule.getTableShardingStrategy(tableRule.get()), orderByColumnName, routingResult, true);
+        if (!routingUnits.isPresent()) {
+            routingUnits = getRoutingUnitsInOrder(shardingRule.getDatabaseShardingStrategy(tableRule.get()), orderByColumnName, routingResult, false);
+        }
+        if (!routingUnits.isPresent()) {
+            return Optional.absent();
+        }
+        RoutingResult result = new RoutingResult();
+        result.getRoutingUnits().addAll(OrderDirection.DESC == orderByItem.getSegment().getOrderDirection() ? routingUnits.get().descendingMap().values() : routingUnits.get().values());
+        return Optional.of(result);
+    }
+    
+    private boolean isOrderedConcatenationSupported(final ShardingSelectOptimizedStatement selectStatement) {
+        return 1 == selectStatement.getTables().getTableNames().size() && !selectStatement.isContainsSubquery()
+                && selectStatement.getGroupBy().getItems().isEmpty() && selectStatement.getSelectItems().getAggregationSelectItems().isEmpty() && !selectStatement.getSelectItems().isDistinctRow()
+                && !selectStatement.getOrderBy().getItems().isEmpty() && selectStatement.getOrderBy().getItems().iterator().next().getSegment() instanceof ColumnOrderByItemSegment;
+    }
+    
+    private Optional<NavigableMap<Integer, RoutingUnit>> getRoutingUnitsInOrder(
+            final ShardingStrategy shardingStrategy, final String orderByColumnName, final RoutingResult routingResult, final boolean isTableSharding) {
+        if (!(shardingStrategy instanceof IntervalShardingStrategy) || !shardingStrategy.getShardingColumns().contains(orderByColumnName)) {
+            return Optional.absent();
+        }
+        NavigableMap<Integer, RoutingUnit> result = new TreeMap<>();
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            if (1 != each.getTableUnits().size()) {
+                return Optional.absent();
+            }
+            int targetIndex = ((IntervalShardingStrategy) shardingStrategy).getTargetIndex(
+                    isTableSharding ? each.getTableUnits().get(0).getActualTableName() : each.getMasterSlaveLogicDataSourceName());
+            if (targetIndex < 0 || null != result.put(targetIndex, each)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(result);
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.shardingsphere.core.route.type.broadcast.DataSourceGroupBroadc
 import org.apache.shardingsphere.core.route.type.broadcast.DatabaseBroadcastRoutingEngine;
 import org.apache.shardingsphere.core.route.type.broadcast.MasterInstanceBroadcastRoutingEngine;
 import org.apache.shardingsphere.core.route.type.broadcast.TableBroadcastRoutingEngine;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
 import org.apache.shardingsphere.core.route.type.complex.ComplexRoutingEngine;
 import org.apache.shardingsphere.core.route.type.defaultdb.DefaultDatabaseRoutingEngine;
 import org.apache.shardingsphere.core.route.type.ignore.IgnoreRoutingEngine;
@@ -61,9 +62,11 @@ public final class RoutingEngineFactory {
      * @param shardingRule sharding rule
      * @param dataSourceMetas data source metas
      * @param optimizedStatement optimized statement
+     * @param cartesianRoutingGuard cartesian routing guard
      * @return new instance of routing engine
      */
-    public static RoutingEngine newInstance(final ShardingRule shardingRule, final DataSourceMetas dataSourceMetas, final OptimizedStatement optimizedStatement) {
+    public static RoutingEngine newInstance(
+            final ShardingRule shardingRule, final DataSourceMetas dataSourceMetas, final OptimizedStatement optimizedStatement, final CartesianRoutingGuard cartesianRoutingGuard) {
         SQLStatement sqlStatement = optimizedStatement.getSQLStatement();
         Collection<String> tableNames = optimizedStatement.getTables().getTableNames();
         if (sqlStatement instanceof TCLStatement) {
@@ -89,7 +92,7 @@ public final class RoutingEngineFactory {
             return new UnicastRoutingEngine(shardingRule, tableNames);
         }
         Preconditions.checkState(optimizedStatement instanceof ShardingConditionOptimizedStatement);
-        return getShardingRoutingEngine(shardingRule, (ShardingConditionOptimizedStatement) optimizedStatement, tableNames);
+        return getShardingRoutingEngine(shardingRule, (ShardingConditionOptimizedStatement) optimizedStatement, tableNames, cartesianRoutingGuard);
     }
     
     private static RoutingEngine getDALRoutingEngine(final ShardingRule shardingRule, final SQLStatement sqlStatement, final Collection<String> tableNames) {
@@ -114,12 +117,12 @@ public final class RoutingEngineFactory {
         return !optimizedStatement.getTables().isEmpty() && !"*".equals(optimizedStatement.getTables().getSingleTableName());
     }
     
-    private static RoutingEngine getShardingRoutingEngine(final ShardingRule shardingRule, final ShardingConditionOptimizedStatement optimizedStatement, final Collection<String> tableNames) {
+    private static RoutingEngine getShardingRoutingEngine(
+            final ShardingRule shardingRule, final ShardingConditionOptimizedStatement optimizedStatement, final Collection<String> tableNames, final CartesianRoutingGuard cartesianRoutingGuard) {
         Collection<String> shardingTableNames = shardingRule.getShardingLogicTableNames(tableNames);
         if (1 == shardingTableNames.size() || shardingRule.isAllBindingTables(shardingTableNames)) {
             return new StandardRoutingEngine(shardingRule, shardingTableNames.iterator().next(), optimizedStatement);
         }
-        // TODO config for cartesian set
-        return new ComplexRoutingEngine(shardingRule, tableNames, optimizedStatement);
+        return new ComplexRoutingEngine(shardingRule, tableNames, optimizedStatement, cartesianRoutingGuard);
     }
 }
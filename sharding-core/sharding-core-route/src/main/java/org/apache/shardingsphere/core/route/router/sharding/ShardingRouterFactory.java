@@ -22,6 +22,8 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
@@ -41,11 +43,13 @@ public final class ShardingRouterFactory {
      * @param metaData meta data of ShardingSphere
      * @param databaseType database type
      * @param sqlParseEngine parsing engine
+     * @param routingResultCache routing result cache
+     * @param cartesianRoutingGuard cartesian routing guard
      * @return sharding router instance
      */
-    public static ShardingRouter newInstance(
-            final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final DatabaseType databaseType, final SQLParseEngine sqlParseEngine) {
+    public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingSphereMetaData metaData, final DatabaseType databaseType, 
+                                             final SQLParseEngine sqlParseEngine, final RoutingResultCache routingResultCache, final CartesianRoutingGuard cartesianRoutingGuard) {
         return HintManager.isDatabaseShardingOnly()
-                ? new DatabaseHintSQLRouter(databaseType, shardingRule) : new ParsingSQLRouter(shardingRule, metaData, sqlParseEngine);
+                ? new DatabaseHintSQLRouter(databaseType, shardingRule) : new ParsingSQLRouter(shardingRule, metaData, sqlParseEngine, routingResultCache, cartesianRoutingGuard);
     }
 }
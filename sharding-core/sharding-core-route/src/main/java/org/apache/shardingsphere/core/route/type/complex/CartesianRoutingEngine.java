@@ -17,20 +17,21 @@
 
 package org.apache.shardingsphere.core.route.type.complex;
 
-import com.google.common.base.Function;
 import com.google.common.base.Optional;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
-import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -40,21 +41,39 @@ import java.util.Set;
 /**
  * cartesian routing engine.
  * 
+ * <p>
+ * Actual tables of collocated logic tables are paired by suffix instead of cartesian product,
+ * because rows of them which can be joined by equality join condition on sharding columns are always in actual tables with same suffix.
+ * </p>
+ * 
  * @author zhangliang
  * @author maxiaoguang
  */
 @RequiredArgsConstructor
 public final class CartesianRoutingEngine implements RoutingEngine {
     
+    private final ShardingRule shardingRule;
+    
     private final Collection<RoutingResult> routingResults;
     
+    private final Collection<Set<String>> collocatedLogicTableGroups;
+    
+    private final CartesianRoutingGuard cartesianRoutingGuard;
+    
     @Override
     public RoutingResult route() {
-        RoutingResult result = new RoutingResult();
+        Map<String, List<Set<List<TableUnit>>>> dataSourceRoutingTableGroups = new LinkedHashMap<>();
+        long routingUnitsCount = 0L;
         for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
-            List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<TableUnit>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
-            result.getRoutingUnits().addAll(getRoutingUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
+            List<Set<List<TableUnit>>> routingTableGroups = getRoutingTableGroups(entry.getKey(), entry.getValue());
+            dataSourceRoutingTableGroups.put(entry.getKey(), routingTableGroups);
+            long cartesianProductSize = getCartesianProductSize(routingTableGroups);
+            routingUnitsCount = Long.MAX_VALUE - routingUnitsCount < cartesianProductSize ? Long.MAX_VALUE : routingUnitsCount + cartesianProductSize;
+        }
+        cartesianRoutingGuard.check(routingUnitsCount);
+        RoutingResult result = new RoutingResult();
+        for (Entry<String, List<Set<List<TableUnit>>>> entry : dataSourceRoutingTableGroups.entrySet()) {
+            result.getRoutingUnits().addAll(getRoutingUnits(entry.getKey(), Sets.cartesianProduct(entry.getValue())));
         }
         return result;
     }
@@ -85,43 +104,135 @@ public final class CartesianRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private List<Set<String>> getActualTableGroups(final String dataSourceName, final Set<String> logicTables) {
-        List<Set<String>> result = new ArrayList<>(logicTables.size());
+    private List<Set<List<TableUnit>>> getRoutingTableGroups(final String dataSourceName, final Set<String> logicTables) {
+        Map<String, Set<TableUnit>> tableUnitGroups = getTableUnitGroups(dataSourceName, logicTables);
+        List<Set<List<TableUnit>>> result = new ArrayList<>(tableUnitGroups.size());
+        Collection<String> pairedLogicTables = new HashSet<>();
+        for (Entry<String, Set<TableUnit>> entry : tableUnitGroups.entrySet()) {
+            if (pairedLogicTables.contains(entry.getKey())) {
+                continue;
+            }
+            Collection<String> collocatedLogicTables = findCollocatedLogicTables(entry.getKey());
+            Optional<Set<List<TableUnit>>> pairedTableUnits = pairTableUnits(tableUnitGroups, collocatedLogicTables);
+            if (pairedTableUnits.isPresent()) {
+                result.add(pairedTableUnits.get());
+                pairedLogicTables.addAll(collocatedLogicTables);
+            } else {
+                result.add(toSingletonLists(entry.getValue()));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Set<TableUnit>> getTableUnitGroups(final String dataSourceName, final Set<String> logicTables) {
+        Map<String, Set<TableUnit>> result = new LinkedHashMap<>(logicTables.size(), 1);
         for (RoutingResult each : routingResults) {
-            result.addAll(each.getActualTableNameGroups(dataSourceName, logicTables));
+            for (RoutingUnit routingUnit : each.getRoutingUnits()) {
+                if (dataSourceName.equalsIgnoreCase(routingUnit.getDataSourceName())) {
+                    addTableUnits(result, logicTables, routingUnit.getTableUnits());
+                }
+            }
         }
         return result;
     }
     
-    private List<Set<TableUnit>> toRoutingTableGroups(final String dataSource, final List<Set<String>> actualTableGroups) {
-        List<Set<TableUnit>> result = new ArrayList<>(actualTableGroups.size());
-        for (Set<String> each : actualTableGroups) {
-            result.add(new HashSet<>(Lists.transform(new ArrayList<>(each), new Function<String, TableUnit>() {
+    private void addTableUnits(final Map<String, Set<TableUnit>> tableUnitGroups, final Set<String> logicTables, final Collection<TableUnit> tableUnits) {
+        for (TableUnit each : tableUnits) {
+            if (!logicTables.contains(each.getLogicTableName())) {
+                continue;
+            }
+            if (!tableUnitGroups.containsKey(each.getLogicTableName())) {
+                tableUnitGroups.put(each.getLogicTableName(), new LinkedHashSet<TableUnit>());
+            }
+            tableUnitGroups.get(each.getLogicTableName()).add(each);
+        }
+    }
     
-                @Override
-                public TableUnit apply(final String input) {
-                    return findRoutingTable(dataSource, input);
-                }
-            })));
+    private Collection<String> findCollocatedLogicTables(final String logicTable) {
+        for (Set<String> each : collocatedLogicTableGroups) {
+            if (each.contains(logicTable)) {
+                return each;
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<Set<List<TableUnit>>> pairTableUnits(final Map<String, Set<TableUnit>> tableUnitGroups, final Collection<String> collocatedLogicTables) {
+        if (collocatedLogicTables.isEmpty()) {
+            return Optional.absent();
+        }
+        Map<String, List<TableUnit>> result = null;
+        for (Entry<String, Set<TableUnit>> entry : tableUnitGroups.entrySet()) {
+            if (!collocatedLogicTables.contains(entry.getKey())) {
+                continue;
+            }
+            Optional<Map<String, TableUnit>> suffixedTableUnits = getSuffixedTableUnits(entry.getKey(), entry.getValue());
+            if (!suffixedTableUnits.isPresent()) {
+                return Optional.absent();
+            }
+            result = null == result ? toPairedTableUnits(suffixedTableUnits.get()) : mergePairedTableUnits(result, suffixedTableUnits.get());
+        }
+        return null == result || result.isEmpty() ? Optional.<Set<List<TableUnit>>>absent() : Optional.<Set<List<TableUnit>>>of(new LinkedHashSet<>(result.values()));
+    }
+    
+    private Optional<Map<String, TableUnit>> getSuffixedTableUnits(final String logicTable, final Collection<TableUnit> tableUnits) {
+        Map<String, TableUnit> result = new LinkedHashMap<>(tableUnits.size(), 1);
+        for (TableUnit each : tableUnits) {
+            if (!each.getActualTableName().regionMatches(true, 0, logicTable, 0, logicTable.length())) {
+                return Optional.absent();
+            }
+            result.put(each.getActualTableName().substring(logicTable.length()).toLowerCase(), each);
+        }
+        return Optional.of(result);
+    }
+    
+    private Map<String, List<TableUnit>> toPairedTableUnits(final Map<String, TableUnit> suffixedTableUnits) {
+        Map<String, List<TableUnit>> result = new LinkedHashMap<>(suffixedTableUnits.size(), 1);
+        for (Entry<String, TableUnit> entry : suffixedTableUnits.entrySet()) {
+            result.put(entry.getKey(), Collections.singletonList(entry.getValue()));
         }
         return result;
     }
     
-    private TableUnit findRoutingTable(final String dataSource, final String actualTable) {
-        for (RoutingResult each : routingResults) {
-            Optional<TableUnit> result = each.getTableUnit(dataSource, actualTable);
-            if (result.isPresent()) {
-                return result.get();
+    private Map<String, List<TableUnit>> mergePairedTableUnits(final Map<String, List<TableUnit>> pairedTableUnits, final Map<String, TableUnit> suffixedTableUnits) {
+        Map<String, List<TableUnit>> result = new LinkedHashMap<>(pairedTableUnits.size(), 1);
+        for (Entry<String, List<TableUnit>> entry : pairedTableUnits.entrySet()) {
+            TableUnit tableUnit = suffixedTableUnits.get(entry.getKey());
+            if (null != tableUnit) {
+                List<TableUnit> tableUnits = new ArrayList<>(entry.getValue());
+                tableUnits.add(tableUnit);
+                result.put(entry.getKey(), tableUnits);
+            }
+        }
+        return result;
+    }
+    
+    private Set<List<TableUnit>> toSingletonLists(final Collection<TableUnit> tableUnits) {
+        Set<List<TableUnit>> result = new LinkedHashSet<>(tableUnits.size(), 1);
+        for (TableUnit each : tableUnits) {
+            result.add(Collections.singletonList(each));
+        }
+        return result;
+    }
+    
+    private long getCartesianProductSize(final List<Set<List<TableUnit>>> routingTableGroups) {
+        long result = 1L;
+        for (Set<List<TableUnit>> each : routingTableGroups) {
+            if (each.isEmpty()) {
+                return 0L;
             }
+            result = Long.MAX_VALUE / each.size() < result ? Long.MAX_VALUE : result * each.size();
         }
-        throw new IllegalStateException(String.format("Cannot found routing table factor, data source: %s, actual table: %s", dataSource, actualTable));
+        return result;
     }
     
-    private Collection<RoutingUnit> getRoutingUnits(final String dataSource, final Set<List<TableUnit>> cartesianRoutingTableGroups) {
+    private Collection<RoutingUnit> getRoutingUnits(final String dataSource, final Set<List<List<TableUnit>>> cartesianRoutingTableGroups) {
         Collection<RoutingUnit> result = new LinkedHashSet<>();
-        for (List<TableUnit> each : cartesianRoutingTableGroups) {
+        for (List<List<TableUnit>> each : cartesianRoutingTableGroups) {
             RoutingUnit routingUnit = new RoutingUnit(dataSource);
-            routingUnit.getTableUnits().addAll(each);
+            for (List<TableUnit> tableUnits : each) {
+                routingUnit.getTableUnits().addAll(tableUnits);
+            }
             result.add(routingUnit);
         }
         return result;
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type.complex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.exception.ShardingException;
+
+/**
+ * Cartesian routing guard.
+ * 
+ * <p>
+ * Count of routing units is checked before routing units are created, so no connection is acquired for rejected SQL.
+ * There is no limit if maximum size is not greater than 0.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class CartesianRoutingGuard {
+    
+    private final int maxSize;
+    
+    private final boolean rejected;
+    
+    void check(final long routingUnitsCount) {
+        if (maxSize <= 0 || routingUnitsCount <= maxSize) {
+            return;
+        }
+        if (rejected) {
+            throw new ShardingException("Cartesian routing units count '%s' exceeds the maximum '%s', please add equality join conditions on sharding columns or configure binding tables.", 
+                    routingUnitsCount, maxSize);
+        }
+        log.warn("Cartesian routing units count '{}' exceeds the maximum '{}'.", routingUnitsCount, maxSize);
+    }
+}
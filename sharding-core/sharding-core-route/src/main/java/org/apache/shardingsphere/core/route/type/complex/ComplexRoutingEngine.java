@@ -21,18 +21,36 @@ import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.optimize.api.segment.Table;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateColumnCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.statement.generic.WhereSegmentAvailable;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.standard.StandardRoutingEngine;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.standard.algorithm.HashModShardingAlgorithm;
+import org.apache.shardingsphere.core.strategy.route.standard.algorithm.ModShardingAlgorithm;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 /**
  * Complex routing engine.
@@ -49,6 +67,8 @@ public final class ComplexRoutingEngine implements RoutingEngine {
     
     private final ShardingConditionOptimizedStatement optimizedStatement;
     
+    private final CartesianRoutingGuard cartesianRoutingGuard;
+    
     @Override
     public RoutingResult route() {
         Collection<RoutingResult> result = new ArrayList<>(logicTables.size());
@@ -77,6 +97,118 @@ public final class ComplexRoutingEngine implements RoutingEngine {
         if (1 == result.size()) {
             return result.iterator().next();
         }
-        return new CartesianRoutingEngine(result).route();
+        return new CartesianRoutingEngine(shardingRule, result, getCollocatedLogicTableGroups(), cartesianRoutingGuard).route();
+    }
+    
+    private Collection<Set<String>> getCollocatedLogicTableGroups() {
+        Collection<Set<String>> result = new LinkedList<>();
+        for (PredicateSegment each : getEqualityJoinPredicates()) {
+            ColumnSegment rightColumn = ((PredicateColumnCompareRightValue) each.getRightValue()).getColumn();
+            Optional<TableRule> leftTableRule = findTableRule(each.getColumn());
+            Optional<TableRule> rightTableRule = findTableRule(rightColumn);
+            if (leftTableRule.isPresent() && rightTableRule.isPresent() && isCollocated(leftTableRule.get(), each.getColumn().getName(), rightTableRule.get(), rightColumn.getName())) {
+                addCollocatedLogicTables(result, leftTableRule.get().getLogicTable(), rightTableRule.get().getLogicTable());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<PredicateSegment> getEqualityJoinPredicates() {
+        Collection<PredicateSegment> result = new LinkedList<>();
+        Optional<WhereSegment> whereSegment = optimizedStatement.getSQLStatement() instanceof WhereSegmentAvailable
+                ? ((WhereSegmentAvailable) optimizedStatement.getSQLStatement()).getWhere() : Optional.<WhereSegment>absent();
+        if (!whereSegment.isPresent() || whereSegment.get().getAndPredicates().isEmpty()) {
+            return result;
+        }
+        Iterator<AndPredicate> andPredicates = whereSegment.get().getAndPredicates().iterator();
+        for (PredicateSegment each : andPredicates.next().getPredicates()) {
+            if (each.getRightValue() instanceof PredicateColumnCompareRightValue && "=".equals(((PredicateColumnCompareRightValue) each.getRightValue()).getOperator())) {
+                result.add(each);
+            }
+        }
+        while (andPredicates.hasNext()) {
+            result.retainAll(andPredicates.next().getPredicates());
+        }
+        return result;
+    }
+    
+    private Optional<TableRule> findTableRule(final ColumnSegment column) {
+        if (!column.getOwner().isPresent()) {
+            return Optional.absent();
+        }
+        Optional<Table> table = optimizedStatement.getTables().find(column.getOwner().get().getTableName());
+        return table.isPresent() ? shardingRule.findTableRule(table.get().getName()) : Optional.<TableRule>absent();
+    }
+    
+    private boolean isCollocated(final TableRule tableRule1, final String column1, final TableRule tableRule2, final String column2) {
+        if (tableRule1.getLogicTable().equals(tableRule2.getLogicTable())) {
+            return false;
+        }
+        ShardingStrategy shardingStrategy1 = shardingRule.getTableShardingStrategy(tableRule1);
+        ShardingStrategy shardingStrategy2 = shardingRule.getTableShardingStrategy(tableRule2);
+        return isOnlyShardingColumn(shardingStrategy1, column1) && isOnlyShardingColumn(shardingStrategy2, column2)
+                && isSameShardingAlgorithm(tableRule1, shardingStrategy1, tableRule2, shardingStrategy2) && isSameActualTableSuffixes(tableRule1, tableRule2);
+    }
+    
+    private boolean isOnlyShardingColumn(final ShardingStrategy shardingStrategy, final String column) {
+        return 1 == shardingStrategy.getShardingColumns().size() && shardingStrategy.getShardingColumns().contains(column);
+    }
+    
+    private boolean isSameShardingAlgorithm(final TableRule tableRule1, final ShardingStrategy shardingStrategy1, final TableRule tableRule2, final ShardingStrategy shardingStrategy2) {
+        if (shardingStrategy1 instanceof StandardShardingStrategy && shardingStrategy2 instanceof StandardShardingStrategy) {
+            PreciseShardingAlgorithm algorithm1 = ((StandardShardingStrategy) shardingStrategy1).getPreciseShardingAlgorithm();
+            PreciseShardingAlgorithm algorithm2 = ((StandardShardingStrategy) shardingStrategy2).getPreciseShardingAlgorithm();
+            return algorithm1.getClass() == algorithm2.getClass() && (algorithm1 instanceof ModShardingAlgorithm || algorithm1 instanceof HashModShardingAlgorithm);
+        }
+        if (shardingStrategy1 instanceof InlineShardingStrategy && shardingStrategy2 instanceof InlineShardingStrategy) {
+            Optional<String> suffixExpression1 = getSuffixExpression(tableRule1.getLogicTable(), (InlineShardingStrategy) shardingStrategy1);
+            return suffixExpression1.isPresent() && suffixExpression1.equals(getSuffixExpression(tableRule2.getLogicTable(), (InlineShardingStrategy) shardingStrategy2));
+        }
+        return false;
+    }
+    
+    private Optional<String> getSuffixExpression(final String logicTable, final InlineShardingStrategy shardingStrategy) {
+        String algorithmExpression = shardingStrategy.getAlgorithmExpression();
+        if (!algorithmExpression.regionMatches(true, 0, logicTable, 0, logicTable.length())) {
+            return Optional.absent();
+        }
+        String shardingColumn = shardingStrategy.getShardingColumns().iterator().next();
+        return Optional.of(algorithmExpression.substring(logicTable.length()).replaceAll("\\b" + Pattern.quote(shardingColumn) + "\\b", "?"));
+    }
+    
+    private boolean isSameActualTableSuffixes(final TableRule tableRule1, final TableRule tableRule2) {
+        for (String each : tableRule1.getActualDatasourceNames()) {
+            Optional<List<String>> actualTableSuffixes = getActualTableSuffixes(tableRule1, each);
+            if (!actualTableSuffixes.isPresent() || !actualTableSuffixes.equals(getActualTableSuffixes(tableRule2, each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<List<String>> getActualTableSuffixes(final TableRule tableRule, final String dataSourceName) {
+        List<String> result = new ArrayList<>();
+        for (String each : tableRule.getActualTableNames(dataSourceName)) {
+            if (!each.regionMatches(true, 0, tableRule.getLogicTable(), 0, tableRule.getLogicTable().length())) {
+                return Optional.absent();
+            }
+            result.add(each.substring(tableRule.getLogicTable().length()).toLowerCase());
+        }
+        return Optional.of(result);
+    }
+    
+    private void addCollocatedLogicTables(final Collection<Set<String>> collocatedLogicTableGroups, final String logicTable1, final String logicTable2) {
+        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(logicTable1);
+        result.add(logicTable2);
+        Iterator<Set<String>> iterator = collocatedLogicTableGroups.iterator();
+        while (iterator.hasNext()) {
+            Set<String> each = iterator.next();
+            if (each.contains(logicTable1) || each.contains(logicTable2)) {
+                result.addAll(each);
+                iterator.remove();
+            }
+        }
+        collocatedLogicTableGroups.add(result);
     }
 }
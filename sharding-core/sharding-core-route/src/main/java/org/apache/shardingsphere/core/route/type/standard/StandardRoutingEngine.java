@@ -41,14 +41,19 @@ import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Standard routing engine.
@@ -108,32 +113,57 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private Collection<DataNode> routeByShardingConditions(final TableRule tableRule) {
         return optimizedStatement.getShardingConditions().getConditions().isEmpty()
-                ? route0(tableRule, Collections.<RouteValue>emptyList(), Collections.<RouteValue>emptyList()) : routeByShardingConditionsWithCondition(tableRule);
+                ? route0(tableRule, Collections.<RouteValue>emptyList(), Collections.<RouteValue>emptyList()) : routeByConditions(tableRule, false);
     }
     
-    private Collection<DataNode> routeByShardingConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+    private Collection<DataNode> routeByMixedConditions(final TableRule tableRule) {
+        return optimizedStatement.getShardingConditions().getConditions().isEmpty() ? routeByMixedConditionsWithHint(tableRule) : routeByConditions(tableRule, true);
+    }
+    
+    private Collection<DataNode> routeByConditions(final TableRule tableRule, final boolean mixed) {
+        Collection<DataNode> result = new LinkedHashSet<>();
+        Map<List<List<Object>>, Collection<DataNode>> routedDataNodes = new HashMap<>();
+        Iterator<InsertValue> pairedInsertValues = getPairedInsertValues();
+        Collection<String> databaseShardingColumns = shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns();
+        Collection<String> tableShardingColumns = shardingRule.getTableShardingStrategy(tableRule).getShardingColumns();
         for (ShardingCondition each : optimizedStatement.getShardingConditions().getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule, getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
-                    getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
-            reviseInsertValue(each, dataNodes);
-            result.addAll(dataNodes);
+            List<RouteValue> databaseShardingValues = mixed ? getDatabaseShardingValues(tableRule, each) : getShardingValuesFromShardingConditions(databaseShardingColumns, each);
+            List<RouteValue> tableShardingValues = mixed ? getTableShardingValues(tableRule, each) : getShardingValuesFromShardingConditions(tableShardingColumns, each);
+            List<List<Object>> routeKey = Arrays.asList(getRouteKey(databaseShardingValues), getRouteKey(tableShardingValues));
+            Collection<DataNode> dataNodes = routedDataNodes.get(routeKey);
+            if (null == dataNodes) {
+                dataNodes = route0(tableRule, databaseShardingValues, tableShardingValues);
+                routedDataNodes.put(routeKey, dataNodes);
+                result.addAll(dataNodes);
+            }
+            reviseInsertValue(each, dataNodes, pairedInsertValues);
         }
         return result;
     }
     
-    private Collection<DataNode> routeByMixedConditions(final TableRule tableRule) {
-        return optimizedStatement.getShardingConditions().getConditions().isEmpty() ? routeByMixedConditionsWithHint(tableRule) : routeByMixedConditionsWithCondition(tableRule);
+    private List<Object> getRouteKey(final List<RouteValue> routeValues) {
+        List<Object> result = new ArrayList<>(routeValues.size() * 2);
+        for (RouteValue each : routeValues) {
+            result.add(each.getColumnName());
+            if (each instanceof ListRouteValue) {
+                result.add(((ListRouteValue) each).getValues());
+            } else if (each instanceof RangeRouteValue) {
+                result.add(((RangeRouteValue) each).getValueRange());
+            } else {
+                result.add(each);
+            }
+        }
+        return result;
     }
     
-    private Collection<DataNode> routeByMixedConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
-        for (ShardingCondition each : optimizedStatement.getShardingConditions().getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule, getDatabaseShardingValues(tableRule, each), getTableShardingValues(tableRule, each));
-            reviseInsertValue(each, dataNodes);
-            result.addAll(dataNodes);
+    private Iterator<InsertValue> getPairedInsertValues() {
+        if (optimizedStatement instanceof ShardingInsertOptimizedStatement) {
+            List<InsertValue> insertValues = ((ShardingInsertOptimizedStatement) optimizedStatement).getInsertValues();
+            if (insertValues.size() == optimizedStatement.getShardingConditions().getConditions().size()) {
+                return insertValues.iterator();
+            }
         }
-        return result;
+        return Collections.<InsertValue>emptyIterator();
     }
     
     private Collection<DataNode> routeByMixedConditionsWithHint(final TableRule tableRule) {
@@ -173,8 +203,8 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private List<RouteValue> getShardingValuesFromShardingConditions(final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<RouteValue> result = new ArrayList<>(shardingColumns.size());
+        Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
         for (RouteValue each : shardingCondition.getRouteValues()) {
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
             if ((logicTableName.equals(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName)) 
                     && shardingColumns.contains(each.getColumnName())) {
                 result.add(each);
@@ -214,7 +244,11 @@ public final class StandardRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private void reviseInsertValue(final ShardingCondition shardingCondition, final Collection<DataNode> dataNodes) {
+    private void reviseInsertValue(final ShardingCondition shardingCondition, final Collection<DataNode> dataNodes, final Iterator<InsertValue> pairedInsertValues) {
+        if (pairedInsertValues.hasNext()) {
+            pairedInsertValues.next().getDataNodes().addAll(dataNodes);
+            return;
+        }
         if (optimizedStatement instanceof ShardingInsertOptimizedStatement) {
             for (InsertValue each : ((ShardingInsertOptimizedStatement) optimizedStatement).getInsertValues()) {
                 if (match((ShardingInsertOptimizedStatement) optimizedStatement, each, shardingCondition)) {
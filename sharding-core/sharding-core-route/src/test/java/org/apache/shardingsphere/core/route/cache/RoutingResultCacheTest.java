@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.AlwaysFalseShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingConditions;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RoutingResultCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+    
+    @Test
+    public void assertGetRoutingResult() {
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().add(new RoutingUnit("ds_0"));
+        routingResultCache.put(RoutingResultCacheKey.newInstance(SQL, createShardingConditions(1L)).get(), routingResult);
+        routingResult.getRoutingUnits().clear();
+        RoutingResult actual = routingResultCache.getRoutingResult(RoutingResultCacheKey.newInstance(SQL, createShardingConditions(1L)).get()).get();
+        assertThat(actual.getRoutingUnits().size(), is(1));
+        assertThat(actual.getRoutingUnits().iterator().next().getDataSourceName(), is("ds_0"));
+        actual.getRoutingUnits().clear();
+        RoutingResult actualAgain = routingResultCache.getRoutingResult(RoutingResultCacheKey.newInstance(SQL, createShardingConditions(1L)).get()).get();
+        assertThat(actualAgain, not(sameInstance(actual)));
+        assertThat(actualAgain.getRoutingUnits().size(), is(1));
+        assertFalse(routingResultCache.getRoutingResult(RoutingResultCacheKey.newInstance(SQL, createShardingConditions(2L)).get()).isPresent());
+        assertThat(routingResultCache.getHitCount(), is(2L));
+        assertThat(routingResultCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutShardingConditions() {
+        assertFalse(RoutingResultCacheKey.newInstance(SQL, new ShardingConditions(Collections.<ShardingCondition>emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithAlwaysFalseShardingCondition() {
+        List<ShardingCondition> shardingConditions = new LinkedList<>();
+        shardingConditions.add(new AlwaysFalseShardingCondition());
+        assertFalse(RoutingResultCacheKey.newInstance(SQL, new ShardingConditions(shardingConditions)).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithSameShardingValues() {
+        assertTrue(RoutingResultCacheKey.newInstance(SQL, createShardingConditions(1L)).get().equals(RoutingResultCacheKey.newInstance(SQL, createShardingConditions(1L)).get()));
+    }
+    
+    private ShardingConditions createShardingConditions(final long orderId) {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getRouteValues().add(new ListRouteValue<>("order_id", "t_order", Collections.singletonList(orderId)));
+        List<ShardingCondition> shardingConditions = new LinkedList<>();
+        shardingConditions.add(shardingCondition);
+        return new ShardingConditions(shardingConditions);
+    }
+}
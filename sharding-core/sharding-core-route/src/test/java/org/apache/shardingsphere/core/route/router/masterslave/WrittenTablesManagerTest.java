@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.masterslave;
+
+import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class WrittenTablesManagerTest {
+    
+    private final MasterSlaveRule masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("ms_ds", "master_ds", Arrays.asList("slave_ds_0", "slave_ds_1")));
+    
+    private final SessionWrittenTables sessionWrittenTables = new SessionWrittenTables();
+    
+    @Before
+    public void setUp() {
+        WrittenTablesManager.bind(sessionWrittenTables);
+    }
+    
+    @After
+    public void tearDown() {
+        WrittenTablesManager.unbind();
+    }
+    
+    @Test
+    public void assertIsMasterRouteForWrittenTablesOnly() {
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 60000L));
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Arrays.asList("T_ORDER", "t_order_item"), 60000L));
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order_item"), 60000L));
+    }
+    
+    @Test
+    public void assertIsMasterRouteWithHint() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setMasterRouteOnly();
+            assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+        }
+    }
+    
+    @Test
+    public void assertIsMasterRouteAfterWindowExpired() throws InterruptedException {
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 1L));
+        Thread.sleep(10L);
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 1L));
+    }
+    
+    @Test
+    public void assertIsMasterRouteInTransaction() {
+        sessionWrittenTables.begin();
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order_item"), 60000L));
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 60000L));
+        sessionWrittenTables.commit();
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order_item"), 60000L));
+    }
+    
+    @Test
+    public void assertWindowStartsAtCommit() throws InterruptedException {
+        sessionWrittenTables.begin();
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 50L));
+        Thread.sleep(100L);
+        sessionWrittenTables.commit();
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 50L));
+    }
+    
+    @Test
+    public void assertIsMasterRouteAfterRollback() {
+        sessionWrittenTables.begin();
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 60000L));
+        sessionWrittenTables.rollback();
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+    }
+    
+    @Test
+    public void assertBindSessionWrittenTables() {
+        WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 60000L);
+        WrittenTablesManager.bind(new SessionWrittenTables());
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+        WrittenTablesManager.bind(sessionWrittenTables);
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+    }
+    
+    @Test
+    public void assertIsMasterRouteWithoutSessionBound() {
+        WrittenTablesManager.unbind();
+        assertTrue(WrittenTablesManager.isMasterRoute(masterSlaveRule, new InsertStatement(), Collections.singletonList("t_order"), 60000L));
+        assertFalse(WrittenTablesManager.isMasterRoute(masterSlaveRule, new SelectStatement(), Collections.singletonList("t_order"), 60000L));
+        assertFalse(sessionWrittenTables.isWritten(masterSlaveRule.getName(), Collections.singletonList("t_order")));
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import org.apache.shardingsphere.api.config.sharding.GlobalIndexConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.fixture.GlobalIndexFixture;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionManager;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class GlobalIndexRouteTest {
+    
+    private final GlobalIndexConnectionProvider connectionProvider = mock(GlobalIndexConnectionProvider.class);
+    
+    private ShardingRule shardingRule;
+    
+    private ParsingSQLRouter router;
+    
+    @Before
+    public void setUp() {
+        GlobalIndexConnectionManager.bind(connectionProvider);
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_user", "ds_${0..1}.t_user_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_user_${user_id % 2}"));
+        tableRuleConfig.getGlobalIndexConfigs().add(new GlobalIndexConfiguration("FIXTURE", "email"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        router = new ParsingSQLRouter(shardingRule, createMetaData(), new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")), new RoutingResultCache(0L), new CartesianRoutingGuard(0, true));
+    }
+    
+    @After
+    public void tearDown() {
+        GlobalIndexConnectionManager.unbind();
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(2, 1);
+        dataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db_0");
+        dataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db_1");
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(1, 1);
+        tableMetaDataMap.put("t_user", new TableMetaData(Arrays.asList(new ColumnMetaData("user_id", "int", true), 
+                new ColumnMetaData("email", "varchar", false), new ColumnMetaData("name", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(dataSourceURLs, DatabaseTypes.getActualDatabaseType("MySQL")), new TableMetas(tableMetaDataMap));
+    }
+    
+    private GlobalIndexFixture getGlobalIndex() {
+        return (GlobalIndexFixture) shardingRule.getTableRule("t_user").getGlobalIndexes().get("email");
+    }
+    
+    private SQLRouteResult route(final String sql, final List<Object> parameters) {
+        return router.route(sql, parameters, router.parse(sql, false));
+    }
+    
+    @Test
+    public void assertMaintainForInsertWithoutExecution() {
+        SQLRouteResult actual = route("INSERT INTO t_user (user_id, email) VALUES (?, ?)", Arrays.<Object>asList(1, "foo@test.com"));
+        assertFalse(actual.getGlobalIndexEntries().isEmpty());
+        assertTrue(getGlobalIndex().getEntries().isEmpty());
+    }
+    
+    @Test
+    public void assertMaintainForInsert() throws SQLException {
+        route("INSERT INTO t_user (user_id, email) VALUES (?, ?), (?, ?)", Arrays.<Object>asList(1, "foo@test.com", 2, "bar@test.com")).getGlobalIndexEntries().put(connectionProvider);
+        assertThat(getGlobalIndex().getEntries().get("foo@test.com").size(), is(1));
+        assertThat(getGlobalIndex().getEntries().get("foo@test.com").iterator().next(), is((Comparable) 1));
+        assertThat(getGlobalIndex().getEntries().get("bar@test.com").size(), is(1));
+        assertThat(getGlobalIndex().getEntries().get("bar@test.com").iterator().next(), is((Comparable) 2));
+    }
+    
+    @Test
+    public void assertMaintainForInsertWithLiterals() throws SQLException {
+        route("INSERT INTO t_user (user_id, email) VALUES (3, 'foo@test.com')", Collections.emptyList()).getGlobalIndexEntries().put(connectionProvider);
+        assertThat(getGlobalIndex().getEntries().get("foo@test.com").iterator().next(), is((Comparable) 3));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertMaintainForInsertOnDuplicateKeyUpdateIndexColumn() {
+        route("INSERT INTO t_user (user_id, email) VALUES (?, ?) ON DUPLICATE KEY UPDATE email = VALUES(email)", Arrays.<Object>asList(1, "foo@test.com"));
+    }
+    
+    @Test
+    public void assertMaintainForUpdate() throws SQLException {
+        route("UPDATE t_user SET email = ? WHERE user_id IN (?, ?)", Arrays.<Object>asList("foo@test.com", 1, 2)).getGlobalIndexEntries().put(connectionProvider);
+        assertThat(getGlobalIndex().getEntries().get("foo@test.com").size(), is(2));
+        assertTrue(getGlobalIndex().getEntries().get("foo@test.com").containsAll(Arrays.<Comparable<?>>asList(1, 2)));
+    }
+    
+    @Test
+    public void assertMaintainForUpdateNonIndexColumn() {
+        assertTrue(route("UPDATE t_user SET name = ? WHERE user_id = ?", Arrays.<Object>asList("foo", 1)).getGlobalIndexEntries().isEmpty());
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertMaintainForUpdateWithoutShardingCondition() {
+        route("UPDATE t_user SET email = ? WHERE name = ?", Arrays.<Object>asList("foo@test.com", "foo"));
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithIndexColumn() throws SQLException {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        getGlobalIndex().getEntries().put("foo@test.com", 2);
+        getGlobalIndex().getEntries().put("bar@test.com", 1);
+        route("DELETE FROM t_user WHERE email = ?", Collections.<Object>singletonList("foo@test.com")).getGlobalIndexEntries().remove(connectionProvider);
+        assertTrue(getGlobalIndex().getEntries().get("foo@test.com").isEmpty());
+        assertThat(getGlobalIndex().getEntries().get("bar@test.com").size(), is(1));
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithShardingColumn() throws SQLException {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        getGlobalIndex().getEntries().put("bar@test.com", 2);
+        route("DELETE FROM t_user WHERE user_id IN (?, ?)", Arrays.<Object>asList(1, 3)).getGlobalIndexEntries().remove(connectionProvider);
+        assertTrue(getGlobalIndex().getEntries().get("foo@test.com").isEmpty());
+        assertThat(getGlobalIndex().getEntries().get("bar@test.com").size(), is(1));
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithIndexColumnAndShardingColumn() throws SQLException {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        getGlobalIndex().getEntries().put("foo@test.com", 2);
+        route("DELETE FROM t_user WHERE email = ? AND user_id = ?", Arrays.<Object>asList("foo@test.com", 1)).getGlobalIndexEntries().remove(connectionProvider);
+        assertThat(getGlobalIndex().getEntries().get("foo@test.com").size(), is(1));
+        assertThat(getGlobalIndex().getEntries().get("foo@test.com").iterator().next(), is((Comparable) 2));
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithOtherColumn() {
+        assertTrue(route("DELETE FROM t_user WHERE email = ? AND name = ?", Arrays.<Object>asList("foo@test.com", "foo")).getGlobalIndexEntries().isEmpty());
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithOrCondition() {
+        assertTrue(route("DELETE FROM t_user WHERE email = ? OR user_id = ?", Arrays.<Object>asList("foo@test.com", 1)).getGlobalIndexEntries().isEmpty());
+    }
+    
+    @Test
+    public void assertMaintainForDeleteWithRangeCondition() {
+        assertTrue(route("DELETE FROM t_user WHERE user_id > ?", Collections.<Object>singletonList(1)).getGlobalIndexEntries().isEmpty());
+    }
+    
+    @Test
+    public void assertRouteWithIndexColumnEqual() {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        SQLRouteResult actual = route("SELECT * FROM t_user WHERE email = ?", Collections.<Object>singletonList("foo@test.com"));
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
+        RoutingUnit routingUnit = actual.getRoutingResult().getRoutingUnits().iterator().next();
+        assertThat(routingUnit.getDataSourceName(), is("ds_1"));
+        assertThat(routingUnit.getTableUnits().get(0).getActualTableName(), is("t_user_1"));
+    }
+    
+    @Test
+    public void assertRouteWithIndexColumnIn() {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        getGlobalIndex().getEntries().put("bar@test.com", 3);
+        SQLRouteResult actual = route("SELECT * FROM t_user WHERE email IN ('foo@test.com', 'bar@test.com')", Collections.emptyList());
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
+        RoutingUnit routingUnit = actual.getRoutingResult().getRoutingUnits().iterator().next();
+        assertThat(routingUnit.getDataSourceName(), is("ds_1"));
+        assertThat(routingUnit.getTableUnits().get(0).getActualTableName(), is("t_user_1"));
+    }
+    
+    @Test
+    public void assertRouteWithIndexColumnNotFound() {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        assertThat(route("SELECT * FROM t_user WHERE email = ?", Collections.<Object>singletonList("bar@test.com")).getRoutingResult().getRoutingUnits().size(), is(4));
+        assertThat(route("SELECT * FROM t_user WHERE email IN (?, ?)", Arrays.<Object>asList("foo@test.com", "bar@test.com")).getRoutingResult().getRoutingUnits().size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteWithIncompleteIndex() {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        getGlobalIndex().setComplete(false);
+        assertThat(route("SELECT * FROM t_user WHERE email = ?", Collections.<Object>singletonList("foo@test.com")).getRoutingResult().getRoutingUnits().size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteWithoutConnectionProvider() {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        GlobalIndexConnectionManager.unbind();
+        assertThat(route("SELECT * FROM t_user WHERE email = ?", Collections.<Object>singletonList("foo@test.com")).getRoutingResult().getRoutingUnits().size(), is(4));
+    }
+    
+    @Test
+    public void assertRouteWithIndexColumnAndShardingColumn() {
+        getGlobalIndex().getEntries().put("foo@test.com", 1);
+        SQLRouteResult actual = route("SELECT * FROM t_user WHERE email = ? AND user_id = ?", Arrays.<Object>asList("foo@test.com", 2));
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
+        assertThat(actual.getRoutingResult().getRoutingUnits().iterator().next().getDataSourceName(), is("ds_0"));
+    }
+}
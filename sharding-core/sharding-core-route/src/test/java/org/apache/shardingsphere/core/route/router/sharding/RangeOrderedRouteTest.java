@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RangeOrderedRouteTest {
+    
+    private ParsingSQLRouter router;
+    
+    @Before
+    public void setUp() {
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_0.t_order_${0..2}");
+        orderTableRuleConfig.setTableShardingStrategyConfig(new IntervalShardingStrategyConfiguration("order_id", "t_order_", Arrays.asList(1000L, 2000L)));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Collections.singletonList("ds_0"));
+        router = new ParsingSQLRouter(shardingRule, createMetaData(), new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")), new RoutingResultCache(0L), new CartesianRoutingGuard(0, true));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(1, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(Collections.singletonMap("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db_0"), DatabaseTypes.getActualDatabaseType("MySQL")),
+                new TableMetas(tableMetaDataMap));
+    }
+    
+    private SQLRouteResult route(final String sql, final List<Object> parameters) {
+        return router.route(sql, parameters, router.parse(sql, false));
+    }
+    
+    @Test
+    public void assertRouteWithOrderByShardingColumn() {
+        SQLRouteResult actual = route("SELECT * FROM t_order ORDER BY order_id, status LIMIT 10", Collections.<Object>emptyList());
+        assertTrue(actual.isRangeOrdered());
+        assertThat(getActualTableNames(actual), is(Arrays.asList("t_order_0", "t_order_1", "t_order_2")));
+    }
+    
+    @Test
+    public void assertRouteWithOrderByShardingColumnDesc() {
+        SQLRouteResult actual = route("SELECT * FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id DESC LIMIT 10", Arrays.<Object>asList(1500, 2500));
+        assertTrue(actual.isRangeOrdered());
+        assertThat(getActualTableNames(actual), is(Arrays.asList("t_order_2", "t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteWithOrderByOtherColumn() {
+        assertFalse(route("SELECT * FROM t_order ORDER BY status, order_id LIMIT 10", Collections.<Object>emptyList()).isRangeOrdered());
+    }
+    
+    @Test
+    public void assertRouteWithGroupBy() {
+        assertFalse(route("SELECT order_id, COUNT(*) AS c FROM t_order GROUP BY order_id ORDER BY order_id", Collections.<Object>emptyList()).isRangeOrdered());
+    }
+    
+    @Test
+    public void assertRouteWithSingleRoutingUnit() {
+        assertFalse(route("SELECT * FROM t_order WHERE order_id = ? ORDER BY order_id", Collections.<Object>singletonList(1500)).isRangeOrdered());
+    }
+    
+    private List<String> getActualTableNames(final SQLRouteResult routeResult) {
+        List<String> result = new LinkedList<>();
+        for (RoutingUnit each : routeResult.getRoutingResult().getRoutingUnits()) {
+            result.add(each.getTableUnits().get(0).getActualTableName());
+        }
+        return result;
+    }
+}
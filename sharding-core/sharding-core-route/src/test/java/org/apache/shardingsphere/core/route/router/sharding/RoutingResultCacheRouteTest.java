@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TimeIntervalDataNodesConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.route.type.complex.CartesianRoutingGuard;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class RoutingResultCacheRouteTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ParsingSQLRouter router;
+    
+    private RoutingResultCache routingResultCache;
+    
+    @Before
+    public void setUp() {
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        orderTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "ds_${order_id % 2}"));
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        TableRuleConfiguration logTableRuleConfig = new TableRuleConfiguration("t_log");
+        logTableRuleConfig.setTimeIntervalDataNodesConfig(new TimeIntervalDataNodesConfiguration("201901", "yyyyMM", "MONTHS"));
+        logTableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("log_id", "ds_${log_id % 2}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        shardingRuleConfig.getTableRuleConfigs().add(logTableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        routingResultCache = new RoutingResultCache(16L);
+        router = new ParsingSQLRouter(shardingRule, createMetaData(), new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")), routingResultCache, new CartesianRoutingGuard(0, true));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(2, 1);
+        dataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db_0");
+        dataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db_1");
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tableMetaDataMap.put("t_log", new TableMetaData(Arrays.asList(new ColumnMetaData("log_id", "int", true), new ColumnMetaData("content", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(dataSourceURLs, DatabaseTypes.getActualDatabaseType("MySQL")), new TableMetas(tableMetaDataMap));
+    }
+    
+    private SQLRouteResult route(final String sql, final List<Object> parameters) {
+        return router.route(sql, parameters, router.parse(sql, false));
+    }
+    
+    @Test
+    public void assertRouteWithCachedRoutingResult() {
+        route("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1));
+        SQLRouteResult actual = route("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1));
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(1));
+        assertThat(routingResultCache.getMissCount(), is(1L));
+        assertThat(routingResultCache.getHitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRouteWithoutCacheForTimeIntervalTable() {
+        route("SELECT * FROM t_log WHERE log_id = ?", Collections.<Object>singletonList(1));
+        SQLRouteResult actual = route("SELECT * FROM t_log WHERE log_id = ?", Collections.<Object>singletonList(1));
+        assertThat(actual.getRoutingResult().getRoutingUnits().size(), is(shardingRule.getTableRule("t_log").getActualTableNames("ds_1").size()));
+        assertThat(routingResultCache.getMissCount(), is(0L));
+        assertThat(routingResultCache.getHitCount(), is(0L));
+    }
+}
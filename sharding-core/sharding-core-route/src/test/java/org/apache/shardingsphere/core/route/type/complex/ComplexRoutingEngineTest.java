@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.route.type.complex;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
@@ -61,6 +62,9 @@ public final class ComplexRoutingEngineTest {
         TableRuleConfiguration tableRuleConfig2 = new TableRuleConfiguration("t_order_item", "ds${0..1}.t_order_item_${0..2}");
         tableRuleConfig2.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_item_${order_id % 2}"));
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig2);
+        TableRuleConfiguration tableRuleConfig3 = new TableRuleConfiguration("t_user", "ds${0..1}.t_user_${0..1}");
+        tableRuleConfig3.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_user_${user_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig3);
         shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
         shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds${user_id % 2}"));
         shardingRuleConfig.getBroadcastTables().add("t_config");
@@ -80,7 +84,7 @@ public final class ComplexRoutingEngineTest {
                 new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), 
                 new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null),
                 new Pagination(null, null, Collections.emptyList()));
-        ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_order_item"), optimizedStatement);
+        ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_order_item"), optimizedStatement, new CartesianRoutingGuard(0, true));
         RoutingResult routingResult = complexRoutingEngine.route();
         List<RoutingUnit> tableUnitList = new ArrayList<>(routingResult.getRoutingUnits());
         assertThat(routingResult, instanceOf(RoutingResult.class));
@@ -104,7 +108,7 @@ public final class ComplexRoutingEngineTest {
                 new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), 
                 new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null),
                 new Pagination(null, null, Collections.emptyList()));
-        ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_config"), optimizedStatement);
+        ComplexRoutingEngine complexRoutingEngine = new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_config"), optimizedStatement, new CartesianRoutingGuard(0, true));
         RoutingResult routingResult = complexRoutingEngine.route();
         List<RoutingUnit> tableUnitList = new ArrayList<>(routingResult.getRoutingUnits());
         assertThat(routingResult, instanceOf(RoutingResult.class));
@@ -114,4 +118,23 @@ public final class ComplexRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test(expected = ShardingException.class)
+    public void assertRoutingForCartesianTablesExceedMaxRoutingUnits() {
+        new ComplexRoutingEngine(shardingRule, Arrays.asList("t_order", "t_user"), createOptimizedStatementWithoutShardingConditions(), new CartesianRoutingGuard(10, true)).route();
+    }
+    
+    @Test
+    public void assertRoutingForCartesianTablesExceedMaxRoutingUnitsWithWarning() {
+        RoutingResult routingResult = new ComplexRoutingEngine(
+                shardingRule, Arrays.asList("t_order", "t_user"), createOptimizedStatementWithoutShardingConditions(), new CartesianRoutingGuard(10, false)).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(12));
+    }
+    
+    private ShardingSelectOptimizedStatement createOptimizedStatementWithoutShardingConditions() {
+        return new ShardingSelectOptimizedStatement(new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null),
+                new Pagination(null, null, Collections.emptyList()));
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.fixture.HintShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
@@ -40,6 +42,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -47,13 +50,18 @@ import static org.junit.Assert.assertThat;
 public abstract class AbstractSQLRouteTest {
     
     protected final SQLRouteResult assertRoute(final String sql, final List<Object> parameters) {
+        SQLRouteResult result = route(sql, parameters);
+        assertThat(result.getRoutingResult().getRoutingUnits().size(), is(1));
+        return result;
+    }
+    
+    protected final SQLRouteResult route(final String sql, final List<Object> parameters) {
         ShardingRule shardingRule = createShardingRule();
         ShardingSphereMetaData metaData = new ShardingSphereMetaData(buildDataSourceMetas(), buildTableMetas());
         SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
-        PreparedStatementRoutingEngine engine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, DatabaseTypes.getActualDatabaseType("MySQL"), parseEngine);
-        SQLRouteResult result = engine.route(parameters);
-        assertThat(result.getRoutingResult().getRoutingUnits().size(), is(1));
-        return result;
+        PreparedStatementRoutingEngine engine = new PreparedStatementRoutingEngine(
+                sql, shardingRule, new ShardingProperties(new Properties()), metaData, DatabaseTypes.getActualDatabaseType("MySQL"), parseEngine, new RoutingResultCache(0L));
+        return engine.route(parameters);
     }
     
     private DataSourceMetas buildDataSourceMetas() {
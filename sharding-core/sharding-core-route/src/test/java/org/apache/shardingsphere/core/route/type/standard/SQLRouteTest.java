@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.core.route.type.standard;
 
+import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingInsertOptimizedStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -69,4 +73,33 @@ public class SQLRouteTest extends AbstractSQLRouteTest {
         parameters.add(1);
         assertRoute(sql, parameters);
     }
+    
+    @Test
+    public void assertCollocatedTablesWithEqualityJoin() {
+        String sql = "SELECT a.order_id, b.user_id from t_order a, t_user b where a.user_id = b.user_id";
+        SQLRouteResult result = route(sql, Collections.<Object>emptyList());
+        assertThat(result.getRoutingResult().getRoutingUnits().size(), is(4));
+        for (RoutingUnit each : result.getRoutingResult().getRoutingUnits()) {
+            assertThat(each.getTableUnits().size(), is(2));
+            assertThat(each.getTableUnits().get(0).getActualTableName().substring("t_order".length()), is(each.getTableUnits().get(1).getActualTableName().substring("t_user".length())));
+        }
+    }
+    
+    @Test
+    public void assertMultipleRowsInsert() {
+        String sql = "INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?), (?, ?)";
+        List<Object> parameters = new LinkedList<>();
+        parameters.add(1);
+        parameters.add(2);
+        parameters.add(2);
+        parameters.add(2);
+        parameters.add(3);
+        parameters.add(4);
+        SQLRouteResult result = assertRoute(sql, parameters);
+        for (InsertValue each : ((ShardingInsertOptimizedStatement) result.getShardingStatement()).getInsertValues()) {
+            assertThat(each.getDataNodes().size(), is(1));
+            assertThat(each.getDataNodes().get(0).getDataSourceName(), is("ds_0"));
+            assertThat(each.getDataNodes().get(0).getTableName(), is("t_order_0"));
+        }
+    }
 }
@@ -25,12 +25,16 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.hook.DataSourceLatencySQLExecutionHook;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.LazyQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
@@ -41,6 +45,10 @@ import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStateme
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.route.GlobalIndexEntries;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -51,8 +59,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -77,10 +88,16 @@ public class AbstractStatementExecutor {
     
     private final ShardingConnection connection;
     
+    @Getter(AccessLevel.NONE)
     private final SQLExecutePrepareTemplate sqlExecutePrepareTemplate;
     
+    @Getter(AccessLevel.NONE)
+    private final SQLExecutePrepareTemplate rangeOrderedSqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(1);
+    
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final Map<String, DataSourceLatencyRegistry> dataSourceLatencyRegistries;
+    
     private final Collection<Connection> connections = new LinkedList<>();
     
     @Getter
@@ -98,6 +115,10 @@ public class AbstractStatementExecutor {
     
     private final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
     
+    private final GlobalIndexEntries globalIndexEntries = new GlobalIndexEntries();
+    
+    private final List<RouteUnit> rangeOrderedRouteUnits = new LinkedList<>();
+    
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
         this.databaseType = shardingConnection.getRuntimeContext().getDatabaseType();
         this.resultSetType = resultSetType;
@@ -108,31 +129,93 @@ public class AbstractStatementExecutor {
         ShardingExecuteEngine executeEngine = connection.getRuntimeContext().getExecuteEngine();
         sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
         sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, connection.isHoldTransaction());
+        dataSourceLatencyRegistries = DataSourceLatencySQLExecutionHook.createDataSourceLatencyRegistries(connection.getRuntimeContext().getRule().getMasterSlaveRules());
+    }
+    
+    protected final void initRangeOrderedRouteUnits(final SQLRouteResult routeResult) {
+        if (routeResult.isRangeOrdered()) {
+            rangeOrderedRouteUnits.addAll(routeResult.getRouteUnits());
+        }
+    }
+    
+    protected final boolean isRangeOrdered() {
+        return !rangeOrderedRouteUnits.isEmpty();
+    }
+    
+    protected final SQLExecutePrepareTemplate getSqlExecutePrepareTemplate() {
+        return isRangeOrdered() ? rangeOrderedSqlExecutePrepareTemplate : sqlExecutePrepareTemplate;
     }
     
     protected final void cacheStatements() {
+        List<StatementExecuteUnit> executeUnits = getExecuteUnits();
+        statements.addAll(Lists.transform(executeUnits, new Function<StatementExecuteUnit, Statement>() {
+            
+            @Override
+            public Statement apply(final StatementExecuteUnit input) {
+                return input.getStatement();
+            }
+        }));
+        parameterSets.addAll(Lists.transform(executeUnits, new Function<StatementExecuteUnit, List<Object>>() {
+            
+            @Override
+            public List<Object> apply(final StatementExecuteUnit input) {
+                return input.getRouteUnit().getSqlUnit().getParameters();
+            }
+        }));
+    }
+    
+    private List<StatementExecuteUnit> getExecuteUnits() {
+        List<StatementExecuteUnit> result = new LinkedList<>();
         for (ShardingExecuteGroup<StatementExecuteUnit> each : executeGroups) {
-            statements.addAll(Lists.transform(each.getInputs(), new Function<StatementExecuteUnit, Statement>() {
-                
-                @Override
-                public Statement apply(final StatementExecuteUnit input) {
-                    return input.getStatement();
-                }
-            }));
-            parameterSets.addAll(Lists.transform(each.getInputs(), new Function<StatementExecuteUnit, List<Object>>() {
-                
-                @Override
-                public List<Object> apply(final StatementExecuteUnit input) {
-                    return input.getRouteUnit().getSqlUnit().getParameters();
-                }
-            }));
+            result.addAll(each.getInputs());
         }
+        return isRangeOrdered() ? getExecuteUnitsInRangeOrder(result) : result;
+    }
+    
+    private List<StatementExecuteUnit> getExecuteUnitsInRangeOrder(final List<StatementExecuteUnit> executeUnits) {
+        Map<RouteUnit, StatementExecuteUnit> executeUnitMap = new HashMap<>(executeUnits.size(), 1);
+        for (StatementExecuteUnit each : executeUnits) {
+            executeUnitMap.put(each.getRouteUnit(), each);
+        }
+        List<StatementExecuteUnit> result = new LinkedList<>();
+        for (RouteUnit each : rangeOrderedRouteUnits) {
+            result.add(executeUnitMap.get(each));
+        }
+        return result;
     }
     
     @SuppressWarnings("unchecked")
     protected final <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
-        List<T> result = sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
+        globalIndexEntries.put(connection);
+        if (!dataSourceLatencyRegistries.isEmpty()) {
+            ShardingExecuteDataMap.getDataMap().put(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES, dataSourceLatencyRegistries);
+        }
+        List<T> result;
+        try {
+            result = sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
+        } finally {
+            ShardingExecuteDataMap.getDataMap().remove(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES);
+        }
         refreshMetaDataIfNeeded(connection.getRuntimeContext(), optimizedStatement);
+        globalIndexEntries.remove(connection);
+        return result;
+    }
+    
+    protected final List<QueryResult> executeInRangeOrder(final SQLExecuteCallback<QueryResult> executeCallback) {
+        final Map<String, Object> shardingExecuteDataMap = new HashMap<>(ShardingExecuteDataMap.getDataMap());
+        if (!dataSourceLatencyRegistries.isEmpty()) {
+            shardingExecuteDataMap.put(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES, dataSourceLatencyRegistries);
+        }
+        List<QueryResult> result = new LinkedList<>();
+        for (final StatementExecuteUnit each : getExecuteUnits()) {
+            result.add(new LazyQueryResult() {
+                
+                @Override
+                protected QueryResult execute() throws SQLException {
+                    return executeCallback.execute(Collections.singletonList(each), true, shardingExecuteDataMap).iterator().next();
+                }
+            });
+        }
         return result;
     }
     
@@ -152,6 +235,8 @@ public class AbstractStatementExecutor {
         connections.clear();
         resultSets.clear();
         executeGroups.clear();
+        globalIndexEntries.clear();
+        rangeOrderedRouteUnits.clear();
     }
     
     private void clearStatements() throws SQLException {
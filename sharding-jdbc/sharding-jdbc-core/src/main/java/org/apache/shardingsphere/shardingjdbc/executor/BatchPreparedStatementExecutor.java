@@ -114,6 +114,7 @@ public final class BatchPreparedStatementExecutor extends AbstractStatementExecu
     public void addBatchForRouteUnits(final SQLRouteResult routeResult) {
         handleOldRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
         handleNewRouteUnits(createBatchRouteUnits(routeResult.getRouteUnits()));
+        getGlobalIndexEntries().addAll(routeResult.getGlobalIndexEntries());
         batchCount++;
     }
     
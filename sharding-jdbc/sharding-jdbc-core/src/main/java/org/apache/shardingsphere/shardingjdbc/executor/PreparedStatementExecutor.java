@@ -68,7 +68,9 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setOptimizedStatement(routeResult.getShardingStatement());
+        initRangeOrderedRouteUnits(routeResult);
         getExecuteGroups().addAll(obtainExecuteGroups(routeResult.getRouteUnits()));
+        getGlobalIndexEntries().addAll(routeResult.getGlobalIndexEntries());
         cacheStatements();
     }
     
@@ -108,7 +110,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
                 return getQueryResult(statement, connectionMode);
             }
         };
-        return executeCallback(executeCallback);
+        return isRangeOrdered() ? executeInRangeOrder(executeCallback) : executeCallback(executeCallback);
     }
     
     private QueryResult getQueryResult(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
@@ -62,7 +62,9 @@ public final class StatementExecutor extends AbstractStatementExecutor {
      */
     public void init(final SQLRouteResult routeResult) throws SQLException {
         setOptimizedStatement(routeResult.getShardingStatement());
+        initRangeOrderedRouteUnits(routeResult);
         getExecuteGroups().addAll(obtainExecuteGroups(routeResult.getRouteUnits()));
+        getGlobalIndexEntries().addAll(routeResult.getGlobalIndexEntries());
         cacheStatements();
     }
     
@@ -97,7 +99,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
                 return getQueryResult(routeUnit, statement, connectionMode);
             }
         };
-        return executeCallback(executeCallback);
+        return isRangeOrdered() ? executeInRangeOrder(executeCallback) : executeCallback(executeCallback);
     }
     
     private QueryResult getQueryResult(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
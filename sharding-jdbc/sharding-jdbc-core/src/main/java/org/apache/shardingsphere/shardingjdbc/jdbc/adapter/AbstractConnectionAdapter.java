@@ -25,6 +25,7 @@ import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
+import org.apache.shardingsphere.core.route.router.masterslave.SessionWrittenTables;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationConnection;
@@ -69,6 +70,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
     
+    private final SessionWrittenTables sessionWrittenTables = new SessionWrittenTables();
+    
     protected AbstractConnectionAdapter() {
         rootInvokeHook.start();
     }
@@ -165,6 +168,11 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public void setAutoCommit(final boolean autoCommit) throws SQLException {
         this.autoCommit = autoCommit;
         setAutoCommitForLocalTransaction(autoCommit);
+        if (autoCommit) {
+            sessionWrittenTables.commit();
+        } else {
+            sessionWrittenTables.begin();
+        }
     }
     
     private void setAutoCommitForLocalTransaction(final boolean autoCommit) throws SQLException {
@@ -187,6 +195,10 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
                 connection.commit();
             }
         });
+        sessionWrittenTables.commit();
+        if (!autoCommit) {
+            sessionWrittenTables.begin();
+        }
     }
     
     @Override
@@ -198,12 +210,17 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
                 connection.rollback();
             }
         });
+        sessionWrittenTables.rollback();
+        if (!autoCommit) {
+            sessionWrittenTables.begin();
+        }
     }
     
     @Override
     public final void close() throws SQLException {
         closed = true;
         MasterVisitedManager.clear();
+        sessionWrittenTables.clear();
         TransactionTypeHolder.clear();
         int connectionSize = cachedConnections.size();
         try {
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.connection;
 
 import lombok.Getter;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionProvider;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
@@ -43,7 +44,7 @@ import java.util.Map;
  * @author zhaojun
  */
 @Getter
-public final class ShardingConnection extends AbstractConnectionAdapter {
+public final class ShardingConnection extends AbstractConnectionAdapter implements GlobalIndexConnectionProvider {
     
     private final Map<String, DataSource> dataSourceMap;
     
@@ -139,12 +140,14 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         }
         if (autoCommit && shardingTransactionManager.isInTransaction()) {
             shardingTransactionManager.commit();
+            getSessionWrittenTables().commit();
             return;
         }
         if (!autoCommit && !shardingTransactionManager.isInTransaction()) {
             recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{true});
             closeCachedConnections();
             shardingTransactionManager.begin();
+            getSessionWrittenTables().begin();
         }
     }
     
@@ -165,6 +168,7 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
             super.commit();
         } else {
             shardingTransactionManager.commit();
+            getSessionWrittenTables().commit();
         }
     }
     
@@ -174,6 +178,7 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
             super.rollback();
         } else {
             shardingTransactionManager.rollback();
+            getSessionWrittenTables().rollback();
         }
     }
 }
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.SQLParseEngineFactory;
+import org.apache.shardingsphere.core.parse.cache.SQLParseResultCacheWarmer;
 import org.apache.shardingsphere.core.rule.BaseRule;
 import org.apache.shardingsphere.core.util.ConfigurationLogger;
 import org.apache.shardingsphere.spi.database.DatabaseType;
@@ -49,18 +52,36 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
     
     private final SQLParseEngine parseEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final SQLParseResultCacheWarmer parseResultCacheWarmer;
+    
     protected AbstractRuntimeContext(final T rule, final Properties props, final DatabaseType databaseType) {
         this.rule = rule;
         this.props = new ShardingProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
         executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType);
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType, this.props.<Long>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SIZE));
+        parseResultCacheWarmer = createParseResultCacheWarmer();
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
+    private SQLParseResultCacheWarmer createParseResultCacheWarmer() {
+        String warmUpFile = props.getValue(ShardingPropertiesConstant.SQL_WARMUP_FILE);
+        if (Strings.isNullOrEmpty(warmUpFile)) {
+            return null;
+        }
+        SQLParseResultCacheWarmer result = new SQLParseResultCacheWarmer(parseEngine, warmUpFile, databaseType.getName(), props.<Integer>getValue(ShardingPropertiesConstant.SQL_WARMUP_SIZE));
+        result.warmUp();
+        result.startRecord(props.<Long>getValue(ShardingPropertiesConstant.SQL_WARMUP_RECORD_INTERVAL_SECONDS));
+        return result;
+    }
+    
     @Override
     public void close() throws Exception {
         executeEngine.close();
+        if (null != parseResultCacheWarmer) {
+            parseResultCacheWarmer.close();
+        }
     }
 }
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.core.execute.hook.DataSourceLatencySQLExecutionHook;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
@@ -26,6 +29,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
 
@@ -39,9 +43,30 @@ public final class MasterSlaveRuntimeContext extends AbstractRuntimeContext<Mast
     
     private final DatabaseMetaData cachedDatabaseMetaData;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DataSourceLatencyRegistry> dataSourceLatencyRegistries;
+    
     public MasterSlaveRuntimeContext(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule rule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(rule, props, databaseType);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
+        dataSourceLatencyRegistries = DataSourceLatencySQLExecutionHook.createDataSourceLatencyRegistries(Collections.singleton(rule));
+    }
+    
+    /**
+     * Record latency of routed data source.
+     * 
+     * <p>
+     * Only slave data sources of rule using latency aware load-balance algorithm are recorded, others are ignored.
+     * </p>
+     * 
+     * @param dataSourceName data source name
+     * @param startNanoTime nano time when execution started
+     */
+    public void recordLatency(final String dataSourceName, final long startNanoTime) {
+        DataSourceLatencyRegistry latencyRegistry = dataSourceLatencyRegistries.get(dataSourceName);
+        if (null != latencyRegistry) {
+            latencyRegistry.record(dataSourceName, System.nanoTime() - startNanoTime);
+        }
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
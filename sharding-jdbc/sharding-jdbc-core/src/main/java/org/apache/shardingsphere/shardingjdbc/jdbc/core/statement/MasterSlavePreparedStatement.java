@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.core.route.router.masterslave.WrittenTablesManager;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractMasterSlavePreparedStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 
@@ -29,7 +30,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * PreparedStatement that support master-slave.
@@ -47,6 +50,9 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final List<String> routedDataSourceNames = new LinkedList<>();
+    
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -59,47 +65,60 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
             final MasterSlaveConnection connection, final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getParseEngine(), 
-                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
-        for (String each : masterSlaveRouter.route(sql, true)) {
+                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                connection.getRuntimeContext().getProps().<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final int autoGeneratedKeys) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getParseEngine(), 
-                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
-        for (String each : masterSlaveRouter.route(sql, true)) {
+                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                connection.getRuntimeContext().getProps().<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, autoGeneratedKeys);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final int[] columnIndexes) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getParseEngine(),
-                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
-        for (String each : masterSlaveRouter.route(sql, true)) {
+                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                connection.getRuntimeContext().getProps().<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnIndexes);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final String[] columnNames) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getParseEngine(),
-                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
-        for (String each : masterSlaveRouter.route(sql, true)) {
+                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                connection.getRuntimeContext().getProps().<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnNames);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
         Preconditions.checkArgument(1 == routedStatements.size(), "Cannot support executeQuery for DDL");
-        return routedStatements.iterator().next().executeQuery();
+        long startNanoTime = System.nanoTime();
+        try {
+            return routedStatements.iterator().next().executeQuery();
+        } finally {
+            connection.getRuntimeContext().recordLatency(routedDataSourceNames.get(0), startNanoTime);
+        }
     }
     
     @Override
@@ -114,8 +133,15 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     @Override
     public boolean execute() throws SQLException {
         boolean result = false;
+        Iterator<String> dataSourceNames = routedDataSourceNames.iterator();
         for (PreparedStatement each : routedStatements) {
-            result = each.execute();
+            String dataSourceName = dataSourceNames.next();
+            long startNanoTime = System.nanoTime();
+            try {
+                result = each.execute();
+            } finally {
+                connection.getRuntimeContext().recordLatency(dataSourceName, startNanoTime);
+            }
         }
         return result;
     }
@@ -169,4 +195,13 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     public boolean isAccumulate() {
         return false;
     }
+    
+    private Collection<String> route(final String sql) {
+        WrittenTablesManager.bind(connection.getSessionWrittenTables());
+        try {
+            return masterSlaveRouter.route(sql, true);
+        } finally {
+            WrittenTablesManager.unbind();
+        }
+    }
 }
@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.core.route.router.masterslave.WrittenTablesManager;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 
@@ -65,7 +66,8 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         super(Statement.class);
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getRuntimeContext().getRule(), connection.getRuntimeContext().getParseEngine(),
-                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
+                connection.getRuntimeContext().getProps().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                connection.getRuntimeContext().getProps().<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS));
         this.resultSetType = resultSetType;
         this.resultSetConcurrency = resultSetConcurrency;
         this.resultSetHoldability = resultSetHoldability;
@@ -74,18 +76,24 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public ResultSet executeQuery(final String sql) throws SQLException {
         clearPrevious();
-        Collection<String> dataSourceNames = masterSlaveRouter.route(sql, false);
+        Collection<String> dataSourceNames = route(sql);
         Preconditions.checkState(1 == dataSourceNames.size(), "Cannot support executeQuery for DML or DDL");
-        Statement statement = connection.getConnection(dataSourceNames.iterator().next()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        String dataSourceName = dataSourceNames.iterator().next();
+        Statement statement = connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
         routedStatements.add(statement);
-        return statement.executeQuery(sql);
+        long startNanoTime = System.nanoTime();
+        try {
+            return statement.executeQuery(sql);
+        } finally {
+            connection.getRuntimeContext().recordLatency(dataSourceName, startNanoTime);
+        }
     }
     
     @Override
     public int executeUpdate(final String sql) throws SQLException {
         clearPrevious();
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql);
@@ -97,7 +105,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
         clearPrevious();
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql, autoGeneratedKeys);
@@ -109,7 +117,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
         clearPrevious();
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql, columnIndexes);
@@ -121,7 +129,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
         clearPrevious();
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql, columnNames);
@@ -133,10 +141,15 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public boolean execute(final String sql) throws SQLException {
         clearPrevious();
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
-            result = statement.execute(sql);
+            long startNanoTime = System.nanoTime();
+            try {
+                result = statement.execute(sql);
+            } finally {
+                connection.getRuntimeContext().recordLatency(each, startNanoTime);
+            }
         }
         return result;
     }
@@ -145,10 +158,15 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
         clearPrevious();
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
-            result = statement.execute(sql, autoGeneratedKeys);
+            long startNanoTime = System.nanoTime();
+            try {
+                result = statement.execute(sql, autoGeneratedKeys);
+            } finally {
+                connection.getRuntimeContext().recordLatency(each, startNanoTime);
+            }
         }
         return result;
     }
@@ -157,10 +175,15 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
         clearPrevious();
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
-            result = statement.execute(sql, columnIndexes);
+            long startNanoTime = System.nanoTime();
+            try {
+                result = statement.execute(sql, columnIndexes);
+            } finally {
+                connection.getRuntimeContext().recordLatency(each, startNanoTime);
+            }
         }
         return result;
     }
@@ -169,10 +192,15 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     public boolean execute(final String sql, final String[] columnNames) throws SQLException {
         clearPrevious();
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql, false)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
-            result = statement.execute(sql, columnNames);
+            long startNanoTime = System.nanoTime();
+            try {
+                result = statement.execute(sql, columnNames);
+            } finally {
+                connection.getRuntimeContext().recordLatency(each, startNanoTime);
+            }
         }
         return result;
     }
@@ -189,6 +217,15 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         return routedStatements.iterator().next().getResultSet();
     }
     
+    private Collection<String> route(final String sql) {
+        WrittenTablesManager.bind(connection.getSessionWrittenTables());
+        try {
+            return masterSlaveRouter.route(sql, false);
+        } finally {
+            WrittenTablesManager.unbind();
+        }
+    }
+    
     private void clearPrevious() throws SQLException {
         for (Statement each : routedStatements) {
             each.close();
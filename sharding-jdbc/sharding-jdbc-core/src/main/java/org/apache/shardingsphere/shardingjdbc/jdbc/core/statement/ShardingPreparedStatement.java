@@ -34,6 +34,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.masterslave.WrittenTablesManager;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionManager;
 import org.apache.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.executor.PreparedStatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
@@ -97,7 +99,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.sql = sql;
         ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
         shardingEngine = new PreparedQueryShardingEngine(sql, runtimeContext.getRule(), 
-                runtimeContext.getProps(), runtimeContext.getMetaData(), runtimeContext.getDatabaseType(), runtimeContext.getParseEngine());
+                runtimeContext.getProps(), runtimeContext.getMetaData(), runtimeContext.getDatabaseType(), runtimeContext.getParseEngine(), runtimeContext.getRoutingResultCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -224,7 +226,14 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void shard() {
-        sqlRouteResult = shardingEngine.shard(sql, getParameters());
+        WrittenTablesManager.bind(connection.getSessionWrittenTables());
+        GlobalIndexConnectionManager.bind(connection);
+        try {
+            sqlRouteResult = shardingEngine.shard(sql, getParameters());
+        } finally {
+            WrittenTablesManager.unbind();
+            GlobalIndexConnectionManager.unbind();
+        }
     }
     
     @Override
@@ -32,6 +32,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.masterslave.WrittenTablesManager;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionManager;
 import org.apache.shardingsphere.shardingjdbc.executor.StatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
@@ -248,8 +250,15 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void shard(final String sql) {
         ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
         SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(runtimeContext.getRule(), 
-                runtimeContext.getProps(), runtimeContext.getMetaData(), runtimeContext.getDatabaseType(), runtimeContext.getParseEngine());
-        sqlRouteResult = shardingEngine.shard(sql, Collections.emptyList());
+                runtimeContext.getProps(), runtimeContext.getMetaData(), runtimeContext.getDatabaseType(), runtimeContext.getParseEngine(), runtimeContext.getRoutingResultCache());
+        WrittenTablesManager.bind(connection.getSessionWrittenTables());
+        GlobalIndexConnectionManager.bind(connection);
+        try {
+            sqlRouteResult = shardingEngine.shard(sql, Collections.emptyList());
+        } finally {
+            WrittenTablesManager.unbind();
+            GlobalIndexConnectionManager.unbind();
+        }
     }
     
     private void clearPrevious() throws SQLException {
@@ -46,6 +46,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -116,6 +117,31 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
         verify(preparedStatement2).executeQuery();
     }
     
+    @Test
+    public void assertExecuteQueryInRangeOrder() throws SQLException {
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("column");
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("column");
+        when(resultSetMetaData.getTableName(1)).thenReturn("table_x");
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.next()).thenReturn(true);
+        when(preparedStatement1.executeQuery()).thenReturn(resultSet);
+        RouteUnit routeUnit1 = new RouteUnit("ds_0", new SQLUnit("SELECT * FROM table_0", Collections.<Object>emptyList()));
+        RouteUnit routeUnit2 = new RouteUnit("ds_0", new SQLUnit("SELECT * FROM table_1", Collections.<Object>emptyList()));
+        setRangeOrderedExecuteGroups(Arrays.asList(routeUnit1, routeUnit2), Arrays.asList(
+                new StatementExecuteUnit(routeUnit2, preparedStatement2, ConnectionMode.MEMORY_STRICTLY), new StatementExecuteUnit(routeUnit1, preparedStatement1, ConnectionMode.MEMORY_STRICTLY)));
+        List<QueryResult> queryResults = actual.executeQuery();
+        assertThat(queryResults.size(), is(2));
+        verify(preparedStatement1, never()).executeQuery();
+        assertTrue(queryResults.get(0).next());
+        verify(preparedStatement1).executeQuery();
+        verify(preparedStatement2, never()).executeQuery();
+    }
+    
     @Test
     public void assertExecuteQueryForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -272,4 +298,15 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
         field.setAccessible(true);
         field.set(actual, executeGroups);
     }
+    
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private void setRangeOrderedExecuteGroups(final List<RouteUnit> routeUnits, final List<StatementExecuteUnit> executeUnits) {
+        Field routeUnitsField = PreparedStatementExecutor.class.getSuperclass().getDeclaredField("rangeOrderedRouteUnits");
+        routeUnitsField.setAccessible(true);
+        ((List<RouteUnit>) routeUnitsField.get(actual)).addAll(routeUnits);
+        Field executeGroupsField = PreparedStatementExecutor.class.getSuperclass().getDeclaredField("executeGroups");
+        executeGroupsField.setAccessible(true);
+        executeGroupsField.set(actual, Collections.singletonList(new ShardingExecuteGroup<>(executeUnits)));
+    }
 }
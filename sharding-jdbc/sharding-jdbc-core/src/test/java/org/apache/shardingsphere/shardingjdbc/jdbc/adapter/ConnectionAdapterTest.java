@@ -160,6 +160,22 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
         assertTrue(cachedConnections.isEmpty());
     }
     
+    @Test
+    public void assertSessionWrittenTablesOfConnectionsAreIsolated() throws SQLException {
+        try (ShardingConnection actual = getShardingDataSource().getConnection()) {
+            ShardingConnection another = getShardingDataSource().getConnection();
+            actual.setAutoCommit(false);
+            assertTrue(actual.getSessionWrittenTables().isInTransaction());
+            assertFalse(another.getSessionWrittenTables().isInTransaction());
+            another.close();
+            assertTrue(actual.getSessionWrittenTables().isInTransaction());
+            actual.commit();
+            assertTrue(actual.getSessionWrittenTables().isInTransaction());
+            actual.setAutoCommit(true);
+            assertFalse(actual.getSessionWrittenTables().isInTransaction());
+        }
+    }
+    
     @Test
     public void assertSetReadOnly() throws SQLException {
         try (ShardingConnection actual = getShardingDataSource().getConnection()) {
@@ -35,6 +35,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,6 +44,8 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -74,6 +77,28 @@ public final class MasterSlaveDataSourceTest {
         TransactionTypeHolder.clear();
     }
     
+    @Test
+    public void assertExecuteQueryWithLatencyAwareLoadBalanceAlgorithm() throws SQLException {
+        DataSource masterDataSource = mock(DataSource.class);
+        DataSource slaveDataSource = mock(DataSource.class);
+        Connection masterConnection = mockConnection("jdbc:h2:mem:test_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
+        Connection slaveConnection = mockConnection("jdbc:h2:mem:test_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
+        Statement slaveStatement = mock(Statement.class);
+        when(masterDataSource.getConnection()).thenReturn(masterConnection);
+        when(slaveDataSource.getConnection()).thenReturn(slaveConnection);
+        when(slaveConnection.createStatement(anyInt(), anyInt(), anyInt())).thenReturn(slaveStatement);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("masterDataSource", masterDataSource);
+        dataSourceMap.put("slaveDataSource", slaveDataSource);
+        MasterSlaveRule masterSlaveRule = new MasterSlaveRule(
+                new MasterSlaveRuleConfiguration("ds", "masterDataSource", Collections.singletonList("slaveDataSource"), new LoadBalanceStrategyConfiguration("LATENCY_AWARE")));
+        try (Connection connection = new MasterSlaveDataSource(dataSourceMap, masterSlaveRule, new Properties()).getConnection()) {
+            connection.createStatement().executeQuery("SELECT * FROM t_order");
+        }
+        verify(slaveStatement).executeQuery("SELECT * FROM t_order");
+        assertTrue(masterSlaveRule.findDataSourceLatencyRegistry().get().getLatency("slaveDataSource") > 0);
+    }
+    
     @Test(expected = IllegalStateException.class)
     public void assertGetDatabaseProductNameWhenDataBaseProductNameDifferent() throws SQLException {
         DataSource masterDataSource = mock(DataSource.class);
@@ -22,7 +22,6 @@ import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedList;
 
 /**
  * Orchestration master slave rule.
@@ -44,12 +43,7 @@ public final class OrchestrationMasterSlaveRule extends MasterSlaveRule {
      */
     @Override
     public Collection<String> getSlaveDataSourceNames() {
-        if (disabledDataSourceNames.isEmpty()) {
-            return super.getSlaveDataSourceNames();
-        }
-        Collection<String> result = new LinkedList<>(super.getSlaveDataSourceNames());
-        result.removeAll(disabledDataSourceNames);
-        return result;
+        return getAvailableSlaveDataSourceNames();
     }
     
     /**
@@ -58,11 +52,12 @@ public final class OrchestrationMasterSlaveRule extends MasterSlaveRule {
      * @param dataSourceName data source name
      * @param isDisabled is disabled
      */
-    public void updateDisabledDataSourceNames(final String dataSourceName, final boolean isDisabled) {
+    public synchronized void updateDisabledDataSourceNames(final String dataSourceName, final boolean isDisabled) {
         if (isDisabled) {
             disabledDataSourceNames.add(dataSourceName);
         } else {
             disabledDataSourceNames.remove(dataSourceName);
         }
+        refreshAvailableSlaveDataSourceNames(disabledDataSourceNames);
     }
 }
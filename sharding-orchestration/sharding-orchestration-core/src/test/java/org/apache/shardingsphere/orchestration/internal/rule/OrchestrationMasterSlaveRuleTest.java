@@ -46,6 +46,11 @@ public final class OrchestrationMasterSlaveRuleTest {
         assertThat(orchestrationMasterSlaveRule.getSlaveDataSourceNames(), CoreMatchers.<Collection<String>>is(Collections.singletonList("slave_db_1")));
     }
     
+    @Test
+    public void assertGetSlaveDataSourceNamesWithoutRebuilding() {
+        assertThat(orchestrationMasterSlaveRule.getSlaveDataSourceNames(), CoreMatchers.sameInstance(orchestrationMasterSlaveRule.getSlaveDataSourceNames()));
+    }
+    
     @Test
     public void assertUpdateDisabledDataSourceNamesForDisabled() {
         orchestrationMasterSlaveRule.updateDisabledDataSourceNames("slave_db_0", true);
@@ -56,6 +61,7 @@ public final class OrchestrationMasterSlaveRuleTest {
     public void assertUpdateDisabledDataSourceNamesForEnabled() {
         orchestrationMasterSlaveRule.updateDisabledDataSourceNames("slave_db_0", true);
         orchestrationMasterSlaveRule.updateDisabledDataSourceNames("slave_db_0", false);
+        assertThat(orchestrationMasterSlaveRule.getSlaveDataSourceNames(), CoreMatchers.<Collection<String>>is(Arrays.asList("slave_db_0", "slave_db_1")));
         assertThat((Collection) FieldUtil.getFieldValue(orchestrationMasterSlaveRule, "disabledDataSourceNames"), CoreMatchers.<Collection>is(Collections.emptySet()));
     }
 }
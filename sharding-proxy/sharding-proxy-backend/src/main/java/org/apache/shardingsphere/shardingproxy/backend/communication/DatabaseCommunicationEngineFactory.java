@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
@@ -61,16 +62,32 @@ public final class DatabaseCommunicationEngineFactory {
         return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new StatementExecutorWrapper(logicSchema)));
     }
     
+    /**
+     * Create new instance of text protocol backend handler with SQL statement which is parsed already.
+     *
+     * @param logicSchema logic schema
+     * @param sql SQL to be executed
+     * @param sqlStatement SQL statement parsed from SQL
+     * @param backendConnection backend connection
+     * @return instance of text protocol backend handler
+     */
+    public DatabaseCommunicationEngine newTextProtocolInstance(final LogicSchema logicSchema, final String sql, final SQLStatement sqlStatement, final BackendConnection backendConnection) {
+        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new StatementExecutorWrapper(logicSchema, sqlStatement)));
+    }
+    
     /**
      * Create new instance of text protocol backend handler.
      *
      * @param logicSchema logic schema
+     * @param statementId statement ID of prepared statement
      * @param sql SQL to be executed
      * @param parameters SQL parameters
      * @param backendConnection backend connection
      * @return instance of text protocol backend handler
      */
-    public DatabaseCommunicationEngine newBinaryProtocolInstance(final LogicSchema logicSchema, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
-        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters)));
+    public DatabaseCommunicationEngine newBinaryProtocolInstance(
+            final LogicSchema logicSchema, final String statementId, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
+        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, 
+                new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, statementId, parameters, backendConnection.getPreparedQueryShardingEngines())));
     }
 }
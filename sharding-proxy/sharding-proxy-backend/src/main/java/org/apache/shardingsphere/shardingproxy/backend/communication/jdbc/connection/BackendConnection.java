@@ -27,6 +27,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
+import org.apache.shardingsphere.core.route.router.masterslave.SessionWrittenTables;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionProvider;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -49,7 +51,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 @Getter
 @Slf4j
-public final class BackendConnection implements AutoCloseable {
+public final class BackendConnection implements GlobalIndexConnectionProvider, AutoCloseable {
     
     private static final int MAXIMUM_RETRY_COUNT = 5;
     
@@ -78,6 +80,10 @@ public final class BackendConnection implements AutoCloseable {
     
     private final ConnectionStateHandler stateHandler = new ConnectionStateHandler(resourceSynchronizer);
     
+    private final SessionWrittenTables sessionWrittenTables = new SessionWrittenTables();
+    
+    private final PreparedQueryShardingEngines preparedQueryShardingEngines = new PreparedQueryShardingEngines();
+    
     public BackendConnection(final TransactionType transactionType) {
         this.transactionType = transactionType;
     }
@@ -142,6 +148,17 @@ public final class BackendConnection implements AutoCloseable {
         }
     }
     
+    @Override
+    public Connection getConnection(final String dataSourceName) throws SQLException {
+        synchronized (cachedConnections) {
+            Collection<Connection> connections = cachedConnections.get(dataSourceName);
+            if (!connections.isEmpty()) {
+                return connections.iterator().next();
+            }
+        }
+        return getConnections(ConnectionMode.MEMORY_STRICTLY, dataSourceName, 1).get(0);
+    }
+    
     private List<Connection> getConnectionsWithTransaction(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         Collection<Connection> connections;
         synchronized (cachedConnections) {
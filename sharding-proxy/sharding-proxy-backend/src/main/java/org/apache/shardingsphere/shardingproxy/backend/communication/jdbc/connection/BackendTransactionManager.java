@@ -50,6 +50,7 @@ public final class BackendTransactionManager implements TransactionManager {
         if (!connection.getStateHandler().isInTransaction()) {
             connection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
             connection.releaseConnections(false);
+            connection.getSessionWrittenTables().begin();
         }
         if (TransactionType.LOCAL == transactionType || null == shardingTransactionManager) {
             localTransactionManager.begin();
@@ -67,6 +68,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 } else {
                     shardingTransactionManager.commit();
                 }
+                connection.getSessionWrittenTables().commit();
             } finally {
                 connection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
             }
@@ -83,6 +85,7 @@ public final class BackendTransactionManager implements TransactionManager {
                     shardingTransactionManager.rollback();
                 }
             } finally {
+                connection.getSessionWrittenTables().rollback();
                 connection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
             }
         }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingRoutingContext;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding engines of prepared statements in backend connection.
+ * 
+ * <p>
+ * Sharding engine is kept by statement ID, so parameter independent routing work is reused by every execution of the prepared statement.
+ * Kept sharding engine is replaced if statement ID is prepared with another SQL, or sharding rule or properties are renewed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class PreparedQueryShardingEngines {
+    
+    private final Map<String, CachedShardingEngine> shardingEngines = new ConcurrentHashMap<>();
+    
+    /**
+     * Get sharding engine of prepared statement.
+     *
+     * @param statementId statement ID, null means statement is not prepared and sharding engine will not be kept
+     * @param sql SQL of prepared statement
+     * @param shardingSchema sharding schema
+     * @param databaseType database type
+     * @return sharding engine of prepared statement
+     */
+    public PreparedQueryShardingEngine getShardingEngine(final String statementId, final String sql, final ShardingSchema shardingSchema, final DatabaseType databaseType) {
+        ShardingRoutingContext routingContext = shardingSchema.getRoutingContext();
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        CachedShardingEngine cachedShardingEngine = null == statementId ? null : shardingEngines.get(statementId);
+        if (null != cachedShardingEngine && cachedShardingEngine.isReusable(sql, routingContext, shardingProperties)) {
+            return cachedShardingEngine.shardingEngine;
+        }
+        PreparedQueryShardingEngine result = new PreparedQueryShardingEngine(sql, routingContext.getShardingRule(), 
+                shardingProperties, shardingSchema.getMetaData(), databaseType, shardingSchema.getParseEngine(), routingContext.getRoutingResultCache());
+        if (null != statementId) {
+            shardingEngines.put(statementId, new CachedShardingEngine(sql, routingContext, shardingProperties, result));
+        }
+        return result;
+    }
+    
+    /**
+     * Remove sharding engine of closed prepared statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final String statementId) {
+        shardingEngines.remove(statementId);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedShardingEngine {
+        
+        private final String sql;
+        
+        private final ShardingRoutingContext routingContext;
+        
+        private final ShardingProperties shardingProperties;
+        
+        private final PreparedQueryShardingEngine shardingEngine;
+        
+        private boolean isReusable(final String sql, final ShardingRoutingContext routingContext, final ShardingProperties shardingProperties) {
+            return this.sql.equals(sql) && this.routingContext == routingContext && this.shardingProperties == shardingProperties;
+        }
+    }
+}
@@ -19,13 +19,20 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execu
 
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.hook.DataSourceLatencySQLExecutionHook;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.LazyQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxyJDBCExecutePrepareCallback;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxySQLExecuteCallback;
@@ -37,11 +44,19 @@ import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.MasterSlaveSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQL Execute engine for JDBC.
@@ -60,6 +75,8 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final SQLExecutePrepareTemplate sqlExecutePrepareTemplate;
     
+    private final SQLExecutePrepareTemplate rangeOrderedSqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(1);
+    
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
     public JDBCExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
@@ -75,16 +92,69 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     public BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
         boolean isReturnGeneratedKeys = routeResult.getShardingStatement().getSQLStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
+        SQLExecutePrepareTemplate prepareTemplate = routeResult.isRangeOrdered() ? rangeOrderedSqlExecutePrepareTemplate : sqlExecutePrepareTemplate;
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = prepareTemplate.getExecuteUnitGroups(
                 routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
-        Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+        routeResult.getGlobalIndexEntries().put(backendConnection);
+        Map<String, DataSourceLatencyRegistry> dataSourceLatencyRegistries = DataSourceLatencySQLExecutionHook.createDataSourceLatencyRegistries(
+                getMasterSlaveRules(backendConnection.getLogicSchema()));
+        if (!dataSourceLatencyRegistries.isEmpty()) {
+            ShardingExecuteDataMap.getDataMap().put(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES, dataSourceLatencyRegistries);
+        }
+        Collection<ExecuteResponse> executeResponses;
+        try {
+            executeResponses = routeResult.isRangeOrdered() ? executeInRangeOrder(routeResult.getRouteUnits(), sqlExecuteGroups, isExceptionThrown)
+                    : sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
+                    new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
+                    new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+        } finally {
+            ShardingExecuteDataMap.getDataMap().remove(DataSourceLatencySQLExecutionHook.DATA_SOURCE_LATENCY_REGISTRIES);
+        }
+        routeResult.getGlobalIndexEntries().remove(backendConnection);
         ExecuteResponse executeResponse = executeResponses.iterator().next();
         return executeResponse instanceof ExecuteQueryResponse
                 ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
     }
     
+    private Collection<ExecuteResponse> executeInRangeOrder(
+            final Collection<RouteUnit> routeUnits, final Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups, final boolean isExceptionThrown) throws SQLException {
+        Map<RouteUnit, StatementExecuteUnit> executeUnits = new HashMap<>(routeUnits.size(), 1);
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : sqlExecuteGroups) {
+            for (StatementExecuteUnit executeUnit : each.getInputs()) {
+                executeUnits.put(executeUnit.getRouteUnit(), executeUnit);
+            }
+        }
+        Map<String, Object> shardingExecuteDataMap = new HashMap<>(ShardingExecuteDataMap.getDataMap());
+        Iterator<RouteUnit> routeUnitIterator = routeUnits.iterator();
+        Collection<ExecuteResponse> result = new LinkedList<>(new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, false, true).execute(
+                Collections.singletonList(executeUnits.get(routeUnitIterator.next())), true, shardingExecuteDataMap));
+        ProxySQLExecuteCallback executeCallback = new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, false, false);
+        while (routeUnitIterator.hasNext()) {
+            result.add(new ExecuteQueryResponse(null, createLazyQueryResult(executeUnits.get(routeUnitIterator.next()), executeCallback, shardingExecuteDataMap)));
+        }
+        return result;
+    }
+    
+    private QueryResult createLazyQueryResult(final StatementExecuteUnit executeUnit, final ProxySQLExecuteCallback executeCallback, final Map<String, Object> shardingExecuteDataMap) {
+        return new LazyQueryResult() {
+            
+            @Override
+            protected QueryResult execute() throws SQLException {
+                return ((ExecuteQueryResponse) executeCallback.execute(Collections.singletonList(executeUnit), true, shardingExecuteDataMap).iterator().next()).getQueryResult();
+            }
+        };
+    }
+    
+    private Collection<MasterSlaveRule> getMasterSlaveRules(final LogicSchema logicSchema) {
+        if (logicSchema instanceof ShardingSchema) {
+            return ((ShardingSchema) logicSchema).getShardingRule().getMasterSlaveRules();
+        }
+        if (logicSchema instanceof MasterSlaveSchema) {
+            return Collections.singletonList(((MasterSlaveSchema) logicSchema).getMasterSlaveRule());
+        }
+        return Collections.emptyList();
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResponse> executeResponses) {
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResponse each : executeResponses) {
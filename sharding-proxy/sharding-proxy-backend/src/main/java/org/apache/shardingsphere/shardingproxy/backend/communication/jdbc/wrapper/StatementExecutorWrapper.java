@@ -34,6 +34,7 @@ import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.MasterSlaveSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingRoutingContext;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.spi.database.DatabaseType;
@@ -57,6 +58,12 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     
     private final LogicSchema logicSchema;
     
+    private final SQLStatement parsedSQLStatement;
+    
+    public StatementExecutorWrapper(final LogicSchema logicSchema) {
+        this(logicSchema, null);
+    }
+    
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
         if (logicSchema instanceof ShardingSchema) {
@@ -72,19 +79,22 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(logicSchema.getShardingRule(), 
-                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParseEngine());
-        return shardingEngine.shard(sql, Collections.emptyList());
+        ShardingSchema shardingSchema = (ShardingSchema) logicSchema;
+        ShardingRoutingContext routingContext = shardingSchema.getRoutingContext();
+        SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(routingContext.getShardingRule(), 
+                ShardingProxyContext.getInstance().getShardingProperties(), shardingSchema.getMetaData(), databaseType, shardingSchema.getParseEngine(), routingContext.getRoutingResultCache());
+        return shardingEngine.shard(sql, Collections.emptyList(), parsedSQLStatement);
     }
     
     private SQLRouteResult doMasterSlaveRoute(final String sql) {
-        SQLStatement sqlStatement = logicSchema.getParseEngine().parse(sql, false);
+        SQLStatement sqlStatement = parse(sql);
         ShardingOptimizedStatement shardingStatement = new ShardingTransparentOptimizedStatement(sqlStatement);
         SQLRewriteEngine sqlRewriteEngine = new SQLRewriteEngine(((MasterSlaveSchema) logicSchema).getMasterSlaveRule(), shardingStatement, sql);
         String rewriteSQL = sqlRewriteEngine.generateSQL().getSql();
         SQLRouteResult result = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(sqlStatement));
         for (String each : new MasterSlaveRouter(((MasterSlaveSchema) logicSchema).getMasterSlaveRule(), logicSchema.getParseEngine(),
-                SHARDING_PROXY_CONTEXT.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW)).route(rewriteSQL, false)) {
+                SHARDING_PROXY_CONTEXT.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW),
+                SHARDING_PROXY_CONTEXT.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MASTER_SLAVE_CONSISTENCY_WINDOW_MILLISECONDS)).route(rewriteSQL, false)) {
             result.getRouteUnits().add(new RouteUnit(each, new SQLUnit(rewriteSQL, Collections.emptyList())));
         }
         return result;
@@ -93,7 +103,7 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     @SuppressWarnings("unchecked")
     private SQLRouteResult doEncryptRoute(final String sql) {
         EncryptSchema encryptSchema = (EncryptSchema) logicSchema;
-        SQLStatement sqlStatement = encryptSchema.getParseEngine().parse(sql, false);
+        SQLStatement sqlStatement = parse(sql);
         EncryptOptimizedStatement encryptStatement = EncryptOptimizeEngineFactory.newInstance(
                 sqlStatement).optimize(encryptSchema.getEncryptRule(), logicSchema.getMetaData().getTables(), sql, new LinkedList<>(), sqlStatement);
         SQLRewriteEngine sqlRewriteEngine = new SQLRewriteEngine(encryptSchema.getEncryptRule(), 
@@ -104,12 +114,16 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     }
     
     private SQLRouteResult doTransparentRoute(final String sql) {
-        SQLStatement sqlStatement = logicSchema.getParseEngine().parse(sql, false);
+        SQLStatement sqlStatement = parse(sql);
         SQLRouteResult result = new SQLRouteResult(new ShardingTransparentOptimizedStatement(sqlStatement), new EncryptTransparentOptimizedStatement(sqlStatement));
         result.getRouteUnits().add(new RouteUnit(logicSchema.getDataSources().keySet().iterator().next(), new SQLUnit(sql, Collections.emptyList())));
         return result;
     }
     
+    private SQLStatement parse(final String sql) {
+        return null == parsedSQLStatement ? logicSchema.getParseEngine().parse(sql, false) : parsedSQLStatement;
+    }
+    
     @Override
     public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
         return connection.createStatement();
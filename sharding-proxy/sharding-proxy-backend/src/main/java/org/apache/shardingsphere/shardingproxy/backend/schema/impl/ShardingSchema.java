@@ -21,6 +21,8 @@ import com.google.common.base.Optional;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStateme
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.util.ConfigurationLogger;
@@ -42,6 +45,7 @@ import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardi
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -61,27 +65,34 @@ import java.util.Map;
 @Getter
 public final class ShardingSchema extends LogicSchema {
     
-    private ShardingRule shardingRule;
+    private volatile ShardingRoutingContext routingContext;
     
     private final ShardingSphereMetaData metaData;
     
     public ShardingSchema(
             final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) throws SQLException {
         super(name, dataSources);
-        shardingRule = createShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
+        routingContext = createRoutingContext(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
         metaData = createMetaData();
     }
     
-    private ShardingRule createShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames, final boolean isUsingRegistry) {
-        return isUsingRegistry ? new OrchestrationShardingRule(shardingRuleConfig, dataSourceNames) : new ShardingRule(shardingRuleConfig, dataSourceNames);
+    private ShardingRoutingContext createRoutingContext(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames, final boolean isUsingRegistry) {
+        ShardingRule shardingRule = isUsingRegistry ? new OrchestrationShardingRule(shardingRuleConfig, dataSourceNames) : new ShardingRule(shardingRuleConfig, dataSourceNames);
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        return new ShardingRoutingContext(shardingRule, new RoutingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_SIZE)));
     }
     
     private ShardingSphereMetaData createMetaData() throws SQLException {
         DataSourceMetas dataSourceMetas = new DataSourceMetas(getDataSourceURLs(getDataSources()), LogicSchemas.getInstance().getDatabaseType());
-        TableMetas tableMetas = new TableMetas(getTableMetaDataInitializer(dataSourceMetas).load(shardingRule));
+        TableMetas tableMetas = new TableMetas(getTableMetaDataInitializer(dataSourceMetas).load(getShardingRule()));
         return new ShardingSphereMetaData(dataSourceMetas, tableMetas);
     }
     
+    @Override
+    public ShardingRule getShardingRule() {
+        return routingContext.getShardingRule();
+    }
+    
     /**
      * Renew sharding rule.
      *
@@ -91,7 +102,7 @@ public final class ShardingSchema extends LogicSchema {
     public synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             ConfigurationLogger.log(shardingRuleChangedEvent.getShardingRuleConfiguration());
-            shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            routingContext = createRoutingContext(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet(), true);
         }
     }
     
@@ -104,7 +115,7 @@ public final class ShardingSchema extends LogicSchema {
     public synchronized void renew(final DisabledStateChangedEvent disabledStateChangedEvent) {
         OrchestrationShardingSchema shardingSchema = disabledStateChangedEvent.getShardingSchema();
         if (getName().equals(shardingSchema.getSchemaName())) {
-            for (MasterSlaveRule each : shardingRule.getMasterSlaveRules()) {
+            for (MasterSlaveRule each : getShardingRule().getMasterSlaveRules()) {
                 ((OrchestrationMasterSlaveRule) each).updateDisabledDataSourceNames(shardingSchema.getDataSourceName(), disabledStateChangedEvent.isDisabled());
             }
         }
@@ -130,12 +141,12 @@ public final class ShardingSchema extends LogicSchema {
     
     private void refreshTableMetaDataForCreateTable(final OptimizedStatement optimizedStatement) throws SQLException {
         String tableName = optimizedStatement.getTables().getSingleTableName();
-        getMetaData().getTables().put(tableName, getTableMetaDataInitializer(metaData.getDataSources()).load(tableName, shardingRule));
+        getMetaData().getTables().put(tableName, getTableMetaDataInitializer(metaData.getDataSources()).load(tableName, getShardingRule()));
     }
     
     private void refreshTableMetaDataForAlterTable(final OptimizedStatement optimizedStatement) throws SQLException {
         String tableName = optimizedStatement.getTables().getSingleTableName();
-        getMetaData().getTables().put(tableName, getTableMetaDataInitializer(metaData.getDataSources()).load(tableName, shardingRule));
+        getMetaData().getTables().put(tableName, getTableMetaDataInitializer(metaData.getDataSources()).load(tableName, getShardingRule()));
     }
     
     private void refreshTableMetaDataForDropTable(final OptimizedStatement optimizedStatement) {
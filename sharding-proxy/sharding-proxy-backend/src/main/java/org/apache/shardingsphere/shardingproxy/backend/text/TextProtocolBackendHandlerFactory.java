@@ -17,10 +17,15 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.text;
 
+import com.google.common.base.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
-import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.SQLParseEngineFactory;
+import org.apache.shardingsphere.core.parse.normalize.NormalizedSQL;
+import org.apache.shardingsphere.core.parse.normalize.SQLNormalizer;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.SetStatement;
@@ -32,6 +37,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.tcl.RollbackStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.tcl.SetAutoCommitStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackendHandler;
@@ -40,6 +46,7 @@ import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHa
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.ShardingCTLBackendHandlerFactory;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SkipBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.TransactionBackendHandler;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 import org.apache.shardingsphere.transaction.core.TransactionOperationType;
 
@@ -63,14 +70,26 @@ public final class TextProtocolBackendHandlerFactory {
         if (sql.toUpperCase().startsWith(ShardingCTLBackendHandlerFactory.SCTL)) {
             return ShardingCTLBackendHandlerFactory.newInstance(sql, backendConnection);
         }
-        SQLStatement sqlStatement = new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
+        SQLStatement sqlStatement = parse(databaseType, sql, backendConnection);
         if (sqlStatement instanceof TCLStatement) {
             return createTCLBackendHandler(sql, (TCLStatement) sqlStatement, backendConnection);
         }
         if (sqlStatement instanceof DALStatement) {
             return createDALBackendHandler((DALStatement) sqlStatement, sql, backendConnection);
         }
-        return new QueryBackendHandler(sql, backendConnection);
+        return new QueryBackendHandler(sql, sqlStatement, backendConnection);
+    }
+    
+    private static SQLStatement parse(final DatabaseType databaseType, final String sql, final BackendConnection backendConnection) {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        SQLParseEngine parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType, shardingProperties.<Long>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SIZE));
+        if (backendConnection.getLogicSchema() instanceof ShardingSchema && shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_LITERAL_NORMALIZE_ENABLED)) {
+            Optional<NormalizedSQL> normalizedSQL = SQLNormalizer.normalize(sql);
+            if (normalizedSQL.isPresent()) {
+                return parseEngine.parse(normalizedSQL.get().getSql(), true);
+            }
+        }
+        return parseEngine.parse(sql, false);
     }
     
     private static TextProtocolBackendHandler createTCLBackendHandler(final String sql, final TCLStatement tclStatement, final BackendConnection backendConnection) {
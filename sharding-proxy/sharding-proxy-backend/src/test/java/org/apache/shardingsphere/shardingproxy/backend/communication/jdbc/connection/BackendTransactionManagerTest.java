@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.route.router.masterslave.SessionWrittenTables;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -32,6 +33,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,6 +58,8 @@ public final class BackendTransactionManagerTest {
     @Mock
     private ShardingTransactionManager shardingTransactionManager;
     
+    private final SessionWrittenTables sessionWrittenTables = new SessionWrittenTables();
+    
     private BackendTransactionManager backendTransactionManager;
     
     @Before
@@ -71,10 +76,12 @@ public final class BackendTransactionManagerTest {
     @Test
     public void assertBeginForLocalTransaction() {
         newBackendTransactionManager(TransactionType.LOCAL, false);
+        when(backendConnection.getSessionWrittenTables()).thenReturn(sessionWrittenTables);
         backendTransactionManager.begin();
         verify(stateHandler).setStatus(ConnectionStatus.TRANSACTION);
         verify(backendConnection).releaseConnections(false);
         verify(localTransactionManager).begin();
+        assertTrue(sessionWrittenTables.isInTransaction());
     }
     
     @Test
@@ -89,17 +96,23 @@ public final class BackendTransactionManagerTest {
     @Test
     public void assertCommitForLocalTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, true);
+        when(backendConnection.getSessionWrittenTables()).thenReturn(sessionWrittenTables);
+        sessionWrittenTables.begin();
         backendTransactionManager.commit();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(localTransactionManager).commit();
+        assertFalse(sessionWrittenTables.isInTransaction());
     }
     
     @Test
     public void assertCommitForDistributedTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.XA, true);
+        when(backendConnection.getSessionWrittenTables()).thenReturn(sessionWrittenTables);
+        sessionWrittenTables.begin();
         backendTransactionManager.commit();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(shardingTransactionManager).commit();
+        assertFalse(sessionWrittenTables.isInTransaction());
     }
     
     @Test
@@ -114,17 +127,23 @@ public final class BackendTransactionManagerTest {
     @Test
     public void assertRollbackForLocalTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.LOCAL, true);
+        when(backendConnection.getSessionWrittenTables()).thenReturn(sessionWrittenTables);
+        sessionWrittenTables.begin();
         backendTransactionManager.rollback();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(localTransactionManager).rollback();
+        assertFalse(sessionWrittenTables.isInTransaction());
     }
     
     @Test
     public void assertRollbackForDistributedTransaction() throws SQLException {
         newBackendTransactionManager(TransactionType.XA, true);
+        when(backendConnection.getSessionWrittenTables()).thenReturn(sessionWrittenTables);
+        sessionWrittenTables.begin();
         backendTransactionManager.rollback();
         verify(stateHandler).setStatus(ConnectionStatus.TERMINATED);
         verify(shardingTransactionManager).rollback();
+        assertFalse(sessionWrittenTables.isInTransaction());
     }
     
     @Test
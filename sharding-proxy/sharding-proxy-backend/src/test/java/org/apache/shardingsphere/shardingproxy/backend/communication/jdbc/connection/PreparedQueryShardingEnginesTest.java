@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingRoutingContext;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PreparedQueryShardingEnginesTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final PreparedQueryShardingEngines preparedQueryShardingEngines = new PreparedQueryShardingEngines();
+    
+    private final ShardingSchema shardingSchema = mock(ShardingSchema.class);
+    
+    private final DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    @Before
+    public void setUp() {
+        when(shardingSchema.getRoutingContext()).thenReturn(createRoutingContext());
+    }
+    
+    private ShardingRoutingContext createRoutingContext() {
+        return new ShardingRoutingContext(mock(ShardingRule.class), new RoutingResultCache(0L));
+    }
+    
+    @Test
+    public void assertGetShardingEngineForSameStatement() {
+        PreparedQueryShardingEngine expected = preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType);
+        assertThat(preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetShardingEngineWithoutStatementId() {
+        PreparedQueryShardingEngine actual = preparedQueryShardingEngines.getShardingEngine(null, SQL, shardingSchema, databaseType);
+        assertThat(preparedQueryShardingEngines.getShardingEngine(null, SQL, shardingSchema, databaseType), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetShardingEngineForStatementPreparedAgainWithAnotherSQL() {
+        PreparedQueryShardingEngine actual = preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType);
+        assertThat(preparedQueryShardingEngines.getShardingEngine("1", "SELECT * FROM t_order", shardingSchema, databaseType), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetShardingEngineAfterShardingRuleRenewed() {
+        PreparedQueryShardingEngine actual = preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType);
+        when(shardingSchema.getRoutingContext()).thenReturn(createRoutingContext());
+        assertThat(preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetShardingEngineAfterRemoved() {
+        PreparedQueryShardingEngine actual = preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType);
+        preparedQueryShardingEngines.remove("1");
+        assertThat(preparedQueryShardingEngines.getShardingEngine("1", SQL, shardingSchema, databaseType), not(sameInstance(actual)));
+    }
+}
@@ -17,12 +17,17 @@
 
 package org.apache.shardingsphere.shardingproxy;
 
+import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shardingsphere.api.config.RuleConfiguration;
 import org.apache.shardingsphere.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.SQLParseEngineFactory;
+import org.apache.shardingsphere.core.parse.cache.SQLParseResultCacheWarmer;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.core.util.ConfigurationLogger;
 import org.apache.shardingsphere.core.yaml.config.common.YamlAuthenticationConfiguration;
@@ -42,6 +47,7 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyServerConfig
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
+import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.io.IOException;
 import java.sql.SQLException;
@@ -102,6 +108,7 @@ public final class Bootstrap {
         ShardingProxyContext.getInstance().init(authenticationConfiguration, prop);
         LogicSchemas.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs));
         initOpenTracing();
+        warmUpSQLParseResultCache();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -117,6 +124,7 @@ public final class Bootstrap {
             ShardingProxyContext.getInstance().init(authentication, properties);
             LogicSchemas.getInstance().init(shardingSchemaNames, getSchemaDataSourceParameterMap(shardingOrchestrationFacade), getSchemaRules(shardingOrchestrationFacade), true);
             initOpenTracing();
+            warmUpSQLParseResultCache();
             ShardingProxy.getInstance().start(port);
         } catch (SQLException e) {
             e.printStackTrace();
@@ -161,6 +169,20 @@ public final class Bootstrap {
         }
     }
     
+    private static void warmUpSQLParseResultCache() {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        String warmUpFile = shardingProperties.getValue(ShardingPropertiesConstant.SQL_WARMUP_FILE);
+        if (Strings.isNullOrEmpty(warmUpFile)) {
+            return;
+        }
+        DatabaseType databaseType = LogicSchemas.getInstance().getDatabaseType();
+        SQLParseEngine parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType, shardingProperties.<Long>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SIZE));
+        SQLParseResultCacheWarmer warmer = new SQLParseResultCacheWarmer(
+                parseEngine, warmUpFile, databaseType.getName(), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.SQL_WARMUP_SIZE));
+        warmer.warmUp(shardingProperties.<Long>getValue(ShardingPropertiesConstant.SQL_WARMUP_TIMEOUT_SECONDS));
+        warmer.startRecord(shardingProperties.<Long>getValue(ShardingPropertiesConstant.SQL_WARMUP_RECORD_INTERVAL_SECONDS));
+    }
+    
     private static Map<String, Map<String, DataSourceConfiguration>> getDataSourceConfigurationMap(final Map<String, YamlProxyRuleConfiguration> ruleConfigs) {
         Map<String, Map<String, DataSourceConfiguration>> result = new LinkedHashMap<>();
         for (Entry<String, YamlProxyRuleConfiguration> entry : ruleConfigs.entrySet()) {
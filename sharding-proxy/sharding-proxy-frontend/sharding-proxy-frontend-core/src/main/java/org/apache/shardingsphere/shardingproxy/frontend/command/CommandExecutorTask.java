@@ -23,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
+import org.apache.shardingsphere.core.route.router.masterslave.WrittenTablesManager;
+import org.apache.shardingsphere.core.strategy.index.GlobalIndexConnectionManager;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
@@ -63,6 +65,8 @@ public final class CommandExecutorTask implements Runnable {
              PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            WrittenTablesManager.bind(backendConnection.getSessionWrittenTables());
+            GlobalIndexConnectionManager.bind(backendConnection);
             isNeedFlush = executeCommand(context, payload, backendConnection);
             connectionSize = backendConnection.getConnectionSize();
             // CHECKSTYLE:OFF
@@ -71,6 +75,8 @@ public final class CommandExecutorTask implements Runnable {
             log.error("Exception occur: ", ex);
             context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
         } finally {
+            WrittenTablesManager.unbind();
+            GlobalIndexConnectionManager.unbind();
             if (isNeedFlush) {
                 context.flush();
             }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.close;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
@@ -35,8 +36,11 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     private final MySQLComStmtClosePacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
+        backendConnection.getPreparedQueryShardingEngines().remove(String.valueOf(packet.getStatementId()));
         //TODO we need to design the cache in future.
 //        packet.removeCachedStatement();
         return Collections.emptyList();
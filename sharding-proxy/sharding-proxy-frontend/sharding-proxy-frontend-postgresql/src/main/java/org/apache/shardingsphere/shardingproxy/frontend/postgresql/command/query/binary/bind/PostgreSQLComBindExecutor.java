@@ -65,7 +65,8 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
     public PostgreSQLComBindExecutor(final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         databaseCommunicationEngine = null == packet.getSql()
-                ? null : DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(backendConnection.getLogicSchema(), packet.getSql(), packet.getParameters(), backendConnection);
+                ? null : DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
+                        backendConnection.getLogicSchema(), packet.getStatementId(), packet.getSql(), packet.getParameters(), backendConnection);
     }
     
     @Override
@@ -49,6 +49,7 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    @Getter
     private final int statementId;
     
     private final MySQLBinaryStatement binaryStatement;